@@ -12,7 +12,7 @@ import com.poppy.domain.popupStore.repository.PopupStoreRepository;
 import com.poppy.domain.popupStore.service.PopupStoreService;
 import com.poppy.domain.reservation.entity.PopupStoreStatus;
 import com.poppy.domain.reservation.entity.ReservationAvailableSlot;
-import com.poppy.domain.reservation.repository.ReservationAvailableSlotRepository;
+import com.poppy.domain.reservation.repository.ReservationAvailableSlotJdbcRepository;
 import com.poppy.domain.storeCategory.repository.StoreCategoryRepository;
 import com.poppy.domain.storeCategory.entity.StoreCategory;
 import com.poppy.domain.user.entity.User;
@@ -34,7 +34,7 @@ public class AdminService {
     private final PopupStoreRepository popupStoreRepository;
     private final StoreCategoryRepository storeCategoryRepository;
     private final UserRepository userRepository;
-    private final ReservationAvailableSlotRepository reservationAvailableSlotRepository;
+    private final ReservationAvailableSlotJdbcRepository reservationAvailableSlotJdbcRepository;
     private final PopupStoreService popupStoreService;
     private final AsyncRedisSlotInitializationService asyncRedisSlotService;
     private final ImageService imageService;
@@ -74,6 +74,7 @@ public class AdminService {
                 .blogUrl(reqDto.getBlogUrl())
                 .masterUser(masterUser)
                 .reservationType(reqDto.getReservationType())
+                .slotShardCount(reqDto.getSlotShardCount())
                 .scrapCount(0)
                 .images(new ArrayList<>())
                 .build();
@@ -117,7 +118,7 @@ public class AdminService {
                     })
                     .toList();
 
-            reservationAvailableSlotRepository.saveAll(holidaySlots);
+            reservationAvailableSlotJdbcRepository.insertSlots(savedPopupStore.getId(), holidaySlots);
         }
 
         // 예약 슬롯 초기화 (이미 휴무일로 설정된 날짜는 제외됨)
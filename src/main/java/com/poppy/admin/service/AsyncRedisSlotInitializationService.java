@@ -3,23 +3,24 @@ package com.poppy.admin.service;
 import com.poppy.domain.reservation.entity.PopupStoreStatus;
 import com.poppy.domain.reservation.entity.ReservationAvailableSlot;
 import com.poppy.domain.reservation.repository.ReservationAvailableSlotRepository;
+import com.poppy.domain.reservation.service.RedisSlotService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AsyncRedisSlotInitializationService {
-    private final RedisTemplate<String, Integer> redisTemplate;
     private final ReservationAvailableSlotRepository reservationAvailableSlotRepository;
+    private final RedisSlotService redisSlotService;
 
     @Async
     public void initializeRedisSlots(Long popupStoreId) {
@@ -31,14 +32,16 @@ public class AsyncRedisSlotInitializationService {
                             PopupStoreStatus.AVAILABLE
                     );
 
-            for (ReservationAvailableSlot slot : slots) {
-                String slotKey = String.format("slot:%d:%s:%s",
-                        slot.getPopupStore().getId(),
-                        slot.getDate(),
-                        slot.getTime());
+            if (slots.isEmpty()) return;
 
-                redisTemplate.opsForValue().set(slotKey, slot.getAvailableSlot(), 365, TimeUnit.DAYS);
+            // 날짜별 해시로 묶어 파이프라인 한 번으로 저장
+            Map<LocalDate, Map<LocalTime, Integer>> slotsByDate = new HashMap<>();
+            for (ReservationAvailableSlot slot : slots) {
+                slotsByDate.computeIfAbsent(slot.getDate(), date -> new HashMap<>())
+                        .put(slot.getTime(), slot.getAvailableSlot());
             }
+
+            redisSlotService.initializeSlots(popupStoreId, slots.get(0).getPopupStore().getSlotShards(), slotsByDate);
         }
         catch (Exception e) {
             log.error("Redis 슬롯 초기화 비동기 작업 실패: storeId={}", popupStoreId, e);
@@ -48,11 +51,7 @@ public class AsyncRedisSlotInitializationService {
     @Async
     public void clearRedisData(Long popupStoreId) {
         try {
-            String pattern = String.format("slot:%d:*", popupStoreId);
-            Set<String> keys = redisTemplate.keys(pattern);
-            if (keys != null && !keys.isEmpty()) {
-                redisTemplate.delete(keys);
-            }
+            redisSlotService.clearStore(popupStoreId);
         } catch (Exception e) {
             log.error("Redis 슬롯 삭제 비동기 작업 실패: storeId={}", popupStoreId, e);
         }
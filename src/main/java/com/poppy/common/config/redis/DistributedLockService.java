@@ -12,10 +12,12 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 @Slf4j
 public class DistributedLockService {
-    public static final String WAITING_SCHEDULER_LOCK = "waiting-scheduler-lock";
     public static final String NOTIFICATION_CLEANUP_LOCK = "notification-cleanup-lock";
     public static final String RESERVATION_24H_BEFORE_LOCK = "reservation-24h-before-lock";
     public static final String SCRAP_STORE_OPENING_LOCK = "scrap-store-opening-lock";
+    public static final String SLOT_BACKFILL_LOCK = "slot-backfill-lock";
+    public static final String SLOT_RECONCILIATION_LOCK = "slot-reconciliation-lock";
+    public static final String STALE_PAYMENT_SWEEP_LOCK = "stale-payment-sweep-lock";
 
 
     private final RedissonClient redissonClient;
@@ -3,9 +3,13 @@ package com.poppy.common.config.redis;
 import com.poppy.domain.notification.dto.NotificationDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -23,4 +27,24 @@ public class NotificationPublisher {
             log.error("Failed to publish notification: {}", e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    // 여러 알림을 파이프라인 한 번으로 발행 (대량 발송 시 알림마다 Redis 왕복하지 않음)
+    public <T extends NotificationDto> void publishAll(List<T> notifications) {
+        if (notifications.isEmpty()) return;
+
+        try {
+            notificationRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    notifications.forEach(notification -> ops.convertAndSend(NOTIFICATION_TOPIC, notification));
+                    return null;
+                }
+            });
+            log.info("Published {} notifications to Redis - Topic: {}", notifications.size(), NOTIFICATION_TOPIC);
+        } catch (Exception e) {
+            log.error("Failed to publish {} notifications: {}", notifications.size(), e.getMessage(), e);
+        }
+    }
+}
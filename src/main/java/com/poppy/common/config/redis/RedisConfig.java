@@ -2,6 +2,10 @@ package com.poppy.common.config.redis;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.poppy.domain.popupStore.service.StoreHoursCache;
+import com.poppy.domain.reservation.service.SlotAvailabilityPublisher;
+import com.poppy.domain.reservation.service.SoldOutSlotRegistry;
+import com.poppy.domain.waiting.service.WaitingSettingsCache;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
@@ -36,6 +40,8 @@ public class RedisConfig {
     @Value("${spring.data.redis.password}")
     private String password;
 
+    // 단일 Redis(standalone) 전용: 슬롯 선점/반환/보류 스크립트가 해시 태그 없는 여러 키(재고 분할, 선점자, 보류)를
+    // 한 스크립트에서 다루므로 Redis Cluster에서는 CROSSSLOT으로 실패함
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration();
@@ -126,15 +132,51 @@ public class RedisConfig {
         return new ChannelTopic(NOTIFICATION_TOPIC);
     }
 
+    // 슬롯 변경(매진/재오픈) 이벤트 Channel Topic
+    @Bean
+    public ChannelTopic slotEventTopic() {
+        return new ChannelTopic(SoldOutSlotRegistry.SLOT_EVENT_TOPIC);
+    }
+
+    // 슬롯 잔여 수량 변경분(웹소켓 푸시용) Channel Topic
+    @Bean
+    public ChannelTopic slotUpdateTopic() {
+        return new ChannelTopic(SlotAvailabilityPublisher.SLOT_UPDATE_TOPIC);
+    }
+
+    // 대기 설정 변경 이벤트 Channel Topic
+    @Bean
+    public ChannelTopic waitingSettingsTopic() {
+        return new ChannelTopic(WaitingSettingsCache.SETTINGS_EVENT_TOPIC);
+    }
+
+    // 스토어 운영 정보 무효화 이벤트 Channel Topic
+    @Bean
+    public ChannelTopic storeHoursTopic() {
+        return new ChannelTopic(StoreHoursCache.HOURS_EVENT_TOPIC);
+    }
+
     // Redis Message Listener Container
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(
             RedisConnectionFactory connectionFactory,
             NotificationSubscriber notificationSubscriber,
-            ChannelTopic notificationTopic) {
+            ChannelTopic notificationTopic,
+            SoldOutSlotRegistry soldOutSlotRegistry,
+            ChannelTopic slotEventTopic,
+            SlotAvailabilityPublisher slotAvailabilityPublisher,
+            ChannelTopic slotUpdateTopic,
+            WaitingSettingsCache waitingSettingsCache,
+            ChannelTopic waitingSettingsTopic,
+            StoreHoursCache storeHoursCache,
+            ChannelTopic storeHoursTopic) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
         container.addMessageListener(notificationSubscriber, notificationTopic);
+        container.addMessageListener(soldOutSlotRegistry, slotEventTopic);
+        container.addMessageListener(slotAvailabilityPublisher, slotUpdateTopic);
+        container.addMessageListener(waitingSettingsCache, waitingSettingsTopic);
+        container.addMessageListener(storeHoursCache, storeHoursTopic);
 
         // 컨테이너 설정
         container.setSubscriptionExecutor(Executors.newFixedThreadPool(4)); // 구독 처리 스레드 풀
@@ -22,6 +22,13 @@ public class BusinessException extends RuntimeException {
         this.httpStatus = HttpStatus.valueOf(errorCode.getCode());
     }
 
+    // 스택 트레이스 생성 여부 지정 (ExpectedRejectionException 전용)
+    protected BusinessException(ErrorCode errorCode, boolean writableStackTrace) {
+        super(errorCode.getMessage(), null, false, writableStackTrace);
+        this.code = errorCode.getCode();
+        this.httpStatus = HttpStatus.valueOf(errorCode.getCode());
+    }
+
     public BusinessException(String message, HttpStatus httpStatus) {
         super(message);
         this.code = httpStatus.value();
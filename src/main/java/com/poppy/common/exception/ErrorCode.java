@@ -39,6 +39,11 @@ public enum ErrorCode {
     CANCELLATION_FAILED(500, "예약 취소에 실패하였습니다."),
     INVALID_RESERVATION(500, "예약이 불가한 팝업스토어입니다."),
     OFFLINE_STORE_UPDATE_DENIED(400, "오프라인 팝업스토어는 수정할 수 없습니다."),
+    RESERVATION_QUEUE_FULL(429, "예약 대기 인원이 많습니다. 잠시 후 다시 시도해주세요."),
+    DUPLICATE_RESERVATION_DATE(400, "같은 날짜의 슬롯은 한 번에 하나만 예약할 수 있습니다."),
+    TOO_MANY_RESERVATION_SLOTS(400, "한 번에 예약할 수 있는 슬롯 수를 초과하였습니다."),
+    INVALID_IDEMPOTENCY_KEY(400, "Idempotency-Key 형식이 올바르지 않습니다."),
+    IDEMPOTENCY_KEY_REUSED(422, "다른 예약 요청에 사용된 Idempotency-Key입니다."),
 
     // 카테고리 관련
     CATEGORY_NOT_FOUND(400, "카테고리를 찾을 수 없습니다."),
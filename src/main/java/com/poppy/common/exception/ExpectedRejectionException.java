@@ -0,0 +1,9 @@
+package com.poppy.common.exception;
+
+// 매진, 락 충돌처럼 부하 상황에서 대량으로 발생하는 예상된 거절
+// 스택 트레이스를 만들지 않아 거절 비용을 줄이고, 로그도 간단히 남김
+public class ExpectedRejectionException extends BusinessException {
+    public ExpectedRejectionException(ErrorCode errorCode) {
+        super(errorCode, false);
+    }
+}
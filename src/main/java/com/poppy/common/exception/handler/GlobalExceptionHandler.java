@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.poppy.common.exception.ApplicationException;
 import com.poppy.common.exception.BusinessException;
 import com.poppy.common.exception.ErrorCode;
+import com.poppy.common.exception.ExpectedRejectionException;
 import com.poppy.common.exception.dto.ErrorRspDto;
 import com.poppy.common.util.LoggingUtil;
 import jakarta.servlet.http.HttpServletRequest;
@@ -103,6 +104,13 @@ public class GlobalExceptionHandler {
         return createErrorResponse(e.getCode(), e.getHttpStatus(), e.getMessage());
     }
 
+    // 매진, 락 충돌 등 예상된 거절은 스택 트레이스 없이 debug 레벨로만 기록
+    @ExceptionHandler({ExpectedRejectionException.class})
+    public ResponseEntity<ErrorRspDto<String>> handleExpectedRejectionException(ExpectedRejectionException e, HttpServletRequest request){
+        log.debug("예상된 요청 거절: {}, 요청 Method: {}, 요청 url: {}", e.getMessage(), request.getMethod(), request.getRequestURI());
+        return createErrorResponse(e.getCode(), e.getHttpStatus(), e.getMessage());
+    }
+
     // 비즈니스 로직이 아닌 애플리케이션 서비스 로직상 예외
     @ExceptionHandler({ApplicationException.class})
     public ResponseEntity<ErrorRspDto<String>> handleAppServiceException(ApplicationException e, HttpServletRequest request){
@@ -29,6 +29,20 @@ public class WaitingNotificationDto extends NotificationDto {
                 .build();
     }
 
+    // 대기 순서 일괄 알림 생성 시 사용
+    public static WaitingNotificationDto of(WaitingPositionDto position, String message, NotificationType type, boolean isFcm) {
+        return WaitingNotificationDto.builder()
+                .message(message)
+                .type(type)
+                .userId(position.getUserId())
+                .popupStoreId(position.getPopupStoreId())
+                .popupStoreName(position.getPopupStoreName())
+                .waitingNumber(position.getWaitingNumber())
+                .peopleAhead(position.getPeopleAhead())
+                .isRead(isFcm)
+                .build();
+    }
+
     // 알림 조회 시 사용
     public static WaitingNotificationDto from(Notification notification) {
         return WaitingNotificationDto.builder()
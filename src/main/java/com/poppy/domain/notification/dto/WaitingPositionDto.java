@@ -0,0 +1,28 @@
+package com.poppy.domain.notification.dto;
+
+import com.poppy.domain.waiting.entity.Waiting;
+import lombok.Builder;
+import lombok.Getter;
+
+// 대기 순서 알림 대상 (커밋 이후 다른 스레드에서 발송하므로 엔티티 대신 필요한 값만 복사)
+@Getter
+@Builder
+public class WaitingPositionDto {
+    private Long userId;
+    private String fcmToken;
+    private Long popupStoreId;
+    private String popupStoreName;
+    private Integer waitingNumber;
+    private Integer peopleAhead;    // 내 앞에 있는 대기 팀 수
+
+    public static WaitingPositionDto of(Waiting waiting, int peopleAhead) {
+        return WaitingPositionDto.builder()
+                .userId(waiting.getUser().getId())
+                .fcmToken(waiting.getUser().getFcmToken())
+                .popupStoreId(waiting.getPopupStore().getId())
+                .popupStoreName(waiting.getPopupStore().getName())
+                .waitingNumber(waiting.getWaitingNumber())
+                .peopleAhead(peopleAhead)
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.poppy.domain.notification.repository;
+
+import com.poppy.domain.notification.dto.ReservationNotificationDto;
+import com.poppy.domain.notification.dto.WaitingNotificationDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+// 대량 발송 알림을 JPA 엔티티 생성 없이 다중 행 INSERT로 저장하는 JDBC 레포지토리
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+    private static final int INSERT_CHUNK_SIZE = 500;
+    private static final int INSERT_COLUMN_COUNT = 6;
+
+    private static final String INSERT_PREFIX = """
+            INSERT INTO notifications
+                (message, type, user_id, popup_store_id, create_time, update_time, is_read, is_fcm)
+            VALUES
+            """;
+    private static final String INSERT_VALUES = "(?, ?, ?, ?, ?, ?, false, false)";
+
+    private static final int WAITING_INSERT_COLUMN_COUNT = 8;
+    private static final String WAITING_INSERT_PREFIX = """
+            INSERT INTO notifications
+                (message, type, user_id, popup_store_id, waiting_number, people_ahead, create_time, update_time, is_read, is_fcm)
+            VALUES
+            """;
+    private static final String WAITING_INSERT_VALUES = "(?, ?, ?, ?, ?, ?, ?, ?, false, false)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 팝업 스토어 관련 활동 알림(웹소켓 알림) 일괄 저장
+    @Transactional
+    public void insertStoreNotifications(List<ReservationNotificationDto> notifications) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int from = 0; from < notifications.size(); from += INSERT_CHUNK_SIZE) {
+            List<ReservationNotificationDto> chunk = notifications.subList(from, Math.min(from + INSERT_CHUNK_SIZE, notifications.size()));
+
+            Object[] args = new Object[chunk.size() * INSERT_COLUMN_COUNT];
+            int i = 0;
+            for (ReservationNotificationDto notification : chunk) {
+                args[i++] = notification.getMessage();
+                args[i++] = notification.getType().name();
+                args[i++] = notification.getUserId();
+                args[i++] = notification.getPopupStoreId();
+                args[i++] = now;
+                args[i++] = now;
+            }
+
+            jdbcTemplate.update(INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), INSERT_VALUES)), args);
+        }
+    }
+
+    // 대기 순서 알림(웹소켓 알림) 일괄 저장
+    @Transactional
+    public void insertWaitingNotifications(List<WaitingNotificationDto> notifications) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int from = 0; from < notifications.size(); from += INSERT_CHUNK_SIZE) {
+            List<WaitingNotificationDto> chunk = notifications.subList(from, Math.min(from + INSERT_CHUNK_SIZE, notifications.size()));
+
+            Object[] args = new Object[chunk.size() * WAITING_INSERT_COLUMN_COUNT];
+            int i = 0;
+            for (WaitingNotificationDto notification : chunk) {
+                args[i++] = notification.getMessage();
+                args[i++] = notification.getType().name();
+                args[i++] = notification.getUserId();
+                args[i++] = notification.getPopupStoreId();
+                args[i++] = notification.getWaitingNumber();
+                args[i++] = notification.getPeopleAhead();
+                args[i++] = now;
+                args[i++] = now;
+            }
+
+            jdbcTemplate.update(WAITING_INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), WAITING_INSERT_VALUES)), args);
+        }
+    }
+}
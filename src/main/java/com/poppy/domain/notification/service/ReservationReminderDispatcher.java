@@ -0,0 +1,98 @@
+package com.poppy.domain.notification.service;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.poppy.common.config.redis.NotificationPublisher;
+import com.poppy.domain.notification.dto.ReservationNotificationDto;
+import com.poppy.domain.notification.entity.NotificationType;
+import com.poppy.domain.notification.repository.NotificationJdbcRepository;
+import com.poppy.domain.reservation.repository.ReminderTarget;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 24시간 전 예약 알림 일괄 발송
+// FCM은 sendEach로 최대 500건씩, 활동 알림은 다중 행 INSERT 한 번, 웹소켓 발행은 파이프라인 한 번으로 처리
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationReminderDispatcher {
+    private static final int FCM_BATCH_SIZE = 500;  // sendEach 한 번에 보낼 수 있는 최대 메시지 수
+
+    private final FirebaseMessaging firebaseMessaging;
+    private final NotificationMessageGenerator messageGenerator;
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final NotificationPublisher notificationPublisher;
+
+    public DispatchResult dispatch(List<ReminderTarget> targets) {
+        DispatchResult result = new DispatchResult();
+        if (targets.isEmpty()) return result;
+
+        sendFcm(targets, result);
+
+        // 웹소켓 알림 생성 후 DB 일괄 저장, Redis 일괄 발행
+        List<ReservationNotificationDto> notifications = targets.stream()
+                .map(target -> ReservationNotificationDto.from(
+                        messageGenerator.generateWebSocketMessage(NotificationType.REMIND_24H, target.getStoreName(), null, null),
+                        NotificationType.REMIND_24H,
+                        target.getUserId(),
+                        target.getStoreId(),
+                        target.getStoreName(),
+                        false
+                ))
+                .toList();
+
+        notificationJdbcRepository.insertStoreNotifications(notifications);
+        notificationPublisher.publishAll(notifications);
+        result.notified += notifications.size();
+        return result;
+    }
+
+    private void sendFcm(List<ReminderTarget> targets, DispatchResult result) {
+        List<Message> messages = new ArrayList<>();
+        for (ReminderTarget target : targets) {
+            if (target.getFcmToken() == null) continue;
+            messages.add(toMessage(target));
+        }
+
+        for (int from = 0; from < messages.size(); from += FCM_BATCH_SIZE) {
+            List<Message> batch = messages.subList(from, Math.min(from + FCM_BATCH_SIZE, messages.size()));
+            try {
+                BatchResponse response = firebaseMessaging.sendEach(batch);
+                result.fcmSent += response.getSuccessCount();
+                result.fcmFailed += response.getFailureCount();
+            } catch (FirebaseMessagingException e) {
+                // 배치 전체 실패 (개별 토큰 오류는 BatchResponse의 실패 건수로 집계)
+                result.fcmFailed += batch.size();
+                log.error("Failed to send FCM 24h before notification batch ({} messages): {}", batch.size(), e.getMessage());
+            }
+        }
+    }
+
+    private Message toMessage(ReminderTarget target) {
+        return Message.builder()
+                .setToken(target.getFcmToken())
+                .setNotification(com.google.firebase.messaging.Notification.builder()
+                        .setTitle(messageGenerator.generateFCMTitle(NotificationType.REMIND_24H, target.getStoreName()))
+                        .setBody(messageGenerator.generateFCMBody(NotificationType.REMIND_24H, null, null))
+                        .build())
+                .putData("type", NotificationType.REMIND_24H.name())
+                .putData("storeId", target.getStoreId().toString())
+                .putData("reservationId", target.getReservationId().toString())
+                .putData("reservationTime", target.getTime().toString())
+                .build();
+    }
+
+    @Getter
+    public static class DispatchResult {
+        private int fcmSent;    // FCM 발송 성공
+        private int fcmFailed;  // FCM 발송 실패
+        private int notified;   // 활동 알림 저장, 발행 건수
+    }
+}
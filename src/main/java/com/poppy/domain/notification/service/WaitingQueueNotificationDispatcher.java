@@ -0,0 +1,158 @@
+package com.poppy.domain.notification.service;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.poppy.common.config.redis.NotificationPublisher;
+import com.poppy.domain.notification.dto.WaitingNotificationDto;
+import com.poppy.domain.notification.dto.WaitingPositionDto;
+import com.poppy.domain.notification.entity.NotificationType;
+import com.poppy.domain.notification.repository.NotificationJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 대기 순서(TEAMS_AHEAD) 알림 일괄 발송
+// 호출, 입장 완료, 취소 요청은 대상 목록만 넘기고 바로 반환하며, 발송은 커밋 이후 별도 스레드에서 처리
+// FCM은 sendEach로 최대 500건씩, 활동 알림은 다중 행 INSERT 한 번, 웹소켓 발행은 파이프라인 한 번으로 처리
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WaitingQueueNotificationDispatcher {
+    private static final int FCM_BATCH_SIZE = 500;  // sendEach 한 번에 보낼 수 있는 최대 메시지 수
+    private static final int QUEUE_CAPACITY = 1_000;    // 발송 대기 작업 최대 수 (FCM 지연 시 메모리가 무한히 늘지 않도록 제한)
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10L;
+
+    private final FirebaseMessaging firebaseMessaging;
+    private final NotificationMessageGenerator messageGenerator;
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final NotificationPublisher notificationPublisher;
+
+    // 단일 스레드로 처리해 연속된 상태 변경의 순서 알림이 뒤바뀌어 도착하지 않도록 함
+    // 대기 작업이 가득 차면 새 작업은 버림 (순서 알림은 다음 상태 변경 때 최신 순서로 다시 발송됨)
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            1, 1, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(QUEUE_CAPACITY),
+            runnable -> {
+                Thread thread = new Thread(runnable, "waiting-queue-notification");
+                thread.setDaemon(true);
+                return thread;
+            },
+            (runnable, pool) -> log.warn("Waiting queue notification queue is full (capacity: {}), dropping dispatch", QUEUE_CAPACITY));
+
+    // 트랜잭션 안에서 호출되면 커밋 이후 발송 (롤백되면 발송하지 않음)
+    public void dispatchAfterCommit(List<WaitingPositionDto> positions) {
+        if (positions.isEmpty()) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(positions);
+                }
+            });
+            return;
+        }
+        submit(positions);
+    }
+
+    public void dispatch(List<WaitingPositionDto> positions) {
+        if (positions.isEmpty()) return;
+
+        int[] fcmResult = sendFcm(positions);
+
+        // 웹소켓 알림 생성 후 DB 일괄 저장, Redis 일괄 발행
+        List<WaitingNotificationDto> notifications = new ArrayList<>(positions.size());
+        for (WaitingPositionDto position : positions) {
+            String wsMessage = messageGenerator.generateWebSocketMessage(
+                    NotificationType.TEAMS_AHEAD,
+                    position.getPopupStoreName(),
+                    position.getWaitingNumber(),
+                    position.getPeopleAhead());
+            if (wsMessage == null) continue;
+            notifications.add(WaitingNotificationDto.of(position, wsMessage, NotificationType.TEAMS_AHEAD, false));
+        }
+
+        if (!notifications.isEmpty()) {
+            notificationJdbcRepository.insertWaitingNotifications(notifications);
+            notificationPublisher.publishAll(notifications);
+        }
+
+        log.info("Waiting queue notifications dispatched - storeId: {}, targets: {}, fcmSent: {}, fcmFailed: {}",
+                positions.get(0).getPopupStoreId(), positions.size(), fcmResult[0], fcmResult[1]);
+    }
+
+    // 종료 시 이미 받은 발송 작업을 마칠 때까지 대기 (제한 시간을 넘기면 남은 작업을 버림)
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                List<Runnable> dropped = executor.shutdownNow();
+                log.warn("Waiting queue notification dispatcher did not finish in time, dropped: {}", dropped.size());
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void submit(List<WaitingPositionDto> positions) {
+        executor.execute(() -> {
+            try {
+                dispatch(positions);
+            } catch (Exception e) {
+                log.error("Failed to dispatch waiting queue notifications ({} targets): {}", positions.size(), e.getMessage(), e);
+            }
+        });
+    }
+
+    // 반환: {성공 건수, 실패 건수}
+    private int[] sendFcm(List<WaitingPositionDto> positions) {
+        List<Message> messages = new ArrayList<>();
+        for (WaitingPositionDto position : positions) {
+            if (position.getFcmToken() == null) continue;
+            messages.add(toMessage(position));
+        }
+
+        int sent = 0;
+        int failed = 0;
+        for (int from = 0; from < messages.size(); from += FCM_BATCH_SIZE) {
+            List<Message> batch = messages.subList(from, Math.min(from + FCM_BATCH_SIZE, messages.size()));
+            try {
+                BatchResponse response = firebaseMessaging.sendEach(batch);
+                sent += response.getSuccessCount();
+                failed += response.getFailureCount();
+            } catch (FirebaseMessagingException e) {
+                // 배치 전체 실패 (개별 토큰 오류는 BatchResponse의 실패 건수로 집계)
+                failed += batch.size();
+                log.error("Failed to send FCM waiting queue notification batch ({} messages): {}", batch.size(), e.getMessage());
+            }
+        }
+        return new int[]{sent, failed};
+    }
+
+    private Message toMessage(WaitingPositionDto position) {
+        return Message.builder()
+                .setToken(position.getFcmToken())
+                .setNotification(com.google.firebase.messaging.Notification.builder()
+                        .setTitle(messageGenerator.generateFCMTitle(NotificationType.TEAMS_AHEAD, position.getPopupStoreName()))
+                        .setBody(messageGenerator.generateFCMBody(NotificationType.TEAMS_AHEAD, position.getWaitingNumber(), position.getPeopleAhead()))
+                        .build())
+                .putData("type", NotificationType.TEAMS_AHEAD.name())
+                .putData("storeId", position.getPopupStoreId().toString())
+                .putData("waitingNumber", position.getWaitingNumber().toString())
+                .putData("peopleAhead", position.getPeopleAhead().toString())
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.poppy.domain.payment.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+// 방치되어 정리된 PENDING 결제/예약 보관 (행은 PaymentArchiveJdbcRepository에서 INSERT ... SELECT로 생성)
+@Entity
+@Table(name = "payment_archives")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentArchive {
+    @Id
+    @Column(name = "payment_id")
+    private Long paymentId;  // 원래 결제 ID
+
+    @Column(name = "order_id", nullable = false)
+    private String orderId;
+
+    @Column(nullable = false)
+    private Long amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PaymentStatus status;  // 정리 시점 상태 (EXPIRED)
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+
+    @Column(name = "popup_store_id", nullable = false)
+    private Long popupStoreId;
+
+    @Column(name = "reservation_date", nullable = false)
+    private LocalDate reservationDate;
+
+    @Column(name = "reservation_time", nullable = false)
+    private LocalTime reservationTime;
+
+    @Column(nullable = false)
+    private Integer person;
+
+    @Column(name = "create_time")
+    private LocalDateTime createTime;  // 원래 결제 생성 시각
+
+    @Column(name = "archive_time", nullable = false)
+    private LocalDateTime archiveTime;
+}
@@ -4,7 +4,8 @@ public enum PaymentStatus {
     PENDING("대기"),
     DONE("완료"),
     FAILED("실패"),
-    CANCELED("취소");
+    CANCELED("취소"),
+    EXPIRED("만료");    // 결제되지 않은 채 방치되어 정리된 결제
 
     private final String description;
 
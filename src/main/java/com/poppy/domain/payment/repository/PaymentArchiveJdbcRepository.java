@@ -0,0 +1,75 @@
+package com.poppy.domain.payment.repository;
+
+import com.poppy.domain.payment.entity.PaymentStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+// 방치된 PENDING 결제/예약을 보관 테이블로 옮기고 원본 행 삭제 (엔티티 로딩 없이 페이지 단위로 처리)
+@Repository
+@RequiredArgsConstructor
+public class PaymentArchiveJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    // 아직 PENDING인 결제만 잠금 (조회 이후 결제가 완료된 경우 제외)
+    private static final String LOCK_PENDING_SQL = """
+            SELECT p.id
+            FROM payments p
+            JOIN reservations r ON r.id = p.reservation_id
+            WHERE p.status = 'PENDING' AND r.status = 'PENDING' AND p.id IN (%s)
+            FOR UPDATE
+            """;
+
+    private static final String ARCHIVE_SQL = """
+            INSERT INTO payment_archives
+                (payment_id, order_id, amount, status, user_id, reservation_id, popup_store_id,
+                 reservation_date, reservation_time, person, create_time, archive_time)
+            SELECT p.id, p.order_id, p.amount, ?, p.user_id, r.id, r.popup_store_id,
+                   r.date, r.time, r.person, p.create_time, ?
+            FROM payments p
+            JOIN reservations r ON r.id = p.reservation_id
+            WHERE p.id IN (%s)
+            """;
+
+    // 결제가 예약을 참조하므로 결제 먼저 삭제
+    private static final String DELETE_RESERVATIONS_SQL = """
+            DELETE FROM reservations
+            WHERE id IN (SELECT reservation_id FROM payment_archives WHERE payment_id IN (%s))
+            """;
+    private static final String DELETE_PAYMENTS_SQL = "DELETE FROM payments WHERE id IN (%s)";
+
+    // 보관 후 삭제된 결제 ID 목록 반환
+    @Transactional
+    public List<Long> archiveExpired(Collection<Long> paymentIds) {
+        if (paymentIds.isEmpty()) return List.of();
+
+        List<Long> lockedIds = jdbcTemplate.queryForList(
+                LOCK_PENDING_SQL.formatted(placeholders(paymentIds.size())), Long.class, paymentIds.toArray());
+        if (lockedIds.isEmpty()) return List.of();
+
+        String in = placeholders(lockedIds.size());
+        Object[] ids = lockedIds.toArray();
+
+        List<Object> archiveArgs = new ArrayList<>(lockedIds.size() + 2);
+        archiveArgs.add(PaymentStatus.EXPIRED.name());
+        archiveArgs.add(Timestamp.valueOf(LocalDateTime.now()));
+        archiveArgs.addAll(lockedIds);
+
+        jdbcTemplate.update(ARCHIVE_SQL.formatted(in), archiveArgs.toArray());
+        jdbcTemplate.update(DELETE_PAYMENTS_SQL.formatted(in), ids);
+        jdbcTemplate.update(DELETE_RESERVATIONS_SQL.formatted(in), ids);
+        return lockedIds;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -1,12 +1,16 @@
 package com.poppy.domain.payment.repository;
 
 import com.poppy.domain.payment.entity.Payment;
+import com.poppy.domain.payment.entity.PaymentStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -18,4 +22,15 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     @Modifying
     @Query("DELETE FROM Payment p WHERE p.reservation.id = :reservationId")
     void deleteByReservationId(@Param("reservationId") Long reservationId);
+
+    // 기준 시각 이전에 생성된 결제를 (생성 시각, ID) 순으로 커서 이후부터 조회
+    @Query("SELECT p FROM Payment p JOIN FETCH p.reservation r JOIN FETCH r.popupStore " +
+            "WHERE p.status = :status AND p.createTime < :before " +
+            "AND (p.createTime > :cursorTime OR (p.createTime = :cursorTime AND p.id > :cursorId)) " +
+            "ORDER BY p.createTime, p.id")
+    List<Payment> findPageCreatedBefore(@Param("status") PaymentStatus status,
+                                        @Param("before") LocalDateTime before,
+                                        @Param("cursorTime") LocalDateTime cursorTime,
+                                        @Param("cursorId") Long cursorId,
+                                        Pageable pageable);
 }
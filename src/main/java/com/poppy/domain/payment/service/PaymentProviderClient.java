@@ -0,0 +1,10 @@
+package com.poppy.domain.payment.service;
+
+import java.util.List;
+import java.util.Map;
+
+// 결제사 결제 상태 조회 (방치된 결제 정리 시 실제 결제 여부 확인용, 테스트에서는 스텁으로 교체)
+public interface PaymentProviderClient {
+    // 주문 ID별 결제 상태 조회 (조회에 실패한 주문은 UNKNOWN)
+    Map<String, ProviderPaymentStatus> getPaymentStatuses(List<String> orderIds);
+}
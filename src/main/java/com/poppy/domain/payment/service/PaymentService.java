@@ -5,15 +5,35 @@ import com.poppy.common.exception.ErrorCode;
 import com.poppy.domain.payment.entity.Payment;
 import com.poppy.domain.payment.entity.PaymentStatus;
 import com.poppy.domain.payment.repository.PaymentRepository;
+import com.poppy.domain.reservation.entity.ReservationStatus;
+import com.poppy.domain.reservation.entity.Reservation;
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.reservation.service.RedisSlotService;
+import com.poppy.domain.reservation.service.ReservationHoldService;
+import com.poppy.domain.reservation.service.SlotAvailabilityPublisher;
+import com.poppy.domain.reservation.service.SlotReleaseResult;
+import com.poppy.domain.reservation.service.SoldOutSlotRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final TossPaymentClient tossPaymentClient; // 외부 결제 API 클라이언트
+    private final ReservationHoldService reservationHoldService;
+    private final SlotAvailabilityPublisher slotAvailabilityPublisher;
+    private final RedisSlotService redisSlotService;
+    private final SoldOutSlotRegistry soldOutSlotRegistry;
+
+    @Value("${reservation.slot.atomic-script-enabled:false}")
+    private boolean atomicSlotScriptEnabled;
 
     @Transactional
     public void processPayment(String paymentKey, String orderId, Long amount) {
@@ -49,6 +69,60 @@ public class PaymentService {
 
         // 결제 상태 업데이트
         payment.updateStatus(PaymentStatus.FAILED);
+
+        Reservation reservation = payment.getReservation();
+        if (reservation == null || reservation.getStatus() != ReservationStatus.PENDING) return;
+
+        // 결제 대기 중 보류했던 슬롯 즉시 반환
+        if (reservationHoldService.isEnabled()) {
+            if (reservationHoldService.releaseHold(reservation.getId())) markChanged(reservation);
+            return;
+        }
+
+        // 스크립트 모드: 예약 요청 시 선점한 슬롯을 커밋 후 반환 (락 모드는 결제 완료 시점에 차감하므로 반환할 슬롯 없음)
+        // 예약은 취소 상태로 바꿔 같은 날짜 재예약 시 재사용되고, 결제 완료 요청이 뒤늦게 오면 슬롯을 다시 선점하도록 함
+        if (atomicSlotScriptEnabled) {
+            reservation.updateStatus(ReservationStatus.CANCELED);
+            afterCommit(() -> releaseClaimedSlot(reservation));
+        }
+    }
+
+    private void releaseClaimedSlot(Reservation reservation) {
+        PopupStore popupStore = reservation.getPopupStore();
+        try {
+            // 결제 실패 콜백이 중복으로 와도 선점 기록이 없으면 반환하지 않음
+            SlotReleaseResult result = redisSlotService.releaseSlot(popupStore.getId(), reservation.getDate(),
+                    reservation.getTime(), reservation.getPerson(), reservation.getUser().getId());
+            if (result != SlotReleaseResult.RELEASED) return;
+
+            soldOutSlotRegistry.publishAvailable(popupStore.getId(), reservation.getDate(), reservation.getTime());
+            markChanged(reservation);
+        } catch (Exception e) {
+            // 반환하지 못한 슬롯은 SlotReconciliationScheduler가 DB 기준으로 복구
+            log.error("Failed to release slot for failed payment - reservationId: {}: {}", reservation.getId(), e.getMessage());
+        }
+    }
+
+    private void markChanged(Reservation reservation) {
+        slotAvailabilityPublisher.markChanged(
+                reservation.getPopupStore().getId(),
+                reservation.getPopupStore().getSlotShards(),
+                reservation.getDate(),
+                reservation.getTime()
+        );
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+        task.run();
     }
 
     @Transactional
@@ -0,0 +1,8 @@
+package com.poppy.domain.payment.service;
+
+// 결제사 기준 결제 상태
+public enum ProviderPaymentStatus {
+    APPROVED,       // 결제사에서 승인 완료 (서버 승인 처리가 누락된 경우)
+    NOT_APPROVED,   // 결제 시도 없음, 중단, 만료 등 승인되지 않음
+    UNKNOWN         // 결제 진행 중이거나 조회 실패 (다음 실행에서 다시 확인)
+}
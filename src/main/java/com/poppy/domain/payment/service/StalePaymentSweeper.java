@@ -0,0 +1,210 @@
+package com.poppy.domain.payment.service;
+
+import com.poppy.common.config.redis.DistributedLockService;
+import com.poppy.domain.payment.entity.Payment;
+import com.poppy.domain.payment.entity.PaymentStatus;
+import com.poppy.domain.payment.repository.PaymentArchiveJdbcRepository;
+import com.poppy.domain.payment.repository.PaymentRepository;
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.reservation.entity.Reservation;
+import com.poppy.domain.reservation.service.RedisSlotService;
+import com.poppy.domain.reservation.service.ReservationHoldService;
+import com.poppy.domain.reservation.service.SlotAvailabilityPublisher;
+import com.poppy.domain.reservation.service.SlotReleaseResult;
+import com.poppy.domain.reservation.service.SoldOutSlotRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 결제되지 않고 방치된 PENDING 결제/예약 정리
+// 생성 후 일정 시간이 지난 결제를 페이지 단위로 결제사에 확인하고, 승인되지 않은 건은 보관 테이블로 옮긴 뒤 선점 슬롯 반환
+// 진행 위치(생성 시각, ID)를 Redis에 기록해 중단되거나 다른 인스턴스가 실행해도 이어서 처리
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StalePaymentSweeper {
+    private static final String CHECKPOINT_KEY = "payment:sweep:checkpoint";
+    private static final Duration CHECKPOINT_TTL = Duration.ofDays(1);
+    private static final LocalDateTime START_CURSOR_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final long LOCK_WAIT_TIME = 5L;
+    private static final long LOCK_LEASE_TIME = 600L;
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentArchiveJdbcRepository paymentArchiveJdbcRepository;
+    private final PaymentProviderClient paymentProviderClient;
+    private final ReservationHoldService reservationHoldService;
+    private final RedisSlotService redisSlotService;
+    private final SoldOutSlotRegistry soldOutSlotRegistry;
+    private final SlotAvailabilityPublisher slotAvailabilityPublisher;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final DistributedLockService lockService;
+
+    @Value("${payment.sweep.enabled:true}")
+    private boolean enabled;
+
+    // 생성 후 이 시간이 지난 PENDING 결제를 정리 대상으로 봄 (보류 시간, 결제창 유효 시간보다 길게 설정)
+    @Value("${payment.sweep.stale-minutes:30}")
+    private long staleMinutes;
+
+    @Value("${payment.sweep.page-size:200}")
+    private int pageSize;
+
+    // 한 번 실행에서 처리할 최대 페이지 수 (남은 페이지는 다음 실행에서 기록된 위치부터 처리)
+    @Value("${payment.sweep.max-pages:50}")
+    private int maxPages;
+
+    @Value("${reservation.slot.atomic-script-enabled:false}")
+    private boolean atomicSlotScriptEnabled;
+
+    @Scheduled(cron = "${payment.sweep.cron:0 */10 * * * *}")
+    public void sweep() {
+        if (!enabled) return;
+
+        if (!lockService.tryLock(DistributedLockService.STALE_PAYMENT_SWEEP_LOCK, LOCK_WAIT_TIME, LOCK_LEASE_TIME)) {
+            log.debug("Failed to acquire stale payment sweep lock. Skipping this execution.");
+            return;
+        }
+
+        try {
+            SweepReport report = sweep(LocalDateTime.now().minusMinutes(staleMinutes));
+            if (report.scanned > 0) log.info("Stale payment sweep completed - {}", report);
+        } catch (Exception e) {
+            log.error("Error in stale payment sweeper: {}", e.getMessage(), e);
+        } finally {
+            lockService.unlock(DistributedLockService.STALE_PAYMENT_SWEEP_LOCK);
+        }
+    }
+
+    // 기록된 위치부터 before 이전에 생성된 PENDING 결제를 페이지 단위로 정리
+    SweepReport sweep(LocalDateTime before) {
+        SweepReport report = new SweepReport();
+        Cursor cursor = loadCheckpoint();
+
+        for (int page = 0; page < maxPages; page++) {
+            List<Payment> payments = paymentRepository.findPageCreatedBefore(
+                    PaymentStatus.PENDING, before, cursor.createTime, cursor.id, PageRequest.of(0, pageSize));
+            if (!payments.isEmpty()) sweepPage(payments, report);
+
+            // 마지막 페이지까지 처리하면 다음 실행은 처음부터 (보류된 건 재확인)
+            if (payments.size() < pageSize) {
+                stringRedisTemplate.delete(CHECKPOINT_KEY);
+                return report;
+            }
+
+            Payment last = payments.get(payments.size() - 1);
+            cursor = new Cursor(last.getCreateTime(), last.getId());
+            saveCheckpoint(cursor);
+        }
+        return report;
+    }
+
+    private void sweepPage(List<Payment> payments, SweepReport report) {
+        report.scanned += payments.size();
+
+        Map<String, ProviderPaymentStatus> statuses = paymentProviderClient.getPaymentStatuses(
+                payments.stream().map(Payment::getOrderId).toList());
+
+        List<Payment> expirable = new ArrayList<>();
+        for (Payment payment : payments) {
+            switch (statuses.getOrDefault(payment.getOrderId(), ProviderPaymentStatus.UNKNOWN)) {
+                case NOT_APPROVED -> expirable.add(payment);
+                case APPROVED -> {
+                    // 결제사에서는 승인됐지만 승인 처리가 누락된 건은 정리하지 않고 확인이 필요하도록 남김
+                    report.approved++;
+                    log.warn("PENDING payment already approved by provider - orderId: {}", payment.getOrderId());
+                }
+                default -> report.skipped++;
+            }
+        }
+        if (expirable.isEmpty()) return;
+
+        // 보관 테이블 이동과 원본 삭제는 페이지 단위 한 트랜잭션 (조회 이후 결제가 완료된 건은 제외됨)
+        Set<Long> archivedIds = new HashSet<>(paymentArchiveJdbcRepository.archiveExpired(
+                expirable.stream().map(Payment::getId).toList()));
+
+        for (Payment payment : expirable) {
+            if (!archivedIds.contains(payment.getId())) continue;
+            report.expired++;
+            releaseInventory(payment.getReservation());
+        }
+    }
+
+    // 결제 대기 중 선점된 슬롯 반환 (DB 커밋 이후 실행, 실패한 슬롯은 SlotReconciliationScheduler가 DB 기준으로 복구)
+    private void releaseInventory(Reservation reservation) {
+        PopupStore popupStore = reservation.getPopupStore();
+        Long storeId = popupStore.getId();
+
+        try {
+            boolean released;
+            if (reservationHoldService.isEnabled()) {
+                // 보류가 이미 만료되어 반환된 경우 false
+                released = reservationHoldService.releaseHold(reservation.getId());
+            } else if (atomicSlotScriptEnabled) {
+                released = redisSlotService.releaseSlot(storeId, reservation.getDate(), reservation.getTime(),
+                        reservation.getPerson(), reservation.getUser().getId()) == SlotReleaseResult.RELEASED;
+            } else {
+                // 락 모드는 결제 완료 시점에 슬롯을 차감하므로 반환할 슬롯 없음
+                released = false;
+            }
+
+            if (released) {
+                soldOutSlotRegistry.publishAvailable(storeId, reservation.getDate(), reservation.getTime());
+                slotAvailabilityPublisher.markChanged(storeId, popupStore.getSlotShards(), reservation.getDate(), reservation.getTime());
+            }
+        } catch (Exception e) {
+            log.error("Failed to release slot for expired reservation {}: {}", reservation.getId(), e.getMessage());
+        }
+    }
+
+    private Cursor loadCheckpoint() {
+        Map<Object, Object> stored = stringRedisTemplate.opsForHash().entries(CHECKPOINT_KEY);
+        if (stored == null || stored.isEmpty()) return new Cursor(START_CURSOR_TIME, 0L);
+
+        return new Cursor(
+                LocalDateTime.parse((String) stored.get("createTime")),
+                Long.valueOf((String) stored.get("id"))
+        );
+    }
+
+    private void saveCheckpoint(Cursor cursor) {
+        stringRedisTemplate.opsForHash().putAll(CHECKPOINT_KEY, Map.of(
+                "createTime", cursor.createTime.toString(),
+                "id", String.valueOf(cursor.id)
+        ));
+        stringRedisTemplate.expire(CHECKPOINT_KEY, CHECKPOINT_TTL);
+    }
+
+    private static class Cursor {
+        private final LocalDateTime createTime;
+        private final Long id;
+
+        Cursor(LocalDateTime createTime, Long id) {
+            this.createTime = createTime;
+            this.id = id;
+        }
+    }
+
+    static class SweepReport {
+        int scanned;    // 확인한 PENDING 결제 수
+        int expired;    // 만료 처리(보관 후 삭제)한 결제 수
+        int approved;   // 결제사에서 승인된 결제 수 (승인 처리 누락)
+        int skipped;    // 결제 진행 중이거나 조회 실패로 다음 실행에 다시 확인
+
+        @Override
+        public String toString() {
+            return String.format("scanned=%d, expired=%d, approved=%d, skipped=%d", scanned, expired, approved, skipped);
+        }
+    }
+}
@@ -1,18 +1,28 @@
 package com.poppy.domain.payment.service;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Component
-public class TossPaymentClient {
+@Slf4j
+public class TossPaymentClient implements PaymentProviderClient {
+    // 결제가 아직 진행 중인 상태 (승인 여부를 판단하지 않고 다음 실행에서 다시 확인)
+    private static final Set<String> IN_PROGRESS_STATUSES = Set.of("IN_PROGRESS", "WAITING_FOR_DEPOSIT");
+
     private final RestTemplate restTemplate = new RestTemplate();
 
     @Value("${payment.base-url}")
@@ -67,4 +77,38 @@ public class TossPaymentClient {
             return false;
         }
     }
+
+    // 토스페이먼츠는 주문 일괄 조회 API가 없으므로 주문별로 조회
+    @Override
+    public Map<String, ProviderPaymentStatus> getPaymentStatuses(List<String> orderIds) {
+        Map<String, ProviderPaymentStatus> statuses = new HashMap<>();
+        for (String orderId : orderIds) statuses.put(orderId, getPaymentStatus(orderId));
+        return statuses;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private ProviderPaymentStatus getPaymentStatus(String orderId) {
+        String url = baseUrl + "/orders/" + orderId;
+        String authHeader = "Basic " + Base64.getEncoder().encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", authHeader);
+
+        try {
+            Map body = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), Map.class).getBody();
+            String status = body == null ? null : (String) body.get("status");
+
+            if ("DONE".equals(status)) return ProviderPaymentStatus.APPROVED;
+            if (status == null || IN_PROGRESS_STATUSES.contains(status)) return ProviderPaymentStatus.UNKNOWN;
+            return ProviderPaymentStatus.NOT_APPROVED;
+        }
+        catch (HttpClientErrorException.NotFound e) {
+            // 결제창에서 결제를 시도하지 않은 주문
+            return ProviderPaymentStatus.NOT_APPROVED;
+        }
+        catch (Exception e) {
+            log.warn("Failed to look up Toss payment - orderId: {}: {}", orderId, e.getMessage());
+            return ProviderPaymentStatus.UNKNOWN;
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package com.poppy.domain.popupStore.dto.request;
 
 import com.poppy.domain.popupStore.entity.ReservationType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
@@ -72,6 +74,10 @@ public class PopupStoreReqDto {
     @DateTimeFormat(pattern = "yyyy.MM.dd")
     private Set<LocalDate> holidays;
 
+    @Min(1)
+    @Max(16)
+    private Integer slotShardCount;     // 예약이 몰릴 것으로 예상되는 스토어의 슬롯 카운터 분할 수 (기본 1)
+
     @NotNull
     private List<MultipartFile> images;     // 이미지 등록 시 여러 개인 경우 첫번째 이미지가 썸네일로 지정됨
 }
@@ -87,6 +87,9 @@ public class PopupStore extends BaseTimeEntity {
     @Column(nullable = false, name = "reservation_type")
     private ReservationType reservationType;    // 팝업 스토어 예약 유형
 
+    @Column(name = "slot_shard_count")
+    private Integer slotShardCount;     // 예약이 몰리는 스토어의 Redis 슬롯 카운터 분할 수 (없으면 1)
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
     private StoreCategory storeCategory;
@@ -140,6 +143,10 @@ public class PopupStore extends BaseTimeEntity {
         this.views = new ArrayList<>();
     }
 
+    public int getSlotShards() {
+        return slotShardCount == null || slotShardCount < 1 ? 1 : slotShardCount;
+    }
+
     public void updateScrapCount(Integer count) {
         this.scrapCount = count;
     }
@@ -21,6 +21,9 @@ public interface PopupStoreRepository extends JpaRepository<PopupStore, Long>, P
             "ORDER BY p.startDate ASC")
     List<PopupStore> findAllFuturePopupStores(@Param("today") LocalDate today);
 
+    @Query("SELECT p FROM PopupStore p WHERE p.isEnd = false AND p.endDate >= :today")
+    List<PopupStore> findOngoingStores(@Param("today") LocalDate today);
+
     @Query("SELECT p FROM PopupStore p WHERE p.address LIKE %:address%")
     List<PopupStore> findByAddress(@Param("address") String address);
 }
\ No newline at end of file
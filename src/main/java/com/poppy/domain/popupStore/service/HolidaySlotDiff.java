@@ -0,0 +1,42 @@
+package com.poppy.domain.popupStore.service;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+// 기존 휴무일과 요청된 휴무일의 차이 (새로 추가된 휴무일, 해제된 휴무일)
+@Getter
+public class HolidaySlotDiff {
+    private final SortedSet<LocalDate> addedHolidays;
+    private final SortedSet<LocalDate> removedHolidays;
+
+    private HolidaySlotDiff(SortedSet<LocalDate> addedHolidays, SortedSet<LocalDate> removedHolidays) {
+        this.addedHolidays = Collections.unmodifiableSortedSet(addedHolidays);
+        this.removedHolidays = Collections.unmodifiableSortedSet(removedHolidays);
+    }
+
+    public static HolidaySlotDiff of(Set<LocalDate> currentHolidays, Set<LocalDate> requestedHolidays) {
+        SortedSet<LocalDate> added = new TreeSet<>(requestedHolidays);
+        added.removeAll(currentHolidays);
+
+        SortedSet<LocalDate> removed = new TreeSet<>(currentHolidays);
+        removed.removeAll(requestedHolidays);
+
+        return new HolidaySlotDiff(added, removed);
+    }
+
+    // 슬롯 행을 다시 만들어야 하는 날짜
+    public SortedSet<LocalDate> getChangedDates() {
+        SortedSet<LocalDate> changed = new TreeSet<>(addedHolidays);
+        changed.addAll(removedHolidays);
+        return changed;
+    }
+
+    public boolean isEmpty() {
+        return addedHolidays.isEmpty() && removedHolidays.isEmpty();
+    }
+}
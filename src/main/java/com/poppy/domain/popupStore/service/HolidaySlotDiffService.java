@@ -0,0 +1,160 @@
+package com.poppy.domain.popupStore.service;
+
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.reservation.entity.PopupStoreStatus;
+import com.poppy.domain.reservation.entity.ReservationAvailableSlot;
+import com.poppy.domain.reservation.repository.ReservationAvailableSlotJdbcRepository;
+import com.poppy.domain.reservation.repository.ReservationAvailableSlotRepository;
+import com.poppy.domain.reservation.service.RedisSlotService;
+import com.poppy.domain.reservation.service.SlotAvailabilityPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 휴무일 변경 시 기존 휴무일과 비교해 바뀐 날짜의 슬롯만 DB, Redis에 반영
+// 새 휴무일: 판매 슬롯 삭제 후 휴무 슬롯 저장 / 해제된 휴무일: 휴무 슬롯 삭제 후 판매 슬롯 생성
+// 바뀌지 않은 날짜의 슬롯과 Redis 재고(예약 차감분)는 그대로 유지
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HolidaySlotDiffService {
+    private final ReservationAvailableSlotRepository reservationAvailableSlotRepository;
+    private final ReservationAvailableSlotJdbcRepository reservationAvailableSlotJdbcRepository;
+    private final RedisSlotService redisSlotService;
+    private final SlotAvailabilityPublisher slotAvailabilityPublisher;
+    private final PopupStoreCalendarService popupStoreCalendarService;
+
+    @Transactional
+    public HolidaySlotDiff applyHolidays(PopupStore popupStore, Set<LocalDate> requestedHolidays) {
+        Long storeId = popupStore.getId();
+
+        Set<LocalDate> currentHolidays = reservationAvailableSlotRepository
+                .findByPopupStoreIdAndStatus(storeId, PopupStoreStatus.HOLIDAY)
+                .stream()
+                .map(ReservationAvailableSlot::getDate)
+                .collect(Collectors.toSet());
+
+        HolidaySlotDiff diff = HolidaySlotDiff.of(currentHolidays, requestedHolidays);
+        if (diff.isEmpty()) return diff;
+
+        List<LocalTime> slotTimes = slotTimes(popupStore);
+        Map<LocalDate, Map<LocalTime, Integer>> reopenedSlots = reopenedSlots(popupStore, slotTimes, requestedHolidays, diff);
+
+        List<ReservationAvailableSlot> slotsToSave = new ArrayList<>();
+        for (LocalDate date : diff.getAddedHolidays()) {
+            for (LocalTime time : slotTimes)
+                slotsToSave.add(slot(popupStore, date, time, 0, PopupStoreStatus.HOLIDAY));
+        }
+        reopenedSlots.forEach((date, slots) -> slots.forEach((time, count) ->
+                slotsToSave.add(slot(popupStore, date, time, count, PopupStoreStatus.AVAILABLE))));
+
+        // 바뀐 날짜의 기존 행을 DELETE 한 번으로 지우고 새 행을 다중 행 INSERT로 저장
+        reservationAvailableSlotJdbcRepository.deleteSlotsByDates(storeId, diff.getChangedDates());
+        reservationAvailableSlotJdbcRepository.insertSlots(storeId, slotsToSave);
+
+        // Redis는 커밋 이후 바뀐 날짜의 키만 갱신 (롤백 시 기존 재고 유지)
+        runAfterCommit(() -> applyToRedis(popupStore.getId(), popupStore.getSlotShards(), slotTimes, diff, reopenedSlots));
+
+        log.info("Holiday slots updated - store: {}, added: {}, removed: {}, rows: {}",
+                storeId, diff.getAddedHolidays(), diff.getRemovedHolidays(), slotsToSave.size());
+        return diff;
+    }
+
+    private void applyToRedis(Long storeId, int shards, List<LocalTime> slotTimes, HolidaySlotDiff diff,
+                              Map<LocalDate, Map<LocalTime, Integer>> reopenedSlots) {
+        try {
+            redisSlotService.clearDates(storeId, shards, diff.getAddedHolidays());
+            redisSlotService.initializeSlots(storeId, shards, reopenedSlots);
+        } catch (Exception e) {
+            // 실패한 날짜는 슬롯 정합성 점검(SlotReconciliationScheduler)에서 DB 기준으로 복구
+            log.error("Failed to apply holiday changes to Redis - store: {}", storeId, e);
+        }
+
+        // 휴무일이 된 날짜는 예약 불가로, 다시 열린 날짜는 새 재고로 구독 중인 클라이언트에 푸시
+        diff.getAddedHolidays().forEach(date -> slotAvailabilityPublisher.markClosed(storeId, date, slotTimes));
+        reopenedSlots.forEach((date, slots) ->
+                slots.keySet().forEach(time -> slotAvailabilityPublisher.markChanged(storeId, shards, date, time)));
+        popupStoreCalendarService.evict(storeId);
+    }
+
+    // 해제된 휴무일 중 운영 기간 안의 남은 시간대에 판매 슬롯 생성
+    // 슬롯당 인원은 initializeSlots와 같이 전체 인원을 변경 후 운영 슬롯 수로 나눈 값이고,
+    // 나머지 인원은 날짜, 시간 순으로 앞선 운영 슬롯부터 한 명씩 더함
+    private Map<LocalDate, Map<LocalTime, Integer>> reopenedSlots(PopupStore popupStore, List<LocalTime> slotTimes,
+                                                                 Set<LocalDate> holidays, HolidaySlotDiff diff) {
+        Map<LocalDate, Map<LocalTime, Integer>> reopened = new LinkedHashMap<>();
+        if (diff.getRemovedHolidays().isEmpty() || slotTimes.isEmpty()) return reopened;
+
+        List<LocalDate> operatingDates = popupStore.getStartDate().datesUntil(popupStore.getEndDate().plusDays(1))
+                .filter(date -> !holidays.contains(date))
+                .toList();
+        if (operatingDates.isEmpty()) return reopened;
+
+        long totalSlots = (long) operatingDates.size() * slotTimes.size();
+        int slotCapacity = (int) (popupStore.getAvailableSlot() / totalSlots);
+        long remainingSlots = popupStore.getAvailableSlot() % totalSlots;
+        LocalDateTime now = LocalDateTime.now();
+
+        for (LocalDate date : diff.getRemovedHolidays()) {
+            int dateIndex = operatingDates.indexOf(date);
+            if (dateIndex < 0) continue;    // 운영 기간 밖
+
+            Map<LocalTime, Integer> slots = new LinkedHashMap<>();
+            for (int i = 0; i < slotTimes.size(); i++) {
+                LocalTime time = slotTimes.get(i);
+                // 이미 지난 시간은 생성하지 않음
+                if (LocalDateTime.of(date, time).isBefore(now)) continue;
+
+                long slotIndex = (long) dateIndex * slotTimes.size() + i;   // 전체 운영 슬롯 중 순번
+                slots.put(time, slotCapacity + (slotIndex < remainingSlots ? 1 : 0));
+            }
+            if (!slots.isEmpty()) reopened.put(date, slots);
+        }
+        return reopened;
+    }
+
+    // 영업 시작시간부터 종료시간 직전까지 1시간 단위
+    private List<LocalTime> slotTimes(PopupStore popupStore) {
+        List<LocalTime> times = new ArrayList<>();
+        for (LocalTime time = popupStore.getOpeningTime(); time.isBefore(popupStore.getClosingTime()); time = time.plusHours(1))
+            times.add(time);
+        return times;
+    }
+
+    private ReservationAvailableSlot slot(PopupStore popupStore, LocalDate date, LocalTime time, int count, PopupStoreStatus status) {
+        return ReservationAvailableSlot.builder()
+                .popupStore(popupStore)
+                .date(date)
+                .time(time)
+                .availableSlot(count)
+                .totalSlot(count)
+                .status(status)
+                .build();
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+        task.run();
+    }
+}
@@ -0,0 +1,246 @@
+package com.poppy.domain.popupStore.service;
+
+import com.poppy.domain.reservation.entity.PopupStoreStatus;
+import com.poppy.domain.reservation.entity.ReservationAvailableSlot;
+import com.poppy.domain.reservation.repository.ReservationAvailableSlotRepository;
+import com.poppy.domain.reservation.service.RedisSlotService;
+import com.poppy.domain.reservation.service.ReservationHoldService;
+import com.poppy.domain.reservation.service.SlotKeyCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 스토어별 날짜 상태 캘린더를 Redis에 유지 (캘린더 조회 시 슬롯 엔티티 없이 해시 조회 한 번으로 응답)
+// calendar:{storeId} 해시: {yyyy-MM-dd} -> 마감된 슬롯 수 (휴무일은 H), {yyyy-MM-dd}:total -> 그 날짜의 슬롯 수, built -> 생성 완료 표시
+// calendar:full:{storeId} 셋: 마감된 슬롯 ({yyyy-MM-dd}|{HH:mm}), 같은 변경이 여러 번 반영돼도 마감 수가 어긋나지 않게 함
+// 슬롯 마감/재오픈은 SlotAvailabilityPublisher가 모아서 반영하고, 휴무일 변경 시에는 삭제 후 다음 조회 때 DB에서 다시 생성
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PopupStoreCalendarService {
+    private static final String CALENDAR_KEY_PREFIX = "calendar:";
+    private static final String FULL_SLOTS_KEY_PREFIX = "calendar:full:";
+    private static final String BUILT_FIELD = "built";
+    private static final String TOTAL_SUFFIX = ":total";
+    private static final String HOLIDAY = "H";
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final ReservationAvailableSlotRepository reservationAvailableSlotRepository;
+    private final RedisSlotService redisSlotService;
+    private final ReservationHoldService reservationHoldService;
+
+    @Value("${reservation.slot.atomic-script-enabled:false}")
+    private boolean atomicSlotScriptEnabled;
+
+    @Value("${popup-store.calendar.materialized-enabled:true}")
+    private boolean enabled;
+
+    // DB와 어긋난 부분(쓰기 지연 등)이 있어도 이 시간 후에는 DB 기준으로 다시 생성
+    @Value("${popup-store.calendar.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    // 슬롯 마감/재오픈 반영 (캘린더가 아직 없으면 다음 조회 때 새로 생성하므로 무시)
+    // ARGV: 슬롯마다 (날짜, 시간, 마감 여부 1/0)
+    private static final String APPLY_LUA = """
+            if redis.call('HEXISTS', KEYS[1], 'built') == 0 then return 0 end
+            for i = 1, #ARGV, 3 do
+                local date = ARGV[i]
+                if redis.call('HGET', KEYS[1], date) ~= 'H' then
+                    local member = date .. '|' .. ARGV[i + 1]
+                    if ARGV[i + 2] == '1' then
+                        if redis.call('SADD', KEYS[2], member) == 1 then redis.call('HINCRBY', KEYS[1], date, 1) end
+                    elseif redis.call('SREM', KEYS[2], member) == 1 then
+                        redis.call('HINCRBY', KEYS[1], date, -1)
+                    end
+                end
+            end
+            return 1
+            """;
+
+    // 캘린더 전체 교체, ARGV: TTL(ms), 해시 필드 수 n, 필드/값 n쌍, 마감 슬롯 목록
+    private static final String REBUILD_LUA = """
+            redis.call('DEL', KEYS[1], KEYS[2])
+            local n = tonumber(ARGV[2])
+            for i = 3, 2 + n * 2, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end
+            for i = 3 + n * 2, #ARGV do redis.call('SADD', KEYS[2], ARGV[i]) end
+            redis.call('HSET', KEYS[1], 'built', '1')
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return 1
+            """;
+
+    private static final RedisScript<Long> APPLY_SCRIPT = RedisScript.of(APPLY_LUA, Long.class);
+    private static final RedisScript<Long> REBUILD_SCRIPT = RedisScript.of(REBUILD_LUA, Long.class);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // startDate ~ 운영 종료일의 날짜별 상태
+    public Map<LocalDate, PopupStoreStatus> getStatuses(StoreHours storeHours, LocalDate startDate) {
+        LocalDate today = LocalDate.now();
+        if (!enabled) return toStatuses(buildEntries(storeHours, today).fields, startDate, storeHours.getEndDate(), today);
+
+        Map<String, String> fields;
+        try {
+            fields = readOrRebuild(storeHours, today);
+        } catch (Exception e) {
+            log.warn("Calendar cache unavailable for store {}, reading slots from DB: {}", storeHours.getStoreId(), e.getMessage());
+            fields = buildEntries(storeHours, today).fields;
+        }
+        return toStatuses(fields, startDate, storeHours.getEndDate(), today);
+    }
+
+    // 잔여 수량이 바뀐 슬롯의 마감 여부 반영
+    public void applySlotCounts(Long storeId, Map<LocalDateTime, Integer> counts) {
+        if (!enabled || counts.isEmpty()) return;
+
+        List<String> args = new ArrayList<>(counts.size() * 3);
+        counts.forEach((slotTime, count) -> {
+            args.add(slotTime.toLocalDate().toString());
+            args.add(SlotKeyCodec.timeField(slotTime.toLocalTime()));
+            args.add(count <= 0 ? "1" : "0");
+        });
+        stringRedisTemplate.execute(APPLY_SCRIPT, List.of(calendarKey(storeId), fullSlotsKey(storeId)), args.toArray());
+    }
+
+    // 휴무일 변경 등 슬롯 구성이 바뀐 경우 삭제 (다음 조회 때 다시 생성)
+    public void evict(Long storeId) {
+        if (!enabled) return;
+
+        try {
+            stringRedisTemplate.delete(List.of(calendarKey(storeId), fullSlotsKey(storeId)));
+        } catch (Exception e) {
+            log.warn("Failed to evict calendar for store {}: {}", storeId, e.getMessage());
+        }
+    }
+
+    private Map<String, String> readOrRebuild(StoreHours storeHours, LocalDate today) {
+        Long storeId = storeHours.getStoreId();
+        Map<Object, Object> stored = stringRedisTemplate.opsForHash().entries(calendarKey(storeId));
+        if (stored.containsKey(BUILT_FIELD)) {
+            Map<String, String> fields = new HashMap<>(stored.size());
+            stored.forEach((field, value) -> fields.put((String) field, (String) value));
+            return fields;
+        }
+
+        CalendarEntries entries = buildEntries(storeHours, today);
+        List<String> args = new ArrayList<>(2 + entries.fields.size() * 2 + entries.fullSlots.size());
+        args.add(String.valueOf(Duration.ofSeconds(ttlSeconds).toMillis()));
+        args.add(String.valueOf(entries.fields.size()));
+        entries.fields.forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+        args.addAll(entries.fullSlots);
+        stringRedisTemplate.execute(REBUILD_SCRIPT, List.of(calendarKey(storeId), fullSlotsKey(storeId)), args.toArray());
+        return entries.fields;
+    }
+
+    // 오늘 ~ 운영 종료일 슬롯을 DB에서 읽어 날짜별 마감 수/슬롯 수 계산 (캘린더가 없을 때만 실행)
+    // 스크립트 모드는 잔여 수량을 Redis에서만 바로 차감하므로 마감 여부를 Redis 카운터로 판단
+    private CalendarEntries buildEntries(StoreHours storeHours, LocalDate today) {
+        CalendarEntries entries = new CalendarEntries();
+        if (storeHours.getEndDate().isBefore(today)) return entries;
+
+        List<ReservationAvailableSlot> slots = reservationAvailableSlotRepository
+                .findByPopupStoreIdAndDateBetween(storeHours.getStoreId(), today, storeHours.getEndDate());
+        Map<LocalDateTime, Integer> redisCounts = readRedisCounts(storeHours, slots);
+
+        Map<LocalDate, int[]> counts = new HashMap<>();    // 날짜 -> {슬롯 수, 마감 수}
+        for (ReservationAvailableSlot slot : slots) {
+            String date = slot.getDate().toString();
+
+            // 해당 날짜의 슬롯 중 하나라도 HOLIDAY면 HOLIDAY
+            if (slot.getStatus() == PopupStoreStatus.HOLIDAY) {
+                entries.fields.put(date, HOLIDAY);
+                continue;
+            }
+
+            int[] count = counts.computeIfAbsent(slot.getDate(), d -> new int[2]);
+            count[0]++;
+            Integer redisCount = redisCounts.get(LocalDateTime.of(slot.getDate(), slot.getTime()));
+            boolean full = redisCount != null ? redisCount <= 0 : !slot.isAvailable();
+            if (full) {
+                count[1]++;
+                entries.fullSlots.add(date + "|" + SlotKeyCodec.timeField(slot.getTime()));
+            }
+        }
+
+        counts.forEach((date, count) -> {
+            String field = date.toString();
+            if (HOLIDAY.equals(entries.fields.get(field))) return;
+            entries.fields.put(field, String.valueOf(count[1]));
+            entries.fields.put(field + TOTAL_SUFFIX, String.valueOf(count[0]));
+        });
+        return entries;
+    }
+
+    // 스크립트 모드에서 휴무일이 아닌 슬롯의 Redis 잔여 수량 (락 모드이거나 Redis를 읽지 못하면 DB 값 사용)
+    private Map<LocalDateTime, Integer> readRedisCounts(StoreHours storeHours, List<ReservationAvailableSlot> slots) {
+        if (!atomicSlotScriptEnabled && !reservationHoldService.isEnabled()) return Map.of();
+
+        Map<LocalDate, List<LocalTime>> timesByDate = new HashMap<>();
+        for (ReservationAvailableSlot slot : slots) {
+            if (slot.getStatus() == PopupStoreStatus.HOLIDAY) continue;
+            timesByDate.computeIfAbsent(slot.getDate(), d -> new ArrayList<>()).add(slot.getTime());
+        }
+        if (timesByDate.isEmpty()) return Map.of();
+
+        try {
+            return redisSlotService.getSlotsFromRedis(storeHours.getStoreId(), timesByDate, storeHours.getSlotShards());
+        } catch (Exception e) {
+            log.warn("Failed to read slot counts for calendar of store {}, using DB: {}", storeHours.getStoreId(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private Map<LocalDate, PopupStoreStatus> toStatuses(Map<String, String> fields, LocalDate startDate, LocalDate endDate, LocalDate today) {
+        Map<LocalDate, PopupStoreStatus> statuses = new HashMap<>();
+
+        for (LocalDate current = startDate; !current.isAfter(endDate); current = current.plusDays(1)) {
+            // 오늘 이전의 날짜는 PAST로 갱신
+            if (current.isBefore(today)) {
+                statuses.put(current, PopupStoreStatus.PAST);
+                continue;
+            }
+
+            String date = current.toString();
+            String full = fields.get(date);
+            String total = fields.get(date + TOTAL_SUFFIX);
+
+            if (HOLIDAY.equals(full)) statuses.put(current, PopupStoreStatus.HOLIDAY);
+            // 모든 슬롯이 예약 마감이면 FULL
+            else if (full != null && total != null && Integer.parseInt(full) >= Integer.parseInt(total))
+                statuses.put(current, PopupStoreStatus.FULL);
+            // 슬롯이 없거나 예약 가능한 슬롯이 남은 날짜는 예약 가능
+            else statuses.put(current, PopupStoreStatus.AVAILABLE);
+        }
+        return statuses;
+    }
+
+    private String calendarKey(Long storeId) {
+        return CALENDAR_KEY_PREFIX + storeId;
+    }
+
+    private String fullSlotsKey(Long storeId) {
+        return FULL_SLOTS_KEY_PREFIX + storeId;
+    }
+
+    private static class CalendarEntries {
+        private final Map<String, String> fields = new HashMap<>();
+        private final List<String> fullSlots = new ArrayList<>();
+    }
+}
@@ -1,6 +1,5 @@
 package com.poppy.domain.popupStore.service;
 
-import com.poppy.admin.service.AsyncRedisSlotInitializationService;
 import com.poppy.common.entity.Images;
 import com.poppy.common.exception.BusinessException;
 import com.poppy.common.exception.ErrorCode;
@@ -17,14 +16,18 @@ import com.poppy.domain.popupStore.dto.response.ReservationAvailableSlotRspDto;
 import com.poppy.domain.popupStore.repository.PopupStoreViewRepository;
 import com.poppy.domain.reservation.entity.PopupStoreStatus;
 import com.poppy.domain.reservation.entity.ReservationAvailableSlot;
+import com.poppy.domain.reservation.repository.ReservationAvailableSlotJdbcRepository;
 import com.poppy.domain.reservation.repository.ReservationAvailableSlotRepository;
 import com.poppy.domain.reservation.repository.ReservationRepository;
+import com.poppy.domain.reservation.service.RedisSlotService;
 import com.poppy.domain.storeCategory.entity.StoreCategory;
 import com.poppy.domain.storeCategory.repository.StoreCategoryRepository;
 import com.poppy.domain.user.entity.Role;
 import com.poppy.domain.user.entity.User;
 import com.poppy.domain.user.repository.LoginUserProvider;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -40,15 +43,24 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class PopupStoreService {
     private final PopupStoreRepository popupStoreRepository;
     private final ReservationAvailableSlotRepository reservationAvailableSlotRepository;
+    private final ReservationAvailableSlotJdbcRepository reservationAvailableSlotJdbcRepository;
     private final PopupStoreViewRepository popupStoreViewRepository;
     private final StoreCategoryRepository storeCategoryRepository;
     private final ReservationRepository reservationRepository;
     private final ImageService imageService;
     private final LoginUserProvider loginUserProvider;
-    private final AsyncRedisSlotInitializationService asyncRedisSlotService;
+    private final RedisSlotService redisSlotService;
+    private final StoreHoursCache storeHoursCache;
+    private final PopupStoreCalendarService popupStoreCalendarService;
+    private final HolidaySlotDiffService holidaySlotDiffService;
+
+    // true면 슬롯 조회를 Redis 실시간 재고로 처리 (Redis에 없는 경우만 DB 조회)
+    @Value("${popup-store.slot-read.redis-enabled:true}")
+    private boolean redisSlotReadEnabled;
 
     // 전체 목록 조회
     @Transactional(readOnly = true)
@@ -168,57 +180,20 @@ public class PopupStoreService {
                 .collect(Collectors.toList());
     }
 
-    // 팝업 스토어 캘린더 반환
-    @Transactional(readOnly = true)
+    // 팝업 스토어 캘린더 반환 (운영 정보 캐시 + Redis 캘린더 조회로 응답, 트랜잭션 없이 시작)
     public PopupStoreCalenderRspDto getCalender(Long id) {
-        PopupStore popupStore = popupStoreRepository.findById(id)
-                .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
+        StoreHours storeHours = storeHoursCache.get(id);
 
         // 오늘 이전 날짜는 예약 가능일 설정 X
         LocalDate now = LocalDate.now();
-        LocalDate startDate = popupStore.getStartDate().isBefore(now) ? now : popupStore.getStartDate();
-
-        // 날짜별 상태 조회
-        Map<LocalDate, List<ReservationAvailableSlot>> slotsByDate =
-                reservationAvailableSlotRepository.findByPopupStoreIdAndDateBetween(id, startDate, popupStore.getEndDate())
-                        .stream()
-                        .collect(Collectors.groupingBy(ReservationAvailableSlot::getDate));
-
-        Map<LocalDate, PopupStoreStatus> popupStoreStatuses = new HashMap<>();
-        LocalDate current = startDate;
-
-        // 예약 가능한 날짜 조회
-        while (!current.isAfter(popupStore.getEndDate())) {
-            // 오늘 이전의 날짜는 PAST로 갱신
-            if(current.isBefore(now)) popupStoreStatuses.put(current, PopupStoreStatus.PAST);
-            else {
-                List<ReservationAvailableSlot> daySlots = slotsByDate.get(current);
-                if (daySlots == null || daySlots.isEmpty())
-                    popupStoreStatuses.put(current, PopupStoreStatus.AVAILABLE);
-                else {
-                    // 해당 날짜의 모든 슬롯 중 하나라도 HOLIDAY면 HOLIDAY
-                    if (daySlots.stream().anyMatch(slot -> slot.getStatus() == PopupStoreStatus.HOLIDAY)) {
-                        popupStoreStatuses.put(current, PopupStoreStatus.HOLIDAY);
-                    }
-                    // 모든 슬롯이 예약 마감이면 FULL
-                    else if (daySlots.stream().noneMatch(ReservationAvailableSlot::isAvailable)) {
-                        popupStoreStatuses.put(current, PopupStoreStatus.FULL);
-                    }
-                    // 그 외의 경우는 예약 가능
-                    else {
-                        popupStoreStatuses.put(current, PopupStoreStatus.AVAILABLE);
-                    }
-                }
-            }
-            current = current.plusDays(1);
-        }
+        LocalDate startDate = storeHours.getStartDate().isBefore(now) ? now : storeHours.getStartDate();
 
         return PopupStoreCalenderRspDto.builder()
-                .id(popupStore.getId())
-                .name(popupStore.getName())
+                .id(storeHours.getStoreId())
+                .name(storeHours.getName())
                 .startDate(startDate)
-                .endDate(popupStore.getEndDate())
-                .statuses(popupStoreStatuses)
+                .endDate(storeHours.getEndDate())
+                .statuses(popupStoreCalendarService.getStatuses(storeHours, startDate))
                 .build();
     }
 
@@ -300,13 +275,57 @@ public class PopupStoreService {
             slotsToSave.add(slot);
         }
 
-        // 한 번에 저장
-        if(!slotsToSave.isEmpty()) reservationAvailableSlotRepository.saveAll(slotsToSave);
+        // 다중 행 INSERT로 일괄 저장
+        reservationAvailableSlotJdbcRepository.insertSlots(storeId, slotsToSave);
     }
 
     // 특정 날짜의 예약 가능 시간대 조회
-    @Transactional(readOnly = true)
+    // Redis 조회만으로 응답할 수 있도록 트랜잭션(DB 커넥션) 없이 시작하고, DB 조회는 Redis에 없는 경우에만 수행
     public List<ReservationAvailableSlotRspDto> getAvailableSlots(Long storeId, LocalDate date) {
+        LocalDateTime now = LocalDateTime.now();
+
+        if (redisSlotReadEnabled) {
+            List<ReservationAvailableSlotRspDto> slots = getAvailableSlotsFromRedis(storeId, date, now);
+            if (slots != null) return slots;
+        }
+        return getAvailableSlotsFromDb(storeId, date, now);
+    }
+
+    // Redis 실시간 재고로 슬롯 조회, 휴무일이거나 Redis에 없는 슬롯이 있으면 null (DB 조회)
+    private List<ReservationAvailableSlotRspDto> getAvailableSlotsFromRedis(Long storeId, LocalDate date, LocalDateTime now) {
+        StoreHours storeHours = storeHoursCache.get(storeId);
+        if (storeHours.isHoliday(date)) return null;
+
+        // 현재 시간 이후 슬롯만 조회
+        List<LocalTime> times = storeHours.getSlotTimes().stream()
+                .filter(time -> !LocalDateTime.of(date, time).isBefore(now))
+                .toList();
+        if (times.isEmpty()) return null;
+
+        Map<LocalDateTime, Integer> counts;
+        try {
+            counts = redisSlotService.getSlotsFromRedis(storeId, Map.of(date, times), storeHours.getSlotShards());
+        } catch (Exception e) {
+            log.warn("Redis slot read failed, falling back to DB: storeId={}, date={}, {}", storeId, date, e.getMessage());
+            return null;
+        }
+
+        List<ReservationAvailableSlotRspDto> slots = new ArrayList<>(times.size());
+        for (LocalTime time : times) {
+            Integer count = counts.get(LocalDateTime.of(date, time));
+            if (count == null) return null;
+
+            int availableSlot = Math.max(count, 0);
+            slots.add(ReservationAvailableSlotRspDto.builder()
+                    .time(time.toString())
+                    .availableSlot(availableSlot)
+                    .isAvailable(availableSlot > 0)
+                    .build());
+        }
+        return slots;
+    }
+
+    private List<ReservationAvailableSlotRspDto> getAvailableSlotsFromDb(Long storeId, LocalDate date, LocalDateTime now) {
         // 팝업 스토어 조회
         PopupStore popupStore = popupStoreRepository.findById(storeId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
@@ -318,11 +337,8 @@ public class PopupStoreService {
 
         // 슬롯 정보 DTO로 변환
         return slots.stream()
-                .filter(slot -> {
-                    // 현재 시간 이후 슬롯만 반환
-                    LocalDateTime slotDateTime = LocalDateTime.of(slot.getDate(), slot.getTime());
-                    return !slotDateTime.isBefore(LocalDateTime.now());
-                })
+                // 현재 시간 이후 슬롯만 반환
+                .filter(slot -> !LocalDateTime.of(slot.getDate(), slot.getTime()).isBefore(now))
                 .map(slot -> ReservationAvailableSlotRspDto.builder()
                         .time(slot.getTime().toString())
                         .availableSlot(slot.getAvailableSlot())
@@ -422,46 +438,14 @@ public class PopupStoreService {
             }
         }
 
-        // 휴무일 변경이 있는 경우
-        if (reqDto.getHolidays() != null && !reqDto.getHolidays().isEmpty()) {
-            // 기존 휴무일 정보 삭제
-            reservationAvailableSlotRepository.deleteByPopupStoreIdAndStatus(
-                    popupStore.getId(),
-                    PopupStoreStatus.HOLIDAY
-            );
+        // 엔티티 업데이트 (휴무일 반영 시 변경된 운영 기간, 시간, 전체 인원 기준으로 슬롯을 만들도록 먼저 적용)
+        popupStore.updateDetails(reqDto);
 
-            // 새로운 휴무일 정보 저장
-            List<ReservationAvailableSlot> holidaySlots = reqDto.getHolidays().stream()
-                    .flatMap(date -> {
-                        List<ReservationAvailableSlot> slotsForDay = new ArrayList<>();
-                        LocalTime currentTime = popupStore.getOpeningTime();
-
-                        while (currentTime.isBefore(popupStore.getClosingTime())) {
-                            slotsForDay.add(ReservationAvailableSlot.builder()
-                                    .popupStore(popupStore)
-                                    .date(date)
-                                    .time(currentTime)
-                                    .availableSlot(0)
-                                    .totalSlot(0)
-                                    .status(PopupStoreStatus.HOLIDAY)
-                                    .build());
-                            currentTime = currentTime.plusHours(1);
-                        }
-                        return slotsForDay.stream();
-                    })
-                    .toList();
-
-            reservationAvailableSlotRepository.saveAll(holidaySlots);
-
-            // 예약 슬롯 재초기화 추가
-            if(popupStore.getReservationType() == ReservationType.ONLINE) {
-                initializeSlots(popupStore.getId());
-                asyncRedisSlotService.initializeRedisSlots(popupStore.getId());
-            }
+        // 휴무일 변경이 있는 경우 (기존 휴무일과 비교해 바뀐 날짜의 슬롯만 갱신)
+        if (reqDto.getHolidays() != null && !reqDto.getHolidays().isEmpty()) {
+            holidaySlotDiffService.applyHolidays(popupStore, reqDto.getHolidays());
         }
-
-        // 엔티티 업데이트
-        popupStore.updateDetails(reqDto);
+        storeHoursCache.evictAfterCommit(popupStore.getId());
 
         return PopupStoreRspDto.from(popupStore);
     }
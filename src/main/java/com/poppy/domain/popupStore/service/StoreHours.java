@@ -0,0 +1,65 @@
+package com.poppy.domain.popupStore.service;
+
+import com.poppy.domain.popupStore.entity.PopupStore;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+// 슬롯/캘린더 조회에 필요한 스토어 운영 정보 (운영 기간, 운영 시간대, 휴무일, 슬롯 분할 수)
+@Getter
+public class StoreHours {
+    private final Long storeId;
+    private final String name;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final List<LocalTime> slotTimes;    // 운영 시간 내 1시간 단위 슬롯 시작 시각
+    private final Set<LocalDate> holidays;
+    private final int slotShards;
+    private final long expireAt;
+
+    private StoreHours(Long storeId, String name, LocalDate startDate, LocalDate endDate,
+                       List<LocalTime> slotTimes, Set<LocalDate> holidays, int slotShards, long expireAt) {
+        this.storeId = storeId;
+        this.name = name;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.slotTimes = slotTimes;
+        this.holidays = holidays;
+        this.slotShards = slotShards;
+        this.expireAt = expireAt;
+    }
+
+    public static StoreHours of(PopupStore popupStore, Set<LocalDate> holidays, long expireAt) {
+        // 슬롯 생성(PopupStoreService.initializeSlots)과 같은 규칙으로 시간대 계산
+        List<LocalTime> slotTimes = new ArrayList<>();
+        LocalTime currentTime = popupStore.getOpeningTime();
+        while (currentTime.isBefore(popupStore.getClosingTime())) {
+            slotTimes.add(currentTime);
+            currentTime = currentTime.plusHours(1);
+        }
+
+        return new StoreHours(
+                popupStore.getId(),
+                popupStore.getName(),
+                popupStore.getStartDate(),
+                popupStore.getEndDate(),
+                Collections.unmodifiableList(slotTimes),
+                Set.copyOf(holidays),
+                popupStore.getSlotShards(),
+                expireAt
+        );
+    }
+
+    public boolean isExpired(long now) {
+        return expireAt < now;
+    }
+
+    public boolean isHoliday(LocalDate date) {
+        return holidays.contains(date);
+    }
+}
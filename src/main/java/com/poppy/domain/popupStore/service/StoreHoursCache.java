@@ -0,0 +1,100 @@
+package com.poppy.domain.popupStore.service;
+
+import com.poppy.common.exception.BusinessException;
+import com.poppy.common.exception.ErrorCode;
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.popupStore.repository.PopupStoreRepository;
+import com.poppy.domain.reservation.entity.PopupStoreStatus;
+import com.poppy.domain.reservation.entity.ReservationAvailableSlot;
+import com.poppy.domain.reservation.repository.ReservationAvailableSlotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// 스토어 운영 정보 인스턴스 내 캐시 (슬롯 조회마다 스토어/휴무일을 DB에서 읽지 않도록 함)
+// 스토어 수정은 Redis Pub/Sub으로 모든 인스턴스에 무효화 전파, 놓친 이벤트가 있어도 TTL이 지나면 DB에서 다시 읽음
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StoreHoursCache implements MessageListener {
+    public static final String HOURS_EVENT_TOPIC = "store-hours-events";
+
+    private final PopupStoreRepository popupStoreRepository;
+    private final ReservationAvailableSlotRepository reservationAvailableSlotRepository;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+
+    private final Map<Long, StoreHours> cache = new ConcurrentHashMap<>();
+
+    @Value("${popup-store.hours-cache.ttl-ms:60000}")
+    private long ttlMillis;
+
+    public StoreHours get(Long storeId) {
+        long now = System.currentTimeMillis();
+        StoreHours hours = cache.get(storeId);
+        if (hours != null && !hours.isExpired(now)) return hours;
+
+        PopupStore popupStore = popupStoreRepository.findById(storeId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
+        Set<LocalDate> holidays = reservationAvailableSlotRepository
+                .findByPopupStoreIdAndStatus(storeId, PopupStoreStatus.HOLIDAY)
+                .stream()
+                .map(ReservationAvailableSlot::getDate)
+                .collect(Collectors.toSet());
+
+        hours = StoreHours.of(popupStore, holidays, now + ttlMillis);
+        cache.put(storeId, hours);
+        return hours;
+    }
+
+    public void evict(Long storeId) {
+        cache.remove(storeId);
+    }
+
+    // 스토어 수정 커밋 후 로컬 캐시를 비우고 다른 인스턴스에 전파
+    // (커밋 전에 비우면 다른 요청이 수정 전 값을 다시 적재할 수 있음)
+    public void evictAfterCommit(Long storeId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishEvicted(storeId);
+                }
+            });
+            return;
+        }
+        publishEvicted(storeId);
+    }
+
+    // 메시지 형식: {스토어 ID}
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            evict(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            log.error("Error processing store hours event: {}", e.getMessage(), e);
+        }
+    }
+
+    // 이벤트 전파 실패 시 다른 인스턴스는 TTL이 지난 뒤 반영
+    private void publishEvicted(Long storeId) {
+        evict(storeId);
+        try {
+            stringRedisTemplate.convertAndSend(HOURS_EVENT_TOPIC, String.valueOf(storeId));
+        } catch (Exception e) {
+            log.warn("Failed to publish store hours event for store {}: {}", storeId, e.getMessage());
+        }
+    }
+}
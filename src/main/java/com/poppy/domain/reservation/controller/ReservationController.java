@@ -2,28 +2,58 @@ package com.poppy.domain.reservation.controller;
 
 import com.poppy.common.api.RspTemplate;
 import com.poppy.domain.payment.dto.ReservationPaymentRspDto;
+import com.poppy.domain.reservation.dto.request.GroupReservationReqDto;
 import com.poppy.domain.reservation.dto.request.ReservationReqDto;
+import com.poppy.domain.reservation.dto.request.ReservationSlotReqDto;
+import com.poppy.domain.reservation.service.ReservationIdempotencyService;
 import com.poppy.domain.reservation.service.ReservationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/reservation")
 @RequiredArgsConstructor
 public class ReservationController {
     private final ReservationService reservationService;
+    private final ReservationIdempotencyService reservationIdempotencyService;
 
-    // 예약 요청 시 결제
+    // 예약 요청 시 결제 (Idempotency-Key가 같은 재요청은 처음 요청의 결과를 그대로 반환)
     @PostMapping
-    public RspTemplate<ReservationPaymentRspDto> reservation(@Valid @RequestBody ReservationReqDto reservationReqDto) {
-        ReservationPaymentRspDto paymentInfo = reservationService.reservation(
+    public RspTemplate<ReservationPaymentRspDto> reservation(
+            @Valid @RequestBody ReservationReqDto reservationReqDto,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @AuthenticationPrincipal Long userId) {
+        ReservationPaymentRspDto paymentInfo = reservationIdempotencyService.execute(
+                userId,
+                idempotencyKey,
                 reservationReqDto.getPopupStoreId(),
                 reservationReqDto.getDate(),
                 reservationReqDto.getTime(),
-                reservationReqDto.getPerson()
+                reservationReqDto.getPerson(),
+                () -> reservationService.reservation(
+                        reservationReqDto.getPopupStoreId(),
+                        reservationReqDto.getDate(),
+                        reservationReqDto.getTime(),
+                        reservationReqDto.getPerson()
+                )
         );
         return new RspTemplate<>(HttpStatus.OK, "결제를 진행해주세요.", paymentInfo);
     }
+
+    // 여러 날짜의 슬롯을 한 번에 예약 (전부 성공하거나 전부 실패)
+    @PostMapping("/group")
+    public RspTemplate<List<ReservationPaymentRspDto>> reserveGroup(@Valid @RequestBody GroupReservationReqDto groupReservationReqDto) {
+        List<ReservationPaymentRspDto> paymentInfos = reservationService.reserveGroup(
+                groupReservationReqDto.getPopupStoreId(),
+                groupReservationReqDto.getSlots().stream()
+                        .map(ReservationSlotReqDto::toSlotRequest)
+                        .toList()
+        );
+        return new RspTemplate<>(HttpStatus.OK, "결제를 진행해주세요.", paymentInfos);
+    }
 }
@@ -0,0 +1,20 @@
+package com.poppy.domain.reservation.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class GroupReservationReqDto {
+    @NotNull(message = "팝업 스토어를 입력해주세요.")
+    Long popupStoreId;
+
+    @NotEmpty(message = "예약할 슬롯을 입력해주세요.")
+    @Size(max = 10, message = "한 번에 최대 10개의 슬롯까지 예약할 수 있습니다.")
+    @Valid
+    List<ReservationSlotReqDto> slots;
+}
@@ -0,0 +1,27 @@
+package com.poppy.domain.reservation.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.poppy.domain.reservation.service.SlotRequest;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Getter
+public class ReservationSlotReqDto {
+    @NotNull(message = "날짜를 입력해주세요.")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy.MM.dd")
+    LocalDate date;
+
+    @NotNull(message = "시간을 입력해주세요.")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    LocalTime time;
+
+    @NotNull(message = "인원을 입력해주세요.")
+    Integer person;
+
+    public SlotRequest toSlotRequest() {
+        return new SlotRequest(date, time, person);
+    }
+}
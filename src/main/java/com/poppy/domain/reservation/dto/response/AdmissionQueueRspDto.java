@@ -0,0 +1,22 @@
+package com.poppy.domain.reservation.dto.response;
+
+import com.poppy.domain.reservation.service.AdmissionResult;
+import lombok.Builder;
+import lombok.Getter;
+
+// 예약 대기열 등록 응답 (retryAfterMs 후 ticket을 X-Admission-Ticket 헤더에 담아 다시 요청)
+@Getter
+@Builder
+public class AdmissionQueueRspDto {
+    private final long ticket;
+    private final long position;
+    private final long retryAfterMs;
+
+    public static AdmissionQueueRspDto from(AdmissionResult result) {
+        return AdmissionQueueRspDto.builder()
+                .ticket(result.getTicket())
+                .position(result.getPosition())
+                .retryAfterMs(result.getRetryAfterMs())
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.poppy.domain.reservation.dto.response;
+
+import com.poppy.domain.popupStore.dto.response.ReservationAvailableSlotRspDto;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// /topic/stores/{storeId}/slots/{date} 으로 보내는 슬롯 변경분 (변경된 시간대만 포함, 형식은 슬롯 조회 응답과 동일)
+@Getter
+@Builder
+public class SlotAvailabilityRspDto {
+    private final Long storeId;
+    private final String date;      // yyyy-MM-dd
+    private final List<ReservationAvailableSlotRspDto> slots;
+}
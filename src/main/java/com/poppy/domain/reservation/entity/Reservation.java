@@ -12,7 +12,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "reservations")
+@Table(name = "reservations", indexes = @Index(name = "idx_reservations_user_date_id", columnList = "user_id, date, id"))
 @NoArgsConstructor
 @Getter
 public class Reservation extends BaseTimeEntity {
@@ -41,6 +41,11 @@ public class ReservationAvailableSlot {
     @Column(nullable = false)
     private PopupStoreStatus status = PopupStoreStatus.AVAILABLE;   // 기본값은 예약 가능
 
+    // 슬롯 수량은 조건부 UPDATE로 변경하고, 엔티티로 수정하는 다른 작업과의 충돌은 버전으로 감지
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     public boolean isAvailable() {
         return this.availableSlot > 0;
     }
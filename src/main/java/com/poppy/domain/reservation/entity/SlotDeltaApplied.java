@@ -0,0 +1,23 @@
+package com.poppy.domain.reservation.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// DB에 반영된 슬롯 변화량 스트림 메시지 ID (ACK 전 장애로 다시 전달된 메시지를 중복 반영하지 않기 위해 기록)
+// 저장과 조회는 ReservationAvailableSlotJdbcRepository에서 처리
+@Entity
+@Table(name = "slot_delta_applied", indexes = @Index(name = "idx_slot_delta_applied_at", columnList = "applied_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SlotDeltaApplied {
+    @Id
+    @Column(name = "record_id", length = 64)
+    private String recordId;    // Redis Stream 메시지 ID
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,160 @@
+package com.poppy.domain.reservation.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poppy.common.api.RspTemplate;
+import com.poppy.common.exception.ErrorCode;
+import com.poppy.common.util.ErrorResponder;
+import com.poppy.domain.reservation.dto.response.AdmissionQueueRspDto;
+import com.poppy.domain.reservation.service.AdmissionControlService;
+import com.poppy.domain.reservation.service.AdmissionResult;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+// POST /reservation, /reservation/group 입장 제어 필터 (대기 번호가 입장 순서가 되기 전에는 ReservationService에 들어가지 않음)
+// 대기 번호는 로그인 유저 기준으로 관리하므로 헤더의 대기 번호는 안내용이며 입장 판정에 사용하지 않음
+@Component
+@RequiredArgsConstructor
+public class ReservationAdmissionFilter extends OncePerRequestFilter {
+    public static final String TICKET_HEADER = "X-Admission-Ticket";
+    private static final Set<String> ADMISSION_PATHS = Set.of("/reservation", "/reservation/group");
+
+    private final AdmissionControlService admissionControlService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        // 스토어 ID가 요청 본문에 있으므로 본문을 읽어 두고 이후 필터/컨트롤러에서 다시 읽을 수 있게 감쌈
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        Long storeId = readStoreId(cachedRequest.body);
+        Long userId = readUserId();
+
+        // 스토어나 유저를 알 수 없는 요청은 그대로 통과 (요청 검증, 인증 확인에서 처리)
+        if (storeId == null || userId == null) {
+            filterChain.doFilter(cachedRequest, response);
+            return;
+        }
+
+        AdmissionResult result = admissionControlService.admit(storeId, userId);
+        switch (result.getStatus()) {
+            case ADMITTED -> filterChain.doFilter(cachedRequest, response);
+            case QUEUED -> {
+                response.setHeader(TICKET_HEADER, String.valueOf(result.getTicket()));
+                writeResponse(response, HttpStatus.ACCEPTED, result.getRetryAfterMs(),
+                        new RspTemplate<>(HttpStatus.ACCEPTED, "예약 대기열에 등록되었습니다.", AdmissionQueueRspDto.from(result)));
+            }
+            case DROPPED -> writeResponse(response, HttpStatus.TOO_MANY_REQUESTS, result.getRetryAfterMs(),
+                    ErrorResponder.createResponseDto(ErrorCode.RESERVATION_QUEUE_FULL));
+        }
+    }
+
+    // 입장 제어 대상: 활성화된 경우의 예약 생성 요청만
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !admissionControlService.isEnabled()
+                || !"POST".equals(request.getMethod())
+                || !ADMISSION_PATHS.contains(request.getRequestURI());
+    }
+
+    private Long readStoreId(byte[] body) {
+        try {
+            JsonNode storeId = objectMapper.readTree(body).path("popupStoreId");
+            return storeId.canConvertToLong() ? storeId.asLong() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    // 인증 필터가 설정한 로그인 유저 ID (LoginUserProvider와 같은 기준, DB 조회 없음)
+    private Long readUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken)
+            return null;
+
+        try {
+            return Long.valueOf(authentication.getName());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void writeResponse(HttpServletResponse response, HttpStatus status, long retryAfterMs, Object body) throws IOException {
+        response.setCharacterEncoding("UTF-8");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setStatus(status.value());
+        response.setHeader("Retry-After", String.valueOf((retryAfterMs + 999) / 1000));
+        response.getWriter().write(objectMapper.writeValueAsString(body));
+    }
+
+    // 요청 본문을 메모리에 보관해 여러 번 읽을 수 있게 하는 래퍼
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문 전체가 이미 메모리에 있으므로 등록 즉시 읽기 가능과 읽기 완료를 알림
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (!isFinished()) listener.onDataAvailable();
+                        if (isFinished()) listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
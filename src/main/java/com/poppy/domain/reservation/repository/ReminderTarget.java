@@ -0,0 +1,13 @@
+package com.poppy.domain.reservation.repository;
+
+import java.time.LocalTime;
+
+// 24시간 전 알림 발송 대상 (알림에 필요한 값만 조회)
+public interface ReminderTarget {
+    Long getReservationId();
+    Long getUserId();
+    String getFcmToken();
+    Long getStoreId();
+    String getStoreName();
+    LocalTime getTime();
+}
@@ -15,4 +15,5 @@ public interface ReservationAvailableSlotCustomRepository {
     Optional<ReservationAvailableSlot> findByPopupStoreIdAndDateAndTime(Long popupStoreId, LocalDate date, LocalTime time);
     List<ReservationAvailableSlot> findByPopupStoreIdAndStatus(Long popupStoreId, PopupStoreStatus status);
     List<ReservationAvailableSlot> findByPopupStoreIdAndDateGreaterThanEqualAndStatus(Long popupStoreId, LocalDate date, PopupStoreStatus status);
+    List<ReservationAvailableSlot> findBookableSlotsAfterId(Long popupStoreId, LocalDate fromDate, Long lastId, int size);
 }
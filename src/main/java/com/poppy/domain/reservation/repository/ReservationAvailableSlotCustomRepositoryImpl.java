@@ -68,4 +68,19 @@ public class ReservationAvailableSlotCustomRepositoryImpl implements Reservation
                         .and(slot.status.eq(status)))
                 .fetch();
     }
+
+    // 예약 가능(또는 마감) 상태의 미래 슬롯을 id 기준으로 페이지 단위 조회
+    @Override
+    public List<ReservationAvailableSlot> findBookableSlotsAfterId(Long popupStoreId, LocalDate fromDate, Long lastId, int size) {
+        QReservationAvailableSlot slot = QReservationAvailableSlot.reservationAvailableSlot;
+
+        return queryFactory.selectFrom(slot)
+                .where(slot.popupStore.id.eq(popupStoreId)
+                        .and(slot.date.goe(fromDate))
+                        .and(slot.status.in(PopupStoreStatus.AVAILABLE, PopupStoreStatus.FULL))
+                        .and(slot.id.gt(lastId)))
+                .orderBy(slot.id.asc())
+                .limit(size)
+                .fetch();
+    }
 }
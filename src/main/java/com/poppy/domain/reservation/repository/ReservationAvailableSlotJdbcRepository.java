@@ -0,0 +1,167 @@
+package com.poppy.domain.reservation.repository;
+
+import com.poppy.domain.reservation.entity.ReservationAvailableSlot;
+import com.poppy.domain.reservation.service.SlotDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// JPA 엔티티 로딩 없이 슬롯 테이블을 일괄 처리하는 JDBC 레포지토리
+@Repository
+@RequiredArgsConstructor
+public class ReservationAvailableSlotJdbcRepository {
+    // 다중 행 INSERT 한 문장에 담는 최대 행 수 (바인딩 파라미터 수와 패킷 크기 제한 고려)
+    private static final int INSERT_CHUNK_SIZE = 500;
+    private static final int INSERT_COLUMN_COUNT = 6;
+
+    private static final String INSERT_SLOTS_PREFIX = """
+            INSERT INTO reservation_available_slots
+                (popup_store_id, date, time, available_slot, total_slot, status, version)
+            VALUES
+            """;
+    private static final String INSERT_SLOT_VALUES = "(?, ?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_FULL_CHUNK_SQL = insertSlotsSql(INSERT_CHUNK_SIZE);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 상태는 변경 전 잔여 수량 기준으로 계산해야 하므로 available_slot보다 먼저 갱신 (MySQL은 SET 절을 왼쪽부터 적용)
+    private static final String APPLY_DELTA_SQL = """
+            UPDATE reservation_available_slots
+            SET status = CASE
+                    WHEN status = 'AVAILABLE' AND available_slot + ? <= 0 THEN 'FULL'
+                    WHEN status = 'FULL' AND available_slot + ? > 0 THEN 'AVAILABLE'
+                    ELSE status
+                END,
+                available_slot = available_slot + ?,
+                version = version + 1
+            WHERE popup_store_id = ? AND date = ? AND time = ?
+            """;
+
+    private static final String INSERT_APPLIED_PREFIX = "INSERT INTO slot_delta_applied (record_id, applied_at) VALUES ";
+
+    // 스트림 메시지별 변화량 중 아직 반영하지 않은 것만 슬롯별로 합산해 반영 (반환: 새로 반영한 메시지 수)
+    // 반영한 메시지 ID를 같은 트랜잭션에 기록하므로, 커밋 후 ACK 전에 장애가 나서 다시 전달돼도 한 번만 반영됨
+    // 두 인스턴스가 같은 메시지를 동시에 처리하면 나중 트랜잭션이 기본 키 중복으로 롤백되고 다음 실행에서 건너뜀
+    @Transactional
+    public int applySlotDeltasOnce(Map<String, SlotDelta> deltasByRecordId) {
+        if (deltasByRecordId.isEmpty()) return 0;
+
+        Set<String> applied = findAppliedRecordIds(deltasByRecordId.keySet());
+        Map<String, SlotDelta> coalesced = new LinkedHashMap<>();
+        List<String> newRecordIds = new ArrayList<>();
+
+        deltasByRecordId.forEach((recordId, delta) -> {
+            if (applied.contains(recordId)) return;
+            newRecordIds.add(recordId);
+            coalesced.computeIfAbsent(delta.slotId(),
+                    id -> new SlotDelta(delta.getStoreId(), delta.getDate(), delta.getTime(), 0)).add(delta.getDelta());
+        });
+        if (newRecordIds.isEmpty()) return 0;
+
+        insertAppliedRecordIds(newRecordIds);
+        applySlotDeltas(coalesced.values().stream()
+                .filter(delta -> delta.getDelta() != 0)
+                .toList());
+        return newRecordIds.size();
+    }
+
+    // 재전달 가능 기간이 지난 반영 기록 삭제
+    @Transactional
+    public int deleteAppliedRecordsBefore(LocalDateTime threshold) {
+        return jdbcTemplate.update("DELETE FROM slot_delta_applied WHERE applied_at < ?", Timestamp.valueOf(threshold));
+    }
+
+    // 슬롯별로 합산된 변화량을 한 번의 배치 UPDATE로 반영
+    @Transactional
+    public void applySlotDeltas(List<SlotDelta> deltas) {
+        if (deltas.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setInt(1, delta.getDelta());
+            ps.setInt(2, delta.getDelta());
+            ps.setInt(3, delta.getDelta());
+            ps.setLong(4, delta.getStoreId());
+            ps.setDate(5, Date.valueOf(delta.getDate()));
+            ps.setTime(6, Time.valueOf(delta.getTime()));
+        });
+    }
+
+    // 생성된 슬롯을 다중 행 INSERT로 나눠 저장
+    // IDENTITY 키 엔티티는 JPA saveAll이 행마다 INSERT를 보내므로, 청크 단위로 한 문장씩 보내 왕복 횟수를 줄임
+    // (드라이버의 rewriteBatchedStatements 설정과 무관하게 동작)
+    @Transactional
+    public void insertSlots(Long popupStoreId, List<ReservationAvailableSlot> slots) {
+        for (int from = 0; from < slots.size(); from += INSERT_CHUNK_SIZE) {
+            List<ReservationAvailableSlot> chunk = slots.subList(from, Math.min(from + INSERT_CHUNK_SIZE, slots.size()));
+
+            Object[] args = new Object[chunk.size() * INSERT_COLUMN_COUNT];
+            int i = 0;
+            for (ReservationAvailableSlot slot : chunk) {
+                args[i++] = popupStoreId;
+                args[i++] = Date.valueOf(slot.getDate());
+                args[i++] = Time.valueOf(slot.getTime());
+                args[i++] = slot.getAvailableSlot();
+                args[i++] = slot.getTotalSlot();
+                args[i++] = slot.getStatus().name();
+            }
+
+            String sql = chunk.size() == INSERT_CHUNK_SIZE ? INSERT_FULL_CHUNK_SQL : insertSlotsSql(chunk.size());
+            jdbcTemplate.update(sql, args);
+        }
+    }
+
+    // 지정한 날짜의 슬롯 행을 상태와 관계없이 한 번에 삭제 (휴무일 변경 시 바뀐 날짜만 다시 생성)
+    @Transactional
+    public int deleteSlotsByDates(Long popupStoreId, Collection<LocalDate> dates) {
+        if (dates.isEmpty()) return 0;
+
+        List<Object> args = new ArrayList<>(dates.size() + 1);
+        args.add(popupStoreId);
+        dates.forEach(date -> args.add(Date.valueOf(date)));
+
+        String sql = "DELETE FROM reservation_available_slots WHERE popup_store_id = ? AND date IN ("
+                + String.join(", ", Collections.nCopies(dates.size(), "?")) + ")";
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+
+    private Set<String> findAppliedRecordIds(Collection<String> recordIds) {
+        String sql = "SELECT record_id FROM slot_delta_applied WHERE record_id IN ("
+                + String.join(", ", Collections.nCopies(recordIds.size(), "?")) + ")";
+        return new HashSet<>(jdbcTemplate.queryForList(sql, String.class, recordIds.toArray()));
+    }
+
+    private void insertAppliedRecordIds(List<String> recordIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int from = 0; from < recordIds.size(); from += INSERT_CHUNK_SIZE) {
+            List<String> chunk = recordIds.subList(from, Math.min(from + INSERT_CHUNK_SIZE, recordIds.size()));
+
+            Object[] args = new Object[chunk.size() * 2];
+            int i = 0;
+            for (String recordId : chunk) {
+                args[i++] = recordId;
+                args[i++] = now;
+            }
+            jdbcTemplate.update(INSERT_APPLIED_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), "(?, ?)")), args);
+        }
+    }
+
+    private static String insertSlotsSql(int rows) {
+        return INSERT_SLOTS_PREFIX + String.join(", ", Collections.nCopies(rows, INSERT_SLOT_VALUES));
+    }
+}
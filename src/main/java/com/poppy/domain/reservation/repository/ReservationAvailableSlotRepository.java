@@ -5,6 +5,7 @@ import com.poppy.domain.reservation.entity.ReservationAvailableSlot;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,4 +13,37 @@ public interface ReservationAvailableSlotRepository extends JpaRepository<Reserv
     @Modifying
     @Query("DELETE FROM ReservationAvailableSlot r WHERE r.popupStore.id = :popupStoreId AND r.status = :status")
     void deleteByPopupStoreIdAndStatus(Long popupStoreId, PopupStoreStatus status);
+
+    // 잔여 슬롯이 충분하고 예약 가능 상태일 때만 차감 (반환: 변경된 행 수, 0이면 차감 실패)
+    // 상태는 변경 전 잔여 수량 기준으로 계산해야 하므로 availableSlot보다 먼저 갱신
+    @Modifying
+    @Query("""
+       UPDATE ReservationAvailableSlot s
+       SET s.status = CASE
+               WHEN s.availableSlot - :count <= 0 THEN com.poppy.domain.reservation.entity.PopupStoreStatus.FULL
+               ELSE s.status
+           END,
+           s.availableSlot = s.availableSlot - :count,
+           s.version = s.version + 1
+       WHERE s.id = :id
+       AND s.availableSlot >= :count
+       AND s.status = com.poppy.domain.reservation.entity.PopupStoreStatus.AVAILABLE
+       """)
+    int decreaseSlot(@Param("id") Long id, @Param("count") int count);
+
+    // 취소 인원만큼 슬롯 복구, 마감 상태였다면 예약 가능으로 전환 (전체 슬롯 수를 넘으면 0 반환)
+    @Modifying
+    @Query("""
+       UPDATE ReservationAvailableSlot s
+       SET s.status = CASE
+               WHEN s.status = com.poppy.domain.reservation.entity.PopupStoreStatus.FULL
+                   THEN com.poppy.domain.reservation.entity.PopupStoreStatus.AVAILABLE
+               ELSE s.status
+           END,
+           s.availableSlot = s.availableSlot + :count,
+           s.version = s.version + 1
+       WHERE s.id = :id
+       AND s.availableSlot + :count <= s.totalSlot
+       """)
+    int increaseSlot(@Param("id") Long id, @Param("count") int count);
 }
@@ -2,22 +2,49 @@ package com.poppy.domain.reservation.repository;
 
 import com.poppy.domain.reservation.entity.Reservation;
 import com.poppy.domain.reservation.entity.ReservationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 @Repository
-public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+public interface ReservationRepository extends JpaRepository<Reservation, Long>, ReservationRepositoryCustom {
     Optional<Reservation> findByUserIdAndPopupStoreIdAndDate(Long userId, Long popupStoreId, LocalDate date);
+    List<Reservation> findAllByUserIdAndPopupStoreIdAndDateIn(Long userId, Long popupStoreId, Collection<LocalDate> dates);
     Optional<Reservation> findByUserIdAndPopupStoreIdAndDateAndTime(Long userId, Long popupStoreId, LocalDate date, LocalTime time);
-    List<Reservation> findAllByUserId(Long userId);
     Optional<Reservation> findByIdAndUserId(Long id, Long userId);
     Optional<Reservation> findByUserIdAndPopupStoreIdAndDateAndStatus(Long userId, Long storeId, LocalDate date, ReservationStatus status);
-    List<Reservation> findByDateAndTimeAndStatus(LocalDate date, LocalTime time, ReservationStatus status);
     boolean existsByPopupStoreIdAndDateIn(Long popupStoreId, Set<LocalDate> dates);
+
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.popupStore WHERE r.id IN :ids")
+    List<Reservation> findAllWithPopupStoreByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 슬롯(날짜, 시간)별 상태별 예약 인원 합계
+    @Query("SELECT r.date AS date, r.time AS time, r.status AS status, SUM(r.person) AS seats " +
+            "FROM Reservation r " +
+            "WHERE r.popupStore.id = :storeId AND r.date >= :fromDate AND r.status IN :statuses " +
+            "GROUP BY r.date, r.time, r.status")
+    List<SlotSeatCount> sumSeatsBySlot(@Param("storeId") Long storeId,
+                                       @Param("fromDate") LocalDate fromDate,
+                                       @Param("statuses") List<ReservationStatus> statuses);
+
+    // 24시간 전 알림 대상 예약을 ID 순으로 lastId 이후부터 조회 (엔티티 로딩 없이 알림에 필요한 값만)
+    @Query("SELECT r.id AS reservationId, u.id AS userId, u.fcmToken AS fcmToken, " +
+            "s.id AS storeId, s.name AS storeName, r.time AS time " +
+            "FROM Reservation r JOIN r.user u JOIN r.popupStore s " +
+            "WHERE r.date = :date AND r.time = :time AND r.status = :status AND r.id > :lastId " +
+            "ORDER BY r.id")
+    List<ReminderTarget> findReminderTargets(@Param("date") LocalDate date,
+                                             @Param("time") LocalTime time,
+                                             @Param("status") ReservationStatus status,
+                                             @Param("lastId") Long lastId,
+                                             Pageable pageable);
 }
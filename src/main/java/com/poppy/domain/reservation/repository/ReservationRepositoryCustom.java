@@ -0,0 +1,10 @@
+package com.poppy.domain.reservation.repository;
+
+import com.poppy.domain.user.dto.response.UserReservationRspDto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ReservationRepositoryCustom {
+    List<UserReservationRspDto> findReservationHistory(Long userId, LocalDate cursorDate, Long cursorId, int limit);
+}
@@ -0,0 +1,61 @@
+package com.poppy.domain.reservation.repository;
+
+import com.poppy.common.entity.QImages;
+import com.poppy.domain.popupStore.entity.QPopupStore;
+import com.poppy.domain.reservation.entity.QReservation;
+import com.poppy.domain.user.dto.response.QUserReservationRspDto;
+import com.poppy.domain.user.dto.response.UserReservationRspDto;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ReservationRepositoryCustomImpl implements ReservationRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+    private final QReservation reservation = QReservation.reservation;
+    private final QPopupStore popupStore = QPopupStore.popupStore;
+    private final QImages image = new QImages("image");
+    private final QImages firstImage = new QImages("firstImage");
+
+    // 유저의 예약 내역을 (날짜, ID) 최신순으로 커서 이후부터 조회
+    // 스토어와 대표 이미지(가장 먼저 등록된 이미지)를 한 쿼리로 함께 조회해 예약마다 스토어, 이미지 목록을 로딩하지 않음
+    @Override
+    public List<UserReservationRspDto> findReservationHistory(Long userId, LocalDate cursorDate, Long cursorId, int limit) {
+        return queryFactory
+                .select(new QUserReservationRspDto(
+                        reservation.id,
+                        reservation.user.id,
+                        popupStore.id,
+                        popupStore.name,
+                        reservation.date,
+                        reservation.time,
+                        popupStore.location,
+                        reservation.status,
+                        image.uploadUrl,
+                        reservation.person
+                ))
+                .from(reservation)
+                .join(reservation.popupStore, popupStore)
+                .leftJoin(image).on(image.id.eq(
+                        JPAExpressions.select(firstImage.id.min())
+                                .from(firstImage)
+                                .where(firstImage.popupStore.id.eq(popupStore.id))
+                ))
+                .where(reservation.user.id.eq(userId), afterCursor(cursorDate, cursorId))
+                .orderBy(reservation.date.desc(), reservation.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 첫 페이지는 커서 조건 없음
+    private BooleanExpression afterCursor(LocalDate cursorDate, Long cursorId) {
+        if (cursorDate == null || cursorId == null) return null;
+
+        return reservation.date.lt(cursorDate)
+                .or(reservation.date.eq(cursorDate).and(reservation.id.lt(cursorId)));
+    }
+}
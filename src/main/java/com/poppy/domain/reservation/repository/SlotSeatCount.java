@@ -0,0 +1,14 @@
+package com.poppy.domain.reservation.repository;
+
+import com.poppy.domain.reservation.entity.ReservationStatus;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 슬롯별 예약 인원 집계 결과
+public interface SlotSeatCount {
+    LocalDate getDate();
+    LocalTime getTime();
+    ReservationStatus getStatus();
+    Long getSeats();
+}
@@ -0,0 +1,151 @@
+package com.poppy.domain.reservation.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+// 스토어별 예약 입장 제어 (오픈 직후 몰리는 예약 요청을 설정한 속도로만 ReservationService에 들여보냄)
+// 대기 번호를 순서대로 발급하고, 입장 기준 번호(head)를 초당 rate만큼 올려 FIFO로 입장시키는 토큰 버킷 방식
+// 대기 번호는 유저별로 Redis에 기록해 다른 유저가 가져다 쓸 수 없고, 입장하면 소진되어 다시 쓸 수 없음
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AdmissionControlService {
+    private static final String ADMISSION_KEY_PREFIX = "admission:";
+    private static final String TICKETS_KEY_SUFFIX = ":tickets";    // 유저 ID -> 발급된 대기 번호
+    private static final long IDLE_TTL_MS = 600_000L;
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+
+    // 지표 (마지막 기록 이후 누적)
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    @Value("${reservation.admission.enabled:false}")
+    private boolean enabled;
+
+    @Value("${reservation.admission.rate-per-second:50}")
+    private double ratePerSecond;
+
+    @Value("${reservation.admission.burst:100}")
+    private int burst;
+
+    @Value("${reservation.admission.max-queue:10000}")
+    private int maxQueue;
+
+    // 발급 후 이 시간이 지난 대기 번호는 무효 (재사용 방지)
+    @Value("${reservation.admission.ticket-window-seconds:30}")
+    private int ticketWindowSeconds;
+
+    @Value("${reservation.admission.min-poll-ms:500}")
+    private long minPollMs;
+
+    // 경과 시간만큼 head 증가 (최대 tail + burst) 후 유저의 대기 번호 판정
+    // 대기 번호가 없거나 만료되었으면 새로 발급, 입장하면 유저의 대기 번호 삭제(소진)
+    // 반환: {1: 입장, 0: 대기, -1: 거절, 대기 번호, 남은 대기 인원}
+    private static final String ADMIT_LUA = """
+            local now = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local burst = tonumber(ARGV[3])
+            local state = redis.call('HMGET', KEYS[1], 'head', 'tail', 'ts')
+            local tail = tonumber(state[2] or '0')
+            local head = tonumber(state[1] or tostring(tail + burst))
+            local ts = tonumber(state[3] or ARGV[1])
+            head = math.min(head + math.max(now - ts, 0) * rate / 1000, tail + burst)
+
+            local ticket = tonumber(redis.call('HGET', KEYS[2], ARGV[5]))
+            if not ticket or ticket > tail or ticket <= head - tonumber(ARGV[6]) then
+                if tail - head >= tonumber(ARGV[4]) then
+                    redis.call('HSET', KEYS[1], 'head', tostring(head), 'ts', ARGV[1])
+                    return {-1, 0, math.ceil(tail - head)}
+                end
+                tail = tail + 1
+                ticket = tail
+            end
+
+            redis.call('HSET', KEYS[1], 'head', tostring(head), 'tail', tail, 'ts', ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[7])
+            if ticket <= head then
+                redis.call('HDEL', KEYS[2], ARGV[5])
+                return {1, ticket, 0}
+            end
+
+            redis.call('HSET', KEYS[2], ARGV[5], ticket)
+            redis.call('PEXPIRE', KEYS[2], ARGV[7])
+            return {0, ticket, math.ceil(ticket - head)}
+            """;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ADMIT_SCRIPT = RedisScript.of(ADMIT_LUA, List.class);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 유저의 대기 번호가 없으면 새로 발급, 있으면 입장 순서가 되었는지 확인
+    public AdmissionResult admit(Long storeId, Long userId) {
+        List<?> result;
+        try {
+            result = stringRedisTemplate.execute(
+                    ADMIT_SCRIPT,
+                    List.of(ADMISSION_KEY_PREFIX + storeId, ADMISSION_KEY_PREFIX + storeId + TICKETS_KEY_SUFFIX),
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(ratePerSecond),
+                    String.valueOf(burst),
+                    String.valueOf(maxQueue),
+                    String.valueOf(userId),
+                    String.valueOf((long) Math.ceil(ratePerSecond * ticketWindowSeconds)),
+                    String.valueOf(IDLE_TTL_MS)
+            );
+        } catch (Exception e) {
+            // Redis 장애 시 입장 제어 없이 통과 (기존 예약 흐름과 동일)
+            log.warn("Admission control unavailable for store {}: {}", storeId, e.getMessage());
+            admitted.increment();
+            return AdmissionResult.admitted(0);
+        }
+
+        if (result == null || result.size() < 3)
+            throw new IllegalStateException("입장 제어 스크립트 실행 결과가 없습니다.");
+
+        long code = ((Number) result.get(0)).longValue();
+        long issuedTicket = ((Number) result.get(1)).longValue();
+        long position = ((Number) result.get(2)).longValue();
+
+        if (code == 1) {
+            admitted.increment();
+            return AdmissionResult.admitted(issuedTicket);
+        }
+        if (code == 0) {
+            queued.increment();
+            return AdmissionResult.queued(issuedTicket, position, retryAfterMs(position));
+        }
+        dropped.increment();
+        return AdmissionResult.dropped(retryAfterMs(position));
+    }
+
+    // 앞에 남은 인원이 빠지는 데 걸리는 예상 시간 (너무 잦은 재요청 방지를 위해 최솟값 적용)
+    private long retryAfterMs(long position) {
+        long expected = (long) Math.ceil(position * 1000 / ratePerSecond);
+        return Math.max(minPollMs, expected);
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.admission.metrics-interval-ms:60000}")
+    public void logMetrics() {
+        if (!enabled) return;
+
+        long admittedCount = admitted.sumThenReset();
+        long queuedCount = queued.sumThenReset();
+        long droppedCount = dropped.sumThenReset();
+
+        if (admittedCount + queuedCount + droppedCount > 0)
+            log.info("Reservation admission - admitted: {}, queued: {}, dropped: {}", admittedCount, queuedCount, droppedCount);
+    }
+}
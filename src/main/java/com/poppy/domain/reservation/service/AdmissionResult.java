@@ -0,0 +1,37 @@
+package com.poppy.domain.reservation.service;
+
+import lombok.Getter;
+
+// 예약 입장 제어 결과
+@Getter
+public class AdmissionResult {
+    public enum Status {
+        ADMITTED,   // 예약 진행 가능
+        QUEUED,     // 대기열 등록, retryAfterMs 후 대기 번호로 다시 요청
+        DROPPED     // 대기열이 가득 차 거절
+    }
+
+    private final Status status;
+    private final long ticket;          // 대기 번호 (재요청 시 헤더로 전달)
+    private final long position;        // 앞에 남은 대기 인원
+    private final long retryAfterMs;    // 다음 요청까지 권장 대기 시간
+
+    private AdmissionResult(Status status, long ticket, long position, long retryAfterMs) {
+        this.status = status;
+        this.ticket = ticket;
+        this.position = position;
+        this.retryAfterMs = retryAfterMs;
+    }
+
+    public static AdmissionResult admitted(long ticket) {
+        return new AdmissionResult(Status.ADMITTED, ticket, 0, 0);
+    }
+
+    public static AdmissionResult queued(long ticket, long position, long retryAfterMs) {
+        return new AdmissionResult(Status.QUEUED, ticket, position, retryAfterMs);
+    }
+
+    public static AdmissionResult dropped(long retryAfterMs) {
+        return new AdmissionResult(Status.DROPPED, 0, 0, retryAfterMs);
+    }
+}
@@ -15,11 +15,21 @@ public class AsyncRedisSlotDecrementService {
     private final RedisSlotService redisSlotService;
 
     @Async
-    public void decrementRedisSlot(Long storeId, LocalDate date, LocalTime time, int person) {
+    public void decrementRedisSlot(Long storeId, LocalDate date, LocalTime time, int person, int shards) {
         try {
-            redisSlotService.decrementSlot(storeId, date, time, person);
+            redisSlotService.decrementSlot(storeId, date, time, person, shards);
         } catch (Exception e) {
             log.error("Redis 슬롯 감소 실패: storeId={}, date={}, time={}, person={}", storeId, date, time, person, e);
+            markForReconciliation(storeId, date, time);
+        }
+    }
+
+    // 실패한 슬롯은 SlotReconciliationScheduler가 다음 실행 때 우선 복구
+    private void markForReconciliation(Long storeId, LocalDate date, LocalTime time) {
+        try {
+            redisSlotService.markForReconciliation(storeId, date, time);
+        } catch (Exception e) {
+            log.error("Redis 슬롯 정합성 검사 대상 기록 실패: storeId={}, date={}, time={}", storeId, date, time, e);
         }
     }
 }
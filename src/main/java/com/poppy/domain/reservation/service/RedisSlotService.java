@@ -1,55 +1,466 @@
 package com.poppy.domain.reservation.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
 
+// 슬롯 재고는 (스토어, 날짜)별 해시 하나에 시간대 필드로 저장 (키 형식은 SlotKeyCodec 참고)
+// 선점 스크립트는 재고 해시(모든 분할)와 선점자 해시를 함께 갱신하므로 Redis Cluster가 아닌 단일 Redis가 필요
 @Service
 @RequiredArgsConstructor
 public class RedisSlotService {
-    private final RedisTemplate<String, Integer> redisTemplate;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+
+    // 잔여 슬롯 확인 + 인원만큼 차감 + 선점자 기록을 한 번에 수행 (반환: {결과 코드, 남은 슬롯})
+    private static final String RESERVE_SLOT_LUA = """
+            local stock = redis.call('HGET', KEYS[1], ARGV[3])
+            if not stock then return {-1, -1} end
+            stock = tonumber(stock)
+            local person = tonumber(ARGV[1])
+            if stock <= 0 then return {0, stock} end
+            if stock < person then return {2, stock} end
+            local remaining = redis.call('HINCRBY', KEYS[1], ARGV[3], -person)
+            redis.call('HINCRBY', KEYS[2], ARGV[2], person)
+            local ttl = redis.call('PTTL', KEYS[1])
+            if ttl > 0 then redis.call('PEXPIRE', KEYS[2], ttl) end
+            return {1, remaining}
+            """;
+
+    // 선점했던 인원만큼만 슬롯 반환 + 선점자 기록 정리 (중복/지연 반환으로 없는 슬롯이 생기지 않도록 선점 인원을 넘지 않음)
+    // 반환: 1 반환함, 0 선점 기록 없음, -1 슬롯 없음
+    private static final String RELEASE_SLOT_LUA = """
+            if redis.call('HEXISTS', KEYS[1], ARGV[3]) == 0 then return -1 end
+            local held = tonumber(redis.call('HGET', KEYS[2], ARGV[2]) or '0')
+            if held <= 0 then
+                redis.call('HDEL', KEYS[2], ARGV[2])
+                return 0
+            end
+            local person = math.min(tonumber(ARGV[1]), held)
+            redis.call('HINCRBY', KEYS[1], ARGV[3], person)
+            if held <= person then
+                redis.call('HDEL', KEYS[2], ARGV[2])
+            else
+                redis.call('HINCRBY', KEYS[2], ARGV[2], -person)
+            end
+            return 1
+            """;
+
+    // 조회 시점 값이 그대로일 때만 슬롯 값 교체 (빈 문자열: 필드 없음)
+    private static final String COMPARE_AND_SET_LUA = """
+            local current = redis.call('HGET', KEYS[1], ARGV[1])
+            if (not current and ARGV[2] == '') or current == ARGV[2] then
+                redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+                if redis.call('PTTL', KEYS[1]) < 0 then redis.call('PEXPIRE', KEYS[1], ARGV[4]) end
+                redis.call('SADD', KEYS[2], KEYS[1])
+                return 1
+            end
+            return 0
+            """;
+
+    // 분할 카운터 하나에서 인원 차감 (ARGV[2]가 '1'이면 남은 만큼만 부분 차감, 반환: 차감한 인원, 슬롯이 없으면 -1)
+    private static final String TAKE_FROM_SHARD_LUA = """
+            local stock = redis.call('HGET', KEYS[1], ARGV[3])
+            if not stock then return -1 end
+            stock = tonumber(stock)
+            local need = tonumber(ARGV[1])
+            if stock <= 0 then return 0 end
+            if stock < need then
+                if ARGV[2] ~= '1' then return 0 end
+                need = stock
+            end
+            redis.call('HINCRBY', KEYS[1], ARGV[3], -need)
+            return need
+            """;
+
+    // 여러 슬롯을 모두 확인한 뒤 한 번에 차감 (하나라도 부족하면 아무것도 차감하지 않음)
+    // 분할 카운터는 슬롯별 분할 합계로 확인하고 0번 분할부터 남은 만큼 나눠 차감
+    // KEYS: 슬롯마다 재고 해시 s개(0번 분할부터) + 선점자 해시 n개, ARGV[1]: 분할 수 s, ARGV[2..]: 슬롯마다 (인원, 시간 필드, 선점자 필드)
+    // 반환: {결과 코드, 실패한 슬롯 순번(1부터)}
+    private static final String RESERVE_SLOTS_LUA = """
+            local s = tonumber(ARGV[1])
+            local n = #KEYS / (s + 1)
+            local stocks = {}
+            for i = 1, n do
+                local found = false
+                local total = 0
+                stocks[i] = {}
+                for j = 1, s do
+                    local stock = redis.call('HGET', KEYS[(i - 1) * s + j], ARGV[3 * i])
+                    local value = 0
+                    if stock then
+                        found = true
+                        value = math.max(tonumber(stock), 0)
+                    end
+                    stocks[i][j] = value
+                    total = total + value
+                end
+                if not found then return {-1, i} end
+                if total <= 0 then return {0, i} end
+                if total < tonumber(ARGV[3 * i - 1]) then return {2, i} end
+            end
+            for i = 1, n do
+                local person = tonumber(ARGV[3 * i - 1])
+                local remaining = person
+                for j = 1, s do
+                    local take = math.min(stocks[i][j], remaining)
+                    if take > 0 then
+                        redis.call('HINCRBY', KEYS[(i - 1) * s + j], ARGV[3 * i], -take)
+                        remaining = remaining - take
+                    end
+                end
+                local holderKey = KEYS[n * s + i]
+                redis.call('HINCRBY', holderKey, ARGV[3 * i + 1], person)
+                local ttl = redis.call('PTTL', KEYS[(i - 1) * s + 1])
+                if ttl > 0 then redis.call('PEXPIRE', holderKey, ttl) end
+            end
+            return {1, 0}
+            """;
+
+    private static final String DIRTY_KEY_PREFIX = "slot:reconcile:dirty:";
+    private static final String SUSPECT_KEY_PREFIX = "slot:reconcile:suspect:";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RESERVE_SLOT_SCRIPT = RedisScript.of(RESERVE_SLOT_LUA, List.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RESERVE_SLOTS_SCRIPT = RedisScript.of(RESERVE_SLOTS_LUA, List.class);
+    private static final RedisScript<Long> RELEASE_SLOT_SCRIPT = RedisScript.of(RELEASE_SLOT_LUA, Long.class);
+    private static final RedisScript<Long> COMPARE_AND_SET_SCRIPT = RedisScript.of(COMPARE_AND_SET_LUA, Long.class);
+    private static final RedisScript<Long> TAKE_FROM_SHARD_SCRIPT = RedisScript.of(TAKE_FROM_SHARD_LUA, Long.class);
 
     // Redis에 슬롯 정보 저장하는 공통 메서드
     public void setSlotToRedis(Long storeId, LocalDate date, LocalTime time, int availableSlot) {
-        String slotKey = String.format("slot:%d:%s:%s", storeId, date, time);
-        redisTemplate.opsForValue().set(slotKey, availableSlot, 24, TimeUnit.HOURS);
+        setSlotToRedis(storeId, date, time, availableSlot, 1);
+    }
+
+    // 슬롯 수량을 분할 카운터에 나눠 저장 (0번 분할은 기본 해시를 그대로 사용)
+    public void setSlotToRedis(Long storeId, LocalDate date, LocalTime time, int availableSlot, int shards) {
+        initializeSlots(storeId, shards, Map.of(date, Map.of(time, availableSlot)));
+    }
+
+    // 스토어의 날짜별 슬롯을 한 번의 파이프라인으로 저장 (날짜별 HSET + 만료 시간 + 키 추적)
+    public void initializeSlots(Long storeId, int shards, Map<LocalDate, Map<LocalTime, Integer>> slotsByDate) {
+        if (slotsByDate.isEmpty()) return;
+
+        String trackingKey = SlotKeyCodec.trackingKey(storeId);
+        int shardCount = Math.max(shards, 1);
+
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                List<String> trackedKeys = new ArrayList<>();
+
+                slotsByDate.forEach((date, slots) -> {
+                    Duration ttl = slotTtl(date);
+
+                    for (int shard = 0; shard < shardCount; shard++) {
+                        Map<String, String> fields = new HashMap<>(slots.size() * 2);
+                        for (Map.Entry<LocalTime, Integer> slot : slots.entrySet()) {
+                            int available = slot.getValue();
+                            int share = available / shardCount + (shard < available % shardCount ? 1 : 0);
+                            fields.put(SlotKeyCodec.timeField(slot.getKey()), String.valueOf(share));
+                        }
+
+                        String key = SlotKeyCodec.inventoryKey(storeId, date, shard);
+                        ops.opsForHash().putAll(key, fields);
+                        ops.expire(key, ttl);
+                        trackedKeys.add(key);
+                    }
+                    trackedKeys.add(SlotKeyCodec.holderKey(storeId, date));
+                });
+
+                ops.opsForSet().add(trackingKey, trackedKeys.toArray(String[]::new));
+                return null;
+            }
+        });
+    }
+
+    // 슬롯 키는 해당 날짜가 끝난 다음 날까지 유지 (초기화/복구 모두 같은 만료 시간 사용)
+    public Duration slotTtl(LocalDate date) {
+        Duration ttl = Duration.between(LocalDateTime.now(), date.plusDays(2).atStartOfDay());
+        return ttl.isNegative() || ttl.isZero() ? Duration.ofHours(1) : ttl;
+    }
+
+    // Redis에서 슬롯 정보 조회, 분할 카운터는 합계 (모든 분할에 값이 없으면 null)
+    public Integer getSlotFromRedis(Long storeId, LocalDate date, LocalTime time, int shards) {
+        return getSlotsFromRedis(storeId, Map.of(date, List.of(time)), shards).get(LocalDateTime.of(date, time));
     }
 
-    // Redis에서 슬롯 정보 조회
-    public Integer getSlotFromRedis(Long storeId, LocalDate date, LocalTime time) {
-        String slotKey = String.format("slot:%d:%s:%s", storeId, date, time);
-        return redisTemplate.opsForValue().get(slotKey);
+    // 여러 날짜의 슬롯을 날짜(분할)별 HMGET 파이프라인 한 번으로 조회 (Redis에 없는 슬롯은 결과에서 제외)
+    public Map<LocalDateTime, Integer> getSlotsFromRedis(Long storeId, Map<LocalDate, ? extends Collection<LocalTime>> timesByDate, int shards) {
+        int shardCount = Math.max(shards, 1);
+        List<LocalDate> dates = new ArrayList<>(timesByDate.keySet());
+        Map<LocalDate, List<LocalTime>> times = new HashMap<>();
+        dates.forEach(date -> times.put(date, new ArrayList<>(timesByDate.get(date))));
+
+        List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (LocalDate date : dates) {
+                    List<Object> fields = times.get(date).stream()
+                            .map(time -> (Object) SlotKeyCodec.timeField(time))
+                            .toList();
+                    for (int shard = 0; shard < shardCount; shard++)
+                        ops.opsForHash().multiGet(SlotKeyCodec.inventoryKey(storeId, date, shard), fields);
+                }
+                return null;
+            }
+        });
+
+        Map<LocalDateTime, Integer> slots = new HashMap<>();
+        int index = 0;
+        for (LocalDate date : dates) {
+            List<LocalTime> dateTimes = times.get(date);
+            for (int shard = 0; shard < shardCount; shard++) {
+                List<?> values = (List<?>) results.get(index++);
+                for (int i = 0; i < dateTimes.size(); i++) {
+                    Object value = values == null ? null : values.get(i);
+                    if (value == null) continue;
+                    slots.merge(LocalDateTime.of(date, dateTimes.get(i)), Integer.parseInt(value.toString()), Integer::sum);
+                }
+            }
+        }
+        return slots;
+    }
+
+    // 지정한 날짜의 슬롯 키(모든 분할 + 선점자 해시)만 삭제하고 추적 셋에서 제거
+    public void clearDates(Long storeId, int shards, Collection<LocalDate> dates) {
+        if (dates.isEmpty()) return;
+
+        List<String> keys = new ArrayList<>();
+        for (LocalDate date : dates) {
+            for (int shard = 0; shard < Math.max(shards, 1); shard++)
+                keys.add(SlotKeyCodec.inventoryKey(storeId, date, shard));
+            keys.add(SlotKeyCodec.holderKey(storeId, date));
+        }
+
+        stringRedisTemplate.unlink(keys);
+        stringRedisTemplate.opsForSet().remove(SlotKeyCodec.trackingKey(storeId), keys.toArray());
     }
 
     // Redis 슬롯 삭제
     public void deleteSlot(Long storeId, LocalDate date, LocalTime time) {
-        String key = generateKey(storeId, date, time);
-        redisTemplate.delete(key);
+        stringRedisTemplate.opsForHash().delete(SlotKeyCodec.inventoryKey(storeId, date), SlotKeyCodec.timeField(time));
     }
 
-    // Redis의 슬롯 감소
-    public void decrementSlot(Long storeId, LocalDate date, LocalTime time, int person) {
-        String slotKey = String.format("slot:%d:%s:%s", storeId, date, time);
-        Long result = redisTemplate.opsForValue().decrement(slotKey, person);
+    // 스토어의 모든 슬롯 키 삭제 (추적 셋 기준 UNLINK, KEYS 스캔 없음)
+    public void clearStore(Long storeId) {
+        String trackingKey = SlotKeyCodec.trackingKey(storeId);
+        Set<String> keys = stringRedisTemplate.opsForSet().members(trackingKey);
+
+        List<String> targets = new ArrayList<>();
+        if (keys != null) targets.addAll(keys);
+        targets.add(trackingKey);
+        targets.add(DIRTY_KEY_PREFIX + storeId);
+        targets.add(SUSPECT_KEY_PREFIX + storeId);
+
+        stringRedisTemplate.unlink(targets);
+    }
 
-        if (result != null && result < 0) {
-            // 슬롯이 음수가 되면 롤백
-            redisTemplate.opsForValue().increment(slotKey, person);
+    // Redis의 슬롯 감소 (분할 카운터는 여러 분할에서 나눠 차감하고, 합계가 부족하면 가져온 인원을 되돌림)
+    public void decrementSlot(Long storeId, LocalDate date, LocalTime time, int person, int shards) {
+        String field = SlotKeyCodec.timeField(time);
+        if (shards <= 1) {
+            String key = SlotKeyCodec.inventoryKey(storeId, date);
+            Long result = stringRedisTemplate.opsForHash().increment(key, field, -person);
+
+            if (result != null && result < 0) {
+                // 슬롯이 음수가 되면 롤백
+                stringRedisTemplate.opsForHash().increment(key, field, person);
+                throw new IllegalStateException("Redis 슬롯이 음수가 될 수 없습니다.");
+            }
+            return;
+        }
+
+        int remaining = person;
+        Map<String, Long> takenByKey = new LinkedHashMap<>();
+        for (int shard = 0; shard < shards && remaining > 0; shard++) {
+            String key = SlotKeyCodec.inventoryKey(storeId, date, shard);
+            long taken = takeFromShard(key, field, remaining, true);
+            if (taken > 0) {
+                takenByKey.put(key, taken);
+                remaining -= (int) taken;
+            }
+        }
+
+        if (remaining > 0) {
+            takenByKey.forEach((key, taken) -> stringRedisTemplate.opsForHash().increment(key, field, taken));
             throw new IllegalStateException("Redis 슬롯이 음수가 될 수 없습니다.");
         }
     }
 
-    // Redis의 슬롯 증가
+    // Redis의 슬롯 증가 (분할 카운터는 합계만 의미가 있으므로 분할 수와 관계없이 0번 분할에 더함)
     public void incrementSlot(Long storeId, LocalDate date, LocalTime time, int person) {
-        String slotKey = String.format("slot:%d:%s:%s", storeId, date, time);
-        redisTemplate.opsForValue().increment(slotKey, person);
+        stringRedisTemplate.opsForHash().increment(SlotKeyCodec.inventoryKey(storeId, date), SlotKeyCodec.timeField(time), person);
+    }
+
+    // 잔여 슬롯 확인과 차감을 원자적으로 처리 (Redis 왕복 1회, 분산 락 불필요)
+    public SlotReservationResult tryReserveSlot(Long storeId, LocalDate date, LocalTime time, int person, Long holderId) {
+        List<?> result = stringRedisTemplate.execute(
+                RESERVE_SLOT_SCRIPT,
+                List.of(SlotKeyCodec.inventoryKey(storeId, date), SlotKeyCodec.holderKey(storeId, date)),
+                String.valueOf(person),
+                SlotKeyCodec.holderField(time, holderId),
+                SlotKeyCodec.timeField(time)
+        );
+
+        if (result == null || result.isEmpty())
+            throw new IllegalStateException("Redis 슬롯 선점 스크립트 실행 결과가 없습니다.");
+
+        return SlotReservationResult.fromCode(((Number) result.get(0)).longValue());
+    }
+
+    // 분할 카운터 슬롯 선점: 임의의 분할에서 먼저 시도하고 부족하면 다른 분할에서 가져옴
+    public SlotReservationResult tryReserveSlot(Long storeId, LocalDate date, LocalTime time, int person, Long holderId, int shards) {
+        if (shards <= 1) return tryReserveSlot(storeId, date, time, person, holderId);
+
+        String field = SlotKeyCodec.timeField(time);
+        int start = ThreadLocalRandom.current().nextInt(shards);
+        boolean slotExists = false;
+
+        // 1. 한 분할에서 전체 인원 차감
+        for (int i = 0; i < shards; i++) {
+            long taken = takeFromShard(SlotKeyCodec.inventoryKey(storeId, date, (start + i) % shards), field, person, false);
+            if (taken == person) {
+                recordHolder(storeId, date, time, person, holderId);
+                return SlotReservationResult.OK;
+            }
+            if (taken >= 0) slotExists = true;
+        }
+        if (!slotExists) return SlotReservationResult.MISSING_KEY;
+
+        // 2. 여러 분할에서 나눠서 차감, 합계가 부족하면 가져온 인원 되돌림
+        int remaining = person;
+        Map<String, Long> takenByKey = new LinkedHashMap<>();
+        for (int i = 0; i < shards && remaining > 0; i++) {
+            String key = SlotKeyCodec.inventoryKey(storeId, date, (start + i) % shards);
+            long taken = takeFromShard(key, field, remaining, true);
+            if (taken > 0) {
+                takenByKey.put(key, taken);
+                remaining -= (int) taken;
+            }
+        }
+
+        if (remaining == 0) {
+            recordHolder(storeId, date, time, person, holderId);
+            return SlotReservationResult.OK;
+        }
+
+        takenByKey.forEach((key, taken) -> stringRedisTemplate.opsForHash().increment(key, field, taken));
+        return takenByKey.isEmpty() ? SlotReservationResult.SOLD_OUT : SlotReservationResult.INSUFFICIENT;
+    }
+
+    // 여러 슬롯을 스크립트 한 번으로 전부 선점하거나 하나도 선점하지 않음 (분할 카운터 포함)
+    public SlotReservationResult tryReserveSlots(Long storeId, List<SlotRequest> slots, Long holderId, int shards) {
+        int shardCount = Math.max(shards, 1);
+        List<String> keys = new ArrayList<>(slots.size() * (shardCount + 1));
+        List<String> args = new ArrayList<>(slots.size() * 3 + 1);
+        args.add(String.valueOf(shardCount));
+        for (SlotRequest slot : slots) {
+            for (int shard = 0; shard < shardCount; shard++)
+                keys.add(SlotKeyCodec.inventoryKey(storeId, slot.getDate(), shard));
+            args.add(String.valueOf(slot.getPerson()));
+            args.add(SlotKeyCodec.timeField(slot.getTime()));
+            args.add(SlotKeyCodec.holderField(slot.getTime(), holderId));
+        }
+        for (SlotRequest slot : slots) keys.add(SlotKeyCodec.holderKey(storeId, slot.getDate()));
+
+        List<?> result = stringRedisTemplate.execute(RESERVE_SLOTS_SCRIPT, keys, args.toArray());
+        if (result == null || result.isEmpty())
+            throw new IllegalStateException("Redis 슬롯 일괄 선점 스크립트 실행 결과가 없습니다.");
+
+        return SlotReservationResult.fromCode(((Number) result.get(0)).longValue());
+    }
+
+    // 분할 카운터 합계를 delta만큼 조정 (증가는 0번 분할, 감소는 여러 분할에서 나눠 차감해 음수 분할이 생기지 않게 함)
+    public void adjustSlot(Long storeId, LocalDate date, LocalTime time, int delta, int shards) {
+        String field = SlotKeyCodec.timeField(time);
+        if (delta > 0) {
+            stringRedisTemplate.opsForHash().increment(SlotKeyCodec.inventoryKey(storeId, date), field, delta);
+            return;
+        }
+
+        int remaining = -delta;
+        for (int shard = 0; shard < Math.max(shards, 1) && remaining > 0; shard++) {
+            long taken = takeFromShard(SlotKeyCodec.inventoryKey(storeId, date, shard), field, remaining, true);
+            if (taken > 0) remaining -= (int) taken;
+        }
+    }
+
+    private long takeFromShard(String key, String field, int person, boolean allowPartial) {
+        Long taken = stringRedisTemplate.execute(
+                TAKE_FROM_SHARD_SCRIPT,
+                List.of(key),
+                String.valueOf(person),
+                allowPartial ? "1" : "0",
+                field
+        );
+        return taken == null ? -1 : taken;
+    }
+
+    private void recordHolder(Long storeId, LocalDate date, LocalTime time, int person, Long holderId) {
+        String key = SlotKeyCodec.holderKey(storeId, date);
+        stringRedisTemplate.opsForHash().increment(key, SlotKeyCodec.holderField(time, holderId), person);
+        stringRedisTemplate.expire(key, slotTtl(date));
+    }
+
+    // 스크립트로 선점한 슬롯 반환 (예약 취소 또는 예약 생성 실패 시)
+    public SlotReleaseResult releaseSlot(Long storeId, LocalDate date, LocalTime time, int person, Long holderId) {
+        Long code = stringRedisTemplate.execute(
+                RELEASE_SLOT_SCRIPT,
+                List.of(SlotKeyCodec.inventoryKey(storeId, date), SlotKeyCodec.holderKey(storeId, date)),
+                String.valueOf(person),
+                SlotKeyCodec.holderField(time, holderId),
+                SlotKeyCodec.timeField(time)
+        );
+        if (code == null) throw new IllegalStateException("Redis 슬롯 반환 스크립트 실행 결과가 없습니다.");
+        return SlotReleaseResult.fromCode(code);
+    }
+
+    // 조회한 값(expected, null이면 슬롯 없음)이 바뀌지 않았을 때만 슬롯 값 교체
+    public boolean compareAndSetSlot(Long storeId, LocalDate date, LocalTime time, Integer expected, int value) {
+        Long result = stringRedisTemplate.execute(
+                COMPARE_AND_SET_SCRIPT,
+                List.of(SlotKeyCodec.inventoryKey(storeId, date), SlotKeyCodec.trackingKey(storeId)),
+                SlotKeyCodec.timeField(time),
+                expected == null ? "" : String.valueOf(expected),
+                String.valueOf(value),
+                String.valueOf(slotTtl(date).toMillis())
+        );
+        return result != null && result == 1L;
+    }
+
+    // Redis 반영에 실패한 슬롯을 정합성 검사 대상으로 기록
+    public void markForReconciliation(Long storeId, LocalDate date, LocalTime time) {
+        stringRedisTemplate.opsForSet().add(DIRTY_KEY_PREFIX + storeId, LocalDateTime.of(date, time).toString());
     }
 
-    private String generateKey(Long storeId, LocalDate date, LocalTime time) {
-        return String.format("reservation:slot:%d:%s:%s", storeId, date, time);
+    // 정합성 검사 대상으로 기록된 슬롯 꺼내기
+    public Set<LocalDateTime> popDirtySlots(Long storeId, int count) {
+        List<String> members = stringRedisTemplate.opsForSet().pop(DIRTY_KEY_PREFIX + storeId, count);
+        if (members == null) return Set.of();
+        return members.stream()
+                .map(LocalDateTime::parse)
+                .collect(Collectors.toSet());
     }
 }
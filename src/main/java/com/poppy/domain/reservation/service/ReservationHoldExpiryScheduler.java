@@ -0,0 +1,56 @@
+package com.poppy.domain.reservation.service;
+
+import com.poppy.domain.reservation.entity.Reservation;
+import com.poppy.domain.reservation.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationHoldExpiryScheduler {
+    private final ReservationHoldService reservationHoldService;
+    private final ReservationRepository reservationRepository;
+    private final SlotAvailabilityPublisher slotAvailabilityPublisher;
+
+    @Value("${reservation.hold.reaper-batch-size:500}")
+    private int batchSize;
+
+    // 만료 보류 회수는 스크립트 안에서 원자적으로 처리되므로 여러 인스턴스가 동시에 실행해도 안전 (분산 락 불필요)
+    @Scheduled(fixedDelayString = "${reservation.hold.reaper-interval-ms:5000}")
+    public void releaseExpiredHolds() {
+        if (!reservationHoldService.isEnabled()) return;
+
+        try {
+            List<Long> releasedIds = new ArrayList<>();
+            List<Long> released;
+
+            // 한 번에 batchSize 만큼씩, 남은 만료 보류가 없을 때까지 반환
+            do {
+                released = reservationHoldService.releaseExpiredHolds(batchSize);
+                releasedIds.addAll(released);
+            } while (released.size() == batchSize);
+
+            if (releasedIds.isEmpty()) return;
+            log.info("Released {} expired reservation holds", releasedIds.size());
+
+            // 반환된 슬롯의 잔여 수량 변경 알림
+            for (Reservation reservation : reservationRepository.findAllWithPopupStoreByIdIn(releasedIds)) {
+                slotAvailabilityPublisher.markChanged(
+                        reservation.getPopupStore().getId(),
+                        reservation.getPopupStore().getSlotShards(),
+                        reservation.getDate(),
+                        reservation.getTime()
+                );
+            }
+        } catch (Exception e) {
+            log.error("Error in reservation hold expiry scheduler: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.poppy.domain.reservation.service;
+
+import com.poppy.domain.reservation.entity.Reservation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+// PENDING 예약의 슬롯 임시 보류 관리 (보류 시간이 지나면 슬롯 자동 반환)
+// 반환 스크립트는 보류에 저장된 슬롯/선점자 키 이름을 읽어 갱신하므로 단일 Redis(standalone)에서만 동작
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationHoldService {
+    private final RedisTemplate<String, String> stringRedisTemplate;
+
+    private static final String HOLD_KEY_PREFIX = "slot:hold:";
+    private static final String HOLD_EXPIRY_KEY = "slot:hold:expiry";   // 예약 ID -> 만료 시각(ms)
+
+    @Value("${reservation.hold.enabled:false}")
+    private boolean enabled;
+
+    @Value("${reservation.hold.ttl-minutes:10}")
+    private long ttlMinutes;
+
+    // 보류 정보 저장 + 만료 대기열 등록
+    private static final String PLACE_HOLD_LUA = """
+            redis.call('HSET', KEYS[1], 'slotKey', ARGV[2], 'slotField', ARGV[3], 'holderKey', ARGV[4], 'holderField', ARGV[5], 'person', ARGV[6])
+            redis.call('PEXPIRE', KEYS[1], ARGV[8])
+            redis.call('ZADD', KEYS[2], ARGV[7], ARGV[1])
+            return 1
+            """;
+
+    // 보류 -> 판매 확정 (보류가 이미 만료되어 반환된 경우 0)
+    private static final String CONFIRM_HOLD_LUA = """
+            if redis.call('ZREM', KEYS[1], ARGV[1]) == 0 then return 0 end
+            redis.call('DEL', KEYS[2])
+            return 1
+            """;
+
+    // 보류된 인원만큼 슬롯 카운터와 선점자 기록을 되돌림
+    private static final String RESTORE_FUNCTION_LUA = """
+            local function restore(holdKey)
+                local h = redis.call('HMGET', holdKey, 'slotKey', 'slotField', 'holderKey', 'holderField', 'person')
+                redis.call('DEL', holdKey)
+                if not h[1] then return 0 end
+                local person = tonumber(h[5])
+                if redis.call('HEXISTS', h[1], h[2]) == 1 then redis.call('HINCRBY', h[1], h[2], person) end
+                local held = tonumber(redis.call('HGET', h[3], h[4]) or '0')
+                if held <= person then
+                    redis.call('HDEL', h[3], h[4])
+                else
+                    redis.call('HINCRBY', h[3], h[4], -person)
+                end
+                return 1
+            end
+            """;
+
+    // 특정 보류 즉시 반환
+    private static final String RELEASE_HOLD_LUA = RESTORE_FUNCTION_LUA + """
+            if redis.call('ZREM', KEYS[1], ARGV[1]) == 0 then return 0 end
+            return restore(KEYS[2])
+            """;
+
+    // 만료된 보류를 최대 ARGV[2]개까지 반환하고 반환된 예약 ID 목록을 돌려줌
+    private static final String RELEASE_EXPIRED_LUA = RESTORE_FUNCTION_LUA + """
+            local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            local released = {}
+            for _, id in ipairs(due) do
+                redis.call('ZREM', KEYS[1], id)
+                if restore(ARGV[3] .. id) == 1 then table.insert(released, id) end
+            end
+            return released
+            """;
+
+    private static final RedisScript<Long> PLACE_HOLD_SCRIPT = RedisScript.of(PLACE_HOLD_LUA, Long.class);
+    private static final RedisScript<Long> CONFIRM_HOLD_SCRIPT = RedisScript.of(CONFIRM_HOLD_LUA, Long.class);
+    private static final RedisScript<Long> RELEASE_HOLD_SCRIPT = RedisScript.of(RELEASE_HOLD_LUA, Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RELEASE_EXPIRED_SCRIPT = RedisScript.of(RELEASE_EXPIRED_LUA, List.class);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 슬롯 선점 후 생성된 PENDING 예약에 보류 시간 부여
+    public void placeHold(Reservation reservation, Long holderId) {
+        Duration ttl = Duration.ofMinutes(ttlMinutes);
+        long expireAt = System.currentTimeMillis() + ttl.toMillis();
+        Long storeId = reservation.getPopupStore().getId();
+
+        stringRedisTemplate.execute(
+                PLACE_HOLD_SCRIPT,
+                List.of(holdKey(reservation.getId()), HOLD_EXPIRY_KEY),
+                String.valueOf(reservation.getId()),
+                SlotKeyCodec.inventoryKey(storeId, reservation.getDate()),
+                SlotKeyCodec.timeField(reservation.getTime()),
+                SlotKeyCodec.holderKey(storeId, reservation.getDate()),
+                SlotKeyCodec.holderField(reservation.getTime(), holderId),
+                String.valueOf(reservation.getPerson()),
+                String.valueOf(expireAt),
+                String.valueOf(ttl.multipliedBy(2).toMillis())  // 리퍼 지연을 고려해 보류 정보는 더 오래 유지
+        );
+    }
+
+    // 결제 완료 시 보류를 판매로 확정, 보류가 없거나 이미 만료된 경우 false
+    public boolean confirmHold(Long reservationId) {
+        Long result = stringRedisTemplate.execute(
+                CONFIRM_HOLD_SCRIPT,
+                List.of(HOLD_EXPIRY_KEY, holdKey(reservationId)),
+                String.valueOf(reservationId)
+        );
+        return result != null && result == 1L;
+    }
+
+    // 결제 실패 등으로 보류를 즉시 해제하고 슬롯 반환
+    public boolean releaseHold(Long reservationId) {
+        Long result = stringRedisTemplate.execute(
+                RELEASE_HOLD_SCRIPT,
+                List.of(HOLD_EXPIRY_KEY, holdKey(reservationId)),
+                String.valueOf(reservationId)
+        );
+        return result != null && result == 1L;
+    }
+
+    // 만료된 보류를 배치 단위로 반환하고 반환된 예약 ID 목록 반환
+    public List<Long> releaseExpiredHolds(int batchSize) {
+        List<?> released = stringRedisTemplate.execute(
+                RELEASE_EXPIRED_SCRIPT,
+                List.of(HOLD_EXPIRY_KEY),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(batchSize),
+                HOLD_KEY_PREFIX
+        );
+
+        if (released == null || released.isEmpty()) return List.of();
+        return released.stream()
+                .map(id -> Long.valueOf(id.toString()))
+                .toList();
+    }
+
+    private String holdKey(Long reservationId) {
+        return HOLD_KEY_PREFIX + reservationId;
+    }
+}
@@ -0,0 +1,134 @@
+package com.poppy.domain.reservation.service;
+
+import com.poppy.common.exception.BusinessException;
+import com.poppy.common.exception.ErrorCode;
+import com.poppy.common.exception.ExpectedRejectionException;
+import com.poppy.domain.payment.dto.ReservationPaymentRspDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+// Idempotency-Key 기반 예약 요청 중복 처리 방지
+// 같은 키의 재요청은 저장된 결과를 그대로 반환하고, 처리 중인 요청이 있으면 그 결과를 기다림
+@Service
+@RequiredArgsConstructor
+public class ReservationIdempotencyService {
+    private static final String KEY_PREFIX = "idempotency:reservation:";
+    private static final String DONE = "DONE";
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final long POLL_INTERVAL_MS = 50L;
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+
+    // 결과 보관 시간 (클라이언트 재시도 구간만 커버)
+    @Value("${reservation.idempotency.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    // 처리 중 표시 유지 시간 (처리 중 서버가 종료되어도 이 시간 후 다시 처리 가능)
+    @Value("${reservation.idempotency.processing-ttl-seconds:30}")
+    private long processingTtlSeconds;
+
+    // 동시에 들어온 중복 요청이 첫 요청 결과를 기다리는 최대 시간
+    @Value("${reservation.idempotency.wait-ms:5000}")
+    private long waitMs;
+
+    // 키가 없으면 처리 중으로 선점하고 빈 문자열, 있으면 현재 상태 반환
+    private static final String CLAIM_LUA = """
+            local state = redis.call('HGET', KEYS[1], 'state')
+            if state then return state end
+            redis.call('HSET', KEYS[1], 'state', 'PROCESSING', 'request', ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return ''
+            """;
+
+    private static final RedisScript<String> CLAIM_SCRIPT = RedisScript.of(CLAIM_LUA, String.class);
+
+    public ReservationPaymentRspDto execute(Long userId, String idempotencyKey, Long storeId, LocalDate date, LocalTime time, int person,
+                                            Supplier<ReservationPaymentRspDto> reservation) {
+        // 키 없이 들어온 요청은 기존과 동일하게 처리
+        if (idempotencyKey == null || idempotencyKey.isBlank()) return reservation.get();
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) throw new BusinessException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+
+        String key = KEY_PREFIX + userId + ":" + idempotencyKey;
+        String fingerprint = storeId + "|" + date + "|" + time + "|" + person;
+        long deadline = System.currentTimeMillis() + waitMs;
+
+        while (true) {
+            String state = stringRedisTemplate.execute(
+                    CLAIM_SCRIPT,
+                    List.of(key),
+                    fingerprint,
+                    String.valueOf(Duration.ofSeconds(processingTtlSeconds).toMillis())
+            );
+
+            // 첫 요청: 실제 예약 처리 후 결과 저장
+            if (state == null || state.isEmpty()) return runAndStore(key, reservation);
+
+            Map<Object, Object> stored = stringRedisTemplate.opsForHash().entries(key);
+            if (!stored.isEmpty() && !fingerprint.equals(stored.get("request")))
+                throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+
+            if (DONE.equals(stored.get("state"))) return toResponse(stored);
+
+            // 첫 요청이 처리 중이면 결과를 기다림 (첫 요청이 실패해 키가 지워지면 다음 반복에서 다시 선점)
+            if (System.currentTimeMillis() >= deadline) throw new ExpectedRejectionException(ErrorCode.RESERVATION_CONFLICT);
+            sleep();
+        }
+    }
+
+    private ReservationPaymentRspDto runAndStore(String key, Supplier<ReservationPaymentRspDto> reservation) {
+        ReservationPaymentRspDto response;
+        try {
+            response = reservation.get();
+        }
+        catch (RuntimeException e) {
+            // 실패한 요청은 저장하지 않음 (같은 키로 재시도 가능)
+            stringRedisTemplate.delete(key);
+            throw e;
+        }
+
+        // 응답 DTO는 날짜/시간을 표시용 형식으로 직렬화하므로 원본 값을 필드별로 저장
+        stringRedisTemplate.opsForHash().putAll(key, Map.of(
+                "state", DONE,
+                "orderId", response.getOrderId(),
+                "amount", String.valueOf(response.getAmount()),
+                "storeName", Objects.toString(response.getStoreName(), ""),
+                "date", response.getDate().toString(),
+                "time", response.getTime().toString(),
+                "person", String.valueOf(response.getPerson())
+        ));
+        stringRedisTemplate.expire(key, Duration.ofSeconds(ttlSeconds));
+        return response;
+    }
+
+    private ReservationPaymentRspDto toResponse(Map<Object, Object> stored) {
+        return ReservationPaymentRspDto.builder()
+                .orderId((String) stored.get("orderId"))
+                .amount(Long.valueOf((String) stored.get("amount")))
+                .storeName((String) stored.get("storeName"))
+                .date(LocalDate.parse((String) stored.get("date")))
+                .time(LocalTime.parse((String) stored.get("time")))
+                .person(Integer.parseInt((String) stored.get("person")))
+                .build();
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.RESERVATION_FAILED);
+        }
+    }
+}
@@ -1,17 +1,20 @@
 package com.poppy.domain.reservation.service;
 
 import com.poppy.common.config.redis.DistributedLockService;
-import com.poppy.domain.notification.service.NotificationService;
-import com.poppy.domain.reservation.entity.Reservation;
+import com.poppy.domain.notification.service.ReservationReminderDispatcher;
 import com.poppy.domain.reservation.entity.ReservationStatus;
+import com.poppy.domain.reservation.repository.ReminderTarget;
 import com.poppy.domain.reservation.repository.ReservationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 
 @Component
@@ -19,15 +22,20 @@ import java.util.List;
 @Slf4j
 public class ReservationReminderScheduler {
     private static final String REMINDER_SCHEDULE = "0 0 * * * *"; // 매시 정각마다 실행
+    private static final long LOCK_WAIT_TIME = 5L;
+    private static final long LOCK_LEASE_TIME = 600L;   // 예약이 몰린 시간대도 발송을 마칠 수 있도록 기본 점유 시간보다 길게 설정
 
     private final ReservationRepository reservationRepository;
-    private final NotificationService notificationService;
+    private final ReservationReminderDispatcher reminderDispatcher;
     private final DistributedLockService lockService;
 
+    // 한 번에 조회, 발송할 예약 수 (FCM sendEach 최대 건수와 맞춤)
+    @Value("${reservation.reminder.page-size:500}")
+    private int pageSize;
+
     @Scheduled(cron = REMINDER_SCHEDULE)
-    @Transactional(readOnly = true)
     public void sendReservationReminders() {
-        if (!lockService.tryLock(DistributedLockService.RESERVATION_24H_BEFORE_LOCK)) {
+        if (!lockService.tryLock(DistributedLockService.RESERVATION_24H_BEFORE_LOCK, LOCK_WAIT_TIME, LOCK_LEASE_TIME)) {
             log.debug("Failed to acquire reservation reminder lock. Skipping this execution.");
             return;
         }
@@ -37,28 +45,49 @@ public class ReservationReminderScheduler {
 
             // 예: 현재 시간이 2024-01-10 14:00:00 일 때
             // 2024-01-11 14:00:00에 예정된 CHECKED 상태의 예약들을 찾음
-            List<Reservation> reservations = reservationRepository.findByDateAndTimeAndStatus(
+            sendReminders(
                     now.plusDays(1).toLocalDate(),  // 내일 날짜
-                    now.withMinute(0).withSecond(0).withNano(0).toLocalTime(), // 현재 시의 정각
-                    ReservationStatus.CHECKED // 결제 완료된 예약만
+                    now.withMinute(0).withSecond(0).withNano(0).toLocalTime() // 현재 시의 정각
             );
-
-            for (Reservation reservation : reservations) {
-                try {
-                    notificationService.send24HNotification(reservation);
-                    log.info("Sent 24h notification for reservation - id: {}, userId: {}, dateTime: {}",
-                            reservation.getId(),
-                            reservation.getUser().getId(),
-                            reservation.getDate() + " " + reservation.getTime());
-                } catch (Exception e) {
-                    log.error("Failed to send 24h notification for reservation {}: {}",
-                            reservation.getId(), e.getMessage());
-                }
-            }
         } catch (Exception e) {
             log.error("Error in reservation reminder scheduler: {}", e.getMessage(), e);
         } finally {
             lockService.unlock(DistributedLockService.RESERVATION_24H_BEFORE_LOCK);
         }
     }
+
+    // 대상 예약을 ID 순으로 페이지 단위 조회 후 페이지마다 일괄 발송
+    void sendReminders(LocalDate date, LocalTime time) {
+        long startedAt = System.nanoTime();
+        long lastId = 0L;
+        int targets = 0;
+        int fcmSent = 0;
+        int fcmFailed = 0;
+        List<ReminderTarget> page;
+
+        do {
+            page = reservationRepository.findReminderTargets(
+                    date, time, ReservationStatus.CHECKED, lastId, PageRequest.of(0, pageSize)); // 결제 완료된 예약만
+            if (page.isEmpty()) break;
+
+            try {
+                ReservationReminderDispatcher.DispatchResult result = reminderDispatcher.dispatch(page);
+                fcmSent += result.getFcmSent();
+                fcmFailed += result.getFcmFailed();
+            } catch (Exception e) {
+                // 실패한 페이지만 건너뛰고 다음 페이지 계속 발송
+                log.error("Failed to send 24h notifications for reservations {} ~ {}: {}",
+                        page.get(0).getReservationId(), page.get(page.size() - 1).getReservationId(), e.getMessage());
+            }
+
+            targets += page.size();
+            lastId = page.get(page.size() - 1).getReservationId();
+        } while (page.size() == pageSize);
+
+        if (targets == 0) return;
+
+        long elapsedMs = Math.max((System.nanoTime() - startedAt) / 1_000_000, 1);
+        log.info("Sent 24h notifications - dateTime: {} {}, reservations: {}, fcmSent: {}, fcmFailed: {}, elapsed: {} ms, throughput: {}/s",
+                date, time, targets, fcmSent, fcmFailed, elapsedMs, targets * 1000L / elapsedMs);
+    }
 }
@@ -2,6 +2,7 @@ package com.poppy.domain.reservation.service;
 
 import com.poppy.common.exception.BusinessException;
 import com.poppy.common.exception.ErrorCode;
+import com.poppy.common.exception.ExpectedRejectionException;
 import com.poppy.domain.notification.entity.NotificationType;
 import com.poppy.domain.notification.service.NotificationService;
 import com.poppy.domain.payment.entity.Payment;
@@ -20,24 +21,35 @@ import com.poppy.domain.reservation.repository.ReservationAvailableSlotRepositor
 import com.poppy.domain.reservation.repository.ReservationRepository;
 import com.poppy.domain.user.dto.response.UserReservationDetailRspDto;
 import com.poppy.domain.user.dto.response.UserReservationRspDto;
+import com.poppy.domain.user.dto.response.UserReservationSliceRspDto;
 import com.poppy.domain.user.entity.User;
 import com.poppy.domain.user.repository.LoginUserProvider;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class ReservationService {
     private final RedissonClient redissonClient;
     private final PopupStoreRepository popupStoreRepository;
@@ -46,6 +58,10 @@ public class ReservationService {
     private final PaymentRepository paymentRepository;
     private final RedisSlotService redisSlotService;
     private final AsyncRedisSlotDecrementService asyncRedisSlotDecrementService;
+    private final ReservationHoldService reservationHoldService;
+    private final SlotDeltaStreamService slotDeltaStreamService;
+    private final SoldOutSlotRegistry soldOutSlotRegistry;
+    private final SlotAvailabilityPublisher slotAvailabilityPublisher;
     private final PaymentService paymentService;
     private final NotificationService notificationService;
     private final LoginUserProvider loginUserProvider;  // 로그인 유저 확인용
@@ -53,6 +69,12 @@ public class ReservationService {
     private static final String LOCK_PREFIX = "reservation:lock:";
     private static final long WAIT_TIME = 3L;
     private static final long LEASE_TIME = 3L;
+    private static final int MAX_GROUP_SLOTS = 10;  // 일괄 예약 최대 슬롯 수
+    private static final int MAX_HISTORY_PAGE_SIZE = 50;  // 예약 내역 한 페이지 최대 건수
+
+    // true면 슬롯 확인/차감을 Redis 스크립트 한 번으로 처리하고 슬롯별 분산 락을 사용하지 않음
+    @Value("${reservation.slot.atomic-script-enabled:false}")
+    private boolean atomicSlotScriptEnabled;
 
     // 어플에서 진행하는 예약
     @Transactional
@@ -61,6 +83,10 @@ public class ReservationService {
         if(storeId == null || date == null || time == null || person <= 0)
             throw new BusinessException(ErrorCode.NOT_NULL_PARAMETER);
 
+        // 매진으로 알려진 슬롯은 조회, 락 없이 바로 거절
+        if (soldOutSlotRegistry.isSoldOut(storeId, date, time))
+            throw new ExpectedRejectionException(ErrorCode.NO_AVAILABLE_SLOT);
+
         // 팝업 스토어 조회 및 유형 판단
         PopupStore popupStore = popupStoreRepository.findById(storeId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
@@ -69,6 +95,9 @@ public class ReservationService {
         if (popupStore.getReservationType() != ReservationType.ONLINE)
             throw new BusinessException(ErrorCode.INVALID_RESERVATION);
 
+        // 스크립트 모드: 락 없이 Redis에서 원자적으로 슬롯 선점
+        if (useSlotScript()) return reserveWithSlotScript(popupStore, date, time, person);
+
         String lockKey = LOCK_PREFIX + storeId + ":" + date + ":" + time;
         RLock lock = redissonClient.getLock(lockKey);
 
@@ -77,83 +106,294 @@ public class ReservationService {
             boolean isLocked = lock.tryLock(WAIT_TIME, LEASE_TIME, TimeUnit.SECONDS);
 
             // 다른 사용자가 이미 락을 획득한 상태일 때
-            if(!isLocked) throw new BusinessException(ErrorCode.RESERVATION_CONFLICT);
+            if(!isLocked) throw new ExpectedRejectionException(ErrorCode.RESERVATION_CONFLICT);
 
             // Redis 슬롯 확인
-            Integer redisSlot = redisSlotService.getSlotFromRedis(storeId, date, time);
+            Integer redisSlot = redisSlotService.getSlotFromRedis(storeId, date, time, popupStore.getSlotShards());
+            if (redisSlot != null && redisSlot <= 0) soldOutSlotRegistry.publishSoldOut(storeId, date, time);
             if (redisSlot == null || redisSlot < person || redisSlot <= 0)
-                throw new BusinessException(ErrorCode.NO_AVAILABLE_SLOT);
+                throw new ExpectedRejectionException(ErrorCode.NO_AVAILABLE_SLOT);
 
             // 로그인 유저 학인
             User user = loginUserProvider.getLoggedInUser();
 
-            // 기존 예약 체크
-            Optional<Reservation> existingReservation =
-                    reservationRepository.findByUserIdAndPopupStoreIdAndDate(user.getId(), storeId, date);
+            Reservation reservation = createPendingReservation(popupStore, user, date, time, person);
+            return createPaymentAndGetResponse(reservation, user, person);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.RESERVATION_FAILED);
+        }
+        finally {
+            // 락 해제
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    // 스크립트 모드 예약: 슬롯 선점 후 임시 예약 생성, 롤백되면(커밋 시점 실패 포함) 선점한 슬롯 반환
+    private ReservationPaymentRspDto reserveWithSlotScript(PopupStore popupStore, LocalDate date, LocalTime time, int person) {
+        Long storeId = popupStore.getId();
+        User user = loginUserProvider.getLoggedInUser();
+
+        SlotReservationResult result = redisSlotService.tryReserveSlot(
+                storeId, date, time, person, user.getId(), popupStore.getSlotShards());
+        switch (result) {
+            case OK:
+                break;
+            case MISSING_KEY:
+                throw new BusinessException(ErrorCode.SLOT_NOT_FOUND);
+            case SOLD_OUT:
+                soldOutSlotRegistry.publishSoldOut(storeId, date, time);
+                throw new ExpectedRejectionException(ErrorCode.NO_AVAILABLE_SLOT);
+            default:    // INSUFFICIENT
+                throw new ExpectedRejectionException(ErrorCode.NO_AVAILABLE_SLOT);
+        }
+        slotAvailabilityPublisher.markChanged(storeId, popupStore.getSlotShards(), date, time);
+
+        Runnable release = () -> releaseClaim(storeId, date, time, person, user.getId());
+        boolean releaseOnRollback = onRollback(release);
+        try {
+            Reservation reservation = createPendingReservation(popupStore, user, date, time, person);
+            ReservationPaymentRspDto response = createPaymentAndGetResponse(reservation, user, person);
+
+            // 보류 모드: 결제 대기 중인 예약에 보류 시간 부여 (만료 시 슬롯 자동 반환)
+            if (reservationHoldService.isEnabled()) reservationHoldService.placeHold(reservation, user.getId());
+            return response;
+        }
+        catch (RuntimeException e) {
+            // 트랜잭션 밖에서 호출된 경우만 바로 반환
+            if (!releaseOnRollback) release.run();
+            throw e;
+        }
+    }
+
+    // 여러 슬롯(날짜별 1개) 일괄 예약: 슬롯은 전부 선점하거나 하나도 선점하지 않고, 예약/결제 행은 한 트랜잭션에서 생성
+    @Transactional
+    public List<ReservationPaymentRspDto> reserveGroup(Long storeId, List<SlotRequest> slots) {
+        // 파라미터 예외 처리
+        if (storeId == null || slots == null || slots.isEmpty()) throw new BusinessException(ErrorCode.NOT_NULL_PARAMETER);
+        if (slots.size() > MAX_GROUP_SLOTS) throw new BusinessException(ErrorCode.TOO_MANY_RESERVATION_SLOTS);
+
+        Set<LocalDate> dates = new HashSet<>();
+        for (SlotRequest slot : slots) {
+            if (slot.getDate() == null || slot.getTime() == null || slot.getPerson() <= 0)
+                throw new BusinessException(ErrorCode.NOT_NULL_PARAMETER);
+            // 유저는 스토어별로 하루에 하나의 예약만 가질 수 있음
+            if (!dates.add(slot.getDate())) throw new BusinessException(ErrorCode.DUPLICATE_RESERVATION_DATE);
+            if (soldOutSlotRegistry.isSoldOut(storeId, slot.getDate(), slot.getTime()))
+                throw new ExpectedRejectionException(ErrorCode.NO_AVAILABLE_SLOT);
+        }
 
-            if (existingReservation.isPresent()) {
-                Reservation reservation = existingReservation.get();
+        PopupStore popupStore = popupStoreRepository.findById(storeId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
+        if (popupStore.getReservationType() != ReservationType.ONLINE)
+            throw new BusinessException(ErrorCode.INVALID_RESERVATION);
 
-                // 이미 결제된 예약이 있는 경우
-                if (reservation.getStatus() == ReservationStatus.CHECKED)
-                    throw new BusinessException(ErrorCode.ALREADY_BOOKED);
+        User user = loginUserProvider.getLoggedInUser();
 
-                // 취소된 예약인 경우 업데이트
-                if (reservation.getStatus() == ReservationStatus.CANCELED) {
-                    paymentRepository.deleteByReservationId(reservation.getId());   // 기존 결제 정보 삭제
+        if (useSlotScript()) return reserveGroupWithSlotScript(popupStore, user, slots);
 
-                    reservation.updateReservation(time, person);
-                    reservation.updateStatus(ReservationStatus.PENDING);
-                    return createPaymentAndGetResponse(reservation, user, person);
-                }
-            }
+        // 락 모드: 모든 슬롯의 락을 한 번에 획득한 뒤 Redis 잔여 슬롯 확인
+        RLock lock = redissonClient.getMultiLock(slots.stream()
+                .map(slot -> redissonClient.getLock(LOCK_PREFIX + storeId + ":" + slot.getDate() + ":" + slot.getTime()))
+                .toArray(RLock[]::new));
 
-            // 임시 예약 생성
-            Reservation tempReservation = reservationRepository.save(Reservation.builder()
-                    .popupStore(popupStore)
-                    .user(new User(user.getId()))
-                    .date(date)
-                    .time(time)
-                    .status(ReservationStatus.PENDING)
-                    .person(person)
-                    .build()
-            );
+        boolean isLocked = false;
+        try {
+            isLocked = lock.tryLock(WAIT_TIME, LEASE_TIME, TimeUnit.SECONDS);
+            if (!isLocked) throw new ExpectedRejectionException(ErrorCode.RESERVATION_CONFLICT);
+
+            Map<LocalDateTime, Integer> redisSlots = redisSlotService.getSlotsFromRedis(storeId, slots.stream()
+                    .collect(Collectors.groupingBy(SlotRequest::getDate,
+                            Collectors.mapping(SlotRequest::getTime, Collectors.toList()))), popupStore.getSlotShards());
+            for (SlotRequest slot : slots) {
+                Integer redisSlot = redisSlots.get(LocalDateTime.of(slot.getDate(), slot.getTime()));
+                if (redisSlot == null || redisSlot < slot.getPerson() || redisSlot <= 0)
+                    throw new ExpectedRejectionException(ErrorCode.NO_AVAILABLE_SLOT);
+            }
 
-            return createPaymentAndGetResponse(tempReservation, user, person);
+            return createPendingReservations(popupStore, user, slots);
         }
         catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new BusinessException(ErrorCode.RESERVATION_FAILED);
         }
         finally {
-            // 락 해제
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
+            // 멀티 락은 isHeldByCurrentThread를 지원하지 않으므로 획득 여부로 해제
+            if (isLocked) lock.unlock();
+        }
+    }
+
+    // 스크립트 모드 일괄 예약: 스크립트 한 번으로 모든 슬롯 선점, 롤백되면 전부 반환
+    private List<ReservationPaymentRspDto> reserveGroupWithSlotScript(PopupStore popupStore, User user, List<SlotRequest> slots) {
+        Long storeId = popupStore.getId();
+
+        SlotReservationResult result = redisSlotService.tryReserveSlots(storeId, slots, user.getId(), popupStore.getSlotShards());
+        switch (result) {
+            case OK:
+                break;
+            case MISSING_KEY:
+                throw new BusinessException(ErrorCode.SLOT_NOT_FOUND);
+            default:    // SOLD_OUT, INSUFFICIENT
+                throw new ExpectedRejectionException(ErrorCode.NO_AVAILABLE_SLOT);
+        }
+        slots.forEach(slot -> slotAvailabilityPublisher.markChanged(storeId, popupStore.getSlotShards(), slot.getDate(), slot.getTime()));
+
+        Runnable release = () -> slots.forEach(slot ->
+                releaseClaim(storeId, slot.getDate(), slot.getTime(), slot.getPerson(), user.getId()));
+        boolean releaseOnRollback = onRollback(release);
+        try {
+            return createPendingReservations(popupStore, user, slots);
+        }
+        catch (RuntimeException e) {
+            if (!releaseOnRollback) release.run();
+            throw e;
+        }
+    }
+
+    // 날짜별 기존 예약을 한 번에 조회한 뒤 임시 예약과 결제 정보를 일괄 저장
+    private List<ReservationPaymentRspDto> createPendingReservations(PopupStore popupStore, User user, List<SlotRequest> slots) {
+        Map<LocalDate, Reservation> existing = reservationRepository
+                .findAllByUserIdAndPopupStoreIdAndDateIn(user.getId(), popupStore.getId(),
+                        slots.stream().map(SlotRequest::getDate).toList())
+                .stream()
+                .collect(Collectors.toMap(Reservation::getDate, reservation -> reservation, (a, b) -> a));
+
+        List<Reservation> reservations = new ArrayList<>(slots.size());
+        for (SlotRequest slot : slots) {
+            Reservation reservation = existing.get(slot.getDate());
+
+            if (reservation == null) {
+                reservations.add(Reservation.builder()
+                        .popupStore(popupStore)
+                        .user(new User(user.getId()))
+                        .date(slot.getDate())
+                        .time(slot.getTime())
+                        .status(ReservationStatus.PENDING)
+                        .person(slot.getPerson())
+                        .build());
+                continue;
             }
+
+            if (reservation.getStatus() == ReservationStatus.CHECKED)
+                throw new BusinessException(ErrorCode.ALREADY_BOOKED);
+
+            // 취소된 예약(스크립트 모드에서는 결제 대기 예약 포함)은 재사용
+            boolean reusePending = releasePendingClaim(reservation, user.getId());
+            if (reservation.getStatus() != ReservationStatus.CANCELED && !reusePending)
+                throw new BusinessException(ErrorCode.RESERVATION_CONFLICT);
+
+            paymentRepository.deleteByReservationId(reservation.getId());
+            reservation.updateReservation(slot.getTime(), slot.getPerson());
+            reservation.updateStatus(ReservationStatus.PENDING);
+            reservations.add(reservation);
         }
+        reservationRepository.saveAll(reservations);
+
+        List<Payment> payments = reservations.stream()
+                .map(reservation -> newPendingPayment(reservation, user))
+                .toList();
+        paymentRepository.saveAll(payments);
+
+        if (reservationHoldService.isEnabled()) reservations.forEach(reservation -> reservationHoldService.placeHold(reservation, user.getId()));
+
+        return payments.stream()
+                .map(this::toPaymentResponse)
+                .toList();
+    }
+
+    // 보류 모드는 스크립트 기반 슬롯 선점을 전제로 함
+    private boolean useSlotScript() {
+        return atomicSlotScriptEnabled || reservationHoldService.isEnabled();
+    }
+
+    // 쓰기 지연 모드: Redis가 슬롯 수량의 기준이 되고 DB 슬롯 행은 SlotWriteBehindFlusher가 일괄 반영
+    private boolean useWriteBehind() {
+        return useSlotScript() && slotDeltaStreamService.isEnabled();
+    }
+
+    // 기존 예약 확인 후 임시(PENDING) 예약 생성
+    private Reservation createPendingReservation(PopupStore popupStore, User user, LocalDate date, LocalTime time, int person) {
+        // 기존 예약 체크
+        Optional<Reservation> existingReservation =
+                reservationRepository.findByUserIdAndPopupStoreIdAndDate(user.getId(), popupStore.getId(), date);
+
+        if (existingReservation.isPresent()) {
+            Reservation reservation = existingReservation.get();
+
+            // 이미 결제된 예약이 있는 경우
+            if (reservation.getStatus() == ReservationStatus.CHECKED)
+                throw new BusinessException(ErrorCode.ALREADY_BOOKED);
+
+            // 스크립트 모드에서 결제 대기 중인 예약을 다시 요청한 경우 기존 선점을 반환하고 재사용
+            boolean reusePending = releasePendingClaim(reservation, user.getId());
+
+            // 취소된 예약인 경우 업데이트
+            if (reservation.getStatus() == ReservationStatus.CANCELED || reusePending) {
+                paymentRepository.deleteByReservationId(reservation.getId());   // 기존 결제 정보 삭제
+
+                reservation.updateReservation(time, person);
+                reservation.updateStatus(ReservationStatus.PENDING);
+                return reservation;
+            }
+        }
+
+        // 임시 예약 생성
+        return reservationRepository.save(Reservation.builder()
+                .popupStore(popupStore)
+                .user(new User(user.getId()))
+                .date(date)
+                .time(time)
+                .status(ReservationStatus.PENDING)
+                .person(person)
+                .build()
+        );
+    }
+
+    // 스크립트 모드의 결제 대기 예약이 선점한 슬롯(보류 모드는 보류) 반환, 반환 대상이면 true
+    // 새 요청의 슬롯은 이미 선점했으므로 기존 선점을 반환하지 않으면 같은 유저의 슬롯이 이중으로 잡힘
+    private boolean releasePendingClaim(Reservation reservation, Long userId) {
+        if (reservation.getStatus() != ReservationStatus.PENDING || !useSlotScript()) return false;
+
+        boolean released = reservationHoldService.isEnabled()
+                ? reservationHoldService.releaseHold(reservation.getId())
+                : redisSlotService.releaseSlot(reservation.getPopupStore().getId(), reservation.getDate(),
+                        reservation.getTime(), reservation.getPerson(), userId) == SlotReleaseResult.RELEASED;
+        if (released) {
+            soldOutSlotRegistry.publishAvailable(reservation.getPopupStore().getId(), reservation.getDate(), reservation.getTime());
+            markChanged(reservation);
+        }
+        return true;
     }
 
     // 결제 정보 생성 및 응답 DTO 반환 메서드
     private ReservationPaymentRspDto createPaymentAndGetResponse(Reservation reservation, User user, int person) {
-        String orderId = UUID.randomUUID().toString();
-        Long amount = reservation.getPopupStore().getPrice() * person;
+        Payment payment = newPendingPayment(reservation, user);
+        paymentRepository.save(payment);
+        return toPaymentResponse(payment);
+    }
 
-        Payment payment = Payment.builder()
-                .orderId(orderId)
-                .amount(amount)
+    private Payment newPendingPayment(Reservation reservation, User user) {
+        return Payment.builder()
+                .orderId(UUID.randomUUID().toString())
+                .amount(reservation.getPopupStore().getPrice() * reservation.getPerson())
                 .status(PaymentStatus.PENDING)
                 .user(user)
                 .reservation(reservation)
                 .build();
-        paymentRepository.save(payment);
+    }
 
+    private ReservationPaymentRspDto toPaymentResponse(Payment payment) {
+        Reservation reservation = payment.getReservation();
         return ReservationPaymentRspDto.builder()
-                .orderId(orderId)
-                .amount(amount)
+                .orderId(payment.getOrderId())
+                .amount(payment.getAmount())
                 .storeName(reservation.getPopupStore().getName())
                 .date(reservation.getDate())
                 .time(reservation.getTime())
-                .person(person)
+                .person(reservation.getPerson())
                 .build();
     }
 
@@ -165,13 +405,48 @@ public class ReservationService {
 
         Reservation tempReservation = payment.getReservation();
 
+        // 스크립트 모드에서는 예약 요청 시점에 이미 슬롯을 선점함
+        if (useSlotScript()) {
+            // 보류 확정, 보류가 만료되었거나 결제 실패로 선점이 이미 반환된(취소 상태) 경우 슬롯 재선점 시도
+            boolean claimReleased = reservationHoldService.isEnabled()
+                    ? !reservationHoldService.confirmHold(tempReservation.getId())
+                    : tempReservation.getStatus() == ReservationStatus.CANCELED;
+            if (claimReleased) {
+                SlotReservationResult result = redisSlotService.tryReserveSlot(
+                        tempReservation.getPopupStore().getId(),
+                        tempReservation.getDate(),
+                        tempReservation.getTime(),
+                        tempReservation.getPerson(),
+                        tempReservation.getUser().getId(),
+                        tempReservation.getPopupStore().getSlotShards()
+                );
+                if (result != SlotReservationResult.OK) throw new BusinessException(ErrorCode.NO_AVAILABLE_SLOT);
+                markChanged(tempReservation);
+
+                // 예약 확정 처리나 커밋이 실패하면 다시 선점한 슬롯 반환
+                Runnable release = () -> releaseClaim(tempReservation.getPopupStore().getId(), tempReservation.getDate(),
+                        tempReservation.getTime(), tempReservation.getPerson(), tempReservation.getUser().getId());
+                boolean releaseOnRollback = onRollback(release);
+                try {
+                    return confirmReservation(tempReservation);
+                }
+                catch (RuntimeException e) {
+                    if (!releaseOnRollback) release.run();
+                    throw e;
+                }
+            }
+
+            return confirmReservation(tempReservation);
+        }
+
         try {
             // Redis 슬롯 감소 시도
             redisSlotService.decrementSlot(
                     tempReservation.getPopupStore().getId(),
                     tempReservation.getDate(),
                     tempReservation.getTime(),
-                    tempReservation.getPerson()
+                    tempReservation.getPerson(),
+                    tempReservation.getPopupStore().getSlotShards()
             );
         }
         // Redis 슬롯 감소 실패 시 비동기적으로 업데이트 처리
@@ -180,11 +455,17 @@ public class ReservationService {
                     tempReservation.getPopupStore().getId(),
                     tempReservation.getDate(),
                     tempReservation.getTime(),
-                    tempReservation.getPerson()
+                    tempReservation.getPerson(),
+                    tempReservation.getPopupStore().getSlotShards()
             );
         }
+        markChanged(tempReservation);
 
         // 예약 확정 (DB 업데이트)
+        return confirmReservation(tempReservation);
+    }
+
+    private Reservation confirmReservation(Reservation tempReservation) {
         Reservation reservation = processReservation(tempReservation);
         notificationService.sendNotification(reservation, reservation.getStatus(), NotificationType.RESERVATION_CHECK);     // 알림 전송
         return reservation;
@@ -202,11 +483,23 @@ public class ReservationService {
         popupStoreRepository.findById(storeId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
 
+        // 쓰기 지연 모드: 슬롯 검증과 차감은 Redis 스크립트에서 끝났으므로 슬롯 행을 잠그지 않고 예약 행만 갱신
+        if (useWriteBehind()) {
+            Optional<Reservation> checkedReservation = reservationRepository
+                    .findByUserIdAndPopupStoreIdAndDateAndStatus(userId, storeId, date, ReservationStatus.CHECKED);
+            if (checkedReservation.isPresent()) throw new BusinessException(ErrorCode.ALREADY_BOOKED);
+
+            tempReservation.updateStatus(ReservationStatus.CHECKED);
+            Reservation reservation = reservationRepository.save(tempReservation);
+            slotDeltaStreamService.appendDelta(storeId, date, time, -person);
+            return reservation;
+        }
+
         ReservationAvailableSlot slot = reservationAvailableSlotRepository
                 .findByPopupStoreIdAndDateAndTime(storeId, date, time)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SLOT_NOT_FOUND));
 
-        // 예약 가능한 슬롯 없음
+        // 예약 가능한 슬롯 없음 (조회 시점 기준 빠른 실패, 최종 판단은 조건부 UPDATE)
         if (slot.getAvailableSlot() < person || !slot.isAvailable()) throw new BusinessException(ErrorCode.NO_AVAILABLE_SLOT);
 
         if (slot.getStatus() != PopupStoreStatus.AVAILABLE)
@@ -217,10 +510,9 @@ public class ReservationService {
                 .findByUserIdAndPopupStoreIdAndDateAndStatus(userId, storeId, date, ReservationStatus.CHECKED);
         if (existingReservation.isPresent()) throw new BusinessException(ErrorCode.ALREADY_BOOKED);
 
-        // 슬롯 업데이트
-        slot.decreaseSlot(person);
-        if (slot.getAvailableSlot() == 0) slot.updatePopupStatus(PopupStoreStatus.FULL);
-        reservationAvailableSlotRepository.save(slot);
+        // 슬롯 업데이트 (조회 이후 다른 요청이 먼저 차감했다면 조건부 UPDATE가 0건이 되어 실패)
+        if (reservationAvailableSlotRepository.decreaseSlot(slot.getId(), person) == 0)
+            throw new BusinessException(ErrorCode.NO_AVAILABLE_SLOT);
 
         // 예약 상태 업데이트
         tempReservation.updateStatus(ReservationStatus.CHECKED);
@@ -235,54 +527,59 @@ public class ReservationService {
             throw new BusinessException(ErrorCode.NOT_NULL_PARAMETER);
         }
 
+        // 스크립트 모드: 락 없이 선점 슬롯 반환 후 DB 처리
+        if (useSlotScript()) {
+            // 선점 기록이 없으면(이미 반환됨) 슬롯은 건드리지 않고 DB만 취소
+            SlotReleaseResult released = redisSlotService.releaseSlot(storeId, date, time, person, userId);
+            if (released == SlotReleaseResult.MISSING_KEY) throw new BusinessException(ErrorCode.SLOT_NOT_FOUND);
+
+            // DB 작업이나 커밋이 실패하면 반환했던 슬롯 재선점
+            Runnable reclaim = () -> reclaimAfterCancelFailure(userId, storeId, date, time, person);
+            boolean reclaimOnRollback = released == SlotReleaseResult.RELEASED && onRollback(reclaim);
+
+            Reservation reservation;
+            try {
+                reservation = cancelReservationInDb(userId, storeId, date, time, person);
+            }
+            catch (RuntimeException e) {
+                if (released == SlotReleaseResult.RELEASED && !reclaimOnRollback) reclaim.run();
+                throw e;
+            }
+            if (released == SlotReleaseResult.RELEASED) {
+                soldOutSlotRegistry.publishAvailable(storeId, date, time);
+                markChanged(reservation);
+            }
+            return;
+        }
+
         String lockKey = LOCK_PREFIX + storeId + ":" + date + ":" + time;
         RLock lock = redissonClient.getLock(lockKey);
 
         try {
             boolean isLocked = lock.tryLock(WAIT_TIME, LEASE_TIME, TimeUnit.SECONDS);
-            if (!isLocked) throw new BusinessException(ErrorCode.RESERVATION_CONFLICT);
+            if (!isLocked) throw new ExpectedRejectionException(ErrorCode.RESERVATION_CONFLICT);
 
             // Redis 슬롯 확인
-            Integer redisSlot = redisSlotService.getSlotFromRedis(storeId, date, time);
+            int shards = slotShards(storeId);
+            Integer redisSlot = redisSlotService.getSlotFromRedis(storeId, date, time, shards);
             if (redisSlot == null) {
                 throw new BusinessException(ErrorCode.SLOT_NOT_FOUND);
             }
 
+            Reservation reservation;
             try {
                 // Redis 슬롯 증가 먼저 시도
                 redisSlotService.incrementSlot(storeId, date, time, person);
 
-                // 예약 정보 조회
-                Reservation reservation = reservationRepository.findByUserIdAndPopupStoreIdAndDateAndTime(
-                                userId, storeId, date, time)
-                        .orElseThrow(() -> new BusinessException(ErrorCode.RESERVATION_NOT_FOUND));
-
-                // 결제 정보 조회 및 결제 취소
-                Payment payment = paymentRepository.findByReservationId(reservation.getId())
-                        .orElseThrow(() -> new BusinessException(ErrorCode.PAYMENT_NOT_FOUND));
-
-                paymentService.cancelPayment(payment.getOrderId(), "고객 예약 취소");
-
-                // 예약 상태 변경
-                reservation.updateStatus(ReservationStatus.CANCELED);
-
-                // slot 업데이트
-                ReservationAvailableSlot slot = reservationAvailableSlotRepository
-                        .findByPopupStoreIdAndDateAndTime(storeId, date, time)
-                        .orElseThrow(() -> new BusinessException(ErrorCode.SLOT_NOT_FOUND));
-
-                slot.increaseSlot(person);
-                if (slot.isAvailable() && slot.getStatus() == PopupStoreStatus.FULL) {
-                    slot.updatePopupStatus(PopupStoreStatus.AVAILABLE);
-                }
-
-                reservationAvailableSlotRepository.save(slot);
+                reservation = cancelReservationInDb(userId, storeId, date, time, person);
             }
             catch (Exception e) {
                 // DB 작업 실패시 Redis 롤백
-                redisSlotService.decrementSlot(storeId, date, time, person);
+                redisSlotService.decrementSlot(storeId, date, time, person, shards);
                 throw e;
             }
+            soldOutSlotRegistry.publishAvailable(storeId, date, time);
+            markChanged(reservation);
         }
         catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -295,6 +592,93 @@ public class ReservationService {
         }
     }
 
+    // 예약 취소 DB 처리 (결제 취소, 예약 상태 변경, 슬롯 복구)
+    private Reservation cancelReservationInDb(Long userId, Long storeId, LocalDate date, LocalTime time, int person) {
+        // 예약 정보 조회
+        Reservation reservation = reservationRepository.findByUserIdAndPopupStoreIdAndDateAndTime(
+                        userId, storeId, date, time)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESERVATION_NOT_FOUND));
+
+        // 결제 정보 조회 및 결제 취소
+        Payment payment = paymentRepository.findByReservationId(reservation.getId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.PAYMENT_NOT_FOUND));
+
+        paymentService.cancelPayment(payment.getOrderId(), "고객 예약 취소");
+
+        // 예약 상태 변경
+        reservation.updateStatus(ReservationStatus.CANCELED);
+
+        // 쓰기 지연 모드: 슬롯 행은 변화량 기록 후 일괄 반영
+        if (useWriteBehind()) {
+            slotDeltaStreamService.appendDelta(storeId, date, time, person);
+            return reservation;
+        }
+
+        // slot 업데이트
+        ReservationAvailableSlot slot = reservationAvailableSlotRepository
+                .findByPopupStoreIdAndDateAndTime(storeId, date, time)
+                .orElseThrow(() -> new BusinessException(ErrorCode.SLOT_NOT_FOUND));
+
+        // 전체 슬롯 수를 넘어서는 복구(중복 취소 등)는 반영하지 않음
+        if (reservationAvailableSlotRepository.increaseSlot(slot.getId(), person) == 0)
+            throw new BusinessException(ErrorCode.CANCELLATION_FAILED);
+        return reservation;
+    }
+
+    // 그 사이 다른 요청이 슬롯을 가져갔다면 정합성 검사에서 DB 기준으로 복구
+    private void reclaimAfterCancelFailure(Long userId, Long storeId, LocalDate date, LocalTime time, int person) {
+        SlotReservationResult result;
+        try {
+            result = redisSlotService.tryReserveSlot(storeId, date, time, person, userId, slotShards(storeId));
+        } catch (RuntimeException e) {
+            log.error("Failed to re-reserve slot after cancellation rollback - store: {}, date: {}, time: {}: {}",
+                    storeId, date, time, e.getMessage());
+            result = null;
+        }
+        if (result != SlotReservationResult.OK) {
+            log.error("Failed to re-reserve slot after cancellation rollback - store: {}, date: {}, time: {}, person: {}, result: {}",
+                    storeId, date, time, person, result);
+            redisSlotService.markForReconciliation(storeId, date, time);
+        }
+    }
+
+    // 선점한 슬롯 반환 (반환 실패 시 SlotReconciliationScheduler가 DB 기준으로 복구)
+    private void releaseClaim(Long storeId, LocalDate date, LocalTime time, int person, Long userId) {
+        try {
+            if (redisSlotService.releaseSlot(storeId, date, time, person, userId) == SlotReleaseResult.RELEASED)
+                soldOutSlotRegistry.publishAvailable(storeId, date, time);
+        } catch (RuntimeException e) {
+            log.error("Failed to release claimed slot - store: {}, date: {}, time: {}, person: {}: {}",
+                    storeId, date, time, person, e.getMessage());
+            redisSlotService.markForReconciliation(storeId, date, time);
+        }
+    }
+
+    // 트랜잭션이 롤백되면(flush, 커밋 시점 실패 포함) 실행하도록 등록, 트랜잭션이 없으면 false를 반환해 호출부에서 바로 처리
+    private boolean onRollback(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return false;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) task.run();
+            }
+        });
+        return true;
+    }
+
+    private int slotShards(Long storeId) {
+        return popupStoreRepository.findById(storeId)
+                .map(PopupStore::getSlotShards)
+                .orElse(1);
+    }
+
+    // 예약 슬롯의 잔여 수량 변경을 웹소켓 구독자에게 알림
+    private void markChanged(Reservation reservation) {
+        PopupStore popupStore = reservation.getPopupStore();
+        slotAvailabilityPublisher.markChanged(popupStore.getId(), popupStore.getSlotShards(), reservation.getDate(), reservation.getTime());
+    }
+
     // 유저 별 예약 취소
     public void cancelReservationByReservationId(Long userId, Long reservationId) {
         Reservation reservation = reservationRepository.findByIdAndUserId(reservationId, userId)
@@ -310,13 +694,14 @@ public class ReservationService {
         notificationService.sendNotification(reservation, ReservationStatus.CANCELED, NotificationType.RESERVATION_CANCEL); // 알림 전송
     }
 
-    // 유저의 모든 예약 조회
+    // 유저의 예약 내역을 최신순으로 커서 이후부터 조회 (다음 페이지 여부 확인을 위해 한 건 더 조회)
     @Transactional(readOnly = true)
-    public List<UserReservationRspDto> getReservations(Long userId) {
-        List<Reservation> reservations = reservationRepository.findAllByUserId(userId);
-        return reservations.stream()
-                .map(UserReservationRspDto::from)
-                .collect(Collectors.toList());
+    public UserReservationSliceRspDto getReservations(Long userId, LocalDate cursorDate, Long cursorId, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
+        List<UserReservationRspDto> reservations = reservationRepository.findReservationHistory(userId, cursorDate, cursorId, limit + 1);
+
+        boolean hasNext = reservations.size() > limit;
+        return new UserReservationSliceRspDto(hasNext ? reservations.subList(0, limit) : reservations, hasNext);
     }
 
     // 유저의 특정 예약 상세 조회
@@ -0,0 +1,160 @@
+package com.poppy.domain.reservation.service;
+
+import com.poppy.domain.popupStore.dto.response.ReservationAvailableSlotRspDto;
+import com.poppy.domain.popupStore.service.PopupStoreCalendarService;
+import com.poppy.domain.reservation.dto.response.SlotAvailabilityRspDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 슬롯 변경(예약, 취소, 보류 만료, 휴무일 변경)을 STOMP로 푸시해 클라이언트가 슬롯 조회 API를 반복 호출하지 않게 함
+// 변경된 슬롯은 인스턴스 내에서 coalesce-ms 동안 모은 뒤 Redis 현재 값을 한 번에 읽어 전송 (같은 슬롯의 연속 예약은 한 번만 전송)
+// 웹소켓 브로커가 인스턴스별 메모리 브로커이므로 Redis Pub/Sub으로 모든 인스턴스에 전파한 뒤 각 인스턴스가 구독자에게 전송
+// 같은 값으로 캘린더의 날짜별 마감 상태도 갱신
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SlotAvailabilityPublisher implements MessageListener {
+    public static final String SLOT_UPDATE_TOPIC = "slot-updates";
+
+    private static final String DESTINATION_FORMAT = "/topic/stores/%d/slots/%s";
+
+    private final RedisSlotService redisSlotService;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final PopupStoreCalendarService popupStoreCalendarService;
+
+    // 스토어 ID -> 전송 대기 중인 변경 슬롯
+    private final Map<Long, PendingSlots> pending = new ConcurrentHashMap<>();
+
+    @Value("${reservation.slot-push.enabled:true}")
+    private boolean enabled;
+
+    // 예약/취소로 슬롯 수량이 바뀐 경우 (전송 시점의 Redis 값을 읽어 보냄)
+    public void markChanged(Long storeId, int shards, LocalDate date, LocalTime time) {
+        mark(storeId, shards, date, time, false);
+    }
+
+    // 휴무일 지정 등으로 더 이상 예약할 수 없게 된 슬롯
+    public void markClosed(Long storeId, LocalDate date, Collection<LocalTime> times) {
+        for (LocalTime time : times) mark(storeId, 1, date, time, true);
+    }
+
+    private void mark(Long storeId, int shards, LocalDate date, LocalTime time, boolean closed) {
+        if (!enabled && !popupStoreCalendarService.isEnabled()) return;
+
+        // 전송 스레드의 remove와 같은 키에서 직렬화되므로 모아 둔 변경분이 유실되지 않음
+        pending.compute(storeId, (id, slots) -> {
+            if (slots == null) slots = new PendingSlots();
+            slots.shards = Math.max(slots.shards, shards);
+            slots.times.computeIfAbsent(date, d -> new HashMap<>()).merge(time, closed, Boolean::logicalOr);
+            return slots;
+        });
+    }
+
+    // 모아 둔 변경 슬롯을 스토어별 파이프라인 조회 한 번으로 읽어 전파
+    @Scheduled(fixedDelayString = "${reservation.slot-push.coalesce-ms:200}")
+    public void flush() {
+        if (pending.isEmpty()) return;
+
+        for (Long storeId : pending.keySet()) {
+            PendingSlots slots = pending.remove(storeId);
+            if (slots == null) continue;
+
+            try {
+                flushStore(storeId, slots);
+            } catch (Exception e) {
+                // 전송 실패 시 클라이언트는 다음 변경 또는 재조회로 복구
+                log.warn("Failed to publish slot updates for store {}: {}", storeId, e.getMessage());
+            }
+        }
+    }
+
+    private void flushStore(Long storeId, PendingSlots slots) {
+        Map<LocalDate, List<LocalTime>> toRead = new HashMap<>();
+        slots.times.forEach((date, times) -> times.forEach((time, closed) -> {
+            if (!closed) toRead.computeIfAbsent(date, d -> new ArrayList<>()).add(time);
+        }));
+        Map<LocalDateTime, Integer> counts = toRead.isEmpty()
+                ? Map.of()
+                : redisSlotService.getSlotsFromRedis(storeId, toRead, slots.shards);
+
+        try {
+            popupStoreCalendarService.applySlotCounts(storeId, counts);
+        } catch (Exception e) {
+            // 캘린더는 TTL 이후 DB 기준으로 다시 생성됨
+            log.warn("Failed to apply slot updates to calendar for store {}: {}", storeId, e.getMessage());
+        }
+        if (!enabled) return;
+
+        slots.times.forEach((date, times) -> {
+            // 메시지 형식: {스토어 ID},{날짜},{HH:mm}={남은 슬롯};{HH:mm}={남은 슬롯}...
+            StringBuilder message = new StringBuilder(32 + times.size() * 10)
+                    .append(storeId).append(',').append(date).append(',');
+            int written = 0;
+            for (Map.Entry<LocalTime, Boolean> entry : new TreeMap<>(times).entrySet()) {
+                Integer count = entry.getValue() ? Integer.valueOf(0) : counts.get(LocalDateTime.of(date, entry.getKey()));
+                if (count == null) continue;    // Redis에 없는 슬롯은 보내지 않음
+
+                if (written++ > 0) message.append(';');
+                message.append(SlotKeyCodec.timeField(entry.getKey())).append('=').append(Math.max(count, 0));
+            }
+            if (written > 0) stringRedisTemplate.convertAndSend(SLOT_UPDATE_TOPIC, message.toString());
+        });
+    }
+
+    // 모든 인스턴스에서 수신해 각자의 웹소켓 구독자에게 전송
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(",", 3);
+            Long storeId = Long.valueOf(parts[0]);
+            String date = parts[1];
+
+            List<ReservationAvailableSlotRspDto> slots = new ArrayList<>();
+            for (String slot : parts[2].split(";")) {
+                int separator = slot.indexOf('=');
+                int count = Integer.parseInt(slot.substring(separator + 1));
+                slots.add(ReservationAvailableSlotRspDto.builder()
+                        .time(slot.substring(0, separator))
+                        .availableSlot(count)
+                        .isAvailable(count > 0)
+                        .build());
+            }
+
+            messagingTemplate.convertAndSend(
+                    String.format(DESTINATION_FORMAT, storeId, date),
+                    SlotAvailabilityRspDto.builder()
+                            .storeId(storeId)
+                            .date(date)
+                            .slots(slots)
+                            .build()
+            );
+        } catch (Exception e) {
+            log.error("Error processing slot update: {}", e.getMessage(), e);
+        }
+    }
+
+    private static class PendingSlots {
+        private int shards = 1;
+        private final Map<LocalDate, Map<LocalTime, Boolean>> times = new HashMap<>();  // 시간 -> 예약 불가 여부
+    }
+}
@@ -0,0 +1,31 @@
+package com.poppy.domain.reservation.service;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 슬롯별 잔여 수량 변화량 (음수: 예약, 양수: 취소)
+@Getter
+public class SlotDelta {
+    private final Long storeId;
+    private final LocalDate date;
+    private final LocalTime time;
+    private int delta;
+
+    public SlotDelta(Long storeId, LocalDate date, LocalTime time, int delta) {
+        this.storeId = storeId;
+        this.date = date;
+        this.time = time;
+        this.delta = delta;
+    }
+
+    // 같은 슬롯의 변화량 합산
+    public void add(int delta) {
+        this.delta += delta;
+    }
+
+    public String slotId() {
+        return storeId + ":" + date + ":" + time;
+    }
+}
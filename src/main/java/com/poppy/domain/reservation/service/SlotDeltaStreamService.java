@@ -0,0 +1,89 @@
+package com.poppy.domain.reservation.service;
+
+import com.poppy.domain.reservation.repository.ReservationAvailableSlotJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+// 슬롯 변화량을 Redis Stream에 기록 (DB 반영은 SlotWriteBehindFlusher가 비동기로 처리)
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SlotDeltaStreamService {
+    public static final String STREAM_KEY = "slot:deltas";
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final ReservationAvailableSlotJdbcRepository slotJdbcRepository;
+
+    // true면 예약 트랜잭션에서 슬롯 행을 수정하지 않고 변화량만 기록 (스크립트 모드에서만 동작)
+    @Value("${reservation.slot.write-behind-enabled:false}")
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 기록해 롤백된 예약의 변화량이 반영되지 않도록 함
+    public void appendDelta(Long storeId, LocalDate date, LocalTime time, int delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    append(storeId, date, time, delta);
+                }
+            });
+            return;
+        }
+        append(storeId, date, time, delta);
+    }
+
+    private void append(Long storeId, LocalDate date, LocalTime time, int delta) {
+        MapRecord<String, String, String> record = StreamRecords.newRecord()
+                .in(STREAM_KEY)
+                .ofMap(Map.of(
+                        "storeId", String.valueOf(storeId),
+                        "date", date.toString(),
+                        "time", time.toString(),
+                        "delta", String.valueOf(delta)
+                ));
+
+        try {
+            stringRedisTemplate.opsForStream().add(record);
+        } catch (Exception e) {
+            // 기록하지 못한 변화량은 플러셔가 반영할 수 없으므로 DB 슬롯 행에 바로 반영
+            log.warn("Failed to append slot delta, applying directly to DB - store: {}, date: {}, time: {}, delta: {}: {}",
+                    storeId, date, time, delta, e.getMessage());
+            applyDirectly(storeId, date, time, delta);
+        }
+    }
+
+    private void applyDirectly(Long storeId, LocalDate date, LocalTime time, int delta) {
+        try {
+            slotJdbcRepository.applySlotDeltas(List.of(new SlotDelta(storeId, date, time, delta)));
+        } catch (Exception e) {
+            // Redis와 DB 모두 실패한 경우 정합성 점검(SlotReconciliationScheduler)에서 복구할 수 있도록 상세 로그 남김
+            log.error("Failed to apply slot delta - store: {}, date: {}, time: {}, delta: {}",
+                    storeId, date, time, delta, e);
+        }
+    }
+
+    public static SlotDelta toSlotDelta(Map<String, String> fields) {
+        return new SlotDelta(
+                Long.valueOf(fields.get("storeId")),
+                LocalDate.parse(fields.get("date")),
+                LocalTime.parse(fields.get("time")),
+                Integer.parseInt(fields.get("delta"))
+        );
+    }
+}
@@ -0,0 +1,154 @@
+package com.poppy.domain.reservation.service;
+
+import com.poppy.common.config.redis.DistributedLockService;
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.popupStore.repository.PopupStoreRepository;
+import com.poppy.domain.reservation.entity.ReservationAvailableSlot;
+import com.poppy.domain.reservation.repository.ReservationAvailableSlotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 기동 시 진행 중인 스토어의 Redis 슬롯 해시에서 비어 있는 슬롯을 한 번 채움
+// 해시 형식 전환 직후나 Redis 데이터 유실 뒤 정합성 검사 주기까지 예약이 SLOT_NOT_FOUND로 실패하지 않도록 함
+// 이전 형식의 시간대별 문자열 키(slot:{storeId}:{date}:{HH:mm}[:s{n}])가 남아 있으면 결제 대기 선점이 반영된 그 값과
+// 선점자 기록(slot:holders:{storeId}:{date}:{HH:mm})을 옮기고, 없으면 DB 잔여 수량으로 채운 뒤 이전 형식 키는 삭제
+// Redis에 이미 있는 슬롯은 건드리지 않음
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SlotInventoryBackfill {
+    private static final long LOCK_WAIT_TIME = 0L;     // 다른 인스턴스가 실행 중이면 건너뜀
+    private static final long LOCK_LEASE_TIME = 600L;
+
+    private final PopupStoreRepository popupStoreRepository;
+    private final ReservationAvailableSlotRepository reservationAvailableSlotRepository;
+    private final RedisSlotService redisSlotService;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final DistributedLockService lockService;
+
+    @Value("${reservation.slot.backfill.page-size:200}")
+    private int pageSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!lockService.tryLock(DistributedLockService.SLOT_BACKFILL_LOCK, LOCK_WAIT_TIME, LOCK_LEASE_TIME)) {
+            log.debug("Failed to acquire slot backfill lock. Skipping backfill on this instance.");
+            return;
+        }
+
+        try {
+            LocalDate today = LocalDate.now();
+            int filled = 0;
+            for (PopupStore popupStore : popupStoreRepository.findOngoingStores(today)) {
+                try {
+                    filled += backfillStore(popupStore.getId(), popupStore.getSlotShards(), today);
+                } catch (Exception e) {
+                    // 채우지 못한 슬롯은 SlotReconciliationScheduler가 DB 기준으로 복구
+                    log.error("Failed to backfill slots for store {}: {}", popupStore.getId(), e.getMessage(), e);
+                }
+            }
+            log.info("Slot inventory backfill finished - filled: {}", filled);
+        } catch (Exception e) {
+            log.error("Error in slot inventory backfill: {}", e.getMessage(), e);
+        } finally {
+            lockService.unlock(DistributedLockService.SLOT_BACKFILL_LOCK);
+        }
+    }
+
+    // 스토어의 미래 슬롯을 페이지 단위로 채움 (반환: 채운 슬롯 수)
+    int backfillStore(Long storeId, int shards, LocalDate today) {
+        int shardCount = Math.max(shards, 1);
+        int filled = 0;
+
+        Long lastId = 0L;
+        while (true) {
+            List<ReservationAvailableSlot> page =
+                    reservationAvailableSlotRepository.findBookableSlotsAfterId(storeId, today, lastId, pageSize);
+            if (page.isEmpty()) break;
+            lastId = page.get(page.size() - 1).getId();
+
+            Map<LocalDate, List<LocalTime>> timesByDate = page.stream()
+                    .collect(Collectors.groupingBy(ReservationAvailableSlot::getDate,
+                            Collectors.mapping(ReservationAvailableSlot::getTime, Collectors.toList())));
+            Map<LocalDateTime, Integer> existing = redisSlotService.getSlotsFromRedis(storeId, timesByDate, shards);
+
+            // 슬롯마다 분할 수만큼의 이전 형식 카운터 키를 MGET 한 번으로 조회
+            List<String> legacyKeys = new ArrayList<>(page.size() * shardCount);
+            for (ReservationAvailableSlot slot : page)
+                legacyKeys.addAll(legacySlotKeys(storeId, slot.getDate(), slot.getTime(), shardCount));
+            List<String> legacyValues = stringRedisTemplate.opsForValue().multiGet(legacyKeys);
+
+            Map<LocalDate, Map<LocalTime, Integer>> missing = new HashMap<>();
+            List<ReservationAvailableSlot> migrated = new ArrayList<>();
+            for (int i = 0; i < page.size(); i++) {
+                ReservationAvailableSlot slot = page.get(i);
+                if (existing.containsKey(LocalDateTime.of(slot.getDate(), slot.getTime()))) continue;
+
+                Integer legacy = sumLegacy(legacyValues, i * shardCount, shardCount);
+                missing.computeIfAbsent(slot.getDate(), date -> new HashMap<>())
+                        .put(slot.getTime(), legacy != null ? legacy : slot.getAvailableSlot());
+                if (legacy != null) migrated.add(slot);
+                filled++;
+            }
+
+            redisSlotService.initializeSlots(storeId, shards, missing);
+            migrated.forEach(slot -> migrateHolders(storeId, slot.getDate(), slot.getTime()));
+
+            List<String> staleKeys = new ArrayList<>(legacyKeys);
+            page.forEach(slot -> staleKeys.add(legacyHolderKey(storeId, slot.getDate(), slot.getTime())));
+            stringRedisTemplate.unlink(staleKeys);
+        }
+        return filled;
+    }
+
+    // 이전 형식 선점자 해시(필드: 유저 ID)를 날짜별 선점자 해시(필드: HH:mm|유저 ID)로 옮김
+    private void migrateHolders(Long storeId, LocalDate date, LocalTime time) {
+        Map<Object, Object> holders = stringRedisTemplate.opsForHash().entries(legacyHolderKey(storeId, date, time));
+        if (holders == null || holders.isEmpty()) return;
+
+        String holderKey = SlotKeyCodec.holderKey(storeId, date);
+        holders.forEach((holderId, person) -> stringRedisTemplate.opsForHash().increment(
+                holderKey, SlotKeyCodec.holderField(time, Long.valueOf(holderId.toString())), Long.parseLong(person.toString())));
+        stringRedisTemplate.expire(holderKey, redisSlotService.slotTtl(date));
+    }
+
+    // 분할 값이 하나도 없으면 null
+    private Integer sumLegacy(List<String> values, int from, int count) {
+        if (values == null) return null;
+
+        Integer sum = null;
+        for (int i = from; i < from + count; i++) {
+            String value = values.get(i);
+            if (value == null) continue;
+            sum = (sum == null ? 0 : sum) + Integer.parseInt(value);
+        }
+        return sum;
+    }
+
+    // 해시 전환 이전 형식: 0번 분할은 slot:{storeId}:{date}:{HH:mm}, 나머지는 뒤에 :s{n}
+    private List<String> legacySlotKeys(Long storeId, LocalDate date, LocalTime time, int shards) {
+        String baseKey = "slot:" + storeId + ":" + date + ":" + SlotKeyCodec.timeField(time);
+        List<String> keys = new ArrayList<>(shards);
+        keys.add(baseKey);
+        for (int shard = 1; shard < shards; shard++) keys.add(baseKey + ":s" + shard);
+        return keys;
+    }
+
+    private String legacyHolderKey(Long storeId, LocalDate date, LocalTime time) {
+        return "slot:holders:" + storeId + ":" + date + ":" + SlotKeyCodec.timeField(time);
+    }
+}
@@ -0,0 +1,73 @@
+package com.poppy.domain.reservation.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 슬롯 재고 Redis 키/필드 형식 (모든 서비스가 같은 형식을 쓰도록 한 곳에서 관리)
+// 재고: slot:{storeId}:{yyyy-MM-dd}[:s{분할 번호}] 해시, 필드는 HH:mm
+// 선점자: slot:holders:{storeId}:{yyyy-MM-dd} 해시, 필드는 HH:mm|{userId}
+// 스토어별로 만든 키는 slot:keys:{storeId} 셋에 기록해 스토어 삭제 시 KEYS 없이 정리
+// 키에 해시 태그가 없으므로 여러 키를 함께 쓰는 스크립트는 단일 Redis(standalone)에서만 동작 (RedisConfig 참고)
+public final class SlotKeyCodec {
+    private static final String INVENTORY_PREFIX = "slot:";
+    private static final String HOLDER_PREFIX = "slot:holders:";
+    private static final String TRACKING_PREFIX = "slot:keys:";
+    private static final String SHARD_SUFFIX = ":s";
+    private static final char HOLDER_SEPARATOR = '|';
+
+    private SlotKeyCodec() {
+    }
+
+    public static String inventoryKey(Long storeId, LocalDate date) {
+        return appendDate(new StringBuilder(32).append(INVENTORY_PREFIX).append(storeId).append(':'), date).toString();
+    }
+
+    // 0번 분할은 기본 키를 그대로 사용
+    public static String inventoryKey(Long storeId, LocalDate date, int shard) {
+        if (shard == 0) return inventoryKey(storeId, date);
+
+        return appendDate(new StringBuilder(36).append(INVENTORY_PREFIX).append(storeId).append(':'), date)
+                .append(SHARD_SUFFIX).append(shard)
+                .toString();
+    }
+
+    public static String holderKey(Long storeId, LocalDate date) {
+        return appendDate(new StringBuilder(40).append(HOLDER_PREFIX).append(storeId).append(':'), date).toString();
+    }
+
+    public static String trackingKey(Long storeId) {
+        return TRACKING_PREFIX + storeId;
+    }
+
+    public static String timeField(LocalTime time) {
+        return appendTime(new StringBuilder(5), time).toString();
+    }
+
+    public static String holderField(LocalTime time, Long holderId) {
+        return appendTime(new StringBuilder(16), time).append(HOLDER_SEPARATOR).append(holderId).toString();
+    }
+
+    public static LocalTime parseTimeField(String field) {
+        return LocalTime.of(
+                (field.charAt(0) - '0') * 10 + (field.charAt(1) - '0'),
+                (field.charAt(3) - '0') * 10 + (field.charAt(4) - '0')
+        );
+    }
+
+    // String.format 대신 자릿수를 직접 채워 포맷 파싱/임시 객체 생성을 줄임
+    private static StringBuilder appendDate(StringBuilder sb, LocalDate date) {
+        sb.append(date.getYear()).append('-');
+        appendTwoDigits(sb, date.getMonthValue()).append('-');
+        return appendTwoDigits(sb, date.getDayOfMonth());
+    }
+
+    private static StringBuilder appendTime(StringBuilder sb, LocalTime time) {
+        appendTwoDigits(sb, time.getHour()).append(':');
+        return appendTwoDigits(sb, time.getMinute());
+    }
+
+    private static StringBuilder appendTwoDigits(StringBuilder sb, int value) {
+        if (value < 10) sb.append('0');
+        return sb.append(value);
+    }
+}
@@ -0,0 +1,186 @@
+package com.poppy.domain.reservation.service;
+
+import com.poppy.common.config.redis.DistributedLockService;
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.popupStore.repository.PopupStoreRepository;
+import com.poppy.domain.reservation.entity.ReservationAvailableSlot;
+import com.poppy.domain.reservation.entity.ReservationStatus;
+import com.poppy.domain.reservation.repository.ReservationAvailableSlotRepository;
+import com.poppy.domain.reservation.repository.ReservationRepository;
+import com.poppy.domain.reservation.repository.SlotSeatCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Redis 슬롯 카운터와 DB(확정/대기 예약)를 비교해 어긋난 슬롯을 복구
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SlotReconciliationScheduler {
+    private static final String SUSPECT_KEY_PREFIX = "slot:reconcile:suspect:";
+    private static final long LOCK_WAIT_TIME = 5L;
+    private static final long LOCK_LEASE_TIME = 600L;
+
+    private final PopupStoreRepository popupStoreRepository;
+    private final ReservationAvailableSlotRepository reservationAvailableSlotRepository;
+    private final ReservationRepository reservationRepository;
+    private final RedisSlotService redisSlotService;
+    private final SlotDeltaStreamService slotDeltaStreamService;
+    private final ReservationHoldService reservationHoldService;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final DistributedLockService lockService;
+
+    @Value("${reservation.slot.atomic-script-enabled:false}")
+    private boolean atomicSlotScriptEnabled;
+
+    @Value("${reservation.reconcile.page-size:200}")
+    private int pageSize;
+
+    @Scheduled(cron = "${reservation.reconcile.cron:0 */5 * * * *}")
+    public void reconcile() {
+        if (!lockService.tryLock(DistributedLockService.SLOT_RECONCILIATION_LOCK, LOCK_WAIT_TIME, LOCK_LEASE_TIME)) {
+            log.debug("Failed to acquire slot reconciliation lock. Skipping this execution.");
+            return;
+        }
+
+        try {
+            LocalDate today = LocalDate.now();
+            for (PopupStore popupStore : popupStoreRepository.findOngoingStores(today)) {
+                Long storeId = popupStore.getId();
+                try {
+                    DriftReport report = reconcileStore(storeId, popupStore.getSlotShards(), today);
+                    if (report.hasDrift()) log.warn("Slot drift - storeId: {}, {}", storeId, report);
+                    else log.debug("Slot reconciled - storeId: {}, {}", storeId, report);
+                } catch (Exception e) {
+                    log.error("Failed to reconcile slots for store {}: {}", storeId, e.getMessage(), e);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Error in slot reconciliation scheduler: {}", e.getMessage(), e);
+        } finally {
+            lockService.unlock(DistributedLockService.SLOT_RECONCILIATION_LOCK);
+        }
+    }
+
+    // 스토어의 미래 슬롯을 페이지 단위로 비교, 복구
+    DriftReport reconcileStore(Long storeId, int shards, LocalDate today) {
+        DriftReport report = new DriftReport();
+        boolean slotScript = atomicSlotScriptEnabled || reservationHoldService.isEnabled();
+
+        Map<LocalDateTime, long[]> seats = loadSeats(storeId, today);   // {확정 인원, 결제 대기 인원}
+        Set<LocalDateTime> dirtySlots = redisSlotService.popDirtySlots(storeId, Integer.MAX_VALUE);
+
+        // 직전 실행에서 어긋났던 슬롯 (같은 상태가 두 번 연속 관측되면 진행 중인 예약이 아닌 실제 불일치로 판단)
+        String suspectKey = SUSPECT_KEY_PREFIX + storeId;
+        Map<Object, Object> previousSuspects = stringRedisTemplate.opsForHash().entries(suspectKey);
+        Map<String, String> suspects = new HashMap<>();
+
+        Long lastId = 0L;
+        while (true) {
+            List<ReservationAvailableSlot> page =
+                    reservationAvailableSlotRepository.findBookableSlotsAfterId(storeId, today, lastId, pageSize);
+            if (page.isEmpty()) break;
+            lastId = page.get(page.size() - 1).getId();
+
+            // 페이지 단위 날짜별 HMGET 파이프라인 (Redis 왕복 1회, 분할 카운터는 슬롯별로 합산)
+            Map<LocalDate, List<LocalTime>> timesByDate = page.stream()
+                    .collect(Collectors.groupingBy(ReservationAvailableSlot::getDate,
+                            Collectors.mapping(ReservationAvailableSlot::getTime, Collectors.toList())));
+            Map<LocalDateTime, Integer> observed = redisSlotService.getSlotsFromRedis(storeId, timesByDate, shards);
+
+            for (ReservationAvailableSlot slot : page) {
+                LocalDateTime slotTime = LocalDateTime.of(slot.getDate(), slot.getTime());
+                Integer redisValue = observed.get(slotTime);
+                long[] counts = seats.getOrDefault(slotTime, new long[2]);
+
+                // Redis 값이 있어야 할 범위: 스크립트 모드는 결제 대기 인원이 진행 상황에 따라 차감됐을 수도 있고,
+                // 락 모드는 결제 완료 시에만 차감하므로 전체 - 확정 인원과 정확히 같아야 함
+                int max = (int) Math.max(0, slot.getTotalSlot() - counts[0]);
+                int min = slotScript ? (int) Math.max(0, max - counts[1]) : max;
+                report.scanned++;
+
+                // 쓰기 지연 모드에서는 DB 슬롯 행이 늦게 반영되므로 제외
+                if (!slotDeltaStreamService.isEnabled() && slot.getAvailableSlot() != max) report.dbDrift++;
+
+                if (redisValue == null) {
+                    report.missing++;
+                    // 스크립트 모드는 결제 대기 예약도 슬롯을 점유하므로 보수적으로 최솟값으로 복구
+                    int target = slotScript ? min : max;
+                    if (repair(storeId, slot, shards, null, target)) report.repaired++;
+                    continue;
+                }
+
+                if (redisValue >= min && redisValue <= max) continue;
+
+                report.drifted++;
+                int target = redisValue > max ? max : min;
+                String observation = redisValue + ":" + target;
+
+                if (dirtySlots.contains(slotTime) || observation.equals(previousSuspects.get(slotTime.toString()))) {
+                    if (repair(storeId, slot, shards, redisValue, target)) report.repaired++;
+                } else {
+                    suspects.put(slotTime.toString(), observation);
+                }
+            }
+        }
+
+        stringRedisTemplate.delete(suspectKey);
+        if (!suspects.isEmpty()) stringRedisTemplate.opsForHash().putAll(suspectKey, suspects);
+
+        return report;
+    }
+
+    // 단일 키는 조회 값이 그대로일 때만 교체, 분할 카운터는 차이만큼 조정 (동시 예약과 충돌하지 않음)
+    private boolean repair(Long storeId, ReservationAvailableSlot slot, int shards, Integer observed, int target) {
+        if (shards <= 1)
+            return redisSlotService.compareAndSetSlot(storeId, slot.getDate(), slot.getTime(), observed, target);
+
+        if (observed == null) redisSlotService.setSlotToRedis(storeId, slot.getDate(), slot.getTime(), target, shards);
+        else redisSlotService.adjustSlot(storeId, slot.getDate(), slot.getTime(), target - observed, shards);
+        return true;
+    }
+
+    private Map<LocalDateTime, long[]> loadSeats(Long storeId, LocalDate today) {
+        Map<LocalDateTime, long[]> seats = new HashMap<>();
+        List<SlotSeatCount> counts = reservationRepository.sumSeatsBySlot(
+                storeId, today, List.of(ReservationStatus.CHECKED, ReservationStatus.PENDING));
+
+        for (SlotSeatCount count : counts) {
+            long[] slotSeats = seats.computeIfAbsent(LocalDateTime.of(count.getDate(), count.getTime()), k -> new long[2]);
+            if (count.getStatus() == ReservationStatus.CHECKED) slotSeats[0] += count.getSeats();
+            else slotSeats[1] += count.getSeats();
+        }
+        return seats;
+    }
+
+    // 스토어별 드리프트 지표
+    static class DriftReport {
+        int scanned;    // 검사한 슬롯 수
+        int missing;    // Redis 키 없음
+        int drifted;    // Redis 값이 허용 범위를 벗어남
+        int repaired;   // 복구한 슬롯 수
+        int dbDrift;    // DB 슬롯 행과 확정 예약 인원 불일치
+
+        boolean hasDrift() {
+            return missing > 0 || drifted > 0 || dbDrift > 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("scanned=%d, missing=%d, drifted=%d, repaired=%d, dbDrift=%d",
+                    scanned, missing, drifted, repaired, dbDrift);
+        }
+    }
+}
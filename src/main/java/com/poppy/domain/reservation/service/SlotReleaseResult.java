@@ -0,0 +1,24 @@
+package com.poppy.domain.reservation.service;
+
+import lombok.Getter;
+
+// Redis 스크립트 기반 슬롯 반환 결과
+@Getter
+public enum SlotReleaseResult {
+    RELEASED(1),        // 선점했던 인원만큼 반환
+    NOT_HELD(0),        // 선점 기록이 없음 (이미 반환됨)
+    MISSING_KEY(-1);    // Redis에 슬롯 정보 없음
+
+    private final int code;
+
+    SlotReleaseResult(int code) {
+        this.code = code;
+    }
+
+    public static SlotReleaseResult fromCode(long code) {
+        for (SlotReleaseResult result : values()) {
+            if (result.code == code) return result;
+        }
+        throw new IllegalStateException("알 수 없는 슬롯 반환 결과 코드: " + code);
+    }
+}
@@ -0,0 +1,20 @@
+package com.poppy.domain.reservation.service;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 여러 슬롯을 한 번에 예약할 때의 슬롯별 요청 (날짜, 시간, 인원)
+@Getter
+public class SlotRequest {
+    private final LocalDate date;
+    private final LocalTime time;
+    private final int person;
+
+    public SlotRequest(LocalDate date, LocalTime time, int person) {
+        this.date = date;
+        this.time = time;
+        this.person = person;
+    }
+}
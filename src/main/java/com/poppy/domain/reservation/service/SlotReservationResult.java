@@ -0,0 +1,25 @@
+package com.poppy.domain.reservation.service;
+
+import lombok.Getter;
+
+// Redis 스크립트 기반 슬롯 선점 결과
+@Getter
+public enum SlotReservationResult {
+    OK(1),              // 선점 성공
+    SOLD_OUT(0),        // 남은 슬롯 없음
+    INSUFFICIENT(2),    // 남은 슬롯이 요청 인원보다 적음
+    MISSING_KEY(-1);    // Redis에 슬롯 정보 없음
+
+    private final int code;
+
+    SlotReservationResult(int code) {
+        this.code = code;
+    }
+
+    public static SlotReservationResult fromCode(long code) {
+        for (SlotReservationResult result : values()) {
+            if (result.code == code) return result;
+        }
+        throw new IllegalStateException("알 수 없는 슬롯 선점 결과 코드: " + code);
+    }
+}
@@ -0,0 +1,169 @@
+package com.poppy.domain.reservation.service;
+
+import com.poppy.domain.reservation.repository.ReservationAvailableSlotJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Redis Stream에 쌓인 슬롯 변화량을 슬롯별로 합산해 주기적으로 DB에 일괄 반영
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SlotWriteBehindFlusher {
+    private static final String GROUP = "slot-flusher";
+    private static final Duration APPLIED_RECORD_RETENTION = Duration.ofDays(1);  // 미확인 메시지 재전달(claim-idle-ms)보다 충분히 길게 유지
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final SlotDeltaStreamService slotDeltaStreamService;
+    private final ReservationAvailableSlotJdbcRepository slotJdbcRepository;
+
+    @Value("${reservation.slot.write-behind.batch-size:500}")
+    private int batchSize;
+
+    // 인스턴스가 재시작돼도 같은 이름을 쓰면 처리 중이던(미확인) 메시지를 이어서 처리
+    @Value("${reservation.slot.write-behind.consumer-name:${HOSTNAME:slot-flusher}}")
+    private String consumerName;
+
+    // 다른 인스턴스가 이 시간 이상 확인하지 못한 메시지는 가져와서 처리
+    @Value("${reservation.slot.write-behind.claim-idle-ms:60000}")
+    private long claimIdleMs;
+
+    private volatile boolean groupCreated = false;
+
+    @Scheduled(fixedDelayString = "${reservation.slot.write-behind.flush-interval-ms:1000}")
+    public void flush() {
+        if (!slotDeltaStreamService.isEnabled()) return;
+
+        try {
+            ensureGroup();
+
+            List<MapRecord<String, String, String>> records;
+            do {
+                records = readBatch();
+                if (records.isEmpty()) break;
+                applyAndAcknowledge(records);
+            } while (records.size() == batchSize);
+        } catch (Exception e) {
+            // Redis 재시작, 키 삭제 등으로 그룹이 사라졌으면 다음 실행에서 다시 생성
+            if (hasRedisError(e, "NOGROUP")) groupCreated = false;
+            // 확인(ACK)하지 않은 메시지는 다음 실행 또는 다른 인스턴스에서 다시 처리됨
+            log.error("Error in slot write-behind flusher: {}", e.getMessage(), e);
+        }
+    }
+
+    private List<MapRecord<String, String, String>> readBatch() {
+        StreamOperations<String, String, String> ops = stringRedisTemplate.opsForStream();
+        Consumer consumer = Consumer.from(GROUP, consumerName);
+        StreamReadOptions options = StreamReadOptions.empty().count(batchSize);
+
+        // 1. 이전 실행에서 DB 반영 후 확인하지 못한 내 메시지
+        List<MapRecord<String, String, String>> records = ops.read(consumer, options,
+                StreamOffset.create(SlotDeltaStreamService.STREAM_KEY, ReadOffset.from("0")));
+        if (records != null && !records.isEmpty()) return records;
+
+        // 2. 장애로 멈춘 다른 인스턴스의 메시지
+        List<MapRecord<String, String, String>> claimed = claimIdleMessages(ops);
+        if (!claimed.isEmpty()) return claimed;
+
+        // 3. 새 메시지
+        records = ops.read(consumer, options,
+                StreamOffset.create(SlotDeltaStreamService.STREAM_KEY, ReadOffset.lastConsumed()));
+        return records == null ? List.of() : records;
+    }
+
+    private List<MapRecord<String, String, String>> claimIdleMessages(StreamOperations<String, String, String> ops) {
+        PendingMessages pending = ops.pending(SlotDeltaStreamService.STREAM_KEY, GROUP, Range.unbounded(), batchSize);
+        if (pending == null || pending.isEmpty()) return List.of();
+
+        Duration minIdle = Duration.ofMillis(claimIdleMs);
+        RecordId[] idleIds = pending.stream()
+                .filter(message -> !consumerName.equals(message.getConsumerName()))
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (idleIds.length == 0) return List.of();
+
+        List<MapRecord<String, String, String>> claimed =
+                ops.claim(SlotDeltaStreamService.STREAM_KEY, GROUP, consumerName, minIdle, idleIds);
+        return claimed == null ? List.of() : claimed;
+    }
+
+    // 반영 기록 정리 (기록은 재전달된 메시지의 중복 반영을 막는 용도라 재전달 가능 기간이 지나면 불필요)
+    @Scheduled(cron = "${reservation.slot.write-behind.applied-cleanup-cron:0 30 4 * * *}")
+    public void deleteOldAppliedRecords() {
+        if (!slotDeltaStreamService.isEnabled()) return;
+
+        try {
+            int deleted = slotJdbcRepository.deleteAppliedRecordsBefore(LocalDateTime.now().minus(APPLIED_RECORD_RETENTION));
+            log.info("Deleted {} applied slot delta records", deleted);
+        } catch (Exception e) {
+            log.error("Failed to delete applied slot delta records: {}", e.getMessage(), e);
+        }
+    }
+
+    // DB 커밋(변화량 + 반영한 메시지 ID) -> ACK 순서로 처리
+    // ACK 전 장애로 다시 전달된 메시지는 반영 기록으로 걸러지므로 정확히 한 번 반영
+    private void applyAndAcknowledge(List<MapRecord<String, String, String>> records) {
+        Map<String, SlotDelta> deltasByRecordId = new LinkedHashMap<>();
+        List<RecordId> ids = new ArrayList<>(records.size());
+
+        for (MapRecord<String, String, String> record : records) {
+            ids.add(record.getId());
+            try {
+                deltasByRecordId.put(record.getId().getValue(), SlotDeltaStreamService.toSlotDelta(record.getValue()));
+            } catch (RuntimeException e) {
+                // 형식이 잘못된 메시지는 재처리해도 실패하므로 로그만 남기고 확인 처리
+                log.error("Invalid slot delta record {}: {}", record.getId(), record.getValue());
+            }
+        }
+
+        int applied = slotJdbcRepository.applySlotDeltasOnce(deltasByRecordId);
+
+        RecordId[] recordIds = ids.toArray(RecordId[]::new);
+        stringRedisTemplate.opsForStream().acknowledge(SlotDeltaStreamService.STREAM_KEY, GROUP, recordIds);
+        stringRedisTemplate.opsForStream().delete(SlotDeltaStreamService.STREAM_KEY, recordIds);
+
+        log.debug("Flushed {} slot delta records ({} newly applied)", records.size(), applied);
+    }
+
+    private void ensureGroup() {
+        if (groupCreated) return;
+
+        try {
+            stringRedisTemplate.opsForStream().createGroup(SlotDeltaStreamService.STREAM_KEY, ReadOffset.from("0"), GROUP);
+        } catch (Exception e) {
+            // 이미 그룹이 존재하는 경우 (BUSYGROUP)가 아니면 Redis 연결 실패 등이므로 다음 실행에서 다시 생성
+            if (!hasRedisError(e, "BUSYGROUP")) throw e;
+            log.debug("Slot delta consumer group already exists: {}", e.getMessage());
+        }
+        groupCreated = true;
+    }
+
+    // 드라이버 예외가 감싸져 있을 수 있으므로 원인까지 확인
+    private static boolean hasRedisError(Throwable e, String errorCode) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains(errorCode)) return true;
+        }
+        return false;
+    }
+}
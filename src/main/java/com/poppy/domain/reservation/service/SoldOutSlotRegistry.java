@@ -0,0 +1,105 @@
+package com.poppy.domain.reservation.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 인스턴스 내 매진 슬롯 목록 (매진된 슬롯 요청은 DB, Redis, 락 없이 바로 거절)
+// 슬롯 변경 이벤트는 Redis Pub/Sub으로 모든 인스턴스에 전파, 놓친 이벤트가 있어도 TTL이 지나면 항목이 사라짐
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SoldOutSlotRegistry implements MessageListener {
+    public static final String SLOT_EVENT_TOPIC = "slot-events";
+
+    private static final String SOLD_OUT = "SOLD_OUT";
+    private static final String AVAILABLE = "AVAILABLE";
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+
+    // 스토어 ID -> (슬롯 시각 -> 매진 표시 만료 시각(ms))
+    private final Map<Long, Map<LocalDateTime, Long>> soldOutSlots = new ConcurrentHashMap<>();
+
+    @Value("${reservation.sold-out.enabled:true}")
+    private boolean enabled;
+
+    @Value("${reservation.sold-out.ttl-ms:3000}")
+    private long ttlMillis;
+
+    // 매진으로 알려진 슬롯인지 확인 (I/O 없음)
+    public boolean isSoldOut(Long storeId, LocalDate date, LocalTime time) {
+        if (!enabled) return false;
+
+        Map<LocalDateTime, Long> slots = soldOutSlots.get(storeId);
+        if (slots == null) return false;
+
+        LocalDateTime slotTime = LocalDateTime.of(date, time);
+        Long expireAt = slots.get(slotTime);
+        if (expireAt == null) return false;
+
+        if (expireAt < System.currentTimeMillis()) {
+            slots.remove(slotTime, expireAt);
+            return false;
+        }
+        return true;
+    }
+
+    // 매진 확인 시 로컬에 바로 반영하고 다른 인스턴스에 전파
+    public void publishSoldOut(Long storeId, LocalDate date, LocalTime time) {
+        if (!enabled) return;
+        markSoldOut(storeId, LocalDateTime.of(date, time));
+        publish(SOLD_OUT, storeId, date, time);
+    }
+
+    // 취소, 선점 반환 등으로 슬롯이 다시 생기면 매진 표시 해제
+    public void publishAvailable(Long storeId, LocalDate date, LocalTime time) {
+        if (!enabled) return;
+        markAvailable(storeId, LocalDateTime.of(date, time));
+        publish(AVAILABLE, storeId, date, time);
+    }
+
+    // 메시지 형식: {이벤트},{스토어 ID},{슬롯 시각}
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(",");
+            Long storeId = Long.valueOf(parts[1]);
+            LocalDateTime slotTime = LocalDateTime.parse(parts[2]);
+
+            if (SOLD_OUT.equals(parts[0])) markSoldOut(storeId, slotTime);
+            else if (AVAILABLE.equals(parts[0])) markAvailable(storeId, slotTime);
+        } catch (Exception e) {
+            log.error("Error processing slot event: {}", e.getMessage(), e);
+        }
+    }
+
+    private void markSoldOut(Long storeId, LocalDateTime slotTime) {
+        soldOutSlots.computeIfAbsent(storeId, id -> new ConcurrentHashMap<>())
+                .put(slotTime, System.currentTimeMillis() + ttlMillis);
+    }
+
+    private void markAvailable(Long storeId, LocalDateTime slotTime) {
+        Map<LocalDateTime, Long> slots = soldOutSlots.get(storeId);
+        if (slots != null) slots.remove(slotTime);
+    }
+
+    // 이벤트 전파 실패는 예약 흐름에 영향을 주지 않음 (TTL로 복구)
+    private void publish(String event, Long storeId, LocalDate date, LocalTime time) {
+        try {
+            stringRedisTemplate.convertAndSend(SLOT_EVENT_TOPIC, event + "," + storeId + "," + LocalDateTime.of(date, time));
+        } catch (Exception e) {
+            log.warn("Failed to publish slot event {} for store {}: {}", event, storeId, e.getMessage());
+        }
+    }
+}
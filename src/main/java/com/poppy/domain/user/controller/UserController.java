@@ -6,14 +6,16 @@ import com.poppy.domain.user.dto.request.UpdateFcmTokenReqDto;
 import com.poppy.domain.user.dto.request.UpdateNicknameReqDto;
 import com.poppy.domain.user.dto.response.UserPopupStoreRspDto;
 import com.poppy.domain.user.dto.response.UserReservationDetailRspDto;
-import com.poppy.domain.user.dto.response.UserReservationRspDto;
+import com.poppy.domain.user.dto.response.UserReservationSliceRspDto;
 import com.poppy.domain.user.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -29,11 +31,15 @@ public class UserController {
         return new RspTemplate<>(HttpStatus.OK, "회원 가입 완료", tokenRspDto);
     }
 
-    // 유저의 예약 내역 전체 조회
+    // 유저의 예약 내역 조회 (최신순, 이전 페이지 마지막 예약의 날짜와 ID를 커서로 다음 페이지 조회)
     @GetMapping("/{id}/reservations")
-    public RspTemplate<List<UserReservationRspDto>> getReservations(@PathVariable Long id) {
-        List<UserReservationRspDto> reservations = userService.getReservations();
-        if(reservations.isEmpty()) return new RspTemplate<>(HttpStatus.OK, "예약 내역이 존재하지 않습니다.");
+    public RspTemplate<UserReservationSliceRspDto> getReservations(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate cursorDate,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size) {
+        UserReservationSliceRspDto reservations = userService.getReservations(cursorDate, cursorId, size);
+        if(reservations.getContent().isEmpty()) return new RspTemplate<>(HttpStatus.OK, "예약 내역이 존재하지 않습니다.");
 
         return new RspTemplate<>(HttpStatus.OK, "예약 내역 조회", reservations);
     }
@@ -3,17 +3,17 @@ package com.poppy.domain.user.dto.response;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.poppy.common.util.LocalDateWithDayOfWeekSerializer;
 import com.poppy.common.util.LocalTimeWithAmPmSerializer;
-import com.poppy.domain.reservation.entity.Reservation;
 import com.poppy.domain.reservation.entity.ReservationStatus;
-import lombok.Builder;
+import com.querydsl.core.annotations.QueryProjection;
 import lombok.Getter;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Getter
-@Builder
 public class UserReservationRspDto {
+    private Long reservationId;
+
     private Long userId;
 
     private Long popupStoreId;
@@ -34,17 +34,20 @@ public class UserReservationRspDto {
 
     private Integer person;
 
-    public static UserReservationRspDto from(Reservation reservation) {
-        return UserReservationRspDto.builder()
-                .userId(reservation.getUser().getId())
-                .popupStoreId(reservation.getPopupStore().getId())
-                .popupStoreName(reservation.getPopupStore().getName())
-                .reservationDate(reservation.getDate())
-                .reservationTime(reservation.getTime())
-                .location(reservation.getPopupStore().getLocation())
-                .status(reservation.getStatus())
-                .thumbnail(reservation.getPopupStore().getImages().get(0).getUploadUrl())
-                .person(reservation.getPerson())
-                .build();
+    // 예약 내역 조회 쿼리에서 엔티티 로딩 없이 바로 생성
+    @QueryProjection
+    public UserReservationRspDto(Long reservationId, Long userId, Long popupStoreId, String popupStoreName,
+                                 LocalDate reservationDate, LocalTime reservationTime, String location,
+                                 ReservationStatus status, String thumbnail, Integer person) {
+        this.reservationId = reservationId;
+        this.userId = userId;
+        this.popupStoreId = popupStoreId;
+        this.popupStoreName = popupStoreName;
+        this.reservationDate = reservationDate;
+        this.reservationTime = reservationTime;
+        this.location = location;
+        this.status = status;
+        this.thumbnail = thumbnail;
+        this.person = person;
     }
 }
@@ -0,0 +1,24 @@
+package com.poppy.domain.user.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 예약 내역 커서 페이지 (다음 페이지는 nextCursorDate, nextCursorId로 요청)
+@Getter
+public class UserReservationSliceRspDto {
+    private final List<UserReservationRspDto> content;
+    private final boolean hasNext;
+    private final LocalDate nextCursorDate;
+    private final Long nextCursorId;
+
+    public UserReservationSliceRspDto(List<UserReservationRspDto> content, boolean hasNext) {
+        this.content = content;
+        this.hasNext = hasNext;
+
+        UserReservationRspDto last = content.isEmpty() ? null : content.get(content.size() - 1);
+        this.nextCursorDate = hasNext ? last.getReservationDate() : null;
+        this.nextCursorId = hasNext ? last.getReservationId() : null;
+    }
+}
@@ -8,7 +8,7 @@ import com.poppy.common.exception.ErrorCode;
 import com.poppy.domain.reservation.service.ReservationService;
 import com.poppy.domain.user.dto.response.UserPopupStoreRspDto;
 import com.poppy.domain.user.dto.response.UserReservationDetailRspDto;
-import com.poppy.domain.user.dto.response.UserReservationRspDto;
+import com.poppy.domain.user.dto.response.UserReservationSliceRspDto;
 import com.poppy.domain.user.entity.Role;
 import com.poppy.domain.user.entity.User;
 import com.poppy.domain.user.repository.LoginUserProvider;
@@ -18,6 +18,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -91,9 +92,9 @@ public class UserService {
 
     // 유저의 예약 조회
     @Transactional(readOnly = true)
-    public List<UserReservationRspDto> getReservations() {
+    public UserReservationSliceRspDto getReservations(LocalDate cursorDate, Long cursorId, int size) {
         User user = loginUserProvider.getLoggedInUser();
-        return reservationService.getReservations(user.getId());
+        return reservationService.getReservations(user.getId(), cursorDate, cursorId, size);
     }
 
     // 유저의 예약 상세 조회
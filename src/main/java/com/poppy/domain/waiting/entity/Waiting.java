@@ -14,6 +14,7 @@ import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
 
 @Entity
+@Table(indexes = @Index(name = "idx_waiting_store_date_number", columnList = "popup_store_id, waiting_date, waiting_number"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Waiting extends BaseTimeEntity {
@@ -47,8 +48,8 @@ public class Waiting extends BaseTimeEntity {
         this.popupStore = popupStore;
         this.user = user;
         this.waitingNumber = waitingNumber;
-        this.waitingDate = LocalDate.now();
-        this.waitingTime = LocalTime.now().truncatedTo(ChronoUnit.SECONDS);;
+        this.waitingDate = waitingDate != null ? waitingDate : LocalDate.now();   // 대기번호를 발급한 영업일과 일치하도록 전달받은 날짜 사용
+        this.waitingTime = (waitingTime != null ? waitingTime : LocalTime.now()).truncatedTo(ChronoUnit.SECONDS);
     }
 
     public void updateStatus(WaitingStatus status) {
@@ -12,6 +12,8 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class WaitingSettings extends BaseTimeEntity {
+    public static final int DEFAULT_MAX_WAITING_COUNT = 50;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -21,7 +23,7 @@ public class WaitingSettings extends BaseTimeEntity {
     private PopupStore popupStore;
 
     @Column(nullable = false)
-    private Integer maxWaitingCount = 50;  // 최대 대기 인원 (기본값 50명)
+    private Integer maxWaitingCount = DEFAULT_MAX_WAITING_COUNT;  // 최대 대기 인원 (기본값 50명)
     @Builder
     public WaitingSettings(PopupStore popupStore, Integer maxWaitingCount) {
         this.popupStore = popupStore;
@@ -21,16 +21,9 @@ public interface WaitingRepository extends JpaRepository<Waiting, Long> {
     // 현재 대기 중인 인원 수 카운트
     long countByPopupStoreIdAndStatusIn(Long popupStoreId, Set<WaitingStatus> statuses);
 
-    // 현재 최대 대기번호 조회 (다음 대기번호 생성용)
-    @Query("SELECT MAX(w.waitingNumber) FROM Waiting w WHERE w.popupStore.id = :storeId")
-    Optional<Integer> findMaxWaitingNumberByStoreId(@Param("storeId") Long storeId);
-
-    // 특정 대기번호보다 큰 대기번호를 가진 대기자들 조회
-    List<Waiting> findByPopupStoreIdAndStatusAndWaitingNumberGreaterThanOrderByWaitingNumberAsc(
-            Long popupStoreId,
-            WaitingStatus status,
-            Integer waitingNumber
-    );
+    // 영업일의 최대 대기번호 조회 (Redis 대기번호 카운터 복구용)
+    @Query("SELECT MAX(w.waitingNumber) FROM Waiting w WHERE w.popupStore.id = :storeId AND w.waitingDate = :date")
+    Optional<Integer> findMaxWaitingNumberByStoreIdAndDate(@Param("storeId") Long storeId, @Param("date") LocalDate date);
 
     // 날짜별 대기 목록 조회
     @Query("SELECT w FROM Waiting w " +
@@ -60,18 +53,36 @@ public interface WaitingRepository extends JpaRepository<Waiting, Long> {
     @Query("SELECT w FROM Waiting w " +
             "WHERE w.popupStore.id = :storeId " +
             "AND w.status IN :activeStatuses " +
-            "ORDER BY w.waitingNumber ASC")
+            "ORDER BY w.waitingDate ASC, w.waitingNumber ASC")
     List<Waiting> findActiveWaitings(
             @Param("storeId") Long storeId,
             @Param("activeStatuses") Set<WaitingStatus> activeStatuses
     );
 
-    // 특정 대기번호 앞에 있는 대기자 수 조회
-    @Query("SELECT COUNT(w) FROM Waiting w " +
+    // 영업일의 활성화된 대기 목록 조회 (대기번호는 영업일마다 1번부터 다시 시작)
+    @Query("SELECT w FROM Waiting w " +
             "WHERE w.popupStore.id = :storeId " +
-            "AND w.status IN :statuses " +
-            "AND w.waitingNumber < :currentNumber")
-    int countPeopleAhead(@Param("storeId") Long storeId, @Param("currentNumber") Integer currentNumber, @Param("statuses") Set<WaitingStatus> statuses);
+            "AND w.waitingDate = :date " +
+            "AND w.status IN :activeStatuses " +
+            "ORDER BY w.waitingNumber ASC")
+    List<Waiting> findActiveWaitingsByDate(
+            @Param("storeId") Long storeId,
+            @Param("date") LocalDate date,
+            @Param("activeStatuses") Set<WaitingStatus> activeStatuses
+    );
+
+    // 순서 알림용 활성 대기열 조회 (알림 대상 유저를 함께 조회해 대기자별 추가 조회 없음)
+    @Query("SELECT w FROM Waiting w " +
+            "JOIN FETCH w.user " +
+            "WHERE w.popupStore.id = :storeId " +
+            "AND w.waitingDate = :date " +
+            "AND w.status IN :activeStatuses " +
+            "ORDER BY w.waitingNumber ASC")
+    List<Waiting> findActiveQueueWithUser(
+            @Param("storeId") Long storeId,
+            @Param("date") LocalDate date,
+            @Param("activeStatuses") Set<WaitingStatus> activeStatuses
+    );
 
     List<Waiting> findByStatus(WaitingStatus status);
 
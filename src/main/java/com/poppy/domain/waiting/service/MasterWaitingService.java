@@ -32,6 +32,8 @@ public class MasterWaitingService {
     private final WaitingRepository waitingRepository;
     private final NotificationService notificationService;
     private final WaitingUtils waitingUtils;
+    private final WaitingQueueService waitingQueueService;
+    private final WaitingTimeoutQueue waitingTimeoutQueue;
     private final PopupStoreRepository popupStoreRepository;
     private final LoginUserProvider loginUserProvider;
 
@@ -72,10 +74,17 @@ public class MasterWaitingService {
         switch (newStatus) {
             case CALLED:
                 notificationService.sendNotification(waiting, NotificationType.WAITING_CALL, null);
-                waitingUtils.updateWaitingQueue(waiting.getPopupStore().getId(), waitingId);
+                waitingTimeoutQueue.scheduleAfterCommit(waitingId);
+                waitingUtils.updateWaitingQueue(waiting);
                 break;
             case COMPLETED:
-                waitingUtils.updateWaitingQueue(waiting.getPopupStore().getId(), waitingId);
+                waitingTimeoutQueue.cancelAfterCommit(waitingId);
+                waitingQueueService.removeAfterCommit(storeId, waiting.getWaitingDate(), waiting.getUser().getId());
+                waitingUtils.updateWaitingQueue(waiting);
+                break;
+            case CANCELED:
+                waitingTimeoutQueue.cancelAfterCommit(waitingId);
+                waitingQueueService.removeAfterCommit(storeId, waiting.getWaitingDate(), waiting.getUser().getId());
                 break;
         }
 
@@ -105,8 +114,9 @@ public class MasterWaitingService {
         }
 
         waiting.updateStatus(WaitingStatus.CANCELED);
+        waitingQueueService.removeAfterCommit(waiting.getPopupStore().getId(), waiting.getWaitingDate(), waiting.getUser().getId());
         notificationService.sendNotification(waiting, NotificationType.WAITING_TIMEOUT, null);
-        waitingUtils.updateWaitingQueue(waiting.getPopupStore().getId(), waitingId);
+        waitingUtils.updateWaitingQueue(waiting);
 
         log.info("Waiting timeout canceled - waitingId: {}, waitingNumber: {}",
                 waiting.getId(), waiting.getWaitingNumber());
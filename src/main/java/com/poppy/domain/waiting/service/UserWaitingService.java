@@ -14,16 +14,12 @@ import com.poppy.domain.waiting.entity.Waiting;
 import com.poppy.domain.waiting.entity.WaitingStatus;
 import com.poppy.domain.waiting.repository.WaitingRepository;
 import lombok.RequiredArgsConstructor;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,65 +28,40 @@ public class UserWaitingService {
     private final WaitingRepository waitingRepository;
     private final NotificationService notificationService;
     private final PopupStoreRepository popupStoreRepository;
-    private final RedissonClient redissonClient;
+    private final WaitingQueueService waitingQueueService;
+    private final WaitingSettingsCache waitingSettingsCache;
     private final WaitingUtils waitingUtils;
     private final LoginUserProvider loginUserProvider;
 
-    public static final String LOCK_PREFIX = "waiting:lock:";
-    public static final long WAIT_TIME = 3L;
-    public static final long LEASE_TIME = 3L;
-    private static final int MAX_WAITING_COUNT = 50;  // 최대 대기 인원
-
     // 선착순 대기 등록 (앱으로 사용자가 수행)
+    // 중복 대기, 최대 인원 확인과 대기번호 발급, 순번 계산은 Redis 대기열에서 원자적으로 처리하고 대기 정보는 이후 저장
     @Transactional
     public WaitingRspDto registerWaiting(Long storeId, Long userId) {
-        String lockKey = LOCK_PREFIX + storeId;
-        RLock lock = redissonClient.getLock(lockKey);
-
-        try {
-            boolean isLocked = lock.tryLock(WAIT_TIME, LEASE_TIME, TimeUnit.SECONDS);
-            if (!isLocked) throw new BusinessException(ErrorCode.WAITING_CONFLICT);
-
-            PopupStore store = popupStoreRepository.findById(storeId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
-
-            // 운영 시간 체크
-            validateOperatingHours(store);
-
-            User user = loginUserProvider.getLoggedInUser();
-
-            checkMaxWaitingCount(storeId);
-            checkDuplicateWaiting(storeId, userId);
-
-            // 대기번호 생성
-            Integer waitingNumber = getNextWaitingNumber(storeId);
-
-            Waiting waiting = waitingRepository.save(Waiting.builder()
-                    .popupStore(store)
-                    .user(user)
-                    .waitingNumber(waitingNumber)
-                    .waitingDate(LocalDate.now())
-                    .waitingTime(LocalTime.now())
-                    .build());
-
-            // 내 앞에 몇 팀 있는지 계산
-            int peopleAhead = waitingRepository.countPeopleAhead(
-                    storeId,
-                    waiting.getWaitingNumber(),
-                    Set.of(WaitingStatus.WAITING, WaitingStatus.CALLED)
-            );
-
-            notificationService.sendNotification(waiting, NotificationType.TEAMS_AHEAD, peopleAhead);
-
-            return WaitingRspDto.from(waiting);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new BusinessException(ErrorCode.WAITING_FAILED);
-        } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
-        }
+        PopupStore store = popupStoreRepository.findById(storeId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
+
+        // 운영 시간 체크
+        validateOperatingHours(store);
+
+        User user = loginUserProvider.getLoggedInUser();
+
+        // 대기번호는 영업일별로 발급
+        LocalDate today = LocalDate.now();
+        WaitingQueueService.Registration registration = waitingQueueService.register(
+                storeId, today, userId, waitingSettingsCache.getMaxWaitingCount(storeId));
+
+        Waiting waiting = waitingRepository.save(Waiting.builder()
+                .popupStore(store)
+                .user(user)
+                .waitingNumber(registration.getWaitingNumber())
+                .waitingDate(today)
+                .waitingTime(LocalTime.now())
+                .build());
+
+        // 내 앞에 몇 팀 있는지 알림
+        notificationService.sendNotification(waiting, NotificationType.TEAMS_AHEAD, registration.getPeopleAhead());
+
+        return WaitingRspDto.from(waiting);
     }
 
     // 웨이팅 내역 조회
@@ -138,38 +109,10 @@ public class UserWaitingService {
 
         // 상태 변경
         waiting.updateStatus(WaitingStatus.CANCELED);
+        waitingQueueService.removeAfterCommit(storeId, waiting.getWaitingDate(), waiting.getUser().getId());
 
         notificationService.sendNotification(waiting, NotificationType.WAITING_CANCEL, null);
-        waitingUtils.updateWaitingQueue(waiting.getPopupStore().getId(), waitingId);
-    }
-
-    // 최대 대기 인원 초과 여부 체크
-    public void checkMaxWaitingCount(Long storeId) {
-        long currentWaiting = waitingRepository.countByPopupStoreIdAndStatusIn(
-                storeId,
-                Set.of(WaitingStatus.WAITING, WaitingStatus.CALLED)
-        );
-
-        if (currentWaiting > MAX_WAITING_COUNT) {
-            throw new BusinessException(ErrorCode.MAX_WAITING_EXCEEDED);
-        }
-    }
-
-    // 중복 대기 체크
-    private void checkDuplicateWaiting(Long storeId, Long userId) {
-        boolean exists = waitingRepository.existsByPopupStoreIdAndUserIdAndStatusIn(
-                storeId, userId, Set.of(WaitingStatus.WAITING, WaitingStatus.CALLED)
-        );
-        if (exists) {
-            throw new BusinessException(ErrorCode.DUPLICATE_WAITING);
-        }
-    }
-
-    // 다음 대기번호 생성
-    private Integer getNextWaitingNumber(Long storeId) {
-        return waitingRepository.findMaxWaitingNumberByStoreId(storeId)
-                .map(num -> num + 1)
-                .orElse(1);
+        waitingUtils.updateWaitingQueue(waiting);
     }
 
     private void validateOperatingHours(PopupStore store) {
@@ -0,0 +1,188 @@
+package com.poppy.domain.waiting.service;
+
+import com.poppy.common.exception.BusinessException;
+import com.poppy.common.exception.ErrorCode;
+import com.poppy.domain.waiting.entity.Waiting;
+import com.poppy.domain.waiting.entity.WaitingStatus;
+import com.poppy.domain.waiting.repository.WaitingRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// 스토어별, 영업일별 활성 대기열(WAITING, CALLED)을 Redis sorted set(점수: 대기번호, 멤버: 유저 ID)으로 관리
+// 중복 확인, 최대 인원 확인, 대기번호 발급, 순번 계산을 스크립트 한 번으로 처리해 스토어 단위 락과 COUNT/MAX 쿼리를 없앰
+// 대기번호는 (스토어, 영업일) 키의 INCR로 발급해 매일 1번부터 다시 시작하고, 키는 영업일이 지나면 만료
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WaitingQueueService {
+    private static final String QUEUE_KEY_PREFIX = "waiting:queue:";
+    private static final String SEQUENCE_KEY_PREFIX = "waiting:seq:";
+    private static final String LOADED_KEY_PREFIX = "waiting:loaded:";    // DB 기준으로 대기열을 적재했는지 표시
+    private static final Set<WaitingStatus> ACTIVE_STATUSES = Set.of(WaitingStatus.WAITING, WaitingStatus.CALLED);
+    private static final Duration KEY_EXPIRE_GRACE = Duration.ofHours(1);  // 자정 직전 요청의 커밋 후 처리를 위한 만료 여유 시간
+
+    private static final long NOT_LOADED = -3L;
+    private static final long FULL = -2L;
+    private static final long DUPLICATE = -1L;
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final WaitingRepository waitingRepository;
+
+    // 대기 등록 (ARGV[3]: 키 만료 시각, 반환: {결과 코드, 대기번호, 내 앞 대기 팀 수})
+    private static final String REGISTER_LUA = """
+            if redis.call('EXISTS', KEYS[3]) == 0 then return {-3, 0, 0} end
+            if redis.call('ZSCORE', KEYS[1], ARGV[1]) then return {-1, 0, 0} end
+            if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[2]) then return {-2, 0, 0} end
+            local number = redis.call('INCR', KEYS[2])
+            redis.call('ZADD', KEYS[1], number, ARGV[1])
+            redis.call('EXPIREAT', KEYS[1], ARGV[3])
+            redis.call('EXPIREAT', KEYS[2], ARGV[3])
+            return {1, number, redis.call('ZRANK', KEYS[1], ARGV[1])}
+            """;
+
+    // DB의 해당 영업일 활성 대기로 대기열 적재 (ARGV[1]: DB 최대 대기번호, ARGV[2]: 키 만료 시각, ARGV[3..]: 대기번호, 유저 ID 쌍)
+    // 다른 요청이 먼저 적재했다면 아무것도 하지 않음
+    private static final String LOAD_LUA = """
+            if redis.call('EXISTS', KEYS[3]) == 1 then return 0 end
+            redis.call('DEL', KEYS[1])
+            for i = 3, #ARGV, 2 do
+                redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            if tonumber(redis.call('GET', KEYS[2]) or '0') < tonumber(ARGV[1]) then
+                redis.call('SET', KEYS[2], ARGV[1])
+            end
+            redis.call('SET', KEYS[3], '1')
+            for i = 1, 3 do
+                redis.call('EXPIREAT', KEYS[i], ARGV[2])
+            end
+            return 1
+            """;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> REGISTER_SCRIPT = RedisScript.of(REGISTER_LUA, List.class);
+    private static final RedisScript<Long> LOAD_SCRIPT = RedisScript.of(LOAD_LUA, Long.class);
+
+    // 영업일 대기열에 등록하고 대기번호와 순번 반환 (중복 대기, 최대 인원 초과 시 예외)
+    // 트랜잭션 안에서 호출되면 대기 저장이 롤백될 때 대기열에서도 제거
+    public Registration register(Long storeId, LocalDate date, Long userId, int maxWaitingCount) {
+        List<?> result = executeRegister(storeId, date, userId, maxWaitingCount);
+        long code = ((Number) result.get(0)).longValue();
+
+        // 그날 첫 등록이거나 Redis 재시작 등으로 대기열이 없으면 DB 기준으로 적재 후 한 번 더 시도
+        if (code == NOT_LOADED) {
+            load(storeId, date);
+            result = executeRegister(storeId, date, userId, maxWaitingCount);
+            code = ((Number) result.get(0)).longValue();
+        }
+
+        if (code == DUPLICATE) throw new BusinessException(ErrorCode.DUPLICATE_WAITING);
+        if (code == FULL) throw new BusinessException(ErrorCode.MAX_WAITING_EXCEEDED);
+        if (code != 1L) throw new BusinessException(ErrorCode.WAITING_FAILED);
+
+        removeOnRollback(storeId, date, userId);
+        return new Registration(
+                ((Number) result.get(1)).intValue(),
+                ((Number) result.get(2)).intValue()
+        );
+    }
+
+    // 내 앞에 있는 대기 팀 수 (대기열에 없으면 null)
+    public Integer getPeopleAhead(Long storeId, LocalDate date, Long userId) {
+        Long rank = stringRedisTemplate.opsForZSet().rank(queueKey(storeId, date), String.valueOf(userId));
+        return rank == null ? null : rank.intValue();
+    }
+
+    // 입장 완료, 취소 등으로 활성 대기가 끝나면 대기열에서 제거 (트랜잭션 안에서는 커밋 이후 제거)
+    public void removeAfterCommit(Long storeId, LocalDate date, Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(storeId, date, userId);
+                }
+            });
+            return;
+        }
+        remove(storeId, date, userId);
+    }
+
+    public void remove(Long storeId, LocalDate date, Long userId) {
+        try {
+            stringRedisTemplate.opsForZSet().remove(queueKey(storeId, date), String.valueOf(userId));
+        } catch (Exception e) {
+            log.error("Failed to remove waiting queue entry - storeId: {}, date: {}, userId: {}: {}", storeId, date, userId, e.getMessage());
+        }
+    }
+
+    // DB의 해당 영업일 활성 대기와 최대 대기번호로 대기열과 번호 카운터 적재
+    void load(Long storeId, LocalDate date) {
+        List<Waiting> activeWaitings = waitingRepository.findActiveWaitingsByDate(storeId, date, ACTIVE_STATUSES);
+        int maxNumber = waitingRepository.findMaxWaitingNumberByStoreIdAndDate(storeId, date).orElse(0);
+
+        List<String> args = new ArrayList<>(activeWaitings.size() * 2 + 2);
+        args.add(String.valueOf(maxNumber));
+        args.add(expireAt(date));
+        for (Waiting waiting : activeWaitings) {
+            args.add(String.valueOf(waiting.getWaitingNumber()));
+            args.add(String.valueOf(waiting.getUser().getId()));
+        }
+
+        Long loaded = stringRedisTemplate.execute(LOAD_SCRIPT, keys(storeId, date), args.toArray());
+        if (loaded != null && loaded == 1L)
+            log.info("Waiting queue loaded from DB - storeId: {}, date: {}, active: {}, lastNumber: {}",
+                    storeId, date, activeWaitings.size(), maxNumber);
+    }
+
+    private List<?> executeRegister(Long storeId, LocalDate date, Long userId, int maxWaitingCount) {
+        List<?> result = stringRedisTemplate.execute(REGISTER_SCRIPT, keys(storeId, date),
+                String.valueOf(userId), String.valueOf(maxWaitingCount), expireAt(date));
+
+        if (result == null || result.isEmpty())
+            throw new IllegalStateException("대기 등록 스크립트 실행 결과가 없습니다.");
+        return result;
+    }
+
+    private void removeOnRollback(Long storeId, LocalDate date, Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) remove(storeId, date, userId);
+            }
+        });
+    }
+
+    private List<String> keys(Long storeId, LocalDate date) {
+        return List.of(queueKey(storeId, date), SEQUENCE_KEY_PREFIX + storeId + ":" + date, LOADED_KEY_PREFIX + storeId + ":" + date);
+    }
+
+    private String queueKey(Long storeId, LocalDate date) {
+        return QUEUE_KEY_PREFIX + storeId + ":" + date;
+    }
+
+    // 영업일 다음 날 자정 + 여유 시간 (epoch 초)
+    private String expireAt(LocalDate date) {
+        return String.valueOf(date.plusDays(1).atStartOfDay(ZoneId.systemDefault()).plus(KEY_EXPIRE_GRACE).toEpochSecond());
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Registration {
+        private final int waitingNumber;    // 발급된 대기번호
+        private final int peopleAhead;      // 내 앞에 있는 대기 팀 수
+    }
+}
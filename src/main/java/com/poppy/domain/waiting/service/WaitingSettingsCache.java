@@ -0,0 +1,104 @@
+package com.poppy.domain.waiting.service;
+
+import com.poppy.domain.waiting.entity.WaitingSettings;
+import com.poppy.domain.waiting.repository.WaitingSettingsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 인스턴스 내 스토어별 대기 설정 캐시 (대기 등록 시 최대 인원을 DB 조회 없이 확인)
+// 설정 변경은 Redis Pub/Sub으로 모든 인스턴스에 전파, 놓친 이벤트가 있어도 TTL이 지나면 DB에서 다시 읽음
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WaitingSettingsCache implements MessageListener {
+    public static final String SETTINGS_EVENT_TOPIC = "waiting-settings-events";
+
+    private final WaitingSettingsRepository waitingSettingsRepository;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+
+    // 스토어 ID -> 최대 대기 인원과 만료 시각(ms)
+    private final Map<Long, CachedSettings> settingsByStore = new ConcurrentHashMap<>();
+
+    @Value("${waiting.settings.cache-ttl-ms:60000}")
+    private long ttlMillis;
+
+    // 스토어의 최대 대기 인원 (설정이 없으면 기본값)
+    public int getMaxWaitingCount(Long storeId) {
+        CachedSettings cached = settingsByStore.get(storeId);
+        if (cached != null && cached.expireAt() >= System.currentTimeMillis()) return cached.maxWaitingCount();
+
+        int maxWaitingCount = waitingSettingsRepository.findByPopupStoreId(storeId)
+                .map(WaitingSettings::getMaxWaitingCount)
+                .orElse(WaitingSettings.DEFAULT_MAX_WAITING_COUNT);
+        put(storeId, maxWaitingCount);
+        return maxWaitingCount;
+    }
+
+    // 설정 변경 커밋 후 로컬에 반영하고 다른 인스턴스에 전파
+    public void publishUpdatedAfterCommit(Long storeId, int maxWaitingCount) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishUpdated(storeId, maxWaitingCount);
+                }
+            });
+            return;
+        }
+        publishUpdated(storeId, maxWaitingCount);
+    }
+
+    // 기동 시 전체 스토어 설정 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            List<WaitingSettings> settings = waitingSettingsRepository.findAll();
+            settings.forEach(setting -> put(setting.getPopupStore().getId(), setting.getMaxWaitingCount()));
+            log.info("Waiting settings cache warmed - stores: {}", settings.size());
+        } catch (Exception e) {
+            log.error("Failed to warm waiting settings cache: {}", e.getMessage(), e);
+        }
+    }
+
+    // 메시지 형식: {스토어 ID},{최대 대기 인원}
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(",");
+            put(Long.valueOf(parts[0]), Integer.parseInt(parts[1]));
+        } catch (Exception e) {
+            log.error("Error processing waiting settings event: {}", e.getMessage(), e);
+        }
+    }
+
+    private void put(Long storeId, int maxWaitingCount) {
+        settingsByStore.put(storeId, new CachedSettings(maxWaitingCount, System.currentTimeMillis() + ttlMillis));
+    }
+
+    // 이벤트 전파 실패 시 다른 인스턴스는 TTL이 지난 뒤 반영
+    private void publishUpdated(Long storeId, int maxWaitingCount) {
+        put(storeId, maxWaitingCount);
+        try {
+            stringRedisTemplate.convertAndSend(SETTINGS_EVENT_TOPIC, storeId + "," + maxWaitingCount);
+        } catch (Exception e) {
+            log.warn("Failed to publish waiting settings event for store {}: {}", storeId, e.getMessage());
+        }
+    }
+
+    private record CachedSettings(int maxWaitingCount, long expireAt) {
+    }
+}
@@ -20,6 +20,7 @@ public class WaitingSettingsService {
     private final WaitingSettingsRepository waitingSettingsRepository;
     private final PopupStoreRepository popupStoreRepository;
     private final LoginUserProvider loginUserProvider;
+    private final WaitingSettingsCache waitingSettingsCache;
 
     private void validateMasterAuthority(Long storeId) {
         User master = loginUserProvider.getLoggedInUser();
@@ -49,6 +50,7 @@ public class WaitingSettingsService {
                 .orElseGet(() -> createDefaultSettings(storeId));
 
         settings.updateMaxCount(waitingSettingsReqDto.getMaxWaitingCount());
+        waitingSettingsCache.publishUpdatedAfterCommit(storeId, settings.getMaxWaitingCount());
 
         return WaitingSettingsRspDto.from(settings);
     }
@@ -60,7 +62,7 @@ public class WaitingSettingsService {
 
         WaitingSettings settings = WaitingSettings.builder()
                 .popupStore(popupStore)
-                .maxWaitingCount(50)
+                .maxWaitingCount(WaitingSettings.DEFAULT_MAX_WAITING_COUNT)
                 .build();
 
         return waitingSettingsRepository.save(settings);
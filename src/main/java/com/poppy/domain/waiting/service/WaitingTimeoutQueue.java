@@ -0,0 +1,126 @@
+package com.poppy.domain.waiting.service;
+
+import com.poppy.domain.waiting.entity.Waiting;
+import com.poppy.domain.waiting.entity.WaitingStatus;
+import com.poppy.domain.waiting.repository.WaitingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 호출(CALLED)된 대기의 타임아웃 예약 큐 (Redis sorted set, 점수: 타임아웃 시각(ms), 멤버: 대기 ID)
+// 호출 시 등록, 입장 완료/취소 시 해제하고, 폴러는 시각이 지난 항목만 꺼내 처리하므로 CALLED 전체를 조회하지 않음
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WaitingTimeoutQueue {
+    private static final String TIMEOUT_KEY = "waiting:timeouts";
+    private static final Duration TIMEOUT = Duration.ofMinutes(MasterWaitingService.WAITING_TIMEOUT_MINUTES);
+    private static final long CLAIM_LEASE_MILLIS = 60_000;  // 꺼낸 뒤 처리 완료를 확인하지 못하면 다시 꺼낼 때까지의 시간
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final WaitingRepository waitingRepository;
+
+    // 타임아웃 시각이 지난 항목을 최대 ARGV[2]개까지 꺼내 점수를 임대 만료 시각(ARGV[3])으로 미루고 대기 ID 목록을 돌려줌
+    // 꺼내기와 점수 변경이 원자적이라 여러 인스턴스가 동시에 폴링해도 같은 대기를 중복 처리하지 않고,
+    // 처리 완료 후에만 제거하므로 처리 중 인스턴스가 죽어도 임대가 만료되면 다시 꺼내 처리
+    private static final String CLAIM_DUE_LUA = """
+            local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            for _, id in ipairs(due) do
+                redis.call('ZADD', KEYS[1], 'XX', ARGV[3], id)
+            end
+            return due
+            """;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_DUE_SCRIPT = RedisScript.of(CLAIM_DUE_LUA, List.class);
+
+    // 호출 커밋 후 타임아웃 등록 (다시 호출되면 타임아웃 시각 갱신)
+    public void scheduleAfterCommit(Long waitingId) {
+        afterCommit(() -> schedule(waitingId, System.currentTimeMillis() + TIMEOUT.toMillis()));
+    }
+
+    // 입장 완료, 취소 커밋 후 타임아웃 해제
+    public void cancelAfterCommit(Long waitingId) {
+        afterCommit(() -> cancel(waitingId));
+    }
+
+    public void schedule(Long waitingId, long deadlineMillis) {
+        try {
+            stringRedisTemplate.opsForZSet().add(TIMEOUT_KEY, String.valueOf(waitingId), deadlineMillis);
+        } catch (Exception e) {
+            log.error("Failed to schedule waiting timeout - waitingId: {}: {}", waitingId, e.getMessage());
+        }
+    }
+
+    public void cancel(Long waitingId) {
+        try {
+            stringRedisTemplate.opsForZSet().remove(TIMEOUT_KEY, String.valueOf(waitingId));
+        } catch (Exception e) {
+            log.error("Failed to cancel waiting timeout - waitingId: {}: {}", waitingId, e.getMessage());
+        }
+    }
+
+    // 타임아웃 시각이 지난 대기를 배치 단위로 꺼내 대기 ID 목록 반환 (처리가 끝나면 cancel로 제거)
+    public List<Long> claimDue(int batchSize) {
+        long now = System.currentTimeMillis();
+        List<?> due = stringRedisTemplate.execute(
+                CLAIM_DUE_SCRIPT,
+                List.of(TIMEOUT_KEY),
+                String.valueOf(now),
+                String.valueOf(batchSize),
+                String.valueOf(now + CLAIM_LEASE_MILLIS)
+        );
+
+        if (due == null || due.isEmpty()) return List.of();
+        return due.stream()
+                .map(id -> Long.valueOf(id.toString()))
+                .toList();
+    }
+
+    // 기동 시 DB의 호출 상태 대기를 큐에 복구 (Redis 유실 대비, 이미 등록된 항목은 유지)
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreFromDb() {
+        try {
+            List<Waiting> calledWaitings = waitingRepository.findByStatus(WaitingStatus.CALLED);
+            if (calledWaitings.isEmpty()) return;
+
+            Set<ZSetOperations.TypedTuple<String>> tuples = calledWaitings.stream()
+                    .map(waiting -> new DefaultTypedTuple<>(
+                            String.valueOf(waiting.getId()),
+                            (double) waiting.getUpdateTime().plus(TIMEOUT).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()))
+                    .collect(Collectors.toSet());
+
+            Long restored = stringRedisTemplate.opsForZSet().addIfAbsent(TIMEOUT_KEY, tuples);
+            log.info("Waiting timeouts restored from DB - called: {}, restored: {}", calledWaitings.size(), restored);
+        } catch (Exception e) {
+            log.error("Failed to restore waiting timeouts: {}", e.getMessage(), e);
+        }
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+        task.run();
+    }
+}
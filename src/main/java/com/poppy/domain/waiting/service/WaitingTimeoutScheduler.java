@@ -1,51 +1,56 @@
 package com.poppy.domain.waiting.service;
 
-import com.poppy.common.config.redis.DistributedLockService;
-import com.poppy.domain.waiting.entity.Waiting;
-import com.poppy.domain.waiting.entity.WaitingStatus;
-import com.poppy.domain.waiting.repository.WaitingRepository;
+import com.poppy.common.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class WaitingTimeoutScheduler {
-    private static final long CHECK_INTERVAL = 60000; // 1분
+    private static final long RETRY_DELAY_MILLIS = 10_000;  // 처리 실패 시 다시 시도할 때까지의 지연
 
-    private final WaitingRepository waitingRepository;
+    private final WaitingTimeoutQueue waitingTimeoutQueue;
     private final MasterWaitingService masterWaitingService;
-    private final DistributedLockService lockService;
 
-    @Scheduled(fixedDelay = CHECK_INTERVAL)
-    @Transactional
-    public void checkWaitingTimeout() {
-        if (!lockService.tryLock(DistributedLockService.WAITING_SCHEDULER_LOCK)) {
-            log.debug("Failed to acquire waiting scheduler lock. Skipping this execution.");
-            return;
-        }
+    @Value("${waiting.timeout.batch-size:100}")
+    private int batchSize;
 
+    // 타임아웃 시각이 지난 대기만 꺼내 처리 (꺼내기가 스크립트 안에서 원자적이라 분산 락 불필요)
+    // 꺼낸 대기는 임대 시각까지 큐에 남아 있다가 처리가 커밋된 뒤 제거
+    // 대기마다 별도 트랜잭션으로 처리해 한 건의 실패가 다른 대기의 타임아웃에 영향을 주지 않음
+    @Scheduled(fixedDelayString = "${waiting.timeout.poll-interval-ms:1000}")
+    public void checkWaitingTimeout() {
         try {
-            List<Waiting> waitingList = waitingRepository.findByStatus(WaitingStatus.CALLED);
-            LocalDateTime now = LocalDateTime.now();
-
-            for (Waiting waiting : waitingList) {
-                LocalDateTime calledTime = waiting.getUpdateTime();
-                // 호출된 시간으로부터 5분이 지났는지 확인
-                if (calledTime.plusMinutes(MasterWaitingService.WAITING_TIMEOUT_MINUTES).isBefore(now)) {
-                    masterWaitingService.handleWaitingTimeout(waiting.getId());
+            List<Long> due;
+            do {
+                due = waitingTimeoutQueue.claimDue(batchSize);
+                for (Long waitingId : due) {
+                    handleTimeout(waitingId);
                 }
-            }
+            } while (due.size() == batchSize);
         } catch (Exception e) {
             log.error("Error in waiting timeout scheduler: {}", e.getMessage(), e);
-        } finally {
-            lockService.unlock(DistributedLockService.WAITING_SCHEDULER_LOCK);
         }
     }
-}
\ No newline at end of file
+
+    private void handleTimeout(Long waitingId) {
+        try {
+            // 이미 입장 완료, 취소된 대기는 handleWaitingTimeout에서 무시
+            masterWaitingService.handleWaitingTimeout(waitingId);
+            waitingTimeoutQueue.cancel(waitingId);
+        } catch (BusinessException e) {
+            // 삭제된 대기 등 다시 시도해도 처리할 수 없는 경우
+            log.warn("Skipped waiting timeout - waitingId: {}: {}", waitingId, e.getMessage());
+            waitingTimeoutQueue.cancel(waitingId);
+        } catch (Exception e) {
+            log.error("Failed to handle waiting timeout - waitingId: {}: {}", waitingId, e.getMessage());
+            waitingTimeoutQueue.schedule(waitingId, System.currentTimeMillis() + RETRY_DELAY_MILLIS);
+        }
+    }
+}
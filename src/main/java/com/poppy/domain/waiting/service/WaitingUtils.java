@@ -1,40 +1,42 @@
 package com.poppy.domain.waiting.service;
 
-import com.poppy.domain.notification.entity.NotificationType;
-import com.poppy.domain.notification.service.NotificationService;
+import com.poppy.domain.notification.dto.WaitingPositionDto;
+import com.poppy.domain.notification.service.WaitingQueueNotificationDispatcher;
 import com.poppy.domain.waiting.entity.Waiting;
 import com.poppy.domain.waiting.entity.WaitingStatus;
 import com.poppy.domain.waiting.repository.WaitingRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
 public class WaitingUtils {
+    private static final Set<WaitingStatus> ACTIVE_STATUSES = Set.of(WaitingStatus.WAITING, WaitingStatus.CALLED); // 'WAITING' 또는 'CALLED' 상태인 대기자들만 순번에 포함
+
     private final WaitingRepository waitingRepository;
-    private final NotificationService notificationService;
+    private final WaitingQueueNotificationDispatcher notificationDispatcher;
 
     // 대기 순서가 변경된 대기자들에게 대기 순서 알림을 발송
-    public void updateWaitingQueue(Long storeId, Long waitingId) {
-        List<Waiting> waitingList = waitingRepository
-                .findByPopupStoreIdAndStatusAndWaitingNumberGreaterThanOrderByWaitingNumberAsc(
-                        storeId,
-                        WaitingStatus.WAITING,
-                        waitingRepository.findById(waitingId)
-                                .map(Waiting::getWaitingNumber)
-                                .orElse(0)
-                );
-
-        for (Waiting waiting : waitingList) {
-            int peopleAhead = waitingRepository.countPeopleAhead(
-                    storeId,
-                    waiting.getWaitingNumber(),
-                    Set.of(WaitingStatus.WAITING, WaitingStatus.CALLED) // 'WAITING' 또는 'CALLED' 상태인 대기자들만 포함
-            );
-            notificationService.sendNotification(waiting, NotificationType.TEAMS_AHEAD, peopleAhead);
+    // 활성 대기열을 한 번만 조회해 순번을 메모리에서 계산하고, 발송은 커밋 이후 일괄 비동기 처리
+    public void updateWaitingQueue(Waiting changed) {
+        List<Waiting> activeQueue = waitingRepository.findActiveQueueWithUser(
+                changed.getPopupStore().getId(), changed.getWaitingDate(), ACTIVE_STATUSES);
+
+        List<WaitingPositionDto> positions = new ArrayList<>();
+        int peopleAhead = 0;
+        for (Waiting waiting : activeQueue) {
+            // 같은 트랜잭션에서 상태가 바뀐 대기는 아직 반영 전일 수 있으므로 현재 상태로 한 번 더 확인
+            if (!ACTIVE_STATUSES.contains(waiting.getStatus())) continue;
+
+            if (waiting.getStatus() == WaitingStatus.WAITING && waiting.getWaitingNumber() > changed.getWaitingNumber())
+                positions.add(WaitingPositionDto.of(waiting, peopleAhead));
+            peopleAhead++;
         }
+
+        notificationDispatcher.dispatchAfterCommit(positions);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,140 @@
+package com.poppy.domain.notification.service;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.poppy.common.config.redis.NotificationPublisher;
+import com.poppy.domain.notification.entity.NotificationType;
+import com.poppy.domain.notification.repository.NotificationJdbcRepository;
+import com.poppy.domain.reservation.repository.ReminderTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationReminderDispatcherTest {
+    @Mock
+    private FirebaseMessaging firebaseMessaging;
+    @Mock
+    private NotificationMessageGenerator messageGenerator;
+    @Mock
+    private NotificationJdbcRepository notificationJdbcRepository;
+    @Mock
+    private NotificationPublisher notificationPublisher;
+    @Mock
+    private BatchResponse batchResponse;
+
+    @InjectMocks
+    private ReservationReminderDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(messageGenerator.generateFCMTitle(eq(NotificationType.REMIND_24H), anyString())).thenReturn("제목");
+        lenient().when(messageGenerator.generateFCMBody(NotificationType.REMIND_24H, null, null)).thenReturn("내용");
+        lenient().when(messageGenerator.generateWebSocketMessage(eq(NotificationType.REMIND_24H), anyString(), isNull(), isNull()))
+                .thenReturn("웹소켓 메시지");
+    }
+
+    @Test
+    void FCM은_500건씩_나눠_발송하고_알림은_한번에_저장_발행() throws FirebaseMessagingException {
+        // given
+        List<ReminderTarget> targets = targets(501, "token");
+        when(batchResponse.getSuccessCount()).thenReturn(500, 1);
+        when(firebaseMessaging.sendEach(anyList())).thenReturn(batchResponse);
+
+        // when
+        ReservationReminderDispatcher.DispatchResult result = dispatcher.dispatch(targets);
+
+        // then
+        verify(firebaseMessaging).sendEach(argThat(batch -> batch.size() == 500));
+        verify(firebaseMessaging).sendEach(argThat(batch -> batch.size() == 1));
+        verify(notificationJdbcRepository).insertStoreNotifications(argThat(notifications -> notifications.size() == 501));
+        verify(notificationPublisher).publishAll(argThat(notifications -> notifications.size() == 501));
+        assertThat(result.getFcmSent()).isEqualTo(501);
+        assertThat(result.getNotified()).isEqualTo(501);
+    }
+
+    @Test
+    void 토큰이_없는_사용자는_FCM만_제외() throws FirebaseMessagingException {
+        // given
+        List<ReminderTarget> targets = new ArrayList<>(targets(2, "token"));
+        targets.add(new Target(3L, null));
+        when(batchResponse.getSuccessCount()).thenReturn(2);
+        when(firebaseMessaging.sendEach(anyList())).thenReturn(batchResponse);
+
+        // when
+        ReservationReminderDispatcher.DispatchResult result = dispatcher.dispatch(targets);
+
+        // then
+        verify(firebaseMessaging).sendEach(argThat(batch -> batch.size() == 2));
+        verify(notificationJdbcRepository).insertStoreNotifications(argThat(notifications -> notifications.size() == 3));
+        assertThat(result.getFcmSent()).isEqualTo(2);
+        assertThat(result.getNotified()).isEqualTo(3);
+    }
+
+    @Test
+    void FCM_배치_실패시에도_활동_알림은_저장() throws FirebaseMessagingException {
+        // given
+        List<ReminderTarget> targets = targets(3, "token");
+        when(firebaseMessaging.sendEach(anyList())).thenThrow(mock(FirebaseMessagingException.class));
+
+        // when
+        ReservationReminderDispatcher.DispatchResult result = dispatcher.dispatch(targets);
+
+        // then
+        assertThat(result.getFcmFailed()).isEqualTo(3);
+        verify(notificationJdbcRepository).insertStoreNotifications(anyList());
+        verify(notificationPublisher).publishAll(anyList());
+    }
+
+    private List<ReminderTarget> targets(int count, String token) {
+        List<ReminderTarget> targets = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            targets.add(new Target(id, token + id));
+        }
+        return targets;
+    }
+
+    private record Target(Long reservationId, String fcmToken) implements ReminderTarget {
+        @Override
+        public Long getReservationId() {
+            return reservationId;
+        }
+
+        @Override
+        public Long getUserId() {
+            return reservationId + 100;
+        }
+
+        @Override
+        public String getFcmToken() {
+            return fcmToken;
+        }
+
+        @Override
+        public Long getStoreId() {
+            return 1L;
+        }
+
+        @Override
+        public String getStoreName() {
+            return "테스트 팝업";
+        }
+
+        @Override
+        public LocalTime getTime() {
+            return LocalTime.of(10, 0);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.poppy.domain.notification.service;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.poppy.common.config.redis.NotificationPublisher;
+import com.poppy.domain.notification.dto.WaitingPositionDto;
+import com.poppy.domain.notification.entity.NotificationType;
+import com.poppy.domain.notification.repository.NotificationJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WaitingQueueNotificationDispatcherTest {
+    @Mock
+    private FirebaseMessaging firebaseMessaging;
+    @Mock
+    private NotificationMessageGenerator messageGenerator;
+    @Mock
+    private NotificationJdbcRepository notificationJdbcRepository;
+    @Mock
+    private NotificationPublisher notificationPublisher;
+    @Mock
+    private BatchResponse batchResponse;
+
+    @InjectMocks
+    private WaitingQueueNotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(messageGenerator.generateFCMTitle(eq(NotificationType.TEAMS_AHEAD), anyString())).thenReturn("제목");
+        lenient().when(messageGenerator.generateFCMBody(eq(NotificationType.TEAMS_AHEAD), anyInt(), anyInt())).thenReturn("내용");
+        lenient().when(messageGenerator.generateWebSocketMessage(eq(NotificationType.TEAMS_AHEAD), anyString(), anyInt(), anyInt()))
+                .thenReturn("웹소켓 메시지");
+    }
+
+    @Test
+    void 대기_순서_알림을_한번에_발송_저장_발행() throws FirebaseMessagingException {
+        // given
+        List<WaitingPositionDto> positions = positions(50, "token");
+        when(firebaseMessaging.sendEach(anyList())).thenReturn(batchResponse);
+
+        // when
+        dispatcher.dispatch(positions);
+
+        // then
+        verify(firebaseMessaging).sendEach(argThat(batch -> batch.size() == 50));
+        verify(notificationJdbcRepository).insertWaitingNotifications(argThat(notifications -> notifications.size() == 50));
+        verify(notificationPublisher).publishAll(argThat(notifications -> notifications.size() == 50));
+    }
+
+    @Test
+    void 토큰이_없는_사용자는_FCM만_제외() throws FirebaseMessagingException {
+        // given
+        List<WaitingPositionDto> positions = new ArrayList<>(positions(2, "token"));
+        positions.addAll(positions(1, null));
+        when(firebaseMessaging.sendEach(anyList())).thenReturn(batchResponse);
+
+        // when
+        dispatcher.dispatch(positions);
+
+        // then
+        verify(firebaseMessaging).sendEach(argThat(batch -> batch.size() == 2));
+        verify(notificationJdbcRepository).insertWaitingNotifications(argThat(notifications -> notifications.size() == 3));
+    }
+
+    @Test
+    void FCM_배치_실패시에도_활동_알림은_저장() throws FirebaseMessagingException {
+        // given
+        when(firebaseMessaging.sendEach(anyList())).thenThrow(mock(FirebaseMessagingException.class));
+
+        // when
+        dispatcher.dispatch(positions(3, "token"));
+
+        // then
+        verify(notificationJdbcRepository).insertWaitingNotifications(anyList());
+        verify(notificationPublisher).publishAll(anyList());
+    }
+
+    @Test
+    void 알림_대상이_없으면_발송하지_않음() {
+        // when
+        dispatcher.dispatchAfterCommit(List.of());
+
+        // then
+        verifyNoInteractions(firebaseMessaging, notificationJdbcRepository, notificationPublisher);
+    }
+
+    @Test
+    void 종료_시_받아둔_발송_작업을_마친_뒤_종료() throws FirebaseMessagingException {
+        // given
+        when(firebaseMessaging.sendEach(anyList())).thenReturn(batchResponse);
+        dispatcher.dispatchAfterCommit(positions(3, "token"));
+
+        // when
+        dispatcher.shutdown();
+
+        // then
+        verify(notificationJdbcRepository).insertWaitingNotifications(argThat(notifications -> notifications.size() == 3));
+        verify(notificationPublisher).publishAll(anyList());
+    }
+
+    private List<WaitingPositionDto> positions(int count, String token) {
+        List<WaitingPositionDto> positions = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            positions.add(WaitingPositionDto.builder()
+                    .userId((long) i)
+                    .fcmToken(token == null ? null : token + i)
+                    .popupStoreId(1L)
+                    .popupStoreName("테스트 매장")
+                    .waitingNumber(i + 1)
+                    .peopleAhead(i)
+                    .build());
+        }
+        return positions;
+    }
+}
@@ -5,13 +5,25 @@ import com.poppy.common.exception.ErrorCode;
 import com.poppy.domain.payment.entity.Payment;
 import com.poppy.domain.payment.entity.PaymentStatus;
 import com.poppy.domain.payment.repository.PaymentRepository;
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.reservation.entity.Reservation;
+import com.poppy.domain.reservation.entity.ReservationStatus;
+import com.poppy.domain.reservation.service.RedisSlotService;
+import com.poppy.domain.reservation.service.ReservationHoldService;
+import com.poppy.domain.reservation.service.SlotAvailabilityPublisher;
+import com.poppy.domain.reservation.service.SlotReleaseResult;
+import com.poppy.domain.reservation.service.SoldOutSlotRegistry;
+import com.poppy.domain.user.entity.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -26,12 +38,25 @@ class PaymentServiceTest {
     @Mock
     private TossPaymentClient tossPaymentClient;
 
+    @Mock
+    private ReservationHoldService reservationHoldService;
+
+    @Mock
+    private SlotAvailabilityPublisher slotAvailabilityPublisher;
+
+    @Mock
+    private RedisSlotService redisSlotService;
+
+    @Mock
+    private SoldOutSlotRegistry soldOutSlotRegistry;
+
     private PaymentService paymentService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        paymentService = new PaymentService(paymentRepository, tossPaymentClient);
+        paymentService = new PaymentService(paymentRepository, tossPaymentClient, reservationHoldService,
+                slotAvailabilityPublisher, redisSlotService, soldOutSlotRegistry);
     }
 
     @Test
@@ -161,4 +186,89 @@ class PaymentServiceTest {
 
         assertThat(payment.getStatus()).isEqualTo(PaymentStatus.DONE);
     }
-}
\ No newline at end of file
+
+    @Test
+    void 스크립트_모드_결제_실패_시_선점_슬롯_반환_후_예약_취소() {
+        // given
+        ReflectionTestUtils.setField(paymentService, "atomicSlotScriptEnabled", true);
+        LocalDate date = LocalDate.of(2024, 12, 5);
+        LocalTime time = LocalTime.of(14, 0);
+        Reservation reservation = pendingReservation(date, time);
+        Payment payment = Payment.builder()
+                .orderId("test_orderId")
+                .status(PaymentStatus.PENDING)
+                .reservation(reservation)
+                .build();
+
+        when(paymentRepository.findByOrderId("test_orderId")).thenReturn(Optional.of(payment));
+        when(redisSlotService.releaseSlot(1L, date, time, 2, 1L)).thenReturn(SlotReleaseResult.RELEASED);
+
+        // when
+        paymentService.handlePaymentFailure("test_orderId");
+
+        // then
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.FAILED);
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.CANCELED);
+        verify(redisSlotService).releaseSlot(1L, date, time, 2, 1L);
+        verify(soldOutSlotRegistry).publishAvailable(1L, date, time);
+        verify(slotAvailabilityPublisher).markChanged(1L, reservation.getPopupStore().getSlotShards(), date, time);
+    }
+
+    @Test
+    void 이미_반환된_선점은_다시_반환하지_않고_가용_이벤트도_발행하지_않음() {
+        // given (결제 실패 콜백 중복 등으로 선점 기록이 이미 정리된 경우)
+        ReflectionTestUtils.setField(paymentService, "atomicSlotScriptEnabled", true);
+        LocalDate date = LocalDate.of(2024, 12, 5);
+        LocalTime time = LocalTime.of(14, 0);
+        Reservation reservation = pendingReservation(date, time);
+        Payment payment = Payment.builder()
+                .orderId("test_orderId")
+                .status(PaymentStatus.PENDING)
+                .reservation(reservation)
+                .build();
+
+        when(paymentRepository.findByOrderId("test_orderId")).thenReturn(Optional.of(payment));
+        when(redisSlotService.releaseSlot(1L, date, time, 2, 1L)).thenReturn(SlotReleaseResult.NOT_HELD);
+
+        // when
+        paymentService.handlePaymentFailure("test_orderId");
+
+        // then
+        verify(soldOutSlotRegistry, never()).publishAvailable(any(), any(), any());
+        verify(slotAvailabilityPublisher, never()).markChanged(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void 락_모드_결제_실패_시_반환할_슬롯_없음() {
+        // given
+        LocalDate date = LocalDate.of(2024, 12, 5);
+        LocalTime time = LocalTime.of(14, 0);
+        Reservation reservation = pendingReservation(date, time);
+        Payment payment = Payment.builder()
+                .orderId("test_orderId")
+                .status(PaymentStatus.PENDING)
+                .reservation(reservation)
+                .build();
+
+        when(paymentRepository.findByOrderId("test_orderId")).thenReturn(Optional.of(payment));
+
+        // when
+        paymentService.handlePaymentFailure("test_orderId");
+
+        // then
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.FAILED);
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.PENDING);
+        verifyNoInteractions(redisSlotService);
+    }
+
+    private Reservation pendingReservation(LocalDate date, LocalTime time) {
+        return Reservation.builder()
+                .popupStore(PopupStore.builder().id(1L).build())
+                .user(User.builder().id(1L).build())
+                .date(date)
+                .time(time)
+                .person(2)
+                .status(ReservationStatus.PENDING)
+                .build();
+    }
+}
@@ -0,0 +1,190 @@
+package com.poppy.domain.payment.service;
+
+import com.poppy.common.config.redis.DistributedLockService;
+import com.poppy.domain.payment.entity.Payment;
+import com.poppy.domain.payment.entity.PaymentStatus;
+import com.poppy.domain.payment.repository.PaymentArchiveJdbcRepository;
+import com.poppy.domain.payment.repository.PaymentRepository;
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.reservation.entity.Reservation;
+import com.poppy.domain.reservation.entity.ReservationStatus;
+import com.poppy.domain.reservation.service.RedisSlotService;
+import com.poppy.domain.reservation.service.ReservationHoldService;
+import com.poppy.domain.reservation.service.SlotAvailabilityPublisher;
+import com.poppy.domain.reservation.service.SlotReleaseResult;
+import com.poppy.domain.reservation.service.SoldOutSlotRegistry;
+import com.poppy.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StalePaymentSweeperTest {
+    private static final String CHECKPOINT_KEY = "payment:sweep:checkpoint";
+
+    @Mock
+    private PaymentRepository paymentRepository;
+    @Mock
+    private PaymentArchiveJdbcRepository paymentArchiveJdbcRepository;
+    @Mock
+    private ReservationHoldService reservationHoldService;
+    @Mock
+    private RedisSlotService redisSlotService;
+    @Mock
+    private SoldOutSlotRegistry soldOutSlotRegistry;
+    @Mock
+    private SlotAvailabilityPublisher slotAvailabilityPublisher;
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+    @Mock
+    private DistributedLockService lockService;
+
+    private StubPaymentProviderClient providerClient;
+    private StalePaymentSweeper sweeper;
+    private PopupStore popupStore;
+    private LocalDateTime before;
+
+    @BeforeEach
+    void setUp() {
+        providerClient = new StubPaymentProviderClient();
+        sweeper = new StalePaymentSweeper(paymentRepository, paymentArchiveJdbcRepository, providerClient,
+                reservationHoldService, redisSlotService, soldOutSlotRegistry, slotAvailabilityPublisher,
+                stringRedisTemplate, lockService);
+        ReflectionTestUtils.setField(sweeper, "pageSize", 10);
+        ReflectionTestUtils.setField(sweeper, "maxPages", 5);
+        ReflectionTestUtils.setField(sweeper, "atomicSlotScriptEnabled", true);
+
+        popupStore = PopupStore.builder()
+                .id(1L)
+                .name("테스트 팝업")
+                .build();
+        before = LocalDateTime.now().minusMinutes(30);
+
+        doReturn(hashOperations).when(stringRedisTemplate).opsForHash();
+        lenient().when(hashOperations.entries(CHECKPOINT_KEY)).thenReturn(Map.of());
+    }
+
+    @Test
+    void 승인되지_않은_결제만_보관하고_선점_슬롯_반환() {
+        // given
+        Payment notPaid = payment(1L, "order-1");
+        Payment approved = payment(2L, "order-2");
+        Payment inProgress = payment(3L, "order-3");
+        providerClient.with("order-1", ProviderPaymentStatus.NOT_APPROVED)
+                .with("order-2", ProviderPaymentStatus.APPROVED);
+
+        when(paymentRepository.findPageCreatedBefore(eq(PaymentStatus.PENDING), eq(before), any(), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(notPaid, approved, inProgress));
+        when(paymentArchiveJdbcRepository.archiveExpired(List.of(1L))).thenReturn(List.of(1L));
+        when(redisSlotService.releaseSlot(1L, LocalDate.of(2025, 1, 1), LocalTime.of(10, 0), 2, 100L)).thenReturn(SlotReleaseResult.RELEASED);
+
+        // when
+        StalePaymentSweeper.SweepReport report = sweeper.sweep(before);
+
+        // then
+        assertThat(report.scanned).isEqualTo(3);
+        assertThat(report.expired).isEqualTo(1);
+        assertThat(report.approved).isEqualTo(1);
+        assertThat(report.skipped).isEqualTo(1);
+        assertThat(providerClient.getRequests()).containsExactly(List.of("order-1", "order-2", "order-3"));
+
+        verify(redisSlotService, times(1)).releaseSlot(anyLong(), any(), any(), anyInt(), anyLong());
+        verify(slotAvailabilityPublisher).markChanged(1L, 1, LocalDate.of(2025, 1, 1), LocalTime.of(10, 0));
+        // 마지막 페이지까지 처리했으므로 진행 위치 초기화
+        verify(stringRedisTemplate).delete(CHECKPOINT_KEY);
+    }
+
+    @Test
+    void 조회_이후_결제가_완료된_건은_슬롯을_반환하지_않음() {
+        // given
+        Payment payment = payment(1L, "order-1");
+        providerClient.with("order-1", ProviderPaymentStatus.NOT_APPROVED);
+
+        when(paymentRepository.findPageCreatedBefore(any(), any(), any(), any(), any(Pageable.class))).thenReturn(List.of(payment));
+        when(paymentArchiveJdbcRepository.archiveExpired(List.of(1L))).thenReturn(List.of());
+
+        // when
+        StalePaymentSweeper.SweepReport report = sweeper.sweep(before);
+
+        // then
+        assertThat(report.expired).isZero();
+        verifyNoInteractions(redisSlotService, slotAvailabilityPublisher);
+    }
+
+    @Test
+    void 페이지가_가득_차면_진행_위치를_기록하고_다음_페이지부터_조회() {
+        // given
+        ReflectionTestUtils.setField(sweeper, "pageSize", 2);
+        ReflectionTestUtils.setField(sweeper, "maxPages", 1);
+        Payment first = payment(1L, "order-1");
+        Payment second = payment(2L, "order-2");
+
+        when(paymentRepository.findPageCreatedBefore(any(), any(), any(), any(), any(Pageable.class))).thenReturn(List.of(first, second));
+
+        // when
+        sweeper.sweep(before);
+
+        // then (결제 진행 중인 건은 보관하지 않고 위치만 이동)
+        verify(hashOperations).putAll(CHECKPOINT_KEY, Map.of(
+                "createTime", second.getCreateTime().toString(),
+                "id", "2"
+        ));
+        verify(stringRedisTemplate, never()).delete(CHECKPOINT_KEY);
+        verifyNoInteractions(paymentArchiveJdbcRepository);
+    }
+
+    @Test
+    void 기록된_진행_위치부터_이어서_조회() {
+        // given
+        LocalDateTime checkpointTime = LocalDateTime.of(2025, 1, 1, 9, 0);
+        when(hashOperations.entries(CHECKPOINT_KEY)).thenReturn(Map.of("createTime", checkpointTime.toString(), "id", "42"));
+        when(paymentRepository.findPageCreatedBefore(any(), any(), any(), any(), any(Pageable.class))).thenReturn(List.of());
+
+        // when
+        sweeper.sweep(before);
+
+        // then
+        verify(paymentRepository).findPageCreatedBefore(eq(PaymentStatus.PENDING), eq(before), eq(checkpointTime), eq(42L), any(Pageable.class));
+        verify(stringRedisTemplate).delete(CHECKPOINT_KEY);
+    }
+
+    private Payment payment(Long id, String orderId) {
+        Reservation reservation = Reservation.builder()
+                .popupStore(popupStore)
+                .user(new User(100L))
+                .date(LocalDate.of(2025, 1, 1))
+                .time(LocalTime.of(10, 0))
+                .person(2)
+                .status(ReservationStatus.PENDING)
+                .build();
+        ReflectionTestUtils.setField(reservation, "id", id);
+
+        Payment payment = Payment.builder()
+                .orderId(orderId)
+                .amount(10000L)
+                .status(PaymentStatus.PENDING)
+                .reservation(reservation)
+                .build();
+        ReflectionTestUtils.setField(payment, "id", id);
+        ReflectionTestUtils.setField(payment, "createTime", LocalDateTime.of(2025, 1, 1, 8, 0).plusMinutes(id));
+        return payment;
+    }
+}
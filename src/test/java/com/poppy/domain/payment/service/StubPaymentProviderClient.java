@@ -0,0 +1,31 @@
+package com.poppy.domain.payment.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 테스트용 결제사 스텁 (등록하지 않은 주문은 UNKNOWN)
+class StubPaymentProviderClient implements PaymentProviderClient {
+    private final Map<String, ProviderPaymentStatus> statuses = new HashMap<>();
+    private final List<List<String>> requests = new ArrayList<>();
+
+    StubPaymentProviderClient with(String orderId, ProviderPaymentStatus status) {
+        statuses.put(orderId, status);
+        return this;
+    }
+
+    // 호출별 조회 요청 주문 ID 목록
+    List<List<String>> getRequests() {
+        return requests;
+    }
+
+    @Override
+    public Map<String, ProviderPaymentStatus> getPaymentStatuses(List<String> orderIds) {
+        requests.add(List.copyOf(orderIds));
+
+        Map<String, ProviderPaymentStatus> result = new HashMap<>();
+        for (String orderId : orderIds) result.put(orderId, statuses.getOrDefault(orderId, ProviderPaymentStatus.UNKNOWN));
+        return result;
+    }
+}
@@ -0,0 +1,223 @@
+package com.poppy.domain.popupstore;
+
+import com.poppy.domain.reservation.service.RedisSlotService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// 슬롯 조회 경로별 지연 시간 비교 (로컬 Redis, MySQL 필요: ./gradlew benchmark)
+// DB: 스토어 PK 조회 + 날짜별 슬롯 조회 (JPA/QueryDSL 오버헤드를 뺀 JDBC 하한값)
+// Redis: 운영 시간 캐시 적중 후 날짜 해시 HMGET 파이프라인 한 번
+@Tag("benchmark")
+class AvailableSlotReadBenchmarkTest {
+    private static final int THREADS = 32;
+    private static final int REQUESTS_PER_THREAD = 2_000;
+    private static final Long STORE_ID = 900_101L;
+    private static final int DAYS = 60;
+    private static final LocalDate START_DATE = LocalDate.now().plusDays(1);
+    private static final LocalTime OPENING_TIME = LocalTime.of(10, 0);
+    private static final LocalTime CLOSING_TIME = LocalTime.of(20, 0);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisSlotService redisSlotService;
+    private static List<LocalTime> slotTimes;
+
+    private static final String JDBC_URL = System.getProperty("benchmark.mysql.url", "jdbc:mysql://localhost:3306/poppy_benchmark");
+    private static final String JDBC_USER = System.getProperty("benchmark.mysql.user", "root");
+    private static final String JDBC_PASSWORD = System.getProperty("benchmark.mysql.password", "");
+
+    @BeforeAll
+    static void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getProperty("benchmark.redis.host", "localhost"),
+                Integer.parseInt(System.getProperty("benchmark.redis.port", "6379")));
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+
+        StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.afterPropertiesSet();
+        redisSlotService = new RedisSlotService(stringRedisTemplate);
+
+        slotTimes = new ArrayList<>();
+        for (LocalTime time = OPENING_TIME; time.isBefore(CLOSING_TIME); time = time.plusHours(1)) slotTimes.add(time);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (connectionFactory != null) connectionFactory.destroy();
+    }
+
+    @Test
+    void DB_조회와_Redis_조회_지연_시간_비교() throws Exception {
+        assumeTrue(isRedisAvailable(), "Redis not available, skipping benchmark");
+        assumeTrue(isMysqlAvailable(), "MySQL not available, skipping benchmark");
+
+        seedRedis();
+        seedMysql();
+        try {
+            // JIT 워밍업
+            run(AvailableSlotReadBenchmarkTest::readFromDb);
+            run(AvailableSlotReadBenchmarkTest::readFromRedis);
+
+            long[] db = run(AvailableSlotReadBenchmarkTest::readFromDb);
+            long[] redis = run(AvailableSlotReadBenchmarkTest::readFromRedis);
+
+            System.out.printf("[slot read benchmark] DB p50: %.2f ms, p99: %.2f ms / Redis p50: %.2f ms, p99: %.2f ms%n",
+                    percentile(db, 50), percentile(db, 99), percentile(redis, 50), percentile(redis, 99));
+        } finally {
+            redisSlotService.clearStore(STORE_ID);
+            dropMysql();
+        }
+    }
+
+    // 모든 요청의 지연 시간(ns)을 정렬해 반환
+    private long[] run(SlotRead read) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch latch = new CountDownLatch(THREADS);
+        long[] latencies = new long[THREADS * REQUESTS_PER_THREAD];
+
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t * REQUESTS_PER_THREAD;
+            executor.submit(() -> {
+                try (Connection connection = DriverManager.getConnection(JDBC_URL, JDBC_USER, JDBC_PASSWORD)) {
+                    for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                        LocalDate date = START_DATE.plusDays((offset + i) % DAYS);
+                        long start = System.nanoTime();
+                        read.read(connection, date);
+                        latencies[offset + i] = System.nanoTime() - start;
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static void readFromDb(Connection connection, LocalDate date) throws SQLException {
+        try (PreparedStatement store = connection.prepareStatement(
+                "SELECT id, opening_time, closing_time FROM benchmark_popup_store WHERE id = ?")) {
+            store.setLong(1, STORE_ID);
+            try (ResultSet rs = store.executeQuery()) {
+                rs.next();
+            }
+        }
+
+        try (PreparedStatement slots = connection.prepareStatement(
+                "SELECT date, time, available_slot FROM benchmark_slot WHERE popup_store_id = ? AND date = ?")) {
+            slots.setLong(1, STORE_ID);
+            slots.setDate(2, Date.valueOf(date));
+            try (ResultSet rs = slots.executeQuery()) {
+                while (rs.next()) rs.getInt(3);
+            }
+        }
+    }
+
+    private static void readFromRedis(Connection connection, LocalDate date) {
+        redisSlotService.getSlotsFromRedis(STORE_ID, Map.of(date, slotTimes), 1);
+    }
+
+    private void seedRedis() {
+        redisSlotService.clearStore(STORE_ID);
+
+        Map<LocalDate, Map<LocalTime, Integer>> slotsByDate = new HashMap<>();
+        for (int day = 0; day < DAYS; day++) {
+            Map<LocalTime, Integer> slots = new HashMap<>();
+            slotTimes.forEach(time -> slots.put(time, 10));
+            slotsByDate.put(START_DATE.plusDays(day), slots);
+        }
+        redisSlotService.initializeSlots(STORE_ID, 1, slotsByDate);
+    }
+
+    // 실제 스키마와 같은 (popup_store_id, date) 조건으로 조회하도록 인덱스를 둔 별도 테이블 사용
+    private void seedMysql() throws SQLException {
+        dropMysql();
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, JDBC_USER, JDBC_PASSWORD);
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE benchmark_popup_store (id BIGINT PRIMARY KEY, opening_time TIME, closing_time TIME)");
+            statement.execute("CREATE TABLE benchmark_slot (id BIGINT AUTO_INCREMENT PRIMARY KEY, popup_store_id BIGINT, "
+                    + "date DATE, time TIME, available_slot INT, INDEX idx_store_date (popup_store_id, date))");
+            statement.execute("INSERT INTO benchmark_popup_store VALUES (" + STORE_ID + ", '10:00:00', '20:00:00')");
+
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO benchmark_slot (popup_store_id, date, time, available_slot) VALUES (?, ?, ?, ?)")) {
+                for (int day = 0; day < DAYS; day++) {
+                    for (LocalTime time : slotTimes) {
+                        insert.setLong(1, STORE_ID);
+                        insert.setDate(2, Date.valueOf(START_DATE.plusDays(day)));
+                        insert.setTime(3, Time.valueOf(time));
+                        insert.setInt(4, 10);
+                        insert.addBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+        }
+    }
+
+    private void dropMysql() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, JDBC_USER, JDBC_PASSWORD);
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS benchmark_slot");
+            statement.execute("DROP TABLE IF EXISTS benchmark_popup_store");
+        }
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static boolean isRedisAvailable() {
+        try {
+            connectionFactory.getConnection().ping();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static boolean isMysqlAvailable() {
+        try (Connection ignored = DriverManager.getConnection(JDBC_URL, JDBC_USER, JDBC_PASSWORD)) {
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    private interface SlotRead {
+        void read(Connection connection, LocalDate date) throws Exception;
+    }
+}
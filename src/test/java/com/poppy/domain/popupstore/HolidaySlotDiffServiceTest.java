@@ -0,0 +1,139 @@
+package com.poppy.domain.popupstore;
+
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.popupStore.service.HolidaySlotDiff;
+import com.poppy.domain.popupStore.service.HolidaySlotDiffService;
+import com.poppy.domain.popupStore.service.PopupStoreCalendarService;
+import com.poppy.domain.reservation.entity.PopupStoreStatus;
+import com.poppy.domain.reservation.entity.ReservationAvailableSlot;
+import com.poppy.domain.reservation.repository.ReservationAvailableSlotJdbcRepository;
+import com.poppy.domain.reservation.repository.ReservationAvailableSlotRepository;
+import com.poppy.domain.reservation.service.RedisSlotService;
+import com.poppy.domain.reservation.service.SlotAvailabilityPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HolidaySlotDiffServiceTest {
+    @Mock
+    private ReservationAvailableSlotRepository reservationAvailableSlotRepository;
+    @Mock
+    private ReservationAvailableSlotJdbcRepository reservationAvailableSlotJdbcRepository;
+    @Mock
+    private RedisSlotService redisSlotService;
+    @Mock
+    private SlotAvailabilityPublisher slotAvailabilityPublisher;
+    @Mock
+    private PopupStoreCalendarService popupStoreCalendarService;
+
+    @InjectMocks
+    private HolidaySlotDiffService holidaySlotDiffService;
+
+    private PopupStore popupStore;
+    private LocalDate day1;
+    private LocalDate day2;
+    private LocalDate day3;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        day1 = startDate;
+        day2 = startDate.plusDays(1);
+        day3 = startDate.plusDays(2);
+
+        // 4일 운영, 하루 2개 슬롯 (10시, 11시), 전체 12명
+        popupStore = PopupStore.builder()
+                .id(1L)
+                .name("테스트 팝업")
+                .startDate(startDate)
+                .endDate(startDate.plusDays(3))
+                .openingTime(LocalTime.of(10, 0))
+                .closingTime(LocalTime.of(12, 0))
+                .availableSlot(12)
+                .build();
+    }
+
+    @Test
+    void 바뀐_날짜의_슬롯만_교체() {
+        // given (기존 휴무일 day1, day2 -> 요청 휴무일 day2, day3)
+        when(reservationAvailableSlotRepository.findByPopupStoreIdAndStatus(1L, PopupStoreStatus.HOLIDAY))
+                .thenReturn(List.of(holidaySlot(day1), holidaySlot(day2)));
+
+        // when
+        HolidaySlotDiff diff = holidaySlotDiffService.applyHolidays(popupStore, Set.of(day2, day3));
+
+        // then
+        assertThat(diff.getAddedHolidays()).containsExactly(day3);
+        assertThat(diff.getRemovedHolidays()).containsExactly(day1);
+
+        verify(reservationAvailableSlotJdbcRepository).deleteSlotsByDates(eq(1L), eq(Set.of(day1, day3)));
+        // 변경 후 운영 슬롯 4개에 12명 배분 -> 다시 열린 day1 슬롯당 3명
+        verify(reservationAvailableSlotJdbcRepository).insertSlots(eq(1L), argThat(slots ->
+                slots.size() == 4
+                        && slots.stream().filter(slot -> slot.getDate().equals(day3))
+                                .allMatch(slot -> slot.getStatus() == PopupStoreStatus.HOLIDAY)
+                        && slots.stream().filter(slot -> slot.getDate().equals(day1))
+                                .allMatch(slot -> slot.getStatus() == PopupStoreStatus.AVAILABLE && slot.getAvailableSlot() == 3)));
+
+        verify(redisSlotService).clearDates(1L, 1, Set.of(day3));
+        verify(redisSlotService).initializeSlots(1L, 1, Map.of(day1, Map.of(LocalTime.of(10, 0), 3, LocalTime.of(11, 0), 3)));
+        verify(slotAvailabilityPublisher).markClosed(1L, day3, List.of(LocalTime.of(10, 0), LocalTime.of(11, 0)));
+        verify(slotAvailabilityPublisher, times(2)).markChanged(eq(1L), eq(1), eq(day1), any());
+        verify(popupStoreCalendarService).evict(1L);
+    }
+
+    @Test
+    void 다시_열린_슬롯도_나머지_인원을_앞선_운영_슬롯부터_배분() {
+        // given (전체 13명, 변경 후 운영 슬롯 4개 -> 슬롯당 3명, 나머지 1명은 첫 운영 슬롯인 day1 10시에 배분)
+        ReflectionTestUtils.setField(popupStore, "availableSlot", 13);
+        when(reservationAvailableSlotRepository.findByPopupStoreIdAndStatus(1L, PopupStoreStatus.HOLIDAY))
+                .thenReturn(List.of(holidaySlot(day1), holidaySlot(day2)));
+
+        // when
+        holidaySlotDiffService.applyHolidays(popupStore, Set.of(day2, day3));
+
+        // then
+        verify(redisSlotService).initializeSlots(1L, 1, Map.of(day1, Map.of(LocalTime.of(10, 0), 4, LocalTime.of(11, 0), 3)));
+    }
+
+    @Test
+    void 휴무일이_같으면_슬롯을_건드리지_않음() {
+        // given
+        when(reservationAvailableSlotRepository.findByPopupStoreIdAndStatus(1L, PopupStoreStatus.HOLIDAY))
+                .thenReturn(List.of(holidaySlot(day1), holidaySlot(day2)));
+
+        // when
+        HolidaySlotDiff diff = holidaySlotDiffService.applyHolidays(popupStore, Set.of(day1, day2));
+
+        // then
+        assertThat(diff.isEmpty()).isTrue();
+        verifyNoInteractions(reservationAvailableSlotJdbcRepository, redisSlotService, slotAvailabilityPublisher, popupStoreCalendarService);
+    }
+
+    private ReservationAvailableSlot holidaySlot(LocalDate date) {
+        return ReservationAvailableSlot.builder()
+                .popupStore(popupStore)
+                .date(date)
+                .time(LocalTime.of(10, 0))
+                .availableSlot(0)
+                .totalSlot(0)
+                .status(PopupStoreStatus.HOLIDAY)
+                .build();
+    }
+}
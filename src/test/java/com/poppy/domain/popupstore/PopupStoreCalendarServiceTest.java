@@ -0,0 +1,144 @@
+package com.poppy.domain.popupstore;
+
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.popupStore.service.PopupStoreCalendarService;
+import com.poppy.domain.popupStore.service.StoreHours;
+import com.poppy.domain.reservation.entity.PopupStoreStatus;
+import com.poppy.domain.reservation.entity.ReservationAvailableSlot;
+import com.poppy.domain.reservation.repository.ReservationAvailableSlotRepository;
+import com.poppy.domain.reservation.service.RedisSlotService;
+import com.poppy.domain.reservation.service.ReservationHoldService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PopupStoreCalendarServiceTest {
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+    @Mock
+    private ReservationAvailableSlotRepository reservationAvailableSlotRepository;
+    @Mock
+    private RedisSlotService redisSlotService;
+    @Mock
+    private ReservationHoldService reservationHoldService;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private PopupStoreCalendarService calendarService;
+    private PopupStore popupStore;
+    private StoreHours storeHours;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        calendarService = new PopupStoreCalendarService(stringRedisTemplate, reservationAvailableSlotRepository,
+                redisSlotService, reservationHoldService);
+        ReflectionTestUtils.setField(calendarService, "enabled", true);
+        ReflectionTestUtils.setField(calendarService, "ttlSeconds", 600L);
+
+        today = LocalDate.now();
+        popupStore = PopupStore.builder()
+                .id(1L)
+                .name("테스트 팝업")
+                .startDate(today)
+                .endDate(today.plusDays(2))
+                .openingTime(LocalTime.of(10, 0))
+                .closingTime(LocalTime.of(12, 0))
+                .build();
+        storeHours = StoreHours.of(popupStore, Set.of(), Long.MAX_VALUE);
+
+        doReturn(hashOperations).when(stringRedisTemplate).opsForHash();
+    }
+
+    @Test
+    void 저장된_캘린더로_DB_조회_없이_날짜별_상태_계산() {
+        // given
+        when(hashOperations.entries("calendar:1")).thenReturn(Map.of(
+                "built", "1",
+                today.toString(), "2",
+                today + ":total", "2",
+                today.plusDays(1).toString(), "H"
+        ));
+
+        // when
+        Map<LocalDate, PopupStoreStatus> statuses = calendarService.getStatuses(storeHours, today);
+
+        // then
+        assertThat(statuses).containsEntry(today, PopupStoreStatus.FULL)
+                .containsEntry(today.plusDays(1), PopupStoreStatus.HOLIDAY)
+                .containsEntry(today.plusDays(2), PopupStoreStatus.AVAILABLE);
+        verify(reservationAvailableSlotRepository, never()).findByPopupStoreIdAndDateBetween(any(), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 캘린더가_없으면_DB에서_생성해_저장() {
+        // given
+        when(hashOperations.entries("calendar:1")).thenReturn(Map.of());
+        when(reservationAvailableSlotRepository.findByPopupStoreIdAndDateBetween(1L, today, today.plusDays(2))).thenReturn(List.of(
+                slot(today, LocalTime.of(10, 0), 0, PopupStoreStatus.FULL),
+                slot(today, LocalTime.of(11, 0), 3, PopupStoreStatus.AVAILABLE),
+                slot(today.plusDays(1), LocalTime.of(10, 0), 0, PopupStoreStatus.FULL),
+                slot(today.plusDays(1), LocalTime.of(11, 0), 0, PopupStoreStatus.FULL)
+        ));
+
+        // when
+        Map<LocalDate, PopupStoreStatus> statuses = calendarService.getStatuses(storeHours, today);
+
+        // then
+        assertThat(statuses).containsEntry(today, PopupStoreStatus.AVAILABLE)
+                .containsEntry(today.plusDays(1), PopupStoreStatus.FULL)
+                .containsEntry(today.plusDays(2), PopupStoreStatus.AVAILABLE);
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of("calendar:1", "calendar:full:1")), any(Object[].class));
+    }
+
+    @Test
+    void 스크립트_모드는_Redis_잔여_수량으로_마감_여부_판단() {
+        // given (DB 슬롯 행은 아직 예약 가능이지만 Redis 카운터는 모두 소진)
+        ReflectionTestUtils.setField(calendarService, "atomicSlotScriptEnabled", true);
+        when(hashOperations.entries("calendar:1")).thenReturn(Map.of());
+        when(reservationAvailableSlotRepository.findByPopupStoreIdAndDateBetween(1L, today, today.plusDays(2))).thenReturn(List.of(
+                slot(today, LocalTime.of(10, 0), 3, PopupStoreStatus.AVAILABLE),
+                slot(today, LocalTime.of(11, 0), 3, PopupStoreStatus.AVAILABLE)
+        ));
+        when(redisSlotService.getSlotsFromRedis(1L, Map.of(today, List.of(LocalTime.of(10, 0), LocalTime.of(11, 0))), 1))
+                .thenReturn(Map.of(
+                        LocalDateTime.of(today, LocalTime.of(10, 0)), 0,
+                        LocalDateTime.of(today, LocalTime.of(11, 0)), 0));
+
+        // when
+        Map<LocalDate, PopupStoreStatus> statuses = calendarService.getStatuses(storeHours, today);
+
+        // then
+        assertThat(statuses).containsEntry(today, PopupStoreStatus.FULL);
+    }
+
+    private ReservationAvailableSlot slot(LocalDate date, LocalTime time, int availableSlot, PopupStoreStatus status) {
+        return ReservationAvailableSlot.builder()
+                .popupStore(popupStore)
+                .date(date)
+                .time(time)
+                .availableSlot(availableSlot)
+                .totalSlot(3)
+                .status(status)
+                .build();
+    }
+}
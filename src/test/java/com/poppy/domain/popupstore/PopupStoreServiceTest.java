@@ -3,11 +3,19 @@ package com.poppy.domain.popupstore;
 import com.poppy.common.entity.Images;
 import com.poppy.common.exception.BusinessException;
 import com.poppy.domain.popupStore.dto.response.PopupStoreRspDto;
+import com.poppy.domain.popupStore.dto.response.ReservationAvailableSlotRspDto;
 import com.poppy.domain.popupStore.entity.PopupStore;
 import com.poppy.domain.popupStore.entity.ReservationType;
 import com.poppy.domain.popupStore.repository.PopupStoreRepository;
 import com.poppy.domain.popupStore.repository.PopupStoreViewRepository;
 import com.poppy.domain.popupStore.service.PopupStoreService;
+import com.poppy.domain.popupStore.service.StoreHours;
+import com.poppy.domain.popupStore.service.StoreHoursCache;
+import com.poppy.domain.reservation.entity.PopupStoreStatus;
+import com.poppy.domain.reservation.entity.ReservationAvailableSlot;
+import com.poppy.domain.reservation.repository.ReservationAvailableSlotJdbcRepository;
+import com.poppy.domain.reservation.repository.ReservationAvailableSlotRepository;
+import com.poppy.domain.reservation.service.RedisSlotService;
 import com.poppy.domain.storeCategory.entity.StoreCategory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,15 +30,23 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +55,14 @@ class PopupStoreServiceTest {
     private PopupStoreRepository popupStoreRepository;
     @Mock
     private PopupStoreViewRepository popupStoreViewRepository;
+    @Mock
+    private ReservationAvailableSlotRepository reservationAvailableSlotRepository;
+    @Mock
+    private ReservationAvailableSlotJdbcRepository reservationAvailableSlotJdbcRepository;
+    @Mock
+    private RedisSlotService redisSlotService;
+    @Mock
+    private StoreHoursCache storeHoursCache;
 
     @InjectMocks
     private PopupStoreService popupStoreService;
@@ -211,4 +235,96 @@ class PopupStoreServiceTest {
             verify(popupStoreRepository).findAllFuturePopupStores(any());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("예약 가능 시간대 조회 테스트")
+    class GetAvailableSlotsTest {
+        private LocalDate date;
+
+        @BeforeEach
+        void setUp() {
+            date = store1.getStartDate();
+            ReflectionTestUtils.setField(popupStoreService, "redisSlotReadEnabled", true);
+            when(storeHoursCache.get(1L)).thenReturn(StoreHours.of(store1, Set.of(), Long.MAX_VALUE));
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void Redis_재고로_DB_조회_없이_응답() {
+            // given
+            when(redisSlotService.getSlotsFromRedis(eq(1L), anyMap(), eq(1))).thenAnswer(inv -> {
+                Map<LocalDate, Collection<LocalTime>> timesByDate = inv.getArgument(1);
+                Map<LocalDateTime, Integer> counts = new HashMap<>();
+                timesByDate.get(date).forEach(time -> counts.put(LocalDateTime.of(date, time), time.getHour() == 10 ? 0 : 5));
+                return counts;
+            });
+
+            // when
+            List<ReservationAvailableSlotRspDto> result = popupStoreService.getAvailableSlots(1L, date);
+
+            // then
+            assertThat(result).hasSize(10);
+            assertThat(result.get(0).getTime()).isEqualTo("10:00");
+            assertThat(result.get(0).isAvailable()).isFalse();
+            assertThat(result.get(1).getAvailableSlot()).isEqualTo(5);
+            assertThat(result.get(1).isAvailable()).isTrue();
+            verify(popupStoreRepository, never()).findById(any());
+            verify(reservationAvailableSlotRepository, never()).findByPopupStoreAndDate(any(), any());
+        }
+
+        @Test
+        void Redis에_없는_슬롯이_있으면_DB_조회() {
+            // given
+            when(redisSlotService.getSlotsFromRedis(eq(1L), anyMap(), eq(1))).thenReturn(Map.of());
+            when(popupStoreRepository.findById(1L)).thenReturn(Optional.of(store1));
+            when(reservationAvailableSlotRepository.findByPopupStoreAndDate(store1, date)).thenReturn(List.of(
+                    ReservationAvailableSlot.builder()
+                            .popupStore(store1)
+                            .date(date)
+                            .time(LocalTime.of(10, 0))
+                            .availableSlot(3)
+                            .totalSlot(10)
+                            .status(PopupStoreStatus.AVAILABLE)
+                            .build()
+            ));
+
+            // when
+            List<ReservationAvailableSlotRspDto> result = popupStoreService.getAvailableSlots(1L, date);
+
+            // then
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).getAvailableSlot()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("예약 슬롯 초기화 테스트")
+    class InitializeSlotsTest {
+        @Test
+        void 휴무일을_제외한_슬롯을_JDBC로_일괄_저장() {
+            // given
+            LocalDate holiday = store1.getStartDate();
+            when(popupStoreRepository.findById(1L)).thenReturn(Optional.of(store1));
+            when(reservationAvailableSlotRepository.findByPopupStoreIdAndStatus(1L, PopupStoreStatus.HOLIDAY)).thenReturn(List.of(
+                    ReservationAvailableSlot.builder()
+                            .popupStore(store1)
+                            .date(holiday)
+                            .time(LocalTime.of(10, 0))
+                            .availableSlot(0)
+                            .totalSlot(0)
+                            .status(PopupStoreStatus.HOLIDAY)
+                            .build()
+            ));
+
+            // when
+            popupStoreService.initializeSlots(1L);
+
+            // then (운영 30일 중 휴무일 1일 제외, 하루 10개 슬롯에 전체 인원 100명 배분)
+            verify(reservationAvailableSlotJdbcRepository).insertSlots(eq(1L), argThat(slots ->
+                    slots.size() == 290
+                            && slots.stream().noneMatch(slot -> slot.getDate().equals(holiday))
+                            && slots.stream().mapToInt(ReservationAvailableSlot::getTotalSlot).sum() == 100));
+            verify(reservationAvailableSlotRepository, never()).saveAll(any());
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.poppy.domain.popupstore;
+
+import com.poppy.domain.reservation.entity.PopupStoreStatus;
+import com.poppy.domain.reservation.entity.ReservationAvailableSlot;
+import com.poppy.domain.reservation.repository.ReservationAvailableSlotJdbcRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// 운영 기간별 팝업 스토어 슬롯 생성 시간 비교 (로컬 MySQL 필요: ./gradlew benchmark)
+// 행 단위: IDENTITY 키 엔티티를 saveAll 할 때와 같이 행마다 INSERT 후 생성 키 조회
+// 다중 행: ReservationAvailableSlotJdbcRepository.insertSlots (청크당 INSERT 한 번)
+@Tag("benchmark")
+class SlotGenerationBenchmarkTest {
+    private static final Long STORE_ID = 900_201L;
+    private static final int[] RUN_LENGTH_DAYS = {7, 30, 90, 180};
+    private static final int REPEAT = 5;
+    private static final LocalDate START_DATE = LocalDate.now().plusDays(1);
+    private static final LocalTime OPENING_TIME = LocalTime.of(10, 0);
+    private static final LocalTime CLOSING_TIME = LocalTime.of(22, 0);
+
+    private static final String JDBC_URL = System.getProperty("benchmark.mysql.url", "jdbc:mysql://localhost:3306/poppy_benchmark");
+    private static final String JDBC_USER = System.getProperty("benchmark.mysql.user", "root");
+    private static final String JDBC_PASSWORD = System.getProperty("benchmark.mysql.password", "");
+
+    @Test
+    void 운영_기간별_슬롯_생성_시간_비교() throws Exception {
+        assumeTrue(isMysqlAvailable(), "MySQL not available, skipping benchmark");
+
+        createTable();
+        try {
+            // JIT 워밍업
+            measure(SlotGenerationBenchmarkTest::insertRowByRow, slots(30));
+            measure(SlotGenerationBenchmarkTest::insertMultiRow, slots(30));
+
+            for (int days : RUN_LENGTH_DAYS) {
+                List<ReservationAvailableSlot> slots = slots(days);
+                double rowByRow = measure(SlotGenerationBenchmarkTest::insertRowByRow, slots);
+                double multiRow = measure(SlotGenerationBenchmarkTest::insertMultiRow, slots);
+
+                System.out.printf("[slot generation benchmark] %d days (%d slots) row-by-row: %.1f ms, multi-row: %.1f ms%n",
+                        days, slots.size(), rowByRow, multiRow);
+            }
+        } finally {
+            dropTable();
+        }
+    }
+
+    // REPEAT회 실행 중 중앙값(ms) 반환, 매 실행 전 테이블 비움
+    private double measure(SlotInsert insert, List<ReservationAvailableSlot> slots) throws Exception {
+        List<Long> elapsed = new ArrayList<>();
+        for (int i = 0; i < REPEAT; i++) {
+            truncateTable();
+            try (Connection connection = DriverManager.getConnection(JDBC_URL, JDBC_USER, JDBC_PASSWORD)) {
+                connection.setAutoCommit(false);
+                long start = System.nanoTime();
+                insert.insert(connection, slots);
+                connection.commit();
+                elapsed.add(System.nanoTime() - start);
+            }
+        }
+
+        elapsed.sort(Long::compare);
+        return elapsed.get(elapsed.size() / 2) / 1_000_000.0;
+    }
+
+    private static void insertRowByRow(Connection connection, List<ReservationAvailableSlot> slots) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO reservation_available_slots (popup_store_id, date, time, available_slot, total_slot, status, version) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, 0)", Statement.RETURN_GENERATED_KEYS)) {
+            for (ReservationAvailableSlot slot : slots) {
+                insert.setLong(1, STORE_ID);
+                insert.setDate(2, Date.valueOf(slot.getDate()));
+                insert.setTime(3, Time.valueOf(slot.getTime()));
+                insert.setInt(4, slot.getAvailableSlot());
+                insert.setInt(5, slot.getTotalSlot());
+                insert.setString(6, slot.getStatus().name());
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                }
+            }
+        }
+    }
+
+    private static void insertMultiRow(Connection connection, List<ReservationAvailableSlot> slots) {
+        // 같은 커넥션(트랜잭션)에서 실행되도록 커넥션을 닫지 않는 데이터소스로 감쌈
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(connection, true);
+        new ReservationAvailableSlotJdbcRepository(new JdbcTemplate(dataSource)).insertSlots(STORE_ID, slots);
+    }
+
+    private static List<ReservationAvailableSlot> slots(int days) {
+        List<ReservationAvailableSlot> slots = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            for (LocalTime time = OPENING_TIME; time.isBefore(CLOSING_TIME); time = time.plusHours(1)) {
+                slots.add(ReservationAvailableSlot.builder()
+                        .date(START_DATE.plusDays(day))
+                        .time(time)
+                        .availableSlot(10)
+                        .totalSlot(10)
+                        .status(PopupStoreStatus.AVAILABLE)
+                        .build());
+            }
+        }
+        return slots;
+    }
+
+    // 실제 스키마와 같은 컬럼, 인덱스를 둔 테이블 (벤치마크 전용 스키마에 생성)
+    private void createTable() throws SQLException {
+        dropTable();
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, JDBC_USER, JDBC_PASSWORD);
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE reservation_available_slots (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                    + "popup_store_id BIGINT, date DATE, time TIME, available_slot INT, total_slot INT, "
+                    + "status VARCHAR(20), version BIGINT NOT NULL, INDEX idx_store_date (popup_store_id, date))");
+        }
+    }
+
+    private void truncateTable() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, JDBC_USER, JDBC_PASSWORD);
+             Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE reservation_available_slots");
+        }
+    }
+
+    private void dropTable() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, JDBC_USER, JDBC_PASSWORD);
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS reservation_available_slots");
+        }
+    }
+
+    private static boolean isMysqlAvailable() {
+        try (Connection ignored = DriverManager.getConnection(JDBC_URL, JDBC_USER, JDBC_PASSWORD)) {
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    private interface SlotInsert {
+        void insert(Connection connection, List<ReservationAvailableSlot> slots) throws Exception;
+    }
+}
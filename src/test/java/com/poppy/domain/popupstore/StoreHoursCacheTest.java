@@ -0,0 +1,103 @@
+package com.poppy.domain.popupstore;
+
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.popupStore.repository.PopupStoreRepository;
+import com.poppy.domain.popupStore.service.StoreHoursCache;
+import com.poppy.domain.reservation.entity.PopupStoreStatus;
+import com.poppy.domain.reservation.repository.ReservationAvailableSlotRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StoreHoursCacheTest {
+    @Mock
+    private PopupStoreRepository popupStoreRepository;
+    @Mock
+    private ReservationAvailableSlotRepository reservationAvailableSlotRepository;
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    @InjectMocks
+    private StoreHoursCache storeHoursCache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(storeHoursCache, "ttlMillis", 60_000L);
+        when(popupStoreRepository.findById(1L)).thenReturn(Optional.of(PopupStore.builder()
+                .id(1L)
+                .openingTime(LocalTime.of(10, 0))
+                .closingTime(LocalTime.of(12, 0))
+                .build()));
+        when(reservationAvailableSlotRepository.findByPopupStoreIdAndStatus(1L, PopupStoreStatus.HOLIDAY))
+                .thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 수정_후_로컬_캐시를_비우고_전파() {
+        // given
+        storeHoursCache.get(1L);
+
+        // when (트랜잭션 밖에서는 바로 전파)
+        storeHoursCache.evictAfterCommit(1L);
+        storeHoursCache.get(1L);
+
+        // then
+        verify(stringRedisTemplate).convertAndSend(StoreHoursCache.HOURS_EVENT_TOPIC, "1");
+        verify(popupStoreRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void 트랜잭션_중에는_커밋_후에_전파() {
+        // given
+        storeHoursCache.get(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        storeHoursCache.evictAfterCommit(1L);
+
+        // then
+        verifyNoInteractions(stringRedisTemplate);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(stringRedisTemplate).convertAndSend(StoreHoursCache.HOURS_EVENT_TOPIC, "1");
+    }
+
+    @Test
+    void 다른_인스턴스의_무효화_이벤트_반영() {
+        // given
+        storeHoursCache.get(1L);
+
+        // when
+        storeHoursCache.onMessage(new DefaultMessage(
+                StoreHoursCache.HOURS_EVENT_TOPIC.getBytes(StandardCharsets.UTF_8),
+                "1".getBytes(StandardCharsets.UTF_8)), null);
+        storeHoursCache.get(1L);
+
+        // then
+        verify(popupStoreRepository, times(2)).findById(1L);
+        verifyNoInteractions(stringRedisTemplate);
+    }
+}
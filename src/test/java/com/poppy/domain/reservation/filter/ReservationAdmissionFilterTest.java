@@ -0,0 +1,172 @@
+package com.poppy.domain.reservation.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poppy.domain.reservation.service.AdmissionControlService;
+import com.poppy.domain.reservation.service.AdmissionResult;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationAdmissionFilterTest {
+    @Mock
+    private AdmissionControlService admissionControlService;
+    @Mock
+    private FilterChain filterChain;
+
+    private ReservationAdmissionFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    private final String body = "{\"popupStoreId\":1,\"date\":\"2024.12.05\",\"time\":\"14:00\",\"person\":2}";
+
+    @BeforeEach
+    void setUp() {
+        filter = new ReservationAdmissionFilter(admissionControlService, new ObjectMapper());
+
+        request = new MockHttpServletRequest("POST", "/reservation");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        response = new MockHttpServletResponse();
+
+        when(admissionControlService.isEnabled()).thenReturn(true);
+
+        // 인증 필터가 설정한 로그인 유저 (이름: 유저 ID)
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "7", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 입장_허용_시_요청_본문을_그대로_전달() throws Exception {
+        // given
+        when(admissionControlService.admit(1L, 7L)).thenReturn(AdmissionResult.admitted(1L));
+
+        // when
+        filter.doFilter(request, response, filterChain);
+
+        // then
+        ArgumentCaptor<ServletRequest> captor = ArgumentCaptor.forClass(ServletRequest.class);
+        verify(filterChain).doFilter(captor.capture(), any());
+        assertThat(new String(captor.getValue().getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(body);
+    }
+
+    @Test
+    void 비동기_읽기_등록_시_보관한_본문을_바로_읽을_수_있음() throws Exception {
+        // given
+        when(admissionControlService.admit(1L, 7L)).thenReturn(AdmissionResult.admitted(1L));
+        filter.doFilter(request, response, filterChain);
+
+        ArgumentCaptor<ServletRequest> captor = ArgumentCaptor.forClass(ServletRequest.class);
+        verify(filterChain).doFilter(captor.capture(), any());
+        ServletInputStream input = captor.getValue().getInputStream();
+
+        ReadListener listener = mock(ReadListener.class);
+        StringBuilder read = new StringBuilder();
+        doAnswer(invocation -> {
+            while (input.isReady() && !input.isFinished()) read.append((char) input.read());
+            return null;
+        }).when(listener).onDataAvailable();
+
+        // when
+        input.setReadListener(listener);
+
+        // then
+        assertThat(read.toString()).isEqualTo(body);
+        verify(listener).onAllDataRead();
+        verify(listener, never()).onError(any());
+    }
+
+    @Test
+    void 대기열_등록_시_대기_번호와_재요청_시간_응답() throws Exception {
+        // given
+        when(admissionControlService.admit(1L, 7L)).thenReturn(AdmissionResult.queued(120L, 30L, 1500L));
+
+        // when
+        filter.doFilter(request, response, filterChain);
+
+        // then
+        verify(filterChain, never()).doFilter(any(), any());
+        assertThat(response.getStatus()).isEqualTo(202);
+        assertThat(response.getHeader(ReservationAdmissionFilter.TICKET_HEADER)).isEqualTo("120");
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains("\"position\":30");
+    }
+
+    @Test
+    void 대기열이_가득_차면_429_응답() throws Exception {
+        // given
+        when(admissionControlService.admit(1L, 7L)).thenReturn(AdmissionResult.dropped(5000L));
+
+        // when
+        filter.doFilter(request, response, filterChain);
+
+        // then
+        verify(filterChain, never()).doFilter(any(), any());
+        assertThat(response.getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void 예약_생성_요청이_아니면_입장_제어하지_않음() throws Exception {
+        // given
+        MockHttpServletRequest getRequest = new MockHttpServletRequest("GET", "/reservation");
+
+        // when
+        filter.doFilter(getRequest, response, filterChain);
+
+        // then
+        verify(filterChain).doFilter(getRequest, response);
+        verify(admissionControlService, never()).admit(any(), any());
+    }
+
+    @Test
+    void 다른_유저의_대기_번호_헤더는_입장_판정에_사용하지_않음() throws Exception {
+        // given
+        request.addHeader(ReservationAdmissionFilter.TICKET_HEADER, "3");
+        when(admissionControlService.admit(1L, 7L)).thenReturn(AdmissionResult.queued(120L, 30L, 1500L));
+
+        // when
+        filter.doFilter(request, response, filterChain);
+
+        // then
+        verify(admissionControlService).admit(1L, 7L);
+        verify(filterChain, never()).doFilter(any(), any());
+        assertThat(response.getHeader(ReservationAdmissionFilter.TICKET_HEADER)).isEqualTo("120");
+    }
+
+    @Test
+    void 로그인_유저를_알_수_없으면_입장_제어_없이_통과() throws Exception {
+        // given
+        SecurityContextHolder.clearContext();
+
+        // when
+        filter.doFilter(request, response, filterChain);
+
+        // then
+        verify(filterChain).doFilter(any(), any());
+        verify(admissionControlService, never()).admit(any(), any());
+    }
+}
@@ -0,0 +1,76 @@
+package com.poppy.domain.reservation.repository;
+
+import com.poppy.domain.reservation.service.SlotDelta;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationAvailableSlotJdbcRepositoryTest {
+    private static final LocalDate DATE = LocalDate.of(2024, 12, 5);
+    private static final LocalTime TIME = LocalTime.of(14, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ReservationAvailableSlotJdbcRepository repository;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 이미_반영한_메시지는_건너뛰고_나머지만_슬롯별로_합산해_반영() {
+        // given (1-0은 ACK 전 장애로 다시 전달된 메시지)
+        Map<String, SlotDelta> deltas = new LinkedHashMap<>();
+        deltas.put("1-0", new SlotDelta(1L, DATE, TIME, -2));
+        deltas.put("2-0", new SlotDelta(1L, DATE, TIME, -1));
+        deltas.put("3-0", new SlotDelta(2L, DATE, TIME, 3));
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Object[].class))).thenReturn(List.of("1-0"));
+
+        // when
+        int applied = repository.applySlotDeltasOnce(deltas);
+
+        // then
+        assertThat(applied).isEqualTo(2);
+        verify(jdbcTemplate).update(startsWith("INSERT INTO slot_delta_applied"), eq("2-0"), any(), eq("3-0"), any());
+
+        ArgumentCaptor<Collection<SlotDelta>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        List<SlotDelta> updates = new ArrayList<>(captor.getValue());
+        assertThat(updates).hasSize(2);
+        assertThat(updates.get(0).getStoreId()).isEqualTo(1L);
+        assertThat(updates.get(0).getDelta()).isEqualTo(-1);
+        assertThat(updates.get(1).getDelta()).isEqualTo(3);
+    }
+
+    @Test
+    void 모두_반영된_메시지면_아무것도_갱신하지_않음() {
+        // given
+        Map<String, SlotDelta> deltas = Map.of("1-0", new SlotDelta(1L, DATE, TIME, -2));
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Object[].class))).thenReturn(List.of("1-0"));
+
+        // when
+        int applied = repository.applySlotDeltasOnce(deltas);
+
+        // then
+        assertThat(applied).isZero();
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+}
@@ -0,0 +1,120 @@
+package com.poppy.domain.reservation.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// 분할 카운터 스토어의 일괄 선점 스크립트 확인 (로컬 Redis가 없으면 건너뜀)
+class RedisSlotGroupScriptTest {
+    private static final Long STORE_ID = 900_201L;
+    private static final int SHARDS = 4;
+    private static final LocalDate DAY1 = LocalDate.now().plusDays(1);
+    private static final LocalDate DAY2 = LocalDate.now().plusDays(2);
+    private static final LocalTime TIME = LocalTime.of(11, 0);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+    private static RedisSlotService redisSlotService;
+
+    @BeforeAll
+    static void setUpRedis() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getProperty("test.redis.host", "localhost"),
+                Integer.parseInt(System.getProperty("test.redis.port", "6379")));
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.afterPropertiesSet();
+
+        redisSlotService = new RedisSlotService(stringRedisTemplate);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        if (connectionFactory != null) connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(isRedisAvailable(), "Redis not available, skipping slot group script test");
+        redisSlotService.clearStore(STORE_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (isRedisAvailable()) redisSlotService.clearStore(STORE_ID);
+    }
+
+    @Test
+    void 분할_합계로_확인하고_여러_분할에서_나눠_선점() {
+        // given (분할마다 2명씩, 슬롯당 합계 8명)
+        redisSlotService.setSlotToRedis(STORE_ID, DAY1, TIME, 8, SHARDS);
+        redisSlotService.setSlotToRedis(STORE_ID, DAY2, TIME, 8, SHARDS);
+
+        // when (한 분할보다 많은 인원)
+        SlotReservationResult result = redisSlotService.tryReserveSlots(STORE_ID, List.of(
+                new SlotRequest(DAY1, TIME, 5),
+                new SlotRequest(DAY2, TIME, 3)), 1L, SHARDS);
+
+        // then
+        assertThat(result).isEqualTo(SlotReservationResult.OK);
+        assertThat(redisSlotService.getSlotFromRedis(STORE_ID, DAY1, TIME, SHARDS)).isEqualTo(3);
+        assertThat(redisSlotService.getSlotFromRedis(STORE_ID, DAY2, TIME, SHARDS)).isEqualTo(5);
+        assertThat(redisSlotService.releaseSlot(STORE_ID, DAY1, TIME, 5, 1L)).isEqualTo(SlotReleaseResult.RELEASED);
+        assertThat(redisSlotService.getSlotFromRedis(STORE_ID, DAY1, TIME, SHARDS)).isEqualTo(8);
+    }
+
+    @Test
+    void 한_슬롯이라도_부족하면_어느_분할도_차감하지_않음() {
+        // given
+        redisSlotService.setSlotToRedis(STORE_ID, DAY1, TIME, 8, SHARDS);
+        redisSlotService.setSlotToRedis(STORE_ID, DAY2, TIME, 2, SHARDS);
+
+        // when
+        SlotReservationResult result = redisSlotService.tryReserveSlots(STORE_ID, List.of(
+                new SlotRequest(DAY1, TIME, 5),
+                new SlotRequest(DAY2, TIME, 3)), 1L, SHARDS);
+
+        // then
+        assertThat(result).isEqualTo(SlotReservationResult.INSUFFICIENT);
+        assertThat(redisSlotService.getSlotFromRedis(STORE_ID, DAY1, TIME, SHARDS)).isEqualTo(8);
+        assertThat(redisSlotService.getSlotFromRedis(STORE_ID, DAY2, TIME, SHARDS)).isEqualTo(2);
+    }
+
+    @Test
+    void 선점한_인원을_넘겨_반환하지_않고_중복_반환은_무시() {
+        // given
+        redisSlotService.setSlotToRedis(STORE_ID, DAY1, TIME, 8, SHARDS);
+        redisSlotService.tryReserveSlots(STORE_ID, List.of(new SlotRequest(DAY1, TIME, 3)), 1L, SHARDS);
+
+        // when (선점 인원보다 많이 반환 요청 후 한 번 더 반환)
+        SlotReleaseResult first = redisSlotService.releaseSlot(STORE_ID, DAY1, TIME, 5, 1L);
+        SlotReleaseResult second = redisSlotService.releaseSlot(STORE_ID, DAY1, TIME, 3, 1L);
+
+        // then
+        assertThat(first).isEqualTo(SlotReleaseResult.RELEASED);
+        assertThat(second).isEqualTo(SlotReleaseResult.NOT_HELD);
+        assertThat(redisSlotService.getSlotFromRedis(STORE_ID, DAY1, TIME, SHARDS)).isEqualTo(8);
+    }
+
+    private static boolean isRedisAvailable() {
+        try {
+            return "PONG".equals(stringRedisTemplate.getConnectionFactory().getConnection().ping());
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.poppy.domain.reservation.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// 단일 슬롯 키 vs 분할 카운터 처리량 비교 (로컬 Redis 필요: ./gradlew benchmark)
+@Tag("benchmark")
+class RedisSlotShardBenchmarkTest {
+    private static final int CAPACITY = 20_000;
+    private static final int THREADS = 64;
+    private static final LocalDate DATE = LocalDate.now().plusDays(1);
+    private static final LocalTime TIME = LocalTime.of(11, 0);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisSlotService redisSlotService;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getProperty("benchmark.redis.host", "localhost"),
+                Integer.parseInt(System.getProperty("benchmark.redis.port", "6379")));
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.afterPropertiesSet();
+
+        redisSlotService = new RedisSlotService(stringRedisTemplate);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (connectionFactory != null) connectionFactory.destroy();
+    }
+
+    @Test
+    void 단일_키와_분할_카운터_처리량_비교() throws InterruptedException {
+        assumeTrue(isRedisAvailable(), "Redis not available, skipping benchmark");
+
+        double single = run(900_001L, 1);
+        double sharded = run(900_002L, 8);
+
+        System.out.printf("[slot benchmark] single key: %.0f ops/s, 8 shards: %.0f ops/s (x%.2f)%n",
+                single, sharded, sharded / single);
+    }
+
+    // 매진될 때까지 1인 예약을 동시에 요청하고 초당 처리 건수 반환
+    private double run(Long storeId, int shards) throws InterruptedException {
+        redisSlotService.clearStore(storeId);
+        redisSlotService.setSlotToRedis(storeId, DATE, TIME, CAPACITY, shards);
+
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger attempts = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch latch = new CountDownLatch(THREADS);
+
+        long start = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            long holderId = t;
+            executor.submit(() -> {
+                try {
+                    while (true) {
+                        attempts.incrementAndGet();
+                        SlotReservationResult result =
+                                redisSlotService.tryReserveSlot(storeId, DATE, TIME, 1, holderId, shards);
+                        if (result != SlotReservationResult.OK) break;
+                        success.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        // 분할 여부와 관계없이 초과 예약이 없어야 함
+        assertThat(success.get()).isEqualTo(CAPACITY);
+        assertThat(redisSlotService.getSlotFromRedis(storeId, DATE, TIME, shards)).isZero();
+
+        redisSlotService.clearStore(storeId);
+        return attempts.get() / (elapsed / 1_000_000_000.0);
+    }
+
+    private static boolean isRedisAvailable() {
+        try {
+            return "PONG".equals(stringRedisTemplate.getConnectionFactory().getConnection().ping());
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.poppy.domain.reservation.service;
+
+import com.poppy.common.exception.BusinessException;
+import com.poppy.common.exception.ErrorCode;
+import com.poppy.domain.payment.dto.ReservationPaymentRspDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationIdempotencyServiceTest {
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private ReservationIdempotencyService idempotencyService;
+
+    private final Long userId = 1L;
+    private final Long storeId = 1L;
+    private final LocalDate date = LocalDate.of(2024, 12, 5);
+    private final LocalTime time = LocalTime.of(14, 0);
+    private final int person = 2;
+    private final String redisKey = "idempotency:reservation:1:key-1";
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final ReservationPaymentRspDto response = ReservationPaymentRspDto.builder()
+            .orderId("order-1")
+            .amount(10000L)
+            .storeName("팝업스토어")
+            .date(date)
+            .time(time)
+            .person(person)
+            .build();
+
+    private final Supplier<ReservationPaymentRspDto> reservation = () -> {
+        calls.incrementAndGet();
+        return response;
+    };
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new ReservationIdempotencyService(stringRedisTemplate);
+        ReflectionTestUtils.setField(idempotencyService, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(idempotencyService, "processingTtlSeconds", 30L);
+        ReflectionTestUtils.setField(idempotencyService, "waitMs", 0L);
+    }
+
+    @Test
+    void 키가_없으면_Redis_없이_바로_예약() {
+        // when
+        ReservationPaymentRspDto result = idempotencyService.execute(userId, null, storeId, date, time, person, reservation);
+
+        // then
+        assertThat(result).isSameAs(response);
+        assertThat(calls.get()).isEqualTo(1);
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 첫_요청은_예약_후_결과_저장() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn("");
+        doReturn(hashOperations).when(stringRedisTemplate).opsForHash();
+
+        // when
+        ReservationPaymentRspDto result = idempotencyService.execute(userId, "key-1", storeId, date, time, person, reservation);
+
+        // then
+        assertThat(result).isSameAs(response);
+        assertThat(calls.get()).isEqualTo(1);
+        verify(hashOperations).putAll(eq(redisKey), argThat(map ->
+                "DONE".equals(map.get("state")) && "order-1".equals(map.get("orderId"))));
+        verify(stringRedisTemplate).expire(redisKey, Duration.ofSeconds(300));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 완료된_키로_재요청하면_저장된_결과_반환() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn("DONE");
+        doReturn(hashOperations).when(stringRedisTemplate).opsForHash();
+        when(hashOperations.entries(redisKey)).thenReturn(Map.<Object, Object>of(
+                "state", "DONE",
+                "request", "1|2024-12-05|14:00|2",
+                "orderId", "order-1",
+                "amount", "10000",
+                "storeName", "팝업스토어",
+                "date", "2024-12-05",
+                "time", "14:00",
+                "person", "2"
+        ));
+
+        // when
+        ReservationPaymentRspDto result = idempotencyService.execute(userId, "key-1", storeId, date, time, person, reservation);
+
+        // then
+        assertThat(calls.get()).isZero();
+        assertThat(result.getOrderId()).isEqualTo("order-1");
+        assertThat(result.getAmount()).isEqualTo(10000L);
+        assertThat(result.getDate()).isEqualTo(date);
+        assertThat(result.getTime()).isEqualTo(time);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 다른_요청에_사용된_키는_거절() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn("DONE");
+        doReturn(hashOperations).when(stringRedisTemplate).opsForHash();
+        when(hashOperations.entries(redisKey)).thenReturn(Map.<Object, Object>of(
+                "state", "DONE",
+                "request", "1|2024-12-06|14:00|2"
+        ));
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyService.execute(userId, "key-1", storeId, date, time, person, reservation))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(ErrorCode.IDEMPOTENCY_KEY_REUSED.getMessage());
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 처리_중인_요청을_기다리다_시간이_지나면_충돌로_거절() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn("PROCESSING");
+        doReturn(hashOperations).when(stringRedisTemplate).opsForHash();
+        when(hashOperations.entries(redisKey)).thenReturn(Map.<Object, Object>of(
+                "state", "PROCESSING",
+                "request", "1|2024-12-05|14:00|2"
+        ));
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyService.execute(userId, "key-1", storeId, date, time, person, reservation))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(ErrorCode.RESERVATION_CONFLICT.getMessage());
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 예약이_실패하면_키를_지워_재시도_허용() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn("");
+        Supplier<ReservationPaymentRspDto> failing = () -> {
+            throw new BusinessException(ErrorCode.NO_AVAILABLE_SLOT);
+        };
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyService.execute(userId, "key-1", storeId, date, time, person, failing))
+                .isInstanceOf(BusinessException.class);
+        verify(stringRedisTemplate).delete(redisKey);
+    }
+}
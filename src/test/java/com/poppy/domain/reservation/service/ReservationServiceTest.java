@@ -2,6 +2,7 @@ package com.poppy.domain.reservation.service;
 
 import com.poppy.common.exception.BusinessException;
 import com.poppy.common.exception.ErrorCode;
+import com.poppy.common.exception.ExpectedRejectionException;
 import com.poppy.domain.notification.service.NotificationService;
 import com.poppy.domain.payment.dto.ReservationPaymentRspDto;
 import com.poppy.domain.payment.entity.Payment;
@@ -17,6 +18,8 @@ import com.poppy.domain.reservation.entity.ReservationAvailableSlot;
 import com.poppy.domain.reservation.entity.ReservationStatus;
 import com.poppy.domain.reservation.repository.ReservationAvailableSlotRepository;
 import com.poppy.domain.reservation.repository.ReservationRepository;
+import com.poppy.domain.user.dto.response.UserReservationRspDto;
+import com.poppy.domain.user.dto.response.UserReservationSliceRspDto;
 import com.poppy.domain.user.entity.User;
 import com.poppy.domain.user.repository.LoginUserProvider;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +32,8 @@ import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -60,6 +65,14 @@ class ReservationServiceTest {
     @Mock
     private AsyncRedisSlotDecrementService asyncRedisSlotDecrementService;
     @Mock
+    private ReservationHoldService reservationHoldService;
+    @Mock
+    private SlotDeltaStreamService slotDeltaStreamService;
+    @Mock
+    private SoldOutSlotRegistry soldOutSlotRegistry;
+    @Mock
+    private SlotAvailabilityPublisher slotAvailabilityPublisher;
+    @Mock
     private PaymentService paymentService;
     @Mock
     private NotificationService notificationService;
@@ -88,6 +101,10 @@ class ReservationServiceTest {
                 paymentRepository,
                 redisSlotService,
                 asyncRedisSlotDecrementService,
+                reservationHoldService,
+                slotDeltaStreamService,
+                soldOutSlotRegistry,
+                slotAvailabilityPublisher,
                 paymentService,
                 notificationService,
                 loginUserProvider
@@ -127,7 +144,7 @@ class ReservationServiceTest {
         doNothing().when(rLock).unlock();
 
         // 기본 Redis Slot 모킹
-        when(redisSlotService.getSlotFromRedis(anyLong(), any(), any()))
+        when(redisSlotService.getSlotFromRedis(anyLong(), any(), any(), anyInt()))
                 .thenAnswer(inv -> redisSlot.get());
 
         // 기본 Repository 모킹
@@ -135,6 +152,8 @@ class ReservationServiceTest {
         when(loginUserProvider.getLoggedInUser()).thenReturn(user);
         when(reservationAvailableSlotRepository.findByPopupStoreIdAndDateAndTime(storeId, date, time))
                 .thenReturn(Optional.of(slot));
+        when(reservationAvailableSlotRepository.decreaseSlot(any(), anyInt())).thenReturn(1);
+        when(reservationAvailableSlotRepository.increaseSlot(any(), anyInt())).thenReturn(1);
     }
 
     @Test
@@ -154,7 +173,7 @@ class ReservationServiceTest {
                 redisSlot.addAndGet(-decrementAmount);
                 return null;
             }
-        }).when(redisSlotService).decrementSlot(eq(storeId), eq(date), eq(time), anyInt());
+        }).when(redisSlotService).decrementSlot(eq(storeId), eq(date), eq(time), anyInt(), eq(1));
 
         when(paymentRepository.save(any(Payment.class)))
                 .thenAnswer(invocation -> {
@@ -233,7 +252,7 @@ class ReservationServiceTest {
                 payment.getStatus() == PaymentStatus.PENDING &&
                         payment.getAmount() == person * 5000L
         ));
-        verify(redisSlotService, times(14)).decrementSlot(eq(storeId), eq(date), eq(time), eq(person));
+        verify(redisSlotService, times(14)).decrementSlot(eq(storeId), eq(date), eq(time), eq(person), eq(1));
     }
 
     @Test
@@ -251,7 +270,7 @@ class ReservationServiceTest {
 
         verify(reservationRepository, times(1)).save(any());
         verify(paymentRepository, never()).save(any());
-        verify(redisSlotService, never()).decrementSlot(any(), any(), any(), anyInt());
+        verify(redisSlotService, never()).decrementSlot(any(), any(), any(), anyInt(), anyInt());
         verify(rLock, times(1)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
         verify(rLock, times(1)).isHeldByCurrentThread();
         verify(rLock, times(1)).unlock();
@@ -296,7 +315,7 @@ class ReservationServiceTest {
                 redisSlot.addAndGet(-person);
                 return null;
             }
-        }).when(redisSlotService).decrementSlot(eq(storeId), eq(date), eq(time), eq(person));
+        }).when(redisSlotService).decrementSlot(eq(storeId), eq(date), eq(time), eq(person), eq(1));
 
         doAnswer(inv -> {
             synchronized (redisSlot) {
@@ -381,12 +400,12 @@ class ReservationServiceTest {
         verify(rLock, times(2)).unlock();
 
         // Redis Slot 작업 검증
-        verify(redisSlotService, times(1)).decrementSlot(eq(storeId), eq(date), eq(time), eq(person));
+        verify(redisSlotService, times(1)).decrementSlot(eq(storeId), eq(date), eq(time), eq(person), eq(1));
         verify(redisSlotService, times(1)).incrementSlot(eq(storeId), eq(date), eq(time), eq(person));
 
         // 작업 순서 검증
         InOrder inOrder = inOrder(redisSlotService);
-        inOrder.verify(redisSlotService).decrementSlot(eq(storeId), eq(date), eq(time), eq(person));
+        inOrder.verify(redisSlotService).decrementSlot(eq(storeId), eq(date), eq(time), eq(person), eq(1));
         inOrder.verify(redisSlotService).incrementSlot(eq(storeId), eq(date), eq(time), eq(person));
 
         // 최종 상태 검증
@@ -445,8 +464,8 @@ class ReservationServiceTest {
         when(reservationAvailableSlotRepository.save(any(ReservationAvailableSlot.class))).thenReturn(slot);
 
         // Redis 슬롯 관련 모킹
-        when(redisSlotService.getSlotFromRedis(anyLong(), any(), any())).thenReturn(10);
-        doNothing().when(redisSlotService).decrementSlot(anyLong(), any(), any(), anyInt());
+        when(redisSlotService.getSlotFromRedis(anyLong(), any(), any(), anyInt())).thenReturn(10);
+        doNothing().when(redisSlotService).decrementSlot(anyLong(), any(), any(), anyInt(), anyInt());
 
         // when
         ReservationPaymentRspDto reservationResult = reservationService.reservation(storeId, date, time, person);  // 예약 호출
@@ -466,7 +485,37 @@ class ReservationServiceTest {
         assertThat(confirmedReservation.getStatus()).isEqualTo(ReservationStatus.CHECKED);
 
         // Redis Slot 감소 확인
-        verify(redisSlotService, times(1)).decrementSlot(eq(storeId), eq(date), eq(time), eq(person));
+        verify(redisSlotService, times(1)).decrementSlot(eq(storeId), eq(date), eq(time), eq(person), eq(1));
+
+        // 엔티티 수정 대신 조건부 UPDATE로 슬롯 차감
+        verify(reservationAvailableSlotRepository).decreaseSlot(slot.getId(), person);
+        verify(reservationAvailableSlotRepository, never()).save(any(ReservationAvailableSlot.class));
+    }
+
+    @Test
+    void 조건부_슬롯_차감이_실패하면_예약_확정_실패() {
+        // given
+        Reservation pendingReservation = Reservation.builder()
+                .popupStore(popupStore)
+                .user(user)
+                .date(date)
+                .time(time)
+                .status(ReservationStatus.PENDING)
+                .person(person)
+                .build();
+
+        when(reservationRepository.findByUserIdAndPopupStoreIdAndDateAndStatus(
+                user.getId(), storeId, date, ReservationStatus.CHECKED))
+                .thenReturn(Optional.empty());
+        // 조회 이후 다른 요청이 먼저 슬롯을 차감한 상황
+        when(reservationAvailableSlotRepository.decreaseSlot(slot.getId(), person)).thenReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.processReservation(pendingReservation))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(ErrorCode.NO_AVAILABLE_SLOT.getMessage());
+        assertThat(pendingReservation.getStatus()).isEqualTo(ReservationStatus.PENDING);
+        verify(reservationRepository, never()).save(any(Reservation.class));
     }
 
     @Test
@@ -518,4 +567,434 @@ class ReservationServiceTest {
         // 결제 상태가 CANCELED로 변경되었는지 확인
         assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CANCELED);
     }
+
+    @Test
+    void 락_모드_분할_스토어는_모든_분할의_합계로_확인하고_차감() {
+        // given
+        ReflectionTestUtils.setField(popupStore, "slotShardCount", 4);
+        Reservation tempReservation = Reservation.builder()
+                .popupStore(popupStore)
+                .user(user)
+                .date(date)
+                .time(time)
+                .person(person)
+                .status(ReservationStatus.PENDING)
+                .build();
+        Payment payment = Payment.builder()
+                .orderId("order-1")
+                .amount(person * 5000L)
+                .status(PaymentStatus.DONE)
+                .user(user)
+                .reservation(tempReservation)
+                .build();
+        when(reservationRepository.findByUserIdAndPopupStoreIdAndDate(user.getId(), storeId, date))
+                .thenReturn(Optional.empty());
+        when(reservationRepository.save(any(Reservation.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(paymentRepository.findByOrderId("order-1")).thenReturn(Optional.of(payment));
+        when(reservationRepository.findByUserIdAndPopupStoreIdAndDateAndStatus(user.getId(), storeId, date, ReservationStatus.CHECKED))
+                .thenReturn(Optional.empty());
+
+        // when
+        reservationService.reservation(storeId, date, time, person);
+        reservationService.completeReservation("order-1");
+
+        // then
+        verify(redisSlotService, times(1)).getSlotFromRedis(storeId, date, time, 4);
+        verify(redisSlotService, times(1)).decrementSlot(storeId, date, time, person, 4);
+    }
+
+    @Test
+    void 스크립트_모드_예약_시_락_없이_슬롯_선점() {
+        // given
+        ReflectionTestUtils.setField(reservationService, "atomicSlotScriptEnabled", true);
+        when(redisSlotService.tryReserveSlot(storeId, date, time, person, user.getId(), 1))
+                .thenReturn(SlotReservationResult.OK);
+        when(reservationRepository.findByUserIdAndPopupStoreIdAndDate(user.getId(), storeId, date))
+                .thenReturn(Optional.empty());
+        when(reservationRepository.save(any(Reservation.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // when
+        ReservationPaymentRspDto result = reservationService.reservation(storeId, date, time, person);
+
+        // then
+        assertThat(result.getAmount()).isEqualTo(person * 5000L);
+        verify(redissonClient, never()).getLock(anyString());
+        verify(redisSlotService, never()).getSlotFromRedis(anyLong(), any(), any(), anyInt());
+        verify(redisSlotService, never()).releaseSlot(anyLong(), any(), any(), anyInt(), anyLong());
+    }
+
+    @Test
+    void 스크립트_모드_매진_시_예약_실패() {
+        // given
+        ReflectionTestUtils.setField(reservationService, "atomicSlotScriptEnabled", true);
+        when(redisSlotService.tryReserveSlot(storeId, date, time, person, user.getId(), 1))
+                .thenReturn(SlotReservationResult.SOLD_OUT);
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.reservation(storeId, date, time, person))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(ErrorCode.NO_AVAILABLE_SLOT.getMessage());
+
+        verify(reservationRepository, never()).save(any());
+        verify(paymentRepository, never()).save(any());
+    }
+
+    @Test
+    void 매진으로_알려진_슬롯은_조회와_락_없이_거절() {
+        // given
+        when(soldOutSlotRegistry.isSoldOut(storeId, date, time)).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.reservation(storeId, date, time, person))
+                .isInstanceOf(ExpectedRejectionException.class)
+                .hasMessage(ErrorCode.NO_AVAILABLE_SLOT.getMessage());
+
+        verify(popupStoreRepository, never()).findById(any());
+        verify(redissonClient, never()).getLock(anyString());
+        verify(redisSlotService, never()).getSlotFromRedis(anyLong(), any(), any(), anyInt());
+    }
+
+    @Test
+    void 스크립트_모드_매진_확인_시_매진_이벤트_발행() {
+        // given
+        ReflectionTestUtils.setField(reservationService, "atomicSlotScriptEnabled", true);
+        when(redisSlotService.tryReserveSlot(storeId, date, time, person, user.getId(), 1))
+                .thenReturn(SlotReservationResult.SOLD_OUT);
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.reservation(storeId, date, time, person))
+                .isInstanceOf(ExpectedRejectionException.class);
+
+        verify(soldOutSlotRegistry).publishSoldOut(storeId, date, time);
+    }
+
+    @Test
+    void 스크립트_모드_예약_생성_실패_시_슬롯_반환() {
+        // given
+        ReflectionTestUtils.setField(reservationService, "atomicSlotScriptEnabled", true);
+        when(redisSlotService.tryReserveSlot(storeId, date, time, person, user.getId(), 1))
+                .thenReturn(SlotReservationResult.OK);
+        when(reservationRepository.findByUserIdAndPopupStoreIdAndDate(user.getId(), storeId, date))
+                .thenReturn(Optional.empty());
+        when(reservationRepository.save(any(Reservation.class)))
+                .thenThrow(new BusinessException(ErrorCode.RESERVATION_FAILED));
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.reservation(storeId, date, time, person))
+                .isInstanceOf(BusinessException.class);
+
+        verify(redisSlotService, times(1)).releaseSlot(storeId, date, time, person, user.getId());
+    }
+
+    @Test
+    void 스크립트_모드_커밋_시점에_롤백되면_선점_슬롯_반환() {
+        // given
+        ReflectionTestUtils.setField(reservationService, "atomicSlotScriptEnabled", true);
+        when(redisSlotService.tryReserveSlot(storeId, date, time, person, user.getId(), 1))
+                .thenReturn(SlotReservationResult.OK);
+        when(reservationRepository.findByUserIdAndPopupStoreIdAndDate(user.getId(), storeId, date))
+                .thenReturn(Optional.empty());
+        when(reservationRepository.save(any(Reservation.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(redisSlotService.releaseSlot(storeId, date, time, person, user.getId())).thenReturn(SlotReleaseResult.RELEASED);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when (메서드는 성공했지만 flush/커밋에서 실패해 롤백)
+            reservationService.reservation(storeId, date, time, person);
+            verify(redisSlotService, never()).releaseSlot(anyLong(), any(), any(), anyInt(), anyLong());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        verify(redisSlotService, times(1)).releaseSlot(storeId, date, time, person, user.getId());
+        verify(soldOutSlotRegistry).publishAvailable(storeId, date, time);
+    }
+
+    @Test
+    void 스크립트_모드_커밋되면_선점_슬롯_유지() {
+        // given
+        ReflectionTestUtils.setField(reservationService, "atomicSlotScriptEnabled", true);
+        when(redisSlotService.tryReserveSlot(storeId, date, time, person, user.getId(), 1))
+                .thenReturn(SlotReservationResult.OK);
+        when(reservationRepository.findByUserIdAndPopupStoreIdAndDate(user.getId(), storeId, date))
+                .thenReturn(Optional.empty());
+        when(reservationRepository.save(any(Reservation.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            reservationService.reservation(storeId, date, time, person);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        verify(redisSlotService, never()).releaseSlot(anyLong(), any(), any(), anyInt(), anyLong());
+    }
+
+    @Test
+    void 스크립트_모드_결제_대기_예약_재요청_시_기존_선점_반환_후_재사용() {
+        // given
+        ReflectionTestUtils.setField(reservationService, "atomicSlotScriptEnabled", true);
+        LocalTime previousTime = LocalTime.of(13, 0);
+        Reservation pendingReservation = Reservation.builder()
+                .popupStore(popupStore)
+                .user(user)
+                .date(date)
+                .time(previousTime)
+                .person(3)
+                .status(ReservationStatus.PENDING)
+                .build();
+        when(redisSlotService.tryReserveSlot(storeId, date, time, person, user.getId(), 1))
+                .thenReturn(SlotReservationResult.OK);
+        when(redisSlotService.releaseSlot(storeId, date, previousTime, 3, user.getId())).thenReturn(SlotReleaseResult.RELEASED);
+        when(reservationRepository.findByUserIdAndPopupStoreIdAndDate(user.getId(), storeId, date))
+                .thenReturn(Optional.of(pendingReservation));
+
+        // when
+        reservationService.reservation(storeId, date, time, person);
+
+        // then
+        verify(redisSlotService, times(1)).releaseSlot(storeId, date, previousTime, 3, user.getId());
+        verify(redisSlotService, never()).releaseSlot(storeId, date, time, person, user.getId());
+        verify(reservationRepository, never()).save(any(Reservation.class));
+        assertThat(pendingReservation.getTime()).isEqualTo(time);
+        assertThat(pendingReservation.getPerson()).isEqualTo(person);
+    }
+
+    @Test
+    void 스크립트_모드_취소_DB_실패_시_분할_카운터로_재선점하고_실패하면_정합성_검사_등록() {
+        // given
+        ReflectionTestUtils.setField(reservationService, "atomicSlotScriptEnabled", true);
+        when(redisSlotService.releaseSlot(storeId, date, time, person, user.getId())).thenReturn(SlotReleaseResult.RELEASED);
+        when(reservationRepository.findByUserIdAndPopupStoreIdAndDateAndTime(user.getId(), storeId, date, time))
+                .thenReturn(Optional.empty());
+        when(redisSlotService.tryReserveSlot(storeId, date, time, person, user.getId(), 1))
+                .thenReturn(SlotReservationResult.SOLD_OUT);
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.cancelReservation(user.getId(), storeId, date, time, person))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(ErrorCode.RESERVATION_NOT_FOUND.getMessage());
+
+        verify(redisSlotService, never()).tryReserveSlot(storeId, date, time, person, user.getId());
+        verify(redisSlotService, times(1)).markForReconciliation(storeId, date, time);
+        verify(soldOutSlotRegistry, never()).publishAvailable(any(), any(), any());
+    }
+
+    @Test
+    void 결제_실패로_선점이_반환된_예약은_결제_완료_시_슬롯_재선점() {
+        // given
+        ReflectionTestUtils.setField(reservationService, "atomicSlotScriptEnabled", true);
+        Reservation canceledReservation = Reservation.builder()
+                .popupStore(popupStore)
+                .user(user)
+                .date(date)
+                .time(time)
+                .person(person)
+                .status(ReservationStatus.CANCELED)
+                .build();
+        Payment payment = Payment.builder()
+                .orderId("order-1")
+                .amount(person * 5000L)
+                .status(PaymentStatus.DONE)
+                .user(user)
+                .reservation(canceledReservation)
+                .build();
+
+        when(paymentRepository.findByOrderId("order-1")).thenReturn(Optional.of(payment));
+        when(redisSlotService.tryReserveSlot(storeId, date, time, person, user.getId(), 1))
+                .thenReturn(SlotReservationResult.SOLD_OUT);
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.completeReservation("order-1"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(ErrorCode.NO_AVAILABLE_SLOT.getMessage());
+
+        assertThat(canceledReservation.getStatus()).isEqualTo(ReservationStatus.CANCELED);
+    }
+
+    @Test
+    void 보류_모드_예약_시_슬롯_보류_등록() {
+        // given
+        when(reservationHoldService.isEnabled()).thenReturn(true);
+        when(redisSlotService.tryReserveSlot(storeId, date, time, person, user.getId(), 1))
+                .thenReturn(SlotReservationResult.OK);
+        when(reservationRepository.findByUserIdAndPopupStoreIdAndDate(user.getId(), storeId, date))
+                .thenReturn(Optional.empty());
+        when(reservationRepository.save(any(Reservation.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // when
+        reservationService.reservation(storeId, date, time, person);
+
+        // then
+        verify(reservationHoldService, times(1)).placeHold(any(Reservation.class), eq(user.getId()));
+        verify(redissonClient, never()).getLock(anyString());
+    }
+
+    @Test
+    void 보류_만료_후_결제_완료_시_슬롯_재선점_실패하면_예약_실패() {
+        // given
+        when(reservationHoldService.isEnabled()).thenReturn(true);
+        Reservation tempReservation = Reservation.builder()
+                .popupStore(popupStore)
+                .user(user)
+                .date(date)
+                .time(time)
+                .person(person)
+                .status(ReservationStatus.PENDING)
+                .build();
+        ReflectionTestUtils.setField(tempReservation, "id", 10L);
+
+        Payment payment = Payment.builder()
+                .orderId("order-1")
+                .amount(person * 5000L)
+                .status(PaymentStatus.DONE)
+                .user(user)
+                .reservation(tempReservation)
+                .build();
+
+        when(paymentRepository.findByOrderId("order-1")).thenReturn(Optional.of(payment));
+        when(reservationHoldService.confirmHold(10L)).thenReturn(false);
+        when(redisSlotService.tryReserveSlot(storeId, date, time, person, user.getId(), 1))
+                .thenReturn(SlotReservationResult.SOLD_OUT);
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.completeReservation("order-1"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(ErrorCode.NO_AVAILABLE_SLOT.getMessage());
+
+        assertThat(tempReservation.getStatus()).isEqualTo(ReservationStatus.PENDING);
+    }
+
+    @Test
+    void 쓰기_지연_모드_예약_확정_시_슬롯_행_대신_변화량_기록() {
+        // given
+        ReflectionTestUtils.setField(reservationService, "atomicSlotScriptEnabled", true);
+        when(slotDeltaStreamService.isEnabled()).thenReturn(true);
+        Reservation tempReservation = Reservation.builder()
+                .popupStore(popupStore)
+                .user(user)
+                .date(date)
+                .time(time)
+                .person(person)
+                .status(ReservationStatus.PENDING)
+                .build();
+        when(reservationRepository.findByUserIdAndPopupStoreIdAndDateAndStatus(user.getId(), storeId, date, ReservationStatus.CHECKED))
+                .thenReturn(Optional.empty());
+        when(reservationRepository.save(any(Reservation.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // when
+        Reservation result = reservationService.processReservation(tempReservation);
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(ReservationStatus.CHECKED);
+        assertThat(slot.getAvailableSlot()).isEqualTo(28);
+        verify(reservationAvailableSlotRepository, never()).findByPopupStoreIdAndDateAndTime(any(), any(), any());
+        verify(slotDeltaStreamService, times(1)).appendDelta(storeId, date, time, -person);
+    }
+
+    @Test
+    void 일괄_예약_시_스크립트_한_번으로_모든_슬롯_선점() {
+        // given
+        ReflectionTestUtils.setField(reservationService, "atomicSlotScriptEnabled", true);
+        List<SlotRequest> slots = List.of(
+                new SlotRequest(date, time, person),
+                new SlotRequest(date.plusDays(1), time, 1)
+        );
+        when(redisSlotService.tryReserveSlots(storeId, slots, user.getId(), 1)).thenReturn(SlotReservationResult.OK);
+        when(reservationRepository.findAllByUserIdAndPopupStoreIdAndDateIn(eq(user.getId()), eq(storeId), anyCollection()))
+                .thenReturn(List.of());
+
+        // when
+        List<ReservationPaymentRspDto> result = reservationService.reserveGroup(storeId, slots);
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result).extracting(ReservationPaymentRspDto::getAmount).containsExactly(10000L, 5000L);
+        verify(redisSlotService, times(1)).tryReserveSlots(storeId, slots, user.getId(), 1);
+        verify(reservationRepository, times(1)).saveAll(anyList());
+        verify(paymentRepository, times(1)).saveAll(anyList());
+        verify(redissonClient, never()).getLock(anyString());
+    }
+
+    @Test
+    void 일괄_예약_선점_실패_시_예약_행을_만들지_않음() {
+        // given
+        ReflectionTestUtils.setField(reservationService, "atomicSlotScriptEnabled", true);
+        List<SlotRequest> slots = List.of(
+                new SlotRequest(date, time, person),
+                new SlotRequest(date.plusDays(1), time, person)
+        );
+        when(redisSlotService.tryReserveSlots(storeId, slots, user.getId(), 1)).thenReturn(SlotReservationResult.INSUFFICIENT);
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.reserveGroup(storeId, slots))
+                .isInstanceOf(ExpectedRejectionException.class)
+                .hasMessage(ErrorCode.NO_AVAILABLE_SLOT.getMessage());
+
+        verify(reservationRepository, never()).saveAll(anyList());
+        verify(paymentRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void 일괄_예약에_같은_날짜가_있으면_거절() {
+        // given
+        List<SlotRequest> slots = List.of(
+                new SlotRequest(date, time, person),
+                new SlotRequest(date, time.plusHours(1), person)
+        );
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.reserveGroup(storeId, slots))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(ErrorCode.DUPLICATE_RESERVATION_DATE.getMessage());
+
+        verify(redisSlotService, never()).tryReserveSlots(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void 예약_내역은_한_건_더_조회해_다음_페이지_여부와_커서를_반환() {
+        // given
+        LocalDate cursorDate = date.plusDays(10);
+        List<UserReservationRspDto> rows = List.of(
+                history(30L, date.plusDays(2)),
+                history(20L, date.plusDays(1)),
+                history(10L, date)
+        );
+        when(reservationRepository.findReservationHistory(user.getId(), cursorDate, 40L, 3)).thenReturn(rows);
+
+        // when
+        UserReservationSliceRspDto result = reservationService.getReservations(user.getId(), cursorDate, 40L, 2);
+
+        // then
+        assertThat(result.getContent()).extracting(UserReservationRspDto::getReservationId).containsExactly(30L, 20L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getNextCursorDate()).isEqualTo(date.plusDays(1));
+        assertThat(result.getNextCursorId()).isEqualTo(20L);
+    }
+
+    @Test
+    void 마지막_페이지는_커서를_반환하지_않음() {
+        // given
+        when(reservationRepository.findReservationHistory(user.getId(), null, null, 3)).thenReturn(List.of(history(10L, date)));
+
+        // when
+        UserReservationSliceRspDto result = reservationService.getReservations(user.getId(), null, null, 2);
+
+        // then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursorId()).isNull();
+    }
+
+    private UserReservationRspDto history(Long reservationId, LocalDate reservationDate) {
+        return new UserReservationRspDto(reservationId, user.getId(), storeId, "테스트 팝업",
+                reservationDate, time, "서울", ReservationStatus.CHECKED, null, person);
+    }
 }
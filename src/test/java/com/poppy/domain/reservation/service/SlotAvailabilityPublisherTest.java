@@ -0,0 +1,104 @@
+package com.poppy.domain.reservation.service;
+
+import com.poppy.domain.popupStore.dto.response.ReservationAvailableSlotRspDto;
+import com.poppy.domain.popupStore.service.PopupStoreCalendarService;
+import com.poppy.domain.reservation.dto.response.SlotAvailabilityRspDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SlotAvailabilityPublisherTest {
+    @Mock
+    private RedisSlotService redisSlotService;
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+    @Mock
+    private SimpMessageSendingOperations messagingTemplate;
+    @Mock
+    private PopupStoreCalendarService popupStoreCalendarService;
+
+    private SlotAvailabilityPublisher publisher;
+
+    private final Long storeId = 1L;
+    private final LocalDate date = LocalDate.of(2024, 12, 5);
+    private final LocalTime time = LocalTime.of(14, 0);
+
+    @BeforeEach
+    void setUp() {
+        publisher = new SlotAvailabilityPublisher(redisSlotService, stringRedisTemplate, messagingTemplate, popupStoreCalendarService);
+        ReflectionTestUtils.setField(publisher, "enabled", true);
+    }
+
+    @Test
+    void 같은_슬롯의_연속_변경은_한_번만_전송() {
+        // given
+        when(redisSlotService.getSlotsFromRedis(eq(storeId), anyMap(), eq(1))).thenReturn(Map.of(
+                LocalDateTime.of(date, time), 3,
+                LocalDateTime.of(date, time.plusHours(1)), 0
+        ));
+
+        // when
+        publisher.markChanged(storeId, 1, date, time);
+        publisher.markChanged(storeId, 1, date, time);
+        publisher.markChanged(storeId, 1, date, time.plusHours(1));
+        publisher.flush();
+        publisher.flush();
+
+        // then
+        verify(redisSlotService, times(1)).getSlotsFromRedis(eq(storeId), anyMap(), eq(1));
+        verify(popupStoreCalendarService, times(1)).applySlotCounts(eq(storeId), anyMap());
+        verify(stringRedisTemplate, times(1))
+                .convertAndSend(SlotAvailabilityPublisher.SLOT_UPDATE_TOPIC, "1,2024-12-05,14:00=3;15:00=0");
+    }
+
+    @Test
+    void 휴무일_슬롯은_조회_없이_예약_불가로_전송() {
+        // when
+        publisher.markClosed(storeId, date, List.of(time));
+        publisher.flush();
+
+        // then
+        verify(redisSlotService, never()).getSlotsFromRedis(any(), anyMap(), anyInt());
+        verify(stringRedisTemplate).convertAndSend(SlotAvailabilityPublisher.SLOT_UPDATE_TOPIC, "1,2024-12-05,14:00=0");
+    }
+
+    @Test
+    void 수신한_변경분을_스토어_날짜별_토픽으로_전송() {
+        // given
+        DefaultMessage message = new DefaultMessage(
+                SlotAvailabilityPublisher.SLOT_UPDATE_TOPIC.getBytes(StandardCharsets.UTF_8),
+                "1,2024-12-05,14:00=3;15:00=0".getBytes(StandardCharsets.UTF_8)
+        );
+
+        // when
+        publisher.onMessage(message, null);
+
+        // then
+        ArgumentCaptor<SlotAvailabilityRspDto> captor = ArgumentCaptor.forClass(SlotAvailabilityRspDto.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/stores/1/slots/2024-12-05"), captor.capture());
+
+        List<ReservationAvailableSlotRspDto> slots = captor.getValue().getSlots();
+        assertThat(slots).extracting(ReservationAvailableSlotRspDto::getTime).containsExactly("14:00", "15:00");
+        assertThat(slots).extracting(ReservationAvailableSlotRspDto::getAvailableSlot).containsExactly(3, 0);
+        assertThat(slots).extracting(ReservationAvailableSlotRspDto::isAvailable).containsExactly(true, false);
+    }
+}
@@ -0,0 +1,60 @@
+package com.poppy.domain.reservation.service;
+
+import com.poppy.domain.reservation.repository.ReservationAvailableSlotJdbcRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SlotDeltaStreamServiceTest {
+    private static final LocalDate DATE = LocalDate.of(2024, 12, 5);
+    private static final LocalTime TIME = LocalTime.of(14, 0);
+
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+    @Mock
+    private ReservationAvailableSlotJdbcRepository slotJdbcRepository;
+
+    @InjectMocks
+    private SlotDeltaStreamService slotDeltaStreamService;
+
+    @Test
+    void 스트림에_기록하면_DB는_플러셔가_반영() {
+        // given
+        doReturn(streamOperations).when(stringRedisTemplate).opsForStream();
+
+        // when (트랜잭션 밖에서는 바로 기록)
+        slotDeltaStreamService.appendDelta(1L, DATE, TIME, -2);
+
+        // then
+        verify(streamOperations).add(any(MapRecord.class));
+        verifyNoInteractions(slotJdbcRepository);
+    }
+
+    @Test
+    void 스트림_기록_실패시_DB에_바로_반영() {
+        // given
+        doReturn(streamOperations).when(stringRedisTemplate).opsForStream();
+        when(streamOperations.add(any(MapRecord.class))).thenThrow(new RuntimeException("Redis 장애"));
+
+        // when
+        slotDeltaStreamService.appendDelta(1L, DATE, TIME, -2);
+
+        // then
+        verify(slotJdbcRepository).applySlotDeltas(argThat(deltas ->
+                deltas.size() == 1 && deltas.get(0).getStoreId() == 1L && deltas.get(0).getDelta() == -2));
+    }
+}
@@ -0,0 +1,128 @@
+package com.poppy.domain.reservation.service;
+
+import com.poppy.common.config.redis.DistributedLockService;
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.popupStore.repository.PopupStoreRepository;
+import com.poppy.domain.reservation.entity.PopupStoreStatus;
+import com.poppy.domain.reservation.entity.ReservationAvailableSlot;
+import com.poppy.domain.reservation.repository.ReservationAvailableSlotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SlotInventoryBackfillTest {
+    @Mock
+    private PopupStoreRepository popupStoreRepository;
+    @Mock
+    private ReservationAvailableSlotRepository reservationAvailableSlotRepository;
+    @Mock
+    private RedisSlotService redisSlotService;
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+    @Mock
+    private DistributedLockService lockService;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private SlotInventoryBackfill backfill;
+
+    private final Long storeId = 1L;
+    private final LocalDate today = LocalDate.of(2024, 12, 5);
+    private final LocalTime ten = LocalTime.of(10, 0);
+    private final LocalTime eleven = LocalTime.of(11, 0);
+
+    @BeforeEach
+    void setUp() {
+        backfill = new SlotInventoryBackfill(popupStoreRepository, reservationAvailableSlotRepository,
+                redisSlotService, stringRedisTemplate, lockService);
+        ReflectionTestUtils.setField(backfill, "pageSize", 200);
+
+        lenient().when(reservationAvailableSlotRepository.findBookableSlotsAfterId(storeId, today, 0L, 200))
+                .thenReturn(List.of(slot(10L, ten, 5), slot(11L, eleven, 7)));
+        lenient().when(reservationAvailableSlotRepository.findBookableSlotsAfterId(storeId, today, 11L, 200)).thenReturn(List.of());
+        lenient().doReturn(valueOperations).when(stringRedisTemplate).opsForValue();
+    }
+
+    @Test
+    void 비어_있는_슬롯만_DB_잔여_수량으로_채우고_이전_형식_키_삭제() {
+        // given (10시는 이미 Redis에 있음)
+        when(redisSlotService.getSlotsFromRedis(storeId, Map.of(today, List.of(ten, eleven)), 1))
+                .thenReturn(Map.of(LocalDateTime.of(today, ten), 2));
+        when(valueOperations.multiGet(List.of("slot:1:2024-12-05:10:00", "slot:1:2024-12-05:11:00")))
+                .thenReturn(Arrays.asList(null, null));
+
+        // when
+        int filled = backfill.backfillStore(storeId, 1, today);
+
+        // then
+        assertThat(filled).isEqualTo(1);
+        verify(redisSlotService).initializeSlots(storeId, 1, Map.of(today, Map.of(eleven, 7)));
+        verify(stringRedisTemplate).unlink(List.of(
+                "slot:1:2024-12-05:10:00", "slot:1:2024-12-05:11:00",
+                "slot:holders:1:2024-12-05:10:00", "slot:holders:1:2024-12-05:11:00"));
+    }
+
+    @Test
+    void 이전_형식_키가_남아_있으면_분할_합계와_선점자_기록을_옮김() {
+        // given (분할 2개, 11시 슬롯의 이전 형식 값 1 + 2, 유저 3이 4명 선점)
+        when(redisSlotService.getSlotsFromRedis(storeId, Map.of(today, List.of(ten, eleven)), 2))
+                .thenReturn(Map.of(LocalDateTime.of(today, ten), 2));
+        when(valueOperations.multiGet(List.of(
+                "slot:1:2024-12-05:10:00", "slot:1:2024-12-05:10:00:s1",
+                "slot:1:2024-12-05:11:00", "slot:1:2024-12-05:11:00:s1")))
+                .thenReturn(Arrays.asList("9", "9", "1", "2"));
+        doReturn(hashOperations).when(stringRedisTemplate).opsForHash();
+        when(hashOperations.entries("slot:holders:1:2024-12-05:11:00")).thenReturn(Map.of("3", "4"));
+
+        // when
+        backfill.backfillStore(storeId, 2, today);
+
+        // then
+        verify(redisSlotService).initializeSlots(storeId, 2, Map.of(today, Map.of(eleven, 3)));
+        verify(hashOperations).increment("slot:holders:1:2024-12-05", "11:00|3", 4L);
+    }
+
+    @Test
+    void 다른_인스턴스가_실행_중이면_건너뜀() {
+        // given
+        when(lockService.tryLock(eq(DistributedLockService.SLOT_BACKFILL_LOCK), anyLong(), anyLong())).thenReturn(false);
+
+        // when
+        backfill.backfill();
+
+        // then
+        verifyNoInteractions(popupStoreRepository, redisSlotService);
+    }
+
+    private ReservationAvailableSlot slot(Long id, LocalTime time, int availableSlot) {
+        return ReservationAvailableSlot.builder()
+                .id(id)
+                .popupStore(PopupStore.builder().id(storeId).build())
+                .date(today)
+                .time(time)
+                .availableSlot(availableSlot)
+                .totalSlot(10)
+                .status(PopupStoreStatus.AVAILABLE)
+                .build();
+    }
+}
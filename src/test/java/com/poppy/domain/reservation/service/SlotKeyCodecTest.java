@@ -0,0 +1,58 @@
+package com.poppy.domain.reservation.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlotKeyCodecTest {
+    private final LocalDate date = LocalDate.of(2024, 3, 5);
+
+    @Test
+    void 재고_키는_날짜를_두_자리로_채움() {
+        // when & then
+        assertThat(SlotKeyCodec.inventoryKey(1L, date)).isEqualTo("slot:1:2024-03-05");
+        assertThat(SlotKeyCodec.inventoryKey(12L, LocalDate.of(2024, 12, 25))).isEqualTo("slot:12:2024-12-25");
+    }
+
+    @Test
+    void 분할_재고_키는_0번만_기본_키를_사용() {
+        // when & then
+        assertThat(SlotKeyCodec.inventoryKey(1L, date, 0)).isEqualTo(SlotKeyCodec.inventoryKey(1L, date));
+        assertThat(SlotKeyCodec.inventoryKey(1L, date, 3)).isEqualTo("slot:1:2024-03-05:s3");
+    }
+
+    @Test
+    void 선점자_키와_필드_형식() {
+        // when & then
+        assertThat(SlotKeyCodec.holderKey(1L, date)).isEqualTo("slot:holders:1:2024-03-05");
+        assertThat(SlotKeyCodec.holderField(LocalTime.of(9, 5), 42L)).isEqualTo("09:05|42");
+        assertThat(SlotKeyCodec.trackingKey(1L)).isEqualTo("slot:keys:1");
+    }
+
+    @Test
+    void 시간_필드는_HH_mm_형식이고_다시_파싱하면_같은_시각() {
+        // given
+        LocalTime[] times = {LocalTime.MIDNIGHT, LocalTime.of(9, 5), LocalTime.of(14, 30), LocalTime.of(23, 59)};
+
+        for (LocalTime time : times) {
+            // when
+            String field = SlotKeyCodec.timeField(time);
+
+            // then
+            assertThat(field).hasSize(5).isEqualTo(String.format("%02d:%02d", time.getHour(), time.getMinute()));
+            assertThat(SlotKeyCodec.parseTimeField(field)).isEqualTo(time);
+        }
+    }
+
+    @Test
+    void 선점자_필드의_시간_부분도_시간_필드로_파싱() {
+        // given
+        String field = SlotKeyCodec.holderField(LocalTime.of(18, 0), 7L);
+
+        // when & then
+        assertThat(SlotKeyCodec.parseTimeField(field)).isEqualTo(LocalTime.of(18, 0));
+    }
+}
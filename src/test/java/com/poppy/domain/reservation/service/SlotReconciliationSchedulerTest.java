@@ -0,0 +1,178 @@
+package com.poppy.domain.reservation.service;
+
+import com.poppy.common.config.redis.DistributedLockService;
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.popupStore.repository.PopupStoreRepository;
+import com.poppy.domain.reservation.entity.PopupStoreStatus;
+import com.poppy.domain.reservation.entity.ReservationAvailableSlot;
+import com.poppy.domain.reservation.entity.ReservationStatus;
+import com.poppy.domain.reservation.repository.ReservationAvailableSlotRepository;
+import com.poppy.domain.reservation.repository.ReservationRepository;
+import com.poppy.domain.reservation.repository.SlotSeatCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SlotReconciliationSchedulerTest {
+    @Mock
+    private PopupStoreRepository popupStoreRepository;
+    @Mock
+    private ReservationAvailableSlotRepository reservationAvailableSlotRepository;
+    @Mock
+    private ReservationRepository reservationRepository;
+    @Mock
+    private RedisSlotService redisSlotService;
+    @Mock
+    private SlotDeltaStreamService slotDeltaStreamService;
+    @Mock
+    private ReservationHoldService reservationHoldService;
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+    @Mock
+    private DistributedLockService lockService;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private SlotReconciliationScheduler scheduler;
+
+    private final Long storeId = 1L;
+    private final LocalDate today = LocalDate.of(2024, 12, 5);
+    private final LocalTime time = LocalTime.of(14, 0);
+    private ReservationAvailableSlot slot;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new SlotReconciliationScheduler(popupStoreRepository, reservationAvailableSlotRepository,
+                reservationRepository, redisSlotService, slotDeltaStreamService, reservationHoldService,
+                stringRedisTemplate, lockService);
+        ReflectionTestUtils.setField(scheduler, "pageSize", 200);
+
+        slot = ReservationAvailableSlot.builder()
+                .id(10L)
+                .popupStore(PopupStore.builder().id(storeId).build())
+                .date(today)
+                .time(time)
+                .availableSlot(8)
+                .totalSlot(10)
+                .status(PopupStoreStatus.AVAILABLE)
+                .build();
+
+        when(reservationAvailableSlotRepository.findBookableSlotsAfterId(storeId, today, 0L, 200)).thenReturn(List.of(slot));
+        when(reservationAvailableSlotRepository.findBookableSlotsAfterId(storeId, today, 10L, 200)).thenReturn(List.of());
+        when(reservationRepository.sumSeatsBySlot(eq(storeId), eq(today), anyList()))
+                .thenReturn(List.of(seatCount(ReservationStatus.CHECKED, 2L)));
+        when(redisSlotService.popDirtySlots(eq(storeId), anyInt())).thenReturn(Set.of());
+        doReturn(hashOperations).when(stringRedisTemplate).opsForHash();
+    }
+
+    @Test
+    void Redis_키가_없으면_DB_기준으로_복구() {
+        // given
+        when(redisSlotService.getSlotsFromRedis(storeId, Map.of(today, List.of(time)), 1)).thenReturn(Map.of());
+        when(hashOperations.entries(anyString())).thenReturn(Map.of());
+        when(redisSlotService.compareAndSetSlot(storeId, today, time, null, 8)).thenReturn(true);
+
+        // when
+        SlotReconciliationScheduler.DriftReport report = scheduler.reconcileStore(storeId, 1, today);
+
+        // then
+        assertThat(report.missing).isEqualTo(1);
+        assertThat(report.repaired).isEqualTo(1);
+    }
+
+    @Test
+    void 처음_관측된_불일치는_복구하지_않고_기록() {
+        // given
+        when(redisSlotService.getSlotsFromRedis(storeId, Map.of(today, List.of(time)), 1))
+                .thenReturn(Map.of(LocalDateTime.of(today, time), 3));
+        when(hashOperations.entries(anyString())).thenReturn(Map.of());
+
+        // when
+        SlotReconciliationScheduler.DriftReport report = scheduler.reconcileStore(storeId, 1, today);
+
+        // then
+        assertThat(report.drifted).isEqualTo(1);
+        assertThat(report.repaired).isZero();
+        verify(redisSlotService, never()).compareAndSetSlot(any(), any(), any(), any(), anyInt());
+        verify(hashOperations).putAll(anyString(), eq(Map.of(LocalDateTime.of(today, time).toString(), "3:8")));
+    }
+
+    @Test
+    void 연속으로_관측된_불일치는_복구() {
+        // given
+        when(redisSlotService.getSlotsFromRedis(storeId, Map.of(today, List.of(time)), 1))
+                .thenReturn(Map.of(LocalDateTime.of(today, time), 3));
+        when(hashOperations.entries(anyString()))
+                .thenReturn(Map.<Object, Object>of(LocalDateTime.of(today, time).toString(), "3:8"));
+        when(redisSlotService.compareAndSetSlot(storeId, today, time, 3, 8)).thenReturn(true);
+
+        // when
+        SlotReconciliationScheduler.DriftReport report = scheduler.reconcileStore(storeId, 1, today);
+
+        // then
+        assertThat(report.drifted).isEqualTo(1);
+        assertThat(report.repaired).isEqualTo(1);
+        verify(hashOperations, never()).putAll(anyString(), anyMap());
+    }
+
+    @Test
+    void 락_모드는_결제_대기_인원만큼_적은_값도_불일치로_판단() {
+        // given (확정 2명, 결제 대기 3명, 락 모드는 결제 대기 예약을 차감하지 않음)
+        when(reservationRepository.sumSeatsBySlot(eq(storeId), eq(today), anyList()))
+                .thenReturn(List.of(seatCount(ReservationStatus.CHECKED, 2L), seatCount(ReservationStatus.PENDING, 3L)));
+        when(redisSlotService.getSlotsFromRedis(storeId, Map.of(today, List.of(time)), 1))
+                .thenReturn(Map.of(LocalDateTime.of(today, time), 5));
+        when(hashOperations.entries(anyString())).thenReturn(Map.of());
+
+        // when
+        SlotReconciliationScheduler.DriftReport report = scheduler.reconcileStore(storeId, 1, today);
+
+        // then
+        assertThat(report.drifted).isEqualTo(1);
+        verify(hashOperations).putAll(anyString(), eq(Map.of(LocalDateTime.of(today, time).toString(), "5:8")));
+    }
+
+    @Test
+    void 스크립트_모드는_결제_대기_인원만큼_차감된_값을_허용() {
+        // given
+        ReflectionTestUtils.setField(scheduler, "atomicSlotScriptEnabled", true);
+        when(reservationRepository.sumSeatsBySlot(eq(storeId), eq(today), anyList()))
+                .thenReturn(List.of(seatCount(ReservationStatus.CHECKED, 2L), seatCount(ReservationStatus.PENDING, 3L)));
+        when(redisSlotService.getSlotsFromRedis(storeId, Map.of(today, List.of(time)), 1))
+                .thenReturn(Map.of(LocalDateTime.of(today, time), 5));
+        when(hashOperations.entries(anyString())).thenReturn(Map.of());
+
+        // when
+        SlotReconciliationScheduler.DriftReport report = scheduler.reconcileStore(storeId, 1, today);
+
+        // then
+        assertThat(report.drifted).isZero();
+        verify(hashOperations, never()).putAll(anyString(), anyMap());
+    }
+
+    private SlotSeatCount seatCount(ReservationStatus status, Long seats) {
+        return new SlotSeatCount() {
+            public LocalDate getDate() { return today; }
+            public LocalTime getTime() { return time; }
+            public ReservationStatus getStatus() { return status; }
+            public Long getSeats() { return seats; }
+        };
+    }
+}
@@ -0,0 +1,178 @@
+package com.poppy.domain.reservation.service;
+
+import com.poppy.domain.reservation.repository.ReservationAvailableSlotJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SlotWriteBehindFlusherTest {
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    @Mock
+    private StreamOperations<String, String, String> streamOperations;
+
+    @Mock
+    private SlotDeltaStreamService slotDeltaStreamService;
+
+    @Mock
+    private ReservationAvailableSlotJdbcRepository slotJdbcRepository;
+
+    @InjectMocks
+    private SlotWriteBehindFlusher flusher;
+
+    private final LocalDate date = LocalDate.of(2024, 12, 5);
+    private final LocalTime time = LocalTime.of(14, 0);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(flusher, "batchSize", 500);
+        ReflectionTestUtils.setField(flusher, "consumerName", "test-consumer");
+        ReflectionTestUtils.setField(flusher, "claimIdleMs", 60000L);
+    }
+
+    @Test
+    void 비활성화_시_스트림_조회하지_않음() {
+        // given
+        when(slotDeltaStreamService.isEnabled()).thenReturn(false);
+
+        // when
+        flusher.flush();
+
+        // then
+        verifyNoInteractions(stringRedisTemplate, slotJdbcRepository);
+    }
+
+    @Test
+    void 메시지별_변화량을_한_번만_반영하도록_넘긴_후_확인_처리() {
+        // given
+        when(slotDeltaStreamService.isEnabled()).thenReturn(true);
+        doReturn(streamOperations).when(stringRedisTemplate).opsForStream();
+
+        List<MapRecord<String, String, String>> records = List.of(
+                record("1-0", 1L, -2),
+                record("2-0", 1L, -1),
+                record("3-0", 2L, 3)
+        );
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenReturn(List.of(), records);
+
+        // when
+        flusher.flush();
+
+        // then
+        verify(slotJdbcRepository).applySlotDeltasOnce(argThat(deltas ->
+                deltas.keySet().equals(Set.of("1-0", "2-0", "3-0"))
+                        && deltas.get("1-0").getDelta() == -2
+                        && deltas.get("3-0").getStoreId() == 2L
+        ));
+        verify(streamOperations).acknowledge(eq(SlotDeltaStreamService.STREAM_KEY), eq("slot-flusher"),
+                eq(RecordId.of("1-0")), eq(RecordId.of("2-0")), eq(RecordId.of("3-0")));
+    }
+
+    @Test
+    void DB_반영_실패_시_확인_처리하지_않음() {
+        // given
+        when(slotDeltaStreamService.isEnabled()).thenReturn(true);
+        doReturn(streamOperations).when(stringRedisTemplate).opsForStream();
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenReturn(List.of(record("1-0", 1L, -2)));
+        doThrow(new RuntimeException("DB 장애")).when(slotJdbcRepository).applySlotDeltasOnce(anyMap());
+
+        // when
+        flusher.flush();
+
+        // then
+        verify(streamOperations, never()).acknowledge(anyString(), anyString(), any(RecordId[].class));
+    }
+
+    @Test
+    void 그룹_생성이_실패하면_다음_실행에서_다시_생성() {
+        // given (첫 실행은 Redis 연결 실패)
+        when(slotDeltaStreamService.isEnabled()).thenReturn(true);
+        doReturn(streamOperations).when(stringRedisTemplate).opsForStream();
+        when(streamOperations.createGroup(anyString(), any(ReadOffset.class), anyString()))
+                .thenThrow(new RuntimeException("Unable to connect to Redis"))
+                .thenReturn("OK");
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenReturn(List.of());
+
+        // when
+        flusher.flush();
+        flusher.flush();
+        flusher.flush();
+
+        // then (성공한 뒤에는 다시 만들지 않음)
+        verify(streamOperations, times(2)).createGroup(anyString(), any(ReadOffset.class), anyString());
+    }
+
+    @Test
+    void 이미_그룹이_있으면_생성된_것으로_처리() {
+        // given
+        when(slotDeltaStreamService.isEnabled()).thenReturn(true);
+        doReturn(streamOperations).when(stringRedisTemplate).opsForStream();
+        when(streamOperations.createGroup(anyString(), any(ReadOffset.class), anyString()))
+                .thenThrow(new RuntimeException("wrapped", new RuntimeException("BUSYGROUP Consumer Group name already exists")));
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenReturn(List.of());
+
+        // when
+        flusher.flush();
+        flusher.flush();
+
+        // then
+        verify(streamOperations, times(1)).createGroup(anyString(), any(ReadOffset.class), anyString());
+    }
+
+    @Test
+    void 그룹이_사라지면_다음_실행에서_다시_생성() {
+        // given (Redis 재시작으로 스트림과 그룹이 사라진 경우)
+        when(slotDeltaStreamService.isEnabled()).thenReturn(true);
+        doReturn(streamOperations).when(stringRedisTemplate).opsForStream();
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenThrow(new RuntimeException("wrapped", new RuntimeException("NOGROUP No such key 'slot:deltas'")))
+                .thenReturn(List.of());
+
+        // when
+        flusher.flush();
+        flusher.flush();
+
+        // then
+        verify(streamOperations, times(2)).createGroup(anyString(), any(ReadOffset.class), anyString());
+    }
+
+    private MapRecord<String, String, String> record(String id, Long storeId, int delta) {
+        return StreamRecords.newRecord()
+                .in(SlotDeltaStreamService.STREAM_KEY)
+                .withId(RecordId.of(id))
+                .ofMap(Map.of(
+                        "storeId", String.valueOf(storeId),
+                        "date", date.toString(),
+                        "time", time.toString(),
+                        "delta", String.valueOf(delta)
+                ));
+    }
+}
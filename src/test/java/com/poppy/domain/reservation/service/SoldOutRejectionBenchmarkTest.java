@@ -0,0 +1,101 @@
+package com.poppy.domain.reservation.service;
+
+import com.poppy.common.exception.BusinessException;
+import com.poppy.common.exception.ErrorCode;
+import com.poppy.common.exception.ExpectedRejectionException;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 매진 슬롯 거절 비용 비교 (./gradlew benchmark)
+// 변경 전: 요청 스레드 깊이에서 스택 트레이스를 가진 BusinessException 생성 (DB/락/Redis 왕복 비용은 제외한 하한값)
+// 변경 후: 인스턴스 내 매진 목록 확인 후 스택 트레이스 없는 예외 생성
+@Tag("benchmark")
+class SoldOutRejectionBenchmarkTest {
+    private static final int THREADS = 16;
+    private static final int REQUESTS_PER_THREAD = 200_000;
+    private static final int CALL_DEPTH = 80;  // 필터, 프록시, 컨트롤러를 거친 요청 스레드의 대략적인 호출 깊이
+    private static final Long STORE_ID = 1L;
+    private static final LocalDate DATE = LocalDate.now().plusDays(1);
+    private static final LocalTime TIME = LocalTime.of(11, 0);
+
+    @Test
+    void 매진_슬롯_거절_비용_비교() throws InterruptedException {
+        SoldOutSlotRegistry registry = new SoldOutSlotRegistry(null);
+        ReflectionTestUtils.setField(registry, "enabled", true);
+        ReflectionTestUtils.setField(registry, "ttlMillis", 60_000L);
+        registry.onMessage(new DefaultMessage(
+                SoldOutSlotRegistry.SLOT_EVENT_TOPIC.getBytes(StandardCharsets.UTF_8),
+                ("SOLD_OUT," + STORE_ID + "," + LocalDateTime.of(DATE, TIME)).getBytes(StandardCharsets.UTF_8)), null);
+
+        // JIT 워밍업
+        run(() -> rejectWithStackTrace(CALL_DEPTH));
+        run(() -> rejectFromRegistry(registry, CALL_DEPTH));
+
+        double before = run(() -> rejectWithStackTrace(CALL_DEPTH));
+        double after = run(() -> rejectFromRegistry(registry, CALL_DEPTH));
+
+        System.out.printf("[sold-out benchmark] stack trace: %.0f ns/rejection, registry + stackless: %.0f ns/rejection (x%.1f)%n",
+                before, after, before / after);
+
+        assertThat(after).isLessThan(before);
+    }
+
+    // 모든 스레드가 요청을 처리하는 동안 거절 1건당 평균 시간(ns) 반환
+    private double run(Runnable request) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch latch = new CountDownLatch(THREADS);
+        LongAdder rejected = new LongAdder();
+
+        long start = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                        try {
+                            request.run();
+                        } catch (BusinessException e) {
+                            rejected.increment();
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        assertThat(rejected.sum()).isEqualTo((long) THREADS * REQUESTS_PER_THREAD);
+        return (double) elapsed * THREADS / rejected.sum();
+    }
+
+    private static void rejectWithStackTrace(int depth) {
+        if (depth > 0) {
+            rejectWithStackTrace(depth - 1);
+            return;
+        }
+        throw new BusinessException(ErrorCode.NO_AVAILABLE_SLOT);
+    }
+
+    private static void rejectFromRegistry(SoldOutSlotRegistry registry, int depth) {
+        if (depth > 0) {
+            rejectFromRegistry(registry, depth - 1);
+            return;
+        }
+        if (registry.isSoldOut(STORE_ID, DATE, TIME)) throw new ExpectedRejectionException(ErrorCode.NO_AVAILABLE_SLOT);
+    }
+}
@@ -0,0 +1,147 @@
+package com.poppy.domain.reservation.stress;
+
+import com.poppy.domain.reservation.service.RedisSlotService;
+import com.poppy.domain.reservation.service.SlotReleaseResult;
+import com.poppy.domain.reservation.service.SlotReservationResult;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// Redis 슬롯 카운터와 Redisson 락 대신 사용하는 메모리 구현
+// 스크립트 선점은 CAS로 확인과 차감을 원자적으로 처리하고, 락은 슬롯 키별 ReentrantLock으로 대기/충돌을 재현
+class InMemoryRedisSlots {
+    private static final String LOCK_PREFIX = "reservation:lock:";   // ReservationService의 슬롯 락 키
+
+    private final long roundTripNanos;
+    private final Map<String, AtomicInteger> counters = new ConcurrentHashMap<>();
+    private final Map<String, RLock> locks = new ConcurrentHashMap<>();
+
+    final LongAdder lockAttempts = new LongAdder();     // 락 획득 시도
+    final LongAdder lockConflicts = new LongAdder();    // 다른 요청이 락을 잡고 있어 대기한 경우
+    final LongAdder lockTimeouts = new LongAdder();     // 대기 시간 안에 락을 얻지 못한 경우
+    final LongAdder decrementFailures = new LongAdder(); // 결제 완료 시 Redis 차감 실패 (비동기 재시도로 넘어간 경우)
+
+    InMemoryRedisSlots(long roundTripNanos) {
+        this.roundTripNanos = roundTripNanos;
+    }
+
+    void setSlot(Long storeId, LocalDate date, LocalTime time, int availableSlot) {
+        counters.put(key(storeId, date, time), new AtomicInteger(availableSlot));
+        locks.put(LOCK_PREFIX + storeId + ":" + date + ":" + time, newLock());
+    }
+
+    Integer getSlot(Long storeId, LocalDate date, LocalTime time) {
+        AtomicInteger counter = counters.get(key(storeId, date, time));
+        return counter == null ? null : counter.get();
+    }
+
+    RedisSlotService redisSlotService() {
+        RedisSlotService service = mock(RedisSlotService.class, withSettings().stubOnly());
+        when(service.getSlotFromRedis(any(), any(), any(), anyInt())).thenAnswer(invocation -> {
+            roundTrip();
+            return getSlot(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+        });
+        doAnswer(invocation -> {
+            roundTrip();
+            AtomicInteger counter = counter(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+            int person = invocation.getArgument(3);
+            // HINCRBY 후 음수면 되돌리고 예외 (RedisSlotService.decrementSlot과 동일)
+            if (counter.addAndGet(-person) < 0) {
+                counter.addAndGet(person);
+                decrementFailures.increment();
+                throw new IllegalStateException("Redis 슬롯이 음수가 될 수 없습니다.");
+            }
+            return null;
+        }).when(service).decrementSlot(any(), any(), any(), anyInt(), anyInt());
+        doAnswer(invocation -> {
+            roundTrip();
+            counter(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2))
+                    .addAndGet(invocation.<Integer>getArgument(3));
+            return null;
+        }).when(service).incrementSlot(any(), any(), any(), anyInt());
+        when(service.tryReserveSlot(any(), any(), any(), anyInt(), any())).thenAnswer(invocation ->
+                tryReserve(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+        when(service.tryReserveSlot(any(), any(), any(), anyInt(), any(), anyInt())).thenAnswer(invocation ->
+                tryReserve(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+        when(service.releaseSlot(any(), any(), any(), anyInt(), any())).thenAnswer(invocation -> {
+            roundTrip();
+            AtomicInteger counter = counters.get(key(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+            if (counter == null) return SlotReleaseResult.MISSING_KEY;
+            counter.addAndGet(invocation.<Integer>getArgument(3));
+            return SlotReleaseResult.RELEASED;
+        });
+        return service;
+    }
+
+    RedissonClient redissonClient() {
+        RedissonClient client = mock(RedissonClient.class, withSettings().stubOnly());
+        when(client.getLock(anyString())).thenAnswer(invocation -> locks.get(invocation.<String>getArgument(0)));
+        return client;
+    }
+
+    // 선점 스크립트와 같은 판단 순서 (슬롯 없음 -> 매진 -> 인원 부족 -> 차감)
+    private SlotReservationResult tryReserve(Long storeId, LocalDate date, LocalTime time, int person) {
+        roundTrip();
+        AtomicInteger counter = counters.get(key(storeId, date, time));
+        if (counter == null) return SlotReservationResult.MISSING_KEY;
+
+        while (true) {
+            int stock = counter.get();
+            if (stock <= 0) return SlotReservationResult.SOLD_OUT;
+            if (stock < person) return SlotReservationResult.INSUFFICIENT;
+            if (counter.compareAndSet(stock, stock - person)) return SlotReservationResult.OK;
+        }
+    }
+
+    // tryLock(대기, 점유, 단위)와 isHeldByCurrentThread, unlock만 사용하는 락
+    private RLock newLock() {
+        ReentrantLock lock = new ReentrantLock();
+        RLock rLock = mock(RLock.class, withSettings().stubOnly());
+        try {
+            when(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenAnswer(invocation -> {
+                lockAttempts.increment();
+                roundTrip();
+                if (lock.tryLock()) return true;
+
+                lockConflicts.increment();
+                boolean acquired = lock.tryLock(invocation.getArgument(0), invocation.getArgument(2));
+                if (!acquired) lockTimeouts.increment();
+                return acquired;
+            });
+        }
+        catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        when(rLock.isHeldByCurrentThread()).thenAnswer(invocation -> lock.isHeldByCurrentThread());
+        doAnswer(invocation -> {
+            roundTrip();
+            lock.unlock();
+            return null;
+        }).when(rLock).unlock();
+        return rLock;
+    }
+
+    private AtomicInteger counter(Long storeId, LocalDate date, LocalTime time) {
+        return counters.get(key(storeId, date, time));
+    }
+
+    private String key(Long storeId, LocalDate date, LocalTime time) {
+        return storeId + ":" + date + ":" + time;
+    }
+
+    private void roundTrip() {
+        if (roundTripNanos > 0) LockSupport.parkNanos(roundTripNanos);
+    }
+}
@@ -0,0 +1,209 @@
+package com.poppy.domain.reservation.stress;
+
+import com.poppy.domain.payment.entity.Payment;
+import com.poppy.domain.payment.repository.PaymentRepository;
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.popupStore.repository.PopupStoreRepository;
+import com.poppy.domain.reservation.entity.PopupStoreStatus;
+import com.poppy.domain.reservation.entity.Reservation;
+import com.poppy.domain.reservation.entity.ReservationAvailableSlot;
+import com.poppy.domain.reservation.entity.ReservationStatus;
+import com.poppy.domain.reservation.repository.ReservationAvailableSlotRepository;
+import com.poppy.domain.reservation.repository.ReservationRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// MySQL 대신 사용하는 메모리 저장소
+// 슬롯 수량 변경은 조건부 UPDATE와 같은 조건으로 행 단위 원자적으로 처리하고, 호출마다 왕복 지연을 흉내냄
+class InMemoryReservationDatabase {
+    private final long roundTripNanos;
+    private final AtomicLong reservationIds = new AtomicLong();
+    private final AtomicLong slotIds = new AtomicLong();
+    private final Map<Long, PopupStore> stores = new ConcurrentHashMap<>();
+    private final Map<SlotKey, SlotRow> slots = new ConcurrentHashMap<>();
+    private final Map<Long, SlotRow> slotsById = new ConcurrentHashMap<>();
+    private final Map<ReservationKey, Reservation> reservations = new ConcurrentHashMap<>();
+    private final Map<String, Payment> paymentsByOrderId = new ConcurrentHashMap<>();
+    private final Map<Long, Payment> paymentsByReservationId = new ConcurrentHashMap<>();
+
+    InMemoryReservationDatabase(long roundTripNanos) {
+        this.roundTripNanos = roundTripNanos;
+    }
+
+    void addStore(PopupStore popupStore) {
+        stores.put(popupStore.getId(), popupStore);
+    }
+
+    void addSlot(Long storeId, LocalDate date, LocalTime time, int totalSlot) {
+        SlotRow row = new SlotRow(slotIds.incrementAndGet(), new SlotKey(storeId, date, time), totalSlot);
+        slots.put(row.key, row);
+        slotsById.put(row.id, row);
+    }
+
+    int availableSlot(SlotKey key) {
+        SlotRow row = slots.get(key);
+        synchronized (row) {
+            return row.available;
+        }
+    }
+
+    int totalSlot(SlotKey key) {
+        return slots.get(key).total;
+    }
+
+    // 슬롯의 상태별 예약 인원 합계
+    int seats(SlotKey key, ReservationStatus status) {
+        return reservations.values().stream()
+                .filter(reservation -> reservation.getStatus() == status)
+                .filter(reservation -> key.equals(new SlotKey(reservation.getPopupStore().getId(), reservation.getDate(), reservation.getTime())))
+                .mapToInt(Reservation::getPerson)
+                .sum();
+    }
+
+    PopupStoreRepository popupStoreRepository() {
+        PopupStoreRepository repository = mock(PopupStoreRepository.class, withSettings().stubOnly());
+        when(repository.findById(any())).thenAnswer(invocation -> {
+            roundTrip();
+            return Optional.ofNullable(stores.get(invocation.<Long>getArgument(0)));
+        });
+        return repository;
+    }
+
+    ReservationAvailableSlotRepository reservationAvailableSlotRepository() {
+        ReservationAvailableSlotRepository repository = mock(ReservationAvailableSlotRepository.class, withSettings().stubOnly());
+        when(repository.findByPopupStoreIdAndDateAndTime(any(), any(), any())).thenAnswer(invocation -> {
+            roundTrip();
+            SlotRow row = slots.get(new SlotKey(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+            return Optional.ofNullable(row == null ? null : row.snapshot(stores.get(row.key.storeId())));
+        });
+        when(repository.decreaseSlot(anyLong(), anyInt())).thenAnswer(invocation -> {
+            roundTrip();
+            return slotsById.get(invocation.<Long>getArgument(0)).decrease(invocation.getArgument(1));
+        });
+        when(repository.increaseSlot(anyLong(), anyInt())).thenAnswer(invocation -> {
+            roundTrip();
+            return slotsById.get(invocation.<Long>getArgument(0)).increase(invocation.getArgument(1));
+        });
+        return repository;
+    }
+
+    ReservationRepository reservationRepository() {
+        ReservationRepository repository = mock(ReservationRepository.class, withSettings().stubOnly());
+        when(repository.findByUserIdAndPopupStoreIdAndDate(any(), any(), any())).thenAnswer(invocation -> {
+            roundTrip();
+            return Optional.ofNullable(reservations.get(new ReservationKey(
+                    invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2))));
+        });
+        when(repository.findByUserIdAndPopupStoreIdAndDateAndTime(any(), any(), any(), any())).thenAnswer(invocation -> {
+            roundTrip();
+            return Optional.ofNullable(reservations.get(new ReservationKey(
+                            invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2))))
+                    .filter(reservation -> reservation.getTime().equals(invocation.getArgument(3)));
+        });
+        when(repository.findByUserIdAndPopupStoreIdAndDateAndStatus(any(), any(), any(), any())).thenAnswer(invocation -> {
+            roundTrip();
+            return Optional.ofNullable(reservations.get(new ReservationKey(
+                            invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2))))
+                    .filter(reservation -> reservation.getStatus() == invocation.<ReservationStatus>getArgument(3));
+        });
+        when(repository.save(any(Reservation.class))).thenAnswer(invocation -> {
+            roundTrip();
+            Reservation reservation = invocation.getArgument(0);
+            if (reservation.getId() == null) {
+                ReflectionTestUtils.setField(reservation, "id", reservationIds.incrementAndGet());
+                reservations.put(new ReservationKey(
+                        reservation.getUser().getId(), reservation.getPopupStore().getId(), reservation.getDate()), reservation);
+            }
+            return reservation;
+        });
+        return repository;
+    }
+
+    PaymentRepository paymentRepository() {
+        PaymentRepository repository = mock(PaymentRepository.class, withSettings().stubOnly());
+        when(repository.save(any(Payment.class))).thenAnswer(invocation -> {
+            roundTrip();
+            Payment payment = invocation.getArgument(0);
+            paymentsByOrderId.put(payment.getOrderId(), payment);
+            paymentsByReservationId.put(payment.getReservation().getId(), payment);
+            return payment;
+        });
+        when(repository.findByOrderId(any())).thenAnswer(invocation -> {
+            roundTrip();
+            return Optional.ofNullable(paymentsByOrderId.get(invocation.<String>getArgument(0)));
+        });
+        when(repository.findByReservationId(any())).thenAnswer(invocation -> {
+            roundTrip();
+            return Optional.ofNullable(paymentsByReservationId.get(invocation.<Long>getArgument(0)));
+        });
+        doAnswer(invocation -> {
+            roundTrip();
+            Payment removed = paymentsByReservationId.remove(invocation.<Long>getArgument(0));
+            if (removed != null) paymentsByOrderId.remove(removed.getOrderId());
+            return null;
+        }).when(repository).deleteByReservationId(any());
+        return repository;
+    }
+
+    private void roundTrip() {
+        if (roundTripNanos > 0) LockSupport.parkNanos(roundTripNanos);
+    }
+
+    record SlotKey(Long storeId, LocalDate date, LocalTime time) {
+    }
+
+    private record ReservationKey(Long userId, Long storeId, LocalDate date) {
+    }
+
+    // 슬롯 행 (조건부 UPDATE는 행 락 안에서 조건 확인 후 변경하는 것과 같이 동기화)
+    private static class SlotRow {
+        private final Long id;
+        private final SlotKey key;
+        private final int total;
+        private int available;
+        private PopupStoreStatus status = PopupStoreStatus.AVAILABLE;
+
+        SlotRow(Long id, SlotKey key, int total) {
+            this.id = id;
+            this.key = key;
+            this.total = total;
+            this.available = total;
+        }
+
+        synchronized ReservationAvailableSlot snapshot(PopupStore popupStore) {
+            return ReservationAvailableSlot.builder()
+                    .id(id)
+                    .popupStore(popupStore)
+                    .date(key.date())
+                    .time(key.time())
+                    .availableSlot(available)
+                    .totalSlot(total)
+                    .status(status)
+                    .build();
+        }
+
+        synchronized int decrease(int count) {
+            if (available < count || status != PopupStoreStatus.AVAILABLE) return 0;
+            if (available - count <= 0) status = PopupStoreStatus.FULL;
+            available -= count;
+            return 1;
+        }
+
+        synchronized int increase(int count) {
+            if (available + count > total) return 0;
+            if (status == PopupStoreStatus.FULL) status = PopupStoreStatus.AVAILABLE;
+            available += count;
+            return 1;
+        }
+    }
+}
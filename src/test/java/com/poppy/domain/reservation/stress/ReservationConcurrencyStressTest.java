@@ -0,0 +1,170 @@
+package com.poppy.domain.reservation.stress;
+
+import com.poppy.domain.notification.service.NotificationService;
+import com.poppy.domain.payment.dto.ReservationPaymentRspDto;
+import com.poppy.domain.payment.service.PaymentService;
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.popupStore.entity.ReservationType;
+import com.poppy.domain.reservation.entity.Reservation;
+import com.poppy.domain.reservation.entity.ReservationStatus;
+import com.poppy.domain.reservation.service.AsyncRedisSlotDecrementService;
+import com.poppy.domain.reservation.service.ReservationHoldService;
+import com.poppy.domain.reservation.service.ReservationService;
+import com.poppy.domain.reservation.service.SlotAvailabilityPublisher;
+import com.poppy.domain.reservation.service.SlotDeltaStreamService;
+import com.poppy.domain.reservation.service.SoldOutSlotRegistry;
+import com.poppy.domain.user.entity.User;
+import com.poppy.domain.user.repository.LoginUserProvider;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+// 예약 경로 동시성 스트레스 테스트 (./gradlew stressTest)
+// Redis, Redisson 락, MySQL을 메모리 구현으로 대신하고 실제 ReservationService로 예약/결제 완료/취소를 동시에 실행
+// 종료 후 초과 예약이 없는지, Redis 잔여 수량 = DB 잔여 수량 = 전체 - 확정(CHECKED) 인원인지 확인하고
+// 처리량, 작업별 p50/p99 지연, 락 충돌 비율을 출력해 예약 경로 최적화 전후 비교 기준으로 사용
+@Tag("stress")
+class ReservationConcurrencyStressTest {
+    private static final int USERS = Integer.getInteger("stress.users", 2_000);
+    private static final int THREADS = Integer.getInteger("stress.threads", 64);
+    private static final long ROUND_TRIP_NANOS = TimeUnit.MICROSECONDS.toNanos(Long.getLong("stress.round-trip-micros", 200L));
+    private static final int CANCEL_EVERY = 4;  // 4명 중 1명은 결제 후 취소
+    private static final int REBOOK_EVERY = 8;  // 8명 중 1명은 취소 후 다시 예약
+    private static final int PERSON = 2;
+    private static final Long STORE_ID = 1L;
+    private static final LocalDate DATE = LocalDate.now().plusDays(7);
+    private static final ThreadLocal<User> CURRENT_USER = new ThreadLocal<>();
+
+    @Test
+    void 인기_슬롯_하나에_몰린_예약_락_모드() throws InterruptedException {
+        run("hot slot", false, List.of(LocalTime.of(10, 0)), 200);
+    }
+
+    @Test
+    void 인기_슬롯_하나에_몰린_예약_스크립트_모드() throws InterruptedException {
+        run("hot slot", true, List.of(LocalTime.of(10, 0)), 200);
+    }
+
+    @Test
+    void 여러_슬롯에_나뉜_예약_락_모드() throws InterruptedException {
+        run("spread slots", false, times(10), 40);
+    }
+
+    @Test
+    void 여러_슬롯에_나뉜_예약_스크립트_모드() throws InterruptedException {
+        run("spread slots", true, times(10), 40);
+    }
+
+    private void run(String scenario, boolean atomicSlotScript, List<LocalTime> times, int slotCapacity) throws InterruptedException {
+        InMemoryReservationDatabase database = new InMemoryReservationDatabase(ROUND_TRIP_NANOS);
+        InMemoryRedisSlots redis = new InMemoryRedisSlots(ROUND_TRIP_NANOS);
+        database.addStore(PopupStore.builder()
+                .id(STORE_ID)
+                .name("스트레스 테스트 팝업")
+                .reservationType(ReservationType.ONLINE)
+                .price(5000L)
+                .build());
+        for (LocalTime time : times) {
+            database.addSlot(STORE_ID, DATE, time, slotCapacity);
+            redis.setSlot(STORE_ID, DATE, time, slotCapacity);
+        }
+
+        ReservationService reservationService = newReservationService(database, redis, atomicSlotScript);
+        StressReport report = new StressReport(String.format("%s, %s mode, users=%d, threads=%d, slots=%d x %d",
+                scenario, atomicSlotScript ? "script" : "lock", USERS, THREADS, times.size(), slotCapacity));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        for (int i = 1; i <= USERS; i++) {
+            long userId = i;
+            LocalTime time = times.get(i % times.size());
+            executor.submit(() -> book(reservationService, report, userId, time));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+        report.finish(System.nanoTime() - start);
+        report.print(redis);
+
+        assertThat(report.getUnexpectedErrors()).isEmpty();
+        for (LocalTime time : times) {
+            InMemoryReservationDatabase.SlotKey slot = new InMemoryReservationDatabase.SlotKey(STORE_ID, DATE, time);
+            int total = database.totalSlot(slot);
+            int available = database.availableSlot(slot);
+            int checked = database.seats(slot, ReservationStatus.CHECKED);
+            // 스크립트 모드는 예약 요청 시점에 Redis에서 선점하므로 결제 대기 인원만큼 Redis가 더 적음
+            int held = atomicSlotScript ? database.seats(slot, ReservationStatus.PENDING) : 0;
+
+            assertThat(checked).as("초과 예약 %s", time).isLessThanOrEqualTo(total);
+            assertThat(available).as("DB 잔여 수량 %s", time).isEqualTo(total - checked);
+            assertThat(redis.getSlot(STORE_ID, DATE, time)).as("Redis 잔여 수량 %s", time).isEqualTo(available - held);
+        }
+    }
+
+    // 예약 -> 결제 완료, 일부는 취소 후 다시 예약
+    private void book(ReservationService reservationService, StressReport report, long userId, LocalTime time) {
+        CURRENT_USER.set(new User(userId));
+        try {
+            if (!reserveAndComplete(reservationService, report, time)) return;
+            if (userId % CANCEL_EVERY != 0) return;
+
+            Boolean canceled = report.measure("cancel", () -> {
+                reservationService.cancelReservation(userId, STORE_ID, DATE, time, PERSON);
+                return true;
+            });
+            if (canceled != null && userId % REBOOK_EVERY == 0) reserveAndComplete(reservationService, report, time);
+        } finally {
+            CURRENT_USER.remove();
+        }
+    }
+
+    private boolean reserveAndComplete(ReservationService reservationService, StressReport report, LocalTime time) {
+        ReservationPaymentRspDto payment = report.measure("reserve",
+                () -> reservationService.reservation(STORE_ID, DATE, time, PERSON));
+        if (payment == null) return false;
+
+        Reservation reservation = report.measure("complete",
+                () -> reservationService.completeReservation(payment.getOrderId()));
+        return reservation != null;
+    }
+
+    private ReservationService newReservationService(InMemoryReservationDatabase database, InMemoryRedisSlots redis, boolean atomicSlotScript) {
+        LoginUserProvider loginUserProvider = mock(LoginUserProvider.class, withSettings().stubOnly());
+        when(loginUserProvider.getLoggedInUser()).thenAnswer(invocation -> CURRENT_USER.get());
+
+        ReservationService reservationService = new ReservationService(
+                redis.redissonClient(),
+                database.popupStoreRepository(),
+                database.reservationAvailableSlotRepository(),
+                database.reservationRepository(),
+                database.paymentRepository(),
+                redis.redisSlotService(),
+                mock(AsyncRedisSlotDecrementService.class, withSettings().stubOnly()),
+                mock(ReservationHoldService.class, withSettings().stubOnly()),
+                mock(SlotDeltaStreamService.class, withSettings().stubOnly()),
+                mock(SoldOutSlotRegistry.class, withSettings().stubOnly()),
+                mock(SlotAvailabilityPublisher.class, withSettings().stubOnly()),
+                mock(PaymentService.class, withSettings().stubOnly()),
+                mock(NotificationService.class, withSettings().stubOnly()),
+                loginUserProvider
+        );
+        ReflectionTestUtils.setField(reservationService, "atomicSlotScriptEnabled", atomicSlotScript);
+        return reservationService;
+    }
+
+    private List<LocalTime> times(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(hour -> LocalTime.of(10 + hour, 0))
+                .toList();
+    }
+}
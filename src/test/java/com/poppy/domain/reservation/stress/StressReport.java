@@ -0,0 +1,78 @@
+package com.poppy.domain.reservation.stress;
+
+import com.poppy.common.exception.BusinessException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// 작업별 지연 시간(p50/p99)과 결과(성공, 거절 사유별 건수) 집계
+class StressReport {
+    private final String scenario;
+    private final Map<String, Queue<Long>> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final Queue<Throwable> unexpectedErrors = new ConcurrentLinkedQueue<>();
+    private long elapsedNanos;
+
+    StressReport(String scenario) {
+        this.scenario = scenario;
+    }
+
+    // 호출 시간과 결과를 기록하고, 비즈니스 예외로 거절되면 null 반환
+    <T> T measure(String operation, Supplier<T> call) {
+        long start = System.nanoTime();
+        String outcome = "OK";
+        try {
+            return call.get();
+        } catch (BusinessException e) {
+            outcome = e.getMessage();
+            return null;
+        } catch (RuntimeException e) {
+            outcome = e.getClass().getSimpleName();
+            unexpectedErrors.add(e);
+            return null;
+        } finally {
+            latencies.computeIfAbsent(operation, key -> new ConcurrentLinkedQueue<>()).add(System.nanoTime() - start);
+            outcomes.computeIfAbsent(operation + " / " + outcome, key -> new LongAdder()).increment();
+        }
+    }
+
+    void finish(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    List<Throwable> getUnexpectedErrors() {
+        return new ArrayList<>(unexpectedErrors);
+    }
+
+    void print(InMemoryRedisSlots redis) {
+        long operations = latencies.values().stream().mapToLong(Queue::size).sum();
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        long attempts = redis.lockAttempts.sum();
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("[reservation stress] %s%n", scenario));
+        sb.append(String.format("  throughput: %d ops in %.2f s (%.0f ops/s)%n", operations, seconds, operations / seconds));
+        new TreeMap<>(latencies).forEach((operation, samples) -> {
+            long[] sorted = samples.stream().mapToLong(Long::longValue).sorted().toArray();
+            sb.append(String.format("  %-8s n=%d p50=%.2f ms p99=%.2f ms max=%.2f ms%n", operation, sorted.length,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), sorted[sorted.length - 1] / 1_000_000.0));
+        });
+        sb.append(String.format("  lock: attempts=%d conflicts=%d (%.1f%%) timeouts=%d, redis decrement failures=%d%n",
+                attempts, redis.lockConflicts.sum(), attempts == 0 ? 0.0 : redis.lockConflicts.sum() * 100.0 / attempts,
+                redis.lockTimeouts.sum(), redis.decrementFailures.sum()));
+        new TreeMap<>(outcomes).forEach((outcome, count) -> sb.append(String.format("  %s: %d%n", outcome, count.sum())));
+        System.out.print(sb);
+    }
+
+    private double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -39,6 +39,10 @@ class MasterWaitingServiceTest {
     @Mock
     private WaitingUtils waitingUtils;
     @Mock
+    private WaitingQueueService waitingQueueService;
+    @Mock
+    private WaitingTimeoutQueue waitingTimeoutQueue;
+    @Mock
     private PopupStoreRepository popupStoreRepository;
     @Mock
     private LoginUserProvider loginUserProvider;
@@ -120,6 +124,23 @@ class MasterWaitingServiceTest {
         // then
         assertNotNull(result);
         verify(notificationService).sendNotification(waiting, NotificationType.WAITING_CALL, null);
+        verify(waitingTimeoutQueue).scheduleAfterCommit(1L);
+    }
+
+    @Test
+    void 입장_완료시_타임아웃_해제() {
+        // given
+        waiting.updateStatus(WaitingStatus.CALLED);
+        when(loginUserProvider.getLoggedInUser()).thenReturn(masterUser);
+        when(popupStoreRepository.findById(anyLong())).thenReturn(Optional.of(popupStore));
+        when(waitingRepository.findById(anyLong())).thenReturn(Optional.of(waiting));
+
+        // when
+        masterWaitingService.updateWaitingStatus(1L, 1L, WaitingStatus.COMPLETED);
+
+        // then
+        verify(waitingTimeoutQueue).cancelAfterCommit(1L);
+        verify(waitingQueueService).removeAfterCommit(eq(1L), any(LocalDate.class), eq(2L));
     }
 
     @Test
@@ -162,5 +183,6 @@ class MasterWaitingServiceTest {
 
         // then
         assertEquals(WaitingStatus.CANCELED, waiting.getStatus());
+        verify(waitingQueueService).removeAfterCommit(eq(1L), any(LocalDate.class), eq(2L));
     }
 }
@@ -1,6 +1,7 @@
 package com.poppy.domain.waiting.service;
 
 import com.poppy.common.exception.BusinessException;
+import com.poppy.common.exception.ErrorCode;
 import com.poppy.domain.notification.entity.NotificationType;
 import com.poppy.domain.notification.service.NotificationService;
 import com.poppy.domain.popupStore.entity.PopupStore;
@@ -19,9 +20,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -41,13 +39,13 @@ class UserWaitingServiceTest {
     @Mock
     private PopupStoreRepository popupStoreRepository;
     @Mock
-    private RedissonClient redissonClient;
+    private WaitingQueueService waitingQueueService;
+    @Mock
+    private WaitingSettingsCache waitingSettingsCache;
     @Mock
     private WaitingUtils waitingUtils;
     @Mock
     private LoginUserProvider loginUserProvider;
-    @Mock
-    private RLock rLock;
 
     @InjectMocks
     private UserWaitingService userWaitingService;
@@ -86,13 +84,12 @@ class UserWaitingServiceTest {
     }
 
     @Test
-    void 웨이팅_등록_성공() throws InterruptedException {
+    void 웨이팅_등록_성공() {
         // given
         when(loginUserProvider.getLoggedInUser()).thenReturn(user);
         when(popupStoreRepository.findById(anyLong())).thenReturn(Optional.of(popupStore));
-        when(redissonClient.getLock(anyString())).thenReturn(rLock);
-        when(rLock.tryLock(anyLong(), anyLong(), any())).thenReturn(true);
-        when(waitingRepository.findMaxWaitingNumberByStoreId(anyLong())).thenReturn(Optional.of(0));
+        when(waitingSettingsCache.getMaxWaitingCount(1L)).thenReturn(50);
+        when(waitingQueueService.register(eq(1L), any(LocalDate.class), eq(1L), eq(50))).thenReturn(new WaitingQueueService.Registration(1, 0));
         when(waitingRepository.save(any(Waiting.class))).thenReturn(waiting);
 
         // when
@@ -101,31 +98,36 @@ class UserWaitingServiceTest {
         // then
         assertNotNull(result);
         assertEquals(1, result.getWaitingNumber());
+        verify(waitingRepository).save(argThat((Waiting saved) -> saved.getWaitingNumber() == 1));
+        verify(notificationService).sendNotification(waiting, NotificationType.TEAMS_AHEAD, 0);
     }
 
     @Test
-    void 웨이팅_등록_락획득실패() throws InterruptedException {
+    void 웨이팅_등록_중복대기_실패() {
         // given
-        when(redissonClient.getLock(anyString())).thenReturn(rLock);
-        when(rLock.tryLock(anyLong(), anyLong(), any())).thenReturn(false);
+        when(loginUserProvider.getLoggedInUser()).thenReturn(user);
+        when(popupStoreRepository.findById(anyLong())).thenReturn(Optional.of(popupStore));
+        when(waitingSettingsCache.getMaxWaitingCount(1L)).thenReturn(50);
+        when(waitingQueueService.register(eq(1L), any(LocalDate.class), eq(1L), eq(50))).thenThrow(new BusinessException(ErrorCode.DUPLICATE_WAITING));
 
         // when & then
         assertThrows(BusinessException.class, () ->
                 userWaitingService.registerWaiting(1L, 1L));
+        verify(waitingRepository, never()).save(any(Waiting.class));
     }
 
     @Test
-    void 웨이팅_등록_최대인원초과() throws InterruptedException {
+    void 웨이팅_등록_최대인원초과() {
         // given
         when(loginUserProvider.getLoggedInUser()).thenReturn(user);
         when(popupStoreRepository.findById(anyLong())).thenReturn(Optional.of(popupStore));
-        when(redissonClient.getLock(anyString())).thenReturn(rLock);
-        when(rLock.tryLock(anyLong(), anyLong(), any())).thenReturn(true);
-        when(waitingRepository.countByPopupStoreIdAndStatusIn(anyLong(), anySet())).thenReturn(51L);
+        when(waitingSettingsCache.getMaxWaitingCount(1L)).thenReturn(10);   // 스토어별 최대 인원 설정 적용
+        when(waitingQueueService.register(eq(1L), any(LocalDate.class), eq(1L), eq(10))).thenThrow(new BusinessException(ErrorCode.MAX_WAITING_EXCEEDED));
 
         // when & then
         assertThrows(BusinessException.class, () ->
                 userWaitingService.registerWaiting(1L, 1L));
+        verify(waitingRepository, never()).save(any(Waiting.class));
     }
 
     @Test
@@ -168,6 +170,7 @@ class UserWaitingServiceTest {
         // then
         assertEquals(WaitingStatus.CANCELED, waiting.getStatus());
         verify(notificationService).sendNotification(waiting, NotificationType.WAITING_CANCEL, null);
+        verify(waitingQueueService).removeAfterCommit(eq(1L), any(LocalDate.class), eq(1L));
     }
 
     @Test
@@ -180,28 +183,4 @@ class UserWaitingServiceTest {
         assertThrows(BusinessException.class, () ->
                 userWaitingService.cancelWaiting(1L, 1L));
     }
-
-    @Test
-    void 다음_대기번호_생성_성공() {
-        // given
-        when(waitingRepository.findMaxWaitingNumberByStoreId(anyLong())).thenReturn(Optional.of(5));
-
-        // when
-        Integer nextNumber = ReflectionTestUtils.invokeMethod(userWaitingService, "getNextWaitingNumber", 1L);
-
-        // then
-        assertEquals(6, nextNumber);
-    }
-
-    @Test
-    void 첫_대기번호_생성_성공() {
-        // given
-        when(waitingRepository.findMaxWaitingNumberByStoreId(anyLong())).thenReturn(Optional.empty());
-
-        // when
-        Integer nextNumber = ReflectionTestUtils.invokeMethod(userWaitingService, "getNextWaitingNumber", 1L);
-
-        // then
-        assertEquals(1, nextNumber);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,110 @@
+package com.poppy.domain.waiting.service;
+
+import com.poppy.common.exception.BusinessException;
+import com.poppy.common.exception.ErrorCode;
+import com.poppy.domain.waiting.repository.WaitingRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 대기 등록 스크립트의 최대 인원 경계 확인 (로컬 Redis가 없으면 건너뜀)
+class WaitingQueueRegisterScriptTest {
+    private static final Long STORE_ID = 900_101L;
+    private static final LocalDate DATE = LocalDate.now().plusDays(1);
+    private static final List<String> KEYS = List.of(
+            "waiting:queue:" + STORE_ID + ":" + DATE,
+            "waiting:seq:" + STORE_ID + ":" + DATE,
+            "waiting:loaded:" + STORE_ID + ":" + DATE);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    private WaitingQueueService waitingQueueService;
+
+    @BeforeAll
+    static void setUpRedis() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getProperty("test.redis.host", "localhost"),
+                Integer.parseInt(System.getProperty("test.redis.port", "6379")));
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        if (connectionFactory != null) connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(isRedisAvailable(), "Redis not available, skipping waiting queue script test");
+        stringRedisTemplate.delete(KEYS);
+
+        // DB에 활성 대기가 없는 영업일
+        WaitingRepository waitingRepository = mock(WaitingRepository.class);
+        when(waitingRepository.findActiveWaitingsByDate(eq(STORE_ID), eq(DATE), anySet())).thenReturn(List.of());
+        when(waitingRepository.findMaxWaitingNumberByStoreIdAndDate(STORE_ID, DATE)).thenReturn(Optional.empty());
+        waitingQueueService = new WaitingQueueService(stringRedisTemplate, waitingRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (isRedisAvailable()) stringRedisTemplate.delete(KEYS);
+    }
+
+    @Test
+    void 최대_인원까지만_등록되고_다음_등록은_거절() {
+        // given
+        waitingQueueService.register(STORE_ID, DATE, 1L, 2);
+        WaitingQueueService.Registration second = waitingQueueService.register(STORE_ID, DATE, 2L, 2);
+
+        // when & then (대기열이 최대 인원과 같아지면 더 이상 등록하지 않음)
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                waitingQueueService.register(STORE_ID, DATE, 3L, 2));
+        assertEquals(ErrorCode.MAX_WAITING_EXCEEDED.getMessage(), exception.getMessage());
+
+        assertEquals(2, second.getWaitingNumber());
+        assertEquals(1, second.getPeopleAhead());
+        assertEquals(2L, stringRedisTemplate.opsForZSet().zCard(KEYS.get(0)));
+    }
+
+    @Test
+    void 대기가_빠지면_빈_자리만큼_다시_등록() {
+        // given
+        waitingQueueService.register(STORE_ID, DATE, 1L, 2);
+        waitingQueueService.register(STORE_ID, DATE, 2L, 2);
+
+        // when
+        waitingQueueService.remove(STORE_ID, DATE, 1L);
+        WaitingQueueService.Registration registration = waitingQueueService.register(STORE_ID, DATE, 3L, 2);
+
+        // then
+        assertEquals(3, registration.getWaitingNumber());
+        assertEquals(1, registration.getPeopleAhead());
+    }
+
+    private static boolean isRedisAvailable() {
+        try {
+            return "PONG".equals(stringRedisTemplate.getConnectionFactory().getConnection().ping());
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
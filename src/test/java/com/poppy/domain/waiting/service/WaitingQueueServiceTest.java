@@ -0,0 +1,121 @@
+package com.poppy.domain.waiting.service;
+
+import com.poppy.common.exception.BusinessException;
+import com.poppy.common.exception.ErrorCode;
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.user.entity.User;
+import com.poppy.domain.waiting.entity.Waiting;
+import com.poppy.domain.waiting.repository.WaitingRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WaitingQueueServiceTest {
+    private static final Long STORE_ID = 1L;
+    private static final LocalDate DATE = LocalDate.of(2026, 10, 17);
+    private static final List<String> KEYS = List.of("waiting:queue:1:2026-10-17", "waiting:seq:1:2026-10-17", "waiting:loaded:1:2026-10-17");
+
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+    @Mock
+    private WaitingRepository waitingRepository;
+
+    @InjectMocks
+    private WaitingQueueService waitingQueueService;
+
+    @Test
+    void 대기열_등록시_대기번호와_앞_팀_수_반환() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("1"), eq("50"), anyString())).thenReturn(List.of(1L, 12L, 3L));
+
+        // when
+        WaitingQueueService.Registration registration = waitingQueueService.register(STORE_ID, DATE, 1L, 50);
+
+        // then
+        assertEquals(12, registration.getWaitingNumber());
+        assertEquals(3, registration.getPeopleAhead());
+        verifyNoInteractions(waitingRepository);
+    }
+
+    @Test
+    void 이미_대기열에_있으면_중복_대기_예외() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("1"), eq("50"), anyString())).thenReturn(List.of(-1L, 0L, 0L));
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                waitingQueueService.register(STORE_ID, DATE, 1L, 50));
+        assertEquals(ErrorCode.DUPLICATE_WAITING.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    void 최대_인원을_넘으면_예외() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("1"), eq("50"), anyString())).thenReturn(List.of(-2L, 0L, 0L));
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                waitingQueueService.register(STORE_ID, DATE, 1L, 50));
+        assertEquals(ErrorCode.MAX_WAITING_EXCEEDED.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    void 대기열이_없으면_DB_기준으로_적재_후_다시_등록() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("1"), eq("50"), anyString()))
+                .thenReturn(List.of(-3L, 0L, 0L), List.of(1L, 8L, 1L));
+        when(waitingRepository.findActiveWaitingsByDate(eq(STORE_ID), eq(DATE), anySet())).thenReturn(List.of(waiting(2L, 7)));
+        when(waitingRepository.findMaxWaitingNumberByStoreIdAndDate(STORE_ID, DATE)).thenReturn(Optional.of(7));
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("7"), anyString(), eq("7"), eq("2"))).thenReturn(1L);
+
+        // when
+        WaitingQueueService.Registration registration = waitingQueueService.register(STORE_ID, DATE, 1L, 50);
+
+        // then (DB 최대 대기번호 다음 번호 발급, 기존 활성 대기 1팀이 앞에 있음)
+        assertEquals(8, registration.getWaitingNumber());
+        assertEquals(1, registration.getPeopleAhead());
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(KEYS), eq("7"), anyString(), eq("7"), eq("2"));
+    }
+
+    @Test
+    void 영업일의_첫_등록은_대기번호_카운터를_0부터_적재() {
+        // given (전날까지의 대기번호와 관계없이 해당 영업일 기준으로 복구)
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("1"), eq("50"), anyString()))
+                .thenReturn(List.of(-3L, 0L, 0L), List.of(1L, 1L, 0L));
+        when(waitingRepository.findActiveWaitingsByDate(eq(STORE_ID), eq(DATE), anySet())).thenReturn(List.of());
+        when(waitingRepository.findMaxWaitingNumberByStoreIdAndDate(STORE_ID, DATE)).thenReturn(Optional.empty());
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("0"), anyString())).thenReturn(1L);
+
+        // when
+        WaitingQueueService.Registration registration = waitingQueueService.register(STORE_ID, DATE, 1L, 50);
+
+        // then
+        assertEquals(1, registration.getWaitingNumber());
+        assertEquals(0, registration.getPeopleAhead());
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(KEYS), eq("0"), anyString());
+    }
+
+    private Waiting waiting(Long userId, int waitingNumber) {
+        return Waiting.builder()
+                .popupStore(PopupStore.builder().id(STORE_ID).build())
+                .user(User.builder().id(userId).build())
+                .waitingNumber(waitingNumber)
+                .waitingDate(DATE)
+                .waitingTime(LocalTime.now())
+                .build();
+    }
+}
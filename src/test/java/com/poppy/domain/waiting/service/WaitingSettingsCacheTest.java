@@ -0,0 +1,120 @@
+package com.poppy.domain.waiting.service;
+
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.waiting.entity.WaitingSettings;
+import com.poppy.domain.waiting.repository.WaitingSettingsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WaitingSettingsCacheTest {
+    @Mock
+    private WaitingSettingsRepository waitingSettingsRepository;
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    @InjectMocks
+    private WaitingSettingsCache waitingSettingsCache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(waitingSettingsCache, "ttlMillis", 60_000L);
+    }
+
+    @Test
+    void 캐시된_설정은_DB를_다시_조회하지_않음() {
+        // given
+        when(waitingSettingsRepository.findByPopupStoreId(1L)).thenReturn(Optional.of(settings(1L, 30)));
+
+        // when
+        int first = waitingSettingsCache.getMaxWaitingCount(1L);
+        int second = waitingSettingsCache.getMaxWaitingCount(1L);
+
+        // then
+        assertEquals(30, first);
+        assertEquals(30, second);
+        verify(waitingSettingsRepository, times(1)).findByPopupStoreId(1L);
+    }
+
+    @Test
+    void 설정이_없으면_기본값() {
+        // given
+        when(waitingSettingsRepository.findByPopupStoreId(1L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertEquals(WaitingSettings.DEFAULT_MAX_WAITING_COUNT, waitingSettingsCache.getMaxWaitingCount(1L));
+    }
+
+    @Test
+    void TTL이_지나면_DB에서_다시_조회() {
+        // given
+        ReflectionTestUtils.setField(waitingSettingsCache, "ttlMillis", -1L);
+        when(waitingSettingsRepository.findByPopupStoreId(1L))
+                .thenReturn(Optional.of(settings(1L, 30)), Optional.of(settings(1L, 40)));
+
+        // when
+        waitingSettingsCache.getMaxWaitingCount(1L);
+        int refreshed = waitingSettingsCache.getMaxWaitingCount(1L);
+
+        // then
+        assertEquals(40, refreshed);
+    }
+
+    @Test
+    void 설정_변경시_로컬_반영_후_전파() {
+        // when (트랜잭션 밖에서는 바로 전파)
+        waitingSettingsCache.publishUpdatedAfterCommit(1L, 20);
+
+        // then
+        assertEquals(20, waitingSettingsCache.getMaxWaitingCount(1L));
+        verify(stringRedisTemplate).convertAndSend(WaitingSettingsCache.SETTINGS_EVENT_TOPIC, "1,20");
+        verifyNoInteractions(waitingSettingsRepository);
+    }
+
+    @Test
+    void 다른_인스턴스의_변경_이벤트_반영() {
+        // when
+        waitingSettingsCache.onMessage(new DefaultMessage(
+                WaitingSettingsCache.SETTINGS_EVENT_TOPIC.getBytes(StandardCharsets.UTF_8),
+                "1,15".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertEquals(15, waitingSettingsCache.getMaxWaitingCount(1L));
+        verifyNoInteractions(waitingSettingsRepository);
+    }
+
+    @Test
+    void 기동시_전체_설정_적재() {
+        // given
+        when(waitingSettingsRepository.findAll()).thenReturn(List.of(settings(1L, 30), settings(2L, 70)));
+
+        // when
+        waitingSettingsCache.warmUp();
+
+        // then
+        assertEquals(30, waitingSettingsCache.getMaxWaitingCount(1L));
+        assertEquals(70, waitingSettingsCache.getMaxWaitingCount(2L));
+        verify(waitingSettingsRepository, never()).findByPopupStoreId(anyLong());
+    }
+
+    private WaitingSettings settings(Long storeId, int maxWaitingCount) {
+        return WaitingSettings.builder()
+                .popupStore(PopupStore.builder().id(storeId).build())
+                .maxWaitingCount(maxWaitingCount)
+                .build();
+    }
+}
@@ -22,6 +22,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +33,8 @@ class WaitingSettingsServiceTest {
     private PopupStoreRepository popupStoreRepository;
     @Mock
     private LoginUserProvider loginUserProvider;
+    @Mock
+    private WaitingSettingsCache waitingSettingsCache;
 
     @InjectMocks
     private WaitingSettingsService waitingSettingsService;
@@ -92,6 +95,7 @@ class WaitingSettingsServiceTest {
         // then
         assertNotNull(result);
         assertEquals(30, result.getMaxWaitingCount());
+        verify(waitingSettingsCache).publishUpdatedAfterCommit(1L, 30);
     }
 
     @Test
@@ -0,0 +1,110 @@
+package com.poppy.domain.waiting.service;
+
+import com.poppy.domain.popupStore.entity.PopupStore;
+import com.poppy.domain.user.entity.User;
+import com.poppy.domain.waiting.entity.Waiting;
+import com.poppy.domain.waiting.entity.WaitingStatus;
+import com.poppy.domain.waiting.repository.WaitingRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WaitingTimeoutQueueTest {
+    private static final String TIMEOUT_KEY = "waiting:timeouts";
+
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+    @Mock
+    private WaitingRepository waitingRepository;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @InjectMocks
+    private WaitingTimeoutQueue waitingTimeoutQueue;
+
+    @Test
+    void 호출시_5분_뒤_타임아웃_등록() {
+        // given
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        long before = System.currentTimeMillis();
+
+        // when (트랜잭션 밖에서는 바로 등록)
+        waitingTimeoutQueue.scheduleAfterCommit(1L);
+
+        // then
+        verify(zSetOperations).add(eq(TIMEOUT_KEY), eq("1"),
+                doubleThat(deadline -> deadline >= before + 5 * 60 * 1000));
+    }
+
+    @Test
+    void 입장_완료시_타임아웃_해제() {
+        // given
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        // when
+        waitingTimeoutQueue.cancelAfterCommit(1L);
+
+        // then
+        verify(zSetOperations).remove(TIMEOUT_KEY, "1");
+    }
+
+    @Test
+    void 시각이_지난_대기_ID만_꺼냄() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(TIMEOUT_KEY)), anyString(), eq("100"), anyString()))
+                .thenReturn(List.of("3", "7"));
+
+        // when
+        List<Long> due = waitingTimeoutQueue.claimDue(100);
+
+        // then
+        assertEquals(List.of(3L, 7L), due);
+    }
+
+    @Test
+    void 꺼낼_대기가_없으면_빈_목록() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(TIMEOUT_KEY)), anyString(), eq("100"), anyString()))
+                .thenReturn(List.of());
+
+        // when & then
+        assertTrue(waitingTimeoutQueue.claimDue(100).isEmpty());
+    }
+
+    @Test
+    void 기동시_호출_상태_대기를_큐에_복구() {
+        // given
+        Waiting waiting = Waiting.builder()
+                .popupStore(PopupStore.builder().id(1L).build())
+                .user(User.builder().id(2L).build())
+                .waitingNumber(1)
+                .build();
+        waiting.updateStatus(WaitingStatus.CALLED);
+        ReflectionTestUtils.setField(waiting, "id", 5L);
+        ReflectionTestUtils.setField(waiting, "updateTime", LocalDateTime.now().minusMinutes(3));
+        when(waitingRepository.findByStatus(WaitingStatus.CALLED)).thenReturn(List.of(waiting));
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        // when
+        waitingTimeoutQueue.restoreFromDb();
+
+        // then
+        verify(zSetOperations).addIfAbsent(eq(TIMEOUT_KEY), argThat(tuples -> tuples.size() == 1
+                && "5".equals(tuples.iterator().next().getValue())));
+    }
+}
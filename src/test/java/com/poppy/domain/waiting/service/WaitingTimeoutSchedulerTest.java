@@ -1,157 +1,102 @@
 package com.poppy.domain.waiting.service;
 
-import com.poppy.common.config.redis.DistributedLockService;
-import com.poppy.domain.notification.service.NotificationService;
-import com.poppy.domain.popupStore.entity.PopupStore;
-import com.poppy.domain.user.entity.User;
-import com.poppy.domain.waiting.entity.Waiting;
-import com.poppy.domain.waiting.entity.WaitingStatus;
-import com.poppy.domain.waiting.repository.WaitingRepository;
+import com.poppy.common.exception.BusinessException;
+import com.poppy.common.exception.ErrorCode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.boot.test.mock.mockito.MockBean;
+import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
-@SpringBootTest
+@ExtendWith(MockitoExtension.class)
 class WaitingTimeoutSchedulerTest {
-    @Autowired
-    private WaitingTimeoutScheduler waitingScheduler;
-
-    @MockBean
-    private WaitingRepository waitingRepository;
-
-    @MockBean
-    private MasterWaitingService masterWaitingService;
-
-    @MockBean
-    private DistributedLockService lockService;
-
     @Mock
-    private NotificationService notificationService;
-
+    private WaitingTimeoutQueue waitingTimeoutQueue;
     @Mock
-    private WaitingUtils waitingUtils;
+    private MasterWaitingService masterWaitingService;
 
-    private Waiting waiting;
-    private PopupStore popupStore;
-    private User user;
+    @InjectMocks
+    private WaitingTimeoutScheduler waitingScheduler;
 
     @BeforeEach
     void setUp() {
-        user = User.builder()
-                .id(1L)
-                .email("test@example.com")
-                .build();
-
-        popupStore = PopupStore.builder()
-                .id(1L)
-                .name("테스트 팝업스토어")
-                .build();
-
-        waiting = Waiting.builder()
-                .popupStore(popupStore)
-                .user(user)
-                .waitingNumber(1)
-                .build();
-        waiting.updateStatus(WaitingStatus.CALLED);
-
-        ReflectionTestUtils.setField(waiting, "updateTime", LocalDateTime.now().minusMinutes(6));
-        ReflectionTestUtils.setField(waiting, "id", 1L);
+        ReflectionTestUtils.setField(waitingScheduler, "batchSize", 2);
     }
 
     @Test
-    void 락_획득_실패시_스케줄러_실행되지_않음() {
+    void 타임아웃_시각이_지난_대기가_없으면_처리하지_않음() {
         // given
-        when(lockService.tryLock(anyString())).thenReturn(false);
+        when(waitingTimeoutQueue.claimDue(2)).thenReturn(List.of());
 
         // when
         waitingScheduler.checkWaitingTimeout();
 
         // then
-        verify(waitingRepository, never()).findByStatus(any());
         verify(masterWaitingService, never()).handleWaitingTimeout(any());
     }
 
     @Test
-    void 호출된_웨이팅_5분_초과시_타임아웃_처리() {
+    void 꺼낸_대기를_타임아웃_처리() {
         // given
-        when(lockService.tryLock(anyString())).thenReturn(true);
-        when(waitingRepository.findByStatus(WaitingStatus.CALLED))
-                .thenReturn(List.of(waiting));
+        when(waitingTimeoutQueue.claimDue(2)).thenReturn(List.of(1L));
 
         // when
         waitingScheduler.checkWaitingTimeout();
 
-        // then
-        verify(masterWaitingService, times(1)).handleWaitingTimeout(waiting.getId());
+        // then (처리가 끝난 뒤에만 큐에서 제거)
+        InOrder inOrder = inOrder(masterWaitingService, waitingTimeoutQueue);
+        inOrder.verify(masterWaitingService, times(1)).handleWaitingTimeout(1L);
+        inOrder.verify(waitingTimeoutQueue).cancel(1L);
     }
 
     @Test
-    void 호출된_웨이팅_5분_이내면_타임아웃_처리되지_않음() {
+    void 배치가_가득_차면_남은_대기를_이어서_처리() {
         // given
-        when(lockService.tryLock(anyString())).thenReturn(true);
-        Waiting recentWaiting = Waiting.builder()
-                .popupStore(popupStore)
-                .user(user)
-                .waitingNumber(2)
-                .build();
-        recentWaiting.updateStatus(WaitingStatus.CALLED);
-        ReflectionTestUtils.setField(recentWaiting, "updateTime", LocalDateTime.now().minusMinutes(3));
-        ReflectionTestUtils.setField(recentWaiting, "id", 2L);
-
-        when(waitingRepository.findByStatus(WaitingStatus.CALLED))
-                .thenReturn(List.of(recentWaiting));
+        when(waitingTimeoutQueue.claimDue(2)).thenReturn(List.of(1L, 2L), List.of(3L));
 
         // when
         waitingScheduler.checkWaitingTimeout();
 
         // then
-        verify(masterWaitingService, never()).handleWaitingTimeout(any());
+        verify(waitingTimeoutQueue, times(2)).claimDue(2);
+        verify(masterWaitingService).handleWaitingTimeout(1L);
+        verify(masterWaitingService).handleWaitingTimeout(2L);
+        verify(masterWaitingService).handleWaitingTimeout(3L);
     }
 
     @Test
-    void 예외_발생시_락_정상_해제() {
+    void 처리_실패시_다시_등록하고_다음_대기_계속_처리() {
         // given
-        when(lockService.tryLock(anyString())).thenReturn(true);
-        when(waitingRepository.findByStatus(any()))
-                .thenThrow(new RuntimeException("테스트 예외"));
+        when(waitingTimeoutQueue.claimDue(2)).thenReturn(List.of(1L));
+        doThrow(new RuntimeException("테스트 예외")).when(masterWaitingService).handleWaitingTimeout(1L);
 
         // when
         waitingScheduler.checkWaitingTimeout();
 
         // then
-        verify(lockService, times(1)).unlock(anyString());
+        verify(waitingTimeoutQueue).schedule(eq(1L), anyLong());
+        verify(waitingTimeoutQueue, never()).cancel(1L);
     }
 
     @Test
-    void 여러_웨이팅_동시_타임아웃_처리() {
+    void 없는_대기는_다시_등록하지_않음() {
         // given
-        when(lockService.tryLock(anyString())).thenReturn(true);
-        Waiting waiting2 = Waiting.builder()
-                .popupStore(popupStore)
-                .user(user)
-                .waitingNumber(2)
-                .build();
-        waiting2.updateStatus(WaitingStatus.CALLED);
-        ReflectionTestUtils.setField(waiting2, "updateTime", LocalDateTime.now().minusMinutes(7));
-        ReflectionTestUtils.setField(waiting2, "id", 2L);
-
-        when(waitingRepository.findByStatus(WaitingStatus.CALLED))
-                .thenReturn(List.of(waiting, waiting2));
+        when(waitingTimeoutQueue.claimDue(2)).thenReturn(List.of(1L));
+        doThrow(new BusinessException(ErrorCode.WAITING_NOT_FOUND)).when(masterWaitingService).handleWaitingTimeout(1L);
 
         // when
         waitingScheduler.checkWaitingTimeout();
 
         // then
-        verify(masterWaitingService, times(1)).handleWaitingTimeout(waiting.getId());
-        verify(masterWaitingService, times(1)).handleWaitingTimeout(waiting2.getId());
+        verify(waitingTimeoutQueue, never()).schedule(anyLong(), anyLong());
+        verify(waitingTimeoutQueue).cancel(1L);
     }
-}
\ No newline at end of file
+}
@@ -1,23 +1,26 @@
 package com.poppy.domain.waiting.service;
 
-import com.poppy.domain.notification.entity.NotificationType;
-import com.poppy.domain.notification.service.NotificationService;
+import com.poppy.domain.notification.dto.WaitingPositionDto;
+import com.poppy.domain.notification.service.WaitingQueueNotificationDispatcher;
 import com.poppy.domain.popupStore.entity.PopupStore;
 import com.poppy.domain.user.entity.Role;
 import com.poppy.domain.user.entity.User;
 import com.poppy.domain.waiting.entity.Waiting;
+import com.poppy.domain.waiting.entity.WaitingStatus;
 import com.poppy.domain.waiting.repository.WaitingRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -27,49 +30,97 @@ class WaitingUtilsTest {
     @Mock
     private WaitingRepository waitingRepository;
     @Mock
-    private NotificationService notificationService;
+    private WaitingQueueNotificationDispatcher notificationDispatcher;
 
     @InjectMocks
     private WaitingUtils waitingUtils;
 
+    @Captor
+    private ArgumentCaptor<List<WaitingPositionDto>> positionsCaptor;
+
     private PopupStore popupStore;
-    private User user;
-    private Waiting waiting;
 
     @BeforeEach
     void setUp() {
-        user = User.builder()
-                .id(1L)
-                .email("user@test.com")
-                .role(Role.ROLE_USER)
+        User master = User.builder()
+                .id(100L)
+                .email("master@test.com")
+                .role(Role.ROLE_MASTER)
                 .build();
 
         popupStore = PopupStore.builder()
                 .id(1L)
                 .name("테스트 매장")
-                .masterUser(user)
-                .build();
-
-        waiting = Waiting.builder()
-                .popupStore(popupStore)
-                .user(user)
-                .waitingNumber(1)
+                .masterUser(master)
                 .build();
     }
 
     @Test
     void 대기_순서_업데이트_성공() {
         // given
-        List<Waiting> waitingList = List.of(waiting);
-        when(waitingRepository.findById(anyLong())).thenReturn(Optional.of(waiting));
-        when(waitingRepository.findByPopupStoreIdAndStatusAndWaitingNumberGreaterThanOrderByWaitingNumberAsc(
-                anyLong(), any(), anyInt())).thenReturn(waitingList);
-        when(waitingRepository.countPeopleAhead(anyLong(), anyInt(), anySet())).thenReturn(0);
+        Waiting changed = waiting(1L, 1);
+        Waiting next = waiting(2L, 2);
+        when(waitingRepository.findActiveQueueWithUser(eq(1L), any(), anySet())).thenReturn(List.of(next));
+
+        // when
+        waitingUtils.updateWaitingQueue(changed);
+
+        // then
+        verify(notificationDispatcher).dispatchAfterCommit(positionsCaptor.capture());
+        List<WaitingPositionDto> positions = positionsCaptor.getValue();
+        assertEquals(1, positions.size());
+        assertEquals(2L, positions.get(0).getUserId());
+        assertEquals(0, positions.get(0).getPeopleAhead());
+    }
+
+    @Test
+    void 대기열을_한번만_조회해_뒤쪽_대기자의_순번을_계산() {
+        // given (1번 호출됨, 2번 변경 대상(호출), 3번 입장 완료 반영 전, 4번과 5번 대기)
+        Waiting called = waiting(1L, 1);
+        called.updateStatus(WaitingStatus.CALLED);
+        Waiting changed = waiting(2L, 2);
+        changed.updateStatus(WaitingStatus.CALLED);
+        Waiting completed = waiting(3L, 3);
+        completed.updateStatus(WaitingStatus.COMPLETED);
+        when(waitingRepository.findActiveQueueWithUser(eq(1L), any(), anySet()))
+                .thenReturn(List.of(called, changed, completed, waiting(4L, 4), waiting(5L, 5)));
+
+        // when
+        waitingUtils.updateWaitingQueue(changed);
+
+        // then
+        verify(notificationDispatcher).dispatchAfterCommit(positionsCaptor.capture());
+        List<WaitingPositionDto> positions = positionsCaptor.getValue();
+        assertEquals(2, positions.size());
+        assertEquals(4, positions.get(0).getWaitingNumber());
+        assertEquals(2, positions.get(0).getPeopleAhead());
+        assertEquals(5, positions.get(1).getWaitingNumber());
+        assertEquals(3, positions.get(1).getPeopleAhead());
+    }
+
+    @Test
+    void 뒤에_대기자가_없으면_빈_목록_전달() {
+        // given
+        Waiting changed = waiting(1L, 3);
+        when(waitingRepository.findActiveQueueWithUser(eq(1L), any(), anySet())).thenReturn(List.of(waiting(2L, 1)));
 
         // when
-        waitingUtils.updateWaitingQueue(1L, 1L);
+        waitingUtils.updateWaitingQueue(changed);
 
         // then
-        verify(notificationService).sendNotification(waiting, NotificationType.TEAMS_AHEAD, 0);
+        verify(notificationDispatcher).dispatchAfterCommit(positionsCaptor.capture());
+        assertTrue(positionsCaptor.getValue().isEmpty());
+    }
+
+    private Waiting waiting(Long userId, int waitingNumber) {
+        return Waiting.builder()
+                .popupStore(popupStore)
+                .user(User.builder()
+                        .id(userId)
+                        .email("user" + userId + "@test.com")
+                        .role(Role.ROLE_USER)
+                        .build())
+                .waitingNumber(waitingNumber)
+                .build();
     }
-}
\ No newline at end of file
+}